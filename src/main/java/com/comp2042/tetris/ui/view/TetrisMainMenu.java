@@ -1,14 +0,0 @@
-package com.comp2042.tetris.ui.view;
-
-/**
- * Placeholder class for main menu view.
- * <p>
- * Reserved for future main menu customization features.
- * </p>
- *
- * @version 1.0
- */
-public class TetrisMainMenu {
-    
-}
-
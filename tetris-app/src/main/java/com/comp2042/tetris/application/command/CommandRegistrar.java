@@ -9,12 +9,12 @@ import com.comp2042.tetris.domain.model.ViewData;
 import com.comp2042.tetris.domain.scoring.ScoreManager;
 import com.comp2042.tetris.domain.scoring.ScoringPolicy;
 import com.comp2042.tetris.engine.board.BoardRead;
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.engine.movement.BrickDrop;
 import com.comp2042.tetris.engine.movement.BrickDropActions;
 import com.comp2042.tetris.engine.movement.BrickMove;
 import com.comp2042.tetris.engine.spawn.SpawnManager;
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.ui.input.EventType;
 import com.comp2042.tetris.ui.input.MoveEvent;
 
@@ -116,14 +116,14 @@ public class CommandRegistrar {
                     ShowResult asyncResult = dropHandler.handleDrop(event.getEventSource(), () -> view.gameOver());
                     view.acceptShowResult(asyncResult);
                     if (asyncResult.getClearRow() != null) {
-                        view.refreshGameBackground(reader.getBoardMatrix());
+                        view.refreshBoardCells(reader.cells());
                     }
                 });
                 return new ShowResult(null, reader.getViewData());
             } else {
                 ShowResult result = dropHandler.handleDrop(event.getEventSource(), () -> view.gameOver());
                 if (result.getClearRow() != null) {
-                    view.refreshGameBackground(reader.getBoardMatrix());
+                    view.refreshBoardCells(reader.cells());
                 }
                 return result;
             }
@@ -154,11 +154,10 @@ public class CommandRegistrar {
 
         @Override
         public ShowResult execute(MoveEvent event) {
-            while (dropActions.moveBrickDown()) {
-                int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
-                if (softScore > 0) {
-                    scoreService.add(softScore);
-                }
+            int distance = dropActions.hardDrop();
+            int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
+            if (distance > 0 && softScore > 0) {
+                scoreService.add(softScore * distance);
             }
             dropActions.mergeBrickToBackground();
             RowClearResult clear = dropActions.clearRows();
@@ -167,10 +166,10 @@ public class CommandRegistrar {
                 if (bonus > 0) {
                     scoreService.add(bonus);
                 }
-                clear = new RowClearResult(clear.getLinesRemoved(), clear.getNewMatrix(), bonus, clear.getClearedRows());
+                clear = clear.withScoreBonus(bonus);
             }
             spawnManager.spawn();
-            view.refreshGameBackground(reader.getBoardMatrix());
+            view.refreshBoardCells(reader.cells());
             return new ShowResult(clear, reader.getViewData());
         }
     }
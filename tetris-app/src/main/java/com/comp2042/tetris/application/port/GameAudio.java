@@ -0,0 +1,57 @@
+package com.comp2042.tetris.application.port;
+
+/**
+ * Port through which a game asks for sounds, without knowing how they are played.
+ * <p>
+ * Controllers call it from whichever thread changes the game, so
+ * implementations must be safe to call from any thread and must not
+ * throw. {@link #SILENT} is used until a real implementation is set,
+ * which keeps headless sessions and tests free of the media runtime.
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface GameAudio {
+
+    /** Plays nothing. */
+    GameAudio SILENT = new GameAudio() {
+        @Override
+        public void play(Cue cue) {
+        }
+
+        @Override
+        public void playTheme(Theme theme) {
+        }
+    };
+
+    /**
+     * Moments of play that make a sound.
+     */
+    enum Cue {
+        /** The falling brick moved sideways. */
+        MOVE,
+        /** The falling brick rotated. */
+        ROTATE,
+        /** The falling brick locked into the board. */
+        LOCK
+    }
+
+    /**
+     * Background music of a game mode.
+     */
+    enum Theme { CLASSIC, RUSH, MYSTERY }
+
+    /**
+     * Plays the sound of a moment of play.
+     *
+     * @param cue what happened
+     */
+    void play(Cue cue);
+
+    /**
+     * Switches the background music to a mode's theme.
+     *
+     * @param theme the theme to play
+     */
+    void playTheme(Theme theme);
+}
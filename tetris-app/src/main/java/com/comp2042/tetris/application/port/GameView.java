@@ -1,7 +1,7 @@
-package com.comp2042.tetris.engine.board;
+package com.comp2042.tetris.application.port;
 
-import com.comp2042.tetris.application.port.CreateNewGame;
 import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.board.BoardCells;
 import com.comp2042.tetris.ui.input.DropInput;
 import com.comp2042.tetris.ui.input.InputActionHandler;
 
@@ -33,6 +33,19 @@ public interface GameView {
      */
     void refreshGameBackground(int[][] boardMatrix);
 
+    /**
+     * Refreshes the game background from a read-only view of the board.
+     * <p>
+     * Views that can read cells directly should override this to avoid the
+     * matrix copy made by the default.
+     * </p>
+     *
+     * @param cells the current board cells
+     */
+    default void refreshBoardCells(BoardCells cells) {
+        refreshGameBackground(cells == null ? null : cells.toMatrix());
+    }
+
     /**
      * Accepts and processes a show result from game actions.
      *
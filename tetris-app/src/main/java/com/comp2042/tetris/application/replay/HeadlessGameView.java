@@ -0,0 +1,102 @@
+package com.comp2042.tetris.application.replay;
+
+import com.comp2042.tetris.application.port.CreateNewGame;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.ui.input.DropInput;
+import com.comp2042.tetris.ui.input.InputActionHandler;
+
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * View that draws nothing, for driving a controller without a stage.
+ * <p>
+ * Settle animations do not finish on their own: the callback is held until
+ * the replay reaches the point where the recorded view finished it, so
+ * inputs that arrived during the animation are replayed in the same order.
+ * Locks and game overs are remembered for the replay engine.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class HeadlessGameView implements GameView {
+
+    private boolean locked;
+    private boolean gameOver;
+    private Runnable pendingSettle;
+
+    /**
+     * Reports whether a brick locked since the last call, and resets the flag.
+     */
+    boolean takeLock() {
+        boolean result = locked;
+        locked = false;
+        return result;
+    }
+
+    boolean hasPendingSettle() {
+        return pendingSettle != null;
+    }
+
+    boolean isGameOver() {
+        return gameOver;
+    }
+
+    void clearGameOver() {
+        gameOver = false;
+    }
+
+    /**
+     * Finishes the settle animation in progress, if any.
+     */
+    void finishSettle() {
+        Runnable settle = pendingSettle;
+        pendingSettle = null;
+        if (settle != null) {
+            settle.run();
+        }
+    }
+
+    void noteResult(ShowResult result) {
+        if (result != null && result.getClearRow() != null) {
+            locked = true;
+        }
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData activeBrickData) {
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+    }
+
+    @Override
+    public void acceptShowResult(ShowResult result) {
+        noteResult(result);
+    }
+
+    @Override
+    public void settleActiveBrick(Runnable onFinished) {
+        pendingSettle = onFinished;
+    }
+
+    @Override
+    public void bindScore(IntegerProperty scoreProperty) {
+    }
+
+    @Override
+    public void setInputHandlers(InputActionHandler inputActionHandler, DropInput dropInput,
+                                 CreateNewGame gameLifecycle) {
+    }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    @Override
+    public void setRemainingTime(int seconds) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.comp2042.tetris.application.replay;
+
+import com.comp2042.tetris.application.session.BaseGameController;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.engine.board.BoardPorts;
+import com.comp2042.tetris.engine.board.BoardRead;
+
+/**
+ * Controller re-driven by the replay engine.
+ * <p>
+ * Uses the base game rules and exposes the hooks the engine needs to apply
+ * recorded markers.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class ReplayController extends BaseGameController {
+
+    ReplayController(HeadlessGameView view, BoardPorts ports) {
+        super(view, new ClassicScoringPolicy(), new ScoreManager(), ports);
+    }
+
+    void endGame() {
+        gameOver();
+    }
+
+    BoardRead reader() {
+        return reader;
+    }
+
+    int score() {
+        return scoreService.getValue();
+    }
+}
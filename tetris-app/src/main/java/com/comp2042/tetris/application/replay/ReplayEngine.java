@@ -0,0 +1,373 @@
+package com.comp2042.tetris.application.replay;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardSnapshot;
+import com.comp2042.tetris.ui.input.MoveEvent;
+
+/**
+ * Re-drives a recorded game through {@code BaseGameController} without a view.
+ * <p>
+ * The board is rebuilt from the seed in the log header and every record is
+ * fed back through {@code handle}, {@code onDown}, the settle callback,
+ * {@code createNewGame} or game over, in order and without waiting, so a
+ * replay runs thousands of times faster than the recorded game.
+ * </p>
+ * <p>
+ * Every {@code keyframeInterval} locked bricks the engine keeps a keyframe:
+ * the board with the score, a fingerprint of the state and, unless a settle
+ * animation is still pending or the game is over, the full game snapshot
+ * written by {@code BaseGameController.writeSnapshot}, brick generator
+ * included. Keyframes show the board at any recorded piece without
+ * replaying, and comparing fingerprints of two engines (for example before
+ * and after an engine optimisation) locates the first piece where they
+ * diverge. Seeking restores the nearest keyframe snapshot at or before the
+ * target into a fresh controller and steps forward from there, so only
+ * the records since that keyframe are replayed.
+ * </p>
+ * <p>
+ * Mode-specific timers (the Mystery events and the Rush countdown) are not
+ * recorded; only their game overs are. Replays use the base game rules.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ReplayEngine {
+
+    /** Locked bricks between two keyframes unless configured otherwise. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 50;
+
+    private static final int SNAPSHOT_CAPACITY = 4 * 1024;
+
+    private final ReplayLog log;
+    private final int keyframeInterval;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+    private ByteBuffer scratch = ByteBuffer.allocate(SNAPSHOT_CAPACITY);
+
+    private HeadlessGameView view;
+    private ReplayController controller;
+    private int position;
+    private int piecesPlaced;
+
+    public ReplayEngine(ReplayLog log) {
+        this(log, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates an engine positioned before the first record.
+     *
+     * @param log the recorded game
+     * @param keyframeInterval the number of locked bricks between keyframes
+     * @throws IllegalArgumentException if {@code keyframeInterval} is not positive
+     */
+    public ReplayEngine(ReplayLog log, int keyframeInterval) {
+        this.log = Objects.requireNonNull(log, "log must not be null");
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("keyframeInterval must be positive, got " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+        rebuild();
+    }
+
+    /**
+     * Applies the next record.
+     *
+     * @return {@code false} if the log was already exhausted
+     */
+    public boolean step() {
+        if (position >= log.size()) {
+            return false;
+        }
+        int index = position;
+        if (log.isInput(index)) {
+            MoveEvent event = new MoveEvent(log.getEventType(index), log.getEventSource(index));
+            ShowResult result = log.isGravity(index) ? controller.onDown(event) : controller.handle(event);
+            view.noteResult(result);
+        } else if (log.isSettle(index)) {
+            view.finishSettle();
+        } else if (log.isNewGame(index)) {
+            view.clearGameOver();
+            controller.createNewGame();
+        } else {
+            controller.endGame();
+        }
+        position++;
+        if (view.takeLock()) {
+            piecesPlaced++;
+            if (piecesPlaced % keyframeInterval == 0 && keyframeAtPiece(piecesPlaced).getPiecesPlaced() != piecesPlaced) {
+                keyframes.add(capture());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies every remaining record.
+     *
+     * @return the number of records applied
+     */
+    public int runToEnd() {
+        int applied = 0;
+        while (step()) {
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Moves to the state right after {@code recordCount} records were applied.
+     *
+     * @param recordCount the number of records to have applied, clamped to the log
+     * @return the number of records stepped through after restoring the nearest keyframe
+     */
+    public int seek(int recordCount) {
+        int target = Math.max(0, Math.min(recordCount, log.size()));
+        Keyframe nearest = null;
+        for (Keyframe keyframe : keyframes) {
+            if (keyframe.getPosition() > target) {
+                break;
+            }
+            if (keyframe.state != null) {
+                nearest = keyframe;
+            }
+        }
+        if (target < position || (nearest != null && nearest.getPosition() > position)) {
+            restore(nearest);
+        }
+        int stepped = 0;
+        while (position < target) {
+            step();
+            stepped++;
+        }
+        return stepped;
+    }
+
+    /**
+     * Moves to the record at which the given brick locked.
+     *
+     * @param piece the number of locked bricks to reach
+     * @return {@code true} if the log got that far
+     */
+    public boolean seekToPiece(int piece) {
+        Keyframe nearest = null;
+        for (Keyframe keyframe : keyframes) {
+            if (keyframe.getPiecesPlaced() > piece) {
+                break;
+            }
+            if (keyframe.state != null) {
+                nearest = keyframe;
+            }
+        }
+        if (piece < piecesPlaced || (nearest != null && nearest.getPosition() > position)) {
+            restore(nearest);
+        }
+        while (piecesPlaced < piece) {
+            if (!step()) {
+                break;
+            }
+        }
+        return piecesPlaced >= piece;
+    }
+
+    /**
+     * Gets the number of records applied so far.
+     *
+     * @return the position in the log
+     */
+    public int position() {
+        return position;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public int getScore() {
+        return controller.score();
+    }
+
+    public int getLinesCleared() {
+        return controller.getTotalLinesCleared();
+    }
+
+    public boolean isGameOver() {
+        return view.isGameOver();
+    }
+
+    /**
+     * Copies the settled cells of the board.
+     *
+     * @return the board snapshot
+     */
+    public BoardSnapshot board() {
+        return BoardSnapshot.of(controller.reader().cells());
+    }
+
+    /**
+     * Hashes the board cells, score, lines and pieces placed.
+     * <p>
+     * Two replays of the same log have equal fingerprints at every record
+     * unless the engine behaves differently.
+     * </p>
+     *
+     * @return a 64-bit FNV-1a hash of the current state
+     */
+    public long fingerprint() {
+        BoardCells cells = controller.reader().cells();
+        long hash = 0xCBF29CE484222325L;
+        for (int r = 0; r < cells.getRows(); r++) {
+            for (int c = 0; c < cells.getCols(); c++) {
+                hash = (hash ^ cells.getCell(r, c)) * 0x100000001B3L;
+            }
+        }
+        hash = (hash ^ getScore()) * 0x100000001B3L;
+        hash = (hash ^ getLinesCleared()) * 0x100000001B3L;
+        return (hash ^ piecesPlaced) * 0x100000001B3L;
+    }
+
+    /**
+     * Gets the keyframes taken so far, oldest first. The first one is the initial board.
+     *
+     * @return an unmodifiable view of the keyframes
+     */
+    public List<Keyframe> keyframes() {
+        return Collections.unmodifiableList(keyframes);
+    }
+
+    /**
+     * Finds the latest keyframe taken at or before a brick.
+     *
+     * @param piece the number of locked bricks
+     * @return the keyframe
+     */
+    public Keyframe keyframeAtPiece(int piece) {
+        Keyframe found = keyframes.get(0);
+        for (Keyframe keyframe : keyframes) {
+            if (keyframe.getPiecesPlaced() > piece) {
+                break;
+            }
+            found = keyframe;
+        }
+        return found;
+    }
+
+    public ReplayLog getLog() {
+        return log;
+    }
+
+    private void rebuild() {
+        view = new HeadlessGameView();
+        controller = new ReplayController(view,
+                ReplayRecorder.boardFactory(log.getSeed()).create(log.getRows(), log.getCols()));
+        position = 0;
+        piecesPlaced = 0;
+        if (keyframes.isEmpty()) {
+            keyframes.add(capture());
+        }
+    }
+
+    /**
+     * Continues from a keyframe's snapshot in a fresh controller, or from the seed if there is none.
+     */
+    private void restore(Keyframe keyframe) {
+        rebuild();
+        if (keyframe != null) {
+            controller.readSnapshot(ByteBuffer.wrap(keyframe.state));
+            position = keyframe.getPosition();
+            piecesPlaced = keyframe.getPiecesPlaced();
+        }
+    }
+
+    private Keyframe capture() {
+        byte[] state = null;
+        if (piecesPlaced > 0 && !view.hasPendingSettle() && !view.isGameOver()) {
+            state = snapshot();
+        }
+        return new Keyframe(position, piecesPlaced, getScore(), getLinesCleared(), board(), fingerprint(), state);
+    }
+
+    private byte[] snapshot() {
+        while (true) {
+            scratch.clear();
+            try {
+                controller.writeSnapshot(scratch);
+                break;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        byte[] state = new byte[scratch.position()];
+        scratch.flip().get(state);
+        return state;
+    }
+
+    /**
+     * State of a replay after a number of locked bricks.
+     */
+    public static final class Keyframe {
+
+        private final int position;
+        private final int piecesPlaced;
+        private final int score;
+        private final int linesCleared;
+        private final BoardSnapshot board;
+        private final long fingerprint;
+        private final byte[] state;
+
+        Keyframe(int position, int piecesPlaced, int score, int linesCleared, BoardSnapshot board, long fingerprint,
+                 byte[] state) {
+            this.position = position;
+            this.piecesPlaced = piecesPlaced;
+            this.score = score;
+            this.linesCleared = linesCleared;
+            this.board = board;
+            this.fingerprint = fingerprint;
+            this.state = state;
+        }
+
+        /**
+         * Gets the number of records applied when the keyframe was taken.
+         *
+         * @return the log position, usable with {@link ReplayEngine#seek(int)}
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        public int getPiecesPlaced() {
+            return piecesPlaced;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getLinesCleared() {
+            return linesCleared;
+        }
+
+        public BoardSnapshot getBoard() {
+            return board;
+        }
+
+        public long getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Tells whether seeking can continue from this keyframe instead of from the seed.
+         *
+         * @return {@code true} if the keyframe holds a full game snapshot
+         */
+        public boolean isRestorable() {
+            return state != null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.tetris.application.replay;
+
+import java.nio.ByteBuffer;
+
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.ui.input.EventType;
+
+/**
+ * Layout of a replay file.
+ * <p>
+ * A file starts with the magic {@code TRPL}, a version byte, the game seed
+ * as a big-endian long, the board rows and columns as varints and the mode
+ * name as a varint length followed by UTF-8 bytes. Records follow until the
+ * end of the file. Each record is one tag byte and the milliseconds since
+ * the previous record as an unsigned LEB128 varint, so a typical input
+ * costs two bytes.
+ * </p>
+ * <p>
+ * An input tag holds the {@link EventType} ordinal in bits 0-2, the
+ * {@link EventSource} ordinal in bit 3 and, in bit 4, whether the event
+ * came through {@code onDown} (gravity) rather than {@code handle}.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x5452504C;
+    static final byte VERSION = 1;
+
+    static final int TYPE_MASK = 0x07;
+    static final int SOURCE_SHIFT = 3;
+    static final int GRAVITY_FLAG = 0x10;
+    /** Tag of a finished settle animation, which is when a soft-dropped brick locks. */
+    static final int SETTLE = 0xFD;
+    /** Tag of a {@code createNewGame()} call. */
+    static final int NEW_GAME = 0xFE;
+    /** Tag of a game over that did not come from an input, e.g. a timer. */
+    static final int GAME_OVER = 0xFF;
+
+    /** Longest encoding of a record: a tag byte and a ten-byte varint. */
+    static final int MAX_RECORD_BYTES = 11;
+
+    private ReplayFormat() {
+    }
+
+    static int inputTag(EventType type, EventSource source, boolean gravity) {
+        return type.ordinal() | source.ordinal() << SOURCE_SHIFT | (gravity ? GRAVITY_FLAG : 0);
+    }
+
+    static boolean isInput(int tag) {
+        return tag < SETTLE;
+    }
+
+    static EventType type(int tag) {
+        return EventType.values()[tag & TYPE_MASK];
+    }
+
+    static EventSource source(int tag) {
+        return EventSource.values()[(tag >>> SOURCE_SHIFT) & 1];
+    }
+
+    static boolean isGravity(int tag) {
+        return (tag & GRAVITY_FLAG) != 0;
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in replay");
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.tetris.application.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.ui.input.EventType;
+
+/**
+ * A replay file loaded into memory.
+ * <p>
+ * Records are kept as parallel primitive arrays of tags and delays rather
+ * than objects, so even long sessions stay small.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ReplayLog {
+
+    private final long seed;
+    private final String mode;
+    private final int rows;
+    private final int cols;
+    private final byte[] tags;
+    private final long[] delays;
+
+    private ReplayLog(long seed, String mode, int rows, int cols, byte[] tags, long[] delays) {
+        this.seed = seed;
+        this.mode = mode;
+        this.rows = rows;
+        this.cols = cols;
+        this.tags = tags;
+        this.delays = delays;
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file the file written by a {@link ReplayRecorder}
+     * @return the log
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static ReplayLog read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            return parse(buffer.flip());
+        }
+    }
+
+    /**
+     * Parses a replay from bytes.
+     *
+     * @param buffer the replay bytes, from its position to its limit
+     * @return the log
+     * @throws IOException if the bytes are not a replay or are truncated
+     */
+    public static ReplayLog parse(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != ReplayFormat.MAGIC) {
+                throw new IOException("Not a replay file");
+            }
+            byte version = buffer.get();
+            if (version != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+            long seed = buffer.getLong();
+            int rows = (int) ReplayFormat.getVarLong(buffer);
+            int cols = (int) ReplayFormat.getVarLong(buffer);
+            byte[] modeBytes = new byte[(int) ReplayFormat.getVarLong(buffer)];
+            buffer.get(modeBytes);
+
+            byte[] tags = new byte[Math.max(16, buffer.remaining() / 2)];
+            long[] delays = new long[tags.length];
+            int count = 0;
+            while (buffer.hasRemaining()) {
+                if (count == tags.length) {
+                    tags = Arrays.copyOf(tags, count * 2);
+                    delays = Arrays.copyOf(delays, count * 2);
+                }
+                tags[count] = buffer.get();
+                delays[count] = ReplayFormat.getVarLong(buffer);
+                count++;
+            }
+            return new ReplayLog(seed, new String(modeBytes, StandardCharsets.UTF_8), rows, cols,
+                    Arrays.copyOf(tags, count), Arrays.copyOf(delays, count));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated or corrupt replay", e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return the record count
+     */
+    public int size() {
+        return tags.length;
+    }
+
+    /**
+     * Tells whether a record is an input rather than a settle, restart or game-over marker.
+     *
+     * @param index the record index
+     * @return {@code true} for an input
+     */
+    public boolean isInput(int index) {
+        return ReplayFormat.isInput(tag(index));
+    }
+
+    public boolean isSettle(int index) {
+        return tag(index) == ReplayFormat.SETTLE;
+    }
+
+    public boolean isNewGame(int index) {
+        return tag(index) == ReplayFormat.NEW_GAME;
+    }
+
+    public boolean isGameOver(int index) {
+        return tag(index) == ReplayFormat.GAME_OVER;
+    }
+
+    public EventType getEventType(int index) {
+        return ReplayFormat.type(tag(index));
+    }
+
+    public EventSource getEventSource(int index) {
+        return ReplayFormat.source(tag(index));
+    }
+
+    /**
+     * Tells whether an input went through {@code onDown} rather than {@code handle}.
+     *
+     * @param index the record index
+     * @return {@code true} for a gravity input
+     */
+    public boolean isGravity(int index) {
+        return ReplayFormat.isGravity(tag(index));
+    }
+
+    /**
+     * Gets the time between a record and the one before it.
+     *
+     * @param index the record index
+     * @return the delay in milliseconds
+     */
+    public long getDelayMillis(int index) {
+        return delays[index];
+    }
+
+    /**
+     * Gets the recorded length of the session.
+     *
+     * @return the sum of all delays in milliseconds
+     */
+    public long getDurationMillis() {
+        long total = 0;
+        for (long delay : delays) {
+            total += delay;
+        }
+        return total;
+    }
+
+    private int tag(int index) {
+        return tags[index] & 0xFF;
+    }
+}
@@ -0,0 +1,202 @@
+package com.comp2042.tetris.application.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.engine.board.DefaultBoardComponentsFactory;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.ui.input.MoveEvent;
+
+/**
+ * Records a game's inputs to a compact binary replay file.
+ * <p>
+ * Records are encoded into an in-memory chunk on the calling thread, which
+ * costs a few byte writes per input. Full chunks are handed to a single
+ * background thread that writes them to a {@link FileChannel}, so the FX
+ * thread never blocks on disk. See {@link ReplayFormat} for the layout.
+ * </p>
+ * <p>
+ * Write failures never reach the game: recording stops quietly and the
+ * failure is rethrown by {@link #close()}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ReplayRecorder implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final FileChannel channel;
+    private final ExecutorService writer;
+    private final LongSupplier clock;
+    private ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+    private long lastNanos;
+    private int recordCount;
+    private boolean closed;
+    private volatile IOException failure;
+
+    private ReplayRecorder(FileChannel channel, LongSupplier clock) {
+        this.channel = channel;
+        this.clock = clock;
+        this.lastNanos = clock.getAsLong();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "replay-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates the board factory a recorded game must be played on.
+     * <p>
+     * Pieces and garbage both follow from the seed, which is what lets
+     * {@link ReplayEngine} rebuild the game from the file header.
+     * </p>
+     *
+     * @param seed the seed written to the replay header
+     * @return the board factory
+     */
+    public static BoardFactory boardFactory(long seed) {
+        return new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(seed));
+    }
+
+    /**
+     * Creates (or truncates) a replay file and writes its header.
+     *
+     * @param file the file to write
+     * @param seed the seed the game's board was built from
+     * @param mode the game mode name
+     * @param rows the number of board rows
+     * @param cols the number of board columns
+     * @return the recorder
+     * @throws IOException if the file cannot be opened
+     */
+    public static ReplayRecorder create(Path file, long seed, String mode, int rows, int cols) throws IOException {
+        return create(file, seed, mode, rows, cols, System::nanoTime);
+    }
+
+    static ReplayRecorder create(Path file, long seed, String mode, int rows, int cols, LongSupplier clock)
+            throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ReplayRecorder recorder = new ReplayRecorder(channel, clock);
+        byte[] modeBytes = (mode == null ? "" : mode).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = recorder.chunk;
+        header.putInt(ReplayFormat.MAGIC).put(ReplayFormat.VERSION).putLong(seed);
+        ReplayFormat.putVarLong(header, rows);
+        ReplayFormat.putVarLong(header, cols);
+        ReplayFormat.putVarLong(header, modeBytes.length);
+        header.put(modeBytes);
+        return recorder;
+    }
+
+    /**
+     * Records an input.
+     *
+     * @param event the event passed to the controller
+     * @param gravity {@code true} if it went through {@code onDown}, {@code false} for {@code handle}
+     */
+    public synchronized void record(MoveEvent event, boolean gravity) {
+        append(ReplayFormat.inputTag(event.getEventType(), event.getEventSource(), gravity));
+    }
+
+    /**
+     * Records the end of a settle animation, when the view lets a soft-dropped brick lock.
+     */
+    public synchronized void recordSettle() {
+        append(ReplayFormat.SETTLE);
+    }
+
+    /**
+     * Records a restart through {@code createNewGame()}.
+     */
+    public synchronized void recordNewGame() {
+        append(ReplayFormat.NEW_GAME);
+    }
+
+    /**
+     * Records a game over that was not caused by an input, such as a timer running out.
+     */
+    public synchronized void recordGameOver() {
+        append(ReplayFormat.GAME_OVER);
+    }
+
+    /**
+     * Hands everything recorded so far to the writer thread.
+     */
+    public synchronized void flush() {
+        if (!closed && chunk.position() > 0) {
+            submit();
+        }
+    }
+
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes the remaining records, waits for the writer and closes the file.
+     *
+     * @throws IOException if any write failed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void append(int tag) {
+        if (closed || failure != null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long deltaMillis = Math.max(0L, (now - lastNanos) / 1_000_000L);
+        lastNanos += deltaMillis * 1_000_000L;
+        if (chunk.remaining() < ReplayFormat.MAX_RECORD_BYTES) {
+            submit();
+        }
+        chunk.put((byte) tag);
+        ReplayFormat.putVarLong(chunk, deltaMillis);
+        recordCount++;
+    }
+
+    private void submit() {
+        ByteBuffer full = chunk.flip();
+        chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        writer.execute(() -> {
+            try {
+                while (full.hasRemaining()) {
+                    channel.write(full);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        });
+    }
+}
@@ -0,0 +1,343 @@
+package com.comp2042.tetris.application.save;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+
+import com.comp2042.tetris.application.session.BaseGameController;
+
+/**
+ * Keeps one suspended game in a memory-mapped file so it can be resumed later.
+ * <p>
+ * The file holds a small header and two slots. Each save writes a full
+ * snapshot (see {@link BaseGameController#writeSnapshot}) into the slot
+ * not holding the latest save, stamps it with a CRC and a sequence number
+ * and forces it to disk. A crash halfway through a save therefore leaves
+ * the previous save intact, and loading picks the newest slot whose CRC
+ * checks out. The mapping stays open between saves, so periodic
+ * autosaves cost a memory copy and a flush rather than file creation.
+ * </p>
+ * <p>
+ * The flush is handed to an executor, so a caller on the FX thread only
+ * pays for the copy. A save or clear waits for the previous flush before
+ * writing, so the slot it overwrites is never the only one left on disk;
+ * it only blocks when the disk is slower than the saves come in.
+ * </p>
+ * <p>
+ * Slots start at {@link #DEFAULT_SLOT_CAPACITY} bytes and the file is
+ * grown, keeping the latest save, if a snapshot does not fit. Instances
+ * are thread-safe.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SessionStore implements AutoCloseable {
+
+    /** Initial size of each slot in bytes, including its header. */
+    public static final int DEFAULT_SLOT_CAPACITY = 16 * 1024;
+
+    private static final int MAGIC = 0x54534156;
+    private static final int VERSION = 1;
+
+    private static final int FILE_HEADER = 16;
+    private static final int SLOT_HEADER = 16;
+    private static final int SLOTS = 2;
+    private static final int MAX_MODE_BYTES = 255;
+
+    private final Path file;
+    private final Executor flusher;
+    private CompletableFuture<Void> flushing = CompletableFuture.completedFuture(null);
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private int slotCapacity;
+
+    /**
+     * Creates a store backed by a file that flushes on the saving thread.
+     *
+     * @param file the save file, created on the first save
+     */
+    public SessionStore(Path file) {
+        this(file, Runnable::run);
+    }
+
+    /**
+     * Creates a store backed by a file; nothing is opened until it is used.
+     *
+     * @param file the save file, created on the first save
+     * @param flusher runs the flushes to disk
+     */
+    public SessionStore(Path file, Executor flusher) {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+        this.flusher = Objects.requireNonNull(flusher, "flusher must not be null");
+    }
+
+    /**
+     * Saves a game, replacing the previous save once it is safely on disk.
+     *
+     * @param controller the game to save
+     * @param mode the game mode, checked again on {@link #restore}
+     * @throws IOException if the file cannot be written, or the previous flush failed
+     * @throws IllegalStateException if the game's board cannot be saved
+     */
+    public synchronized void save(BaseGameController controller, String mode) throws IOException {
+        Objects.requireNonNull(controller, "controller must not be null");
+        byte[] modeBytes = encodeMode(mode);
+        awaitFlush();
+        open(true);
+        int latest = latestSlot();
+        int target = latest == 0 ? 1 : 0;
+        long sequence = latest < 0 ? 1 : map.getLong(slotOffset(latest)) + 1;
+        ByteBuffer payload;
+        while (true) {
+            payload = map.slice(slotOffset(target) + SLOT_HEADER, slotCapacity - SLOT_HEADER);
+            try {
+                payload.put((byte) modeBytes.length).put(modeBytes);
+                controller.writeSnapshot(payload);
+                break;
+            } catch (BufferOverflowException e) {
+                latest = grow(latest);
+                target = latest == 0 ? 1 : 0;
+            }
+        }
+        int length = payload.position();
+        int offset = slotOffset(target);
+        map.putInt(offset + 8, length);
+        map.putInt(offset + 12, checksum(payload.flip()));
+        map.putLong(offset, sequence);
+        flush();
+    }
+
+    /**
+     * Restores the saved game into a freshly created controller of the same mode.
+     *
+     * @param controller the game to continue the save in; its mode must not have started yet
+     * @param mode the mode the controller plays
+     * @return {@code true} if a save of that mode was restored
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the save does not fit the controller's board
+     */
+    public synchronized boolean restore(BaseGameController controller, String mode) throws IOException {
+        Objects.requireNonNull(controller, "controller must not be null");
+        ByteBuffer payload = latestPayload();
+        if (payload == null || !decodeMode(payload).equals(mode)) {
+            return false;
+        }
+        controller.readSnapshot(payload);
+        return true;
+    }
+
+    /**
+     * Gets the mode of the saved game.
+     *
+     * @return the mode, or {@code null} if there is no valid save
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized String savedMode() throws IOException {
+        ByteBuffer payload = latestPayload();
+        return payload == null ? null : decodeMode(payload);
+    }
+
+    /**
+     * Forgets the saved game, e.g. once it has ended.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void clear() throws IOException {
+        awaitFlush();
+        if (!open(false)) {
+            return;
+        }
+        for (int slot = 0; slot < SLOTS; slot++) {
+            map.putLong(slotOffset(slot), 0L);
+        }
+        flush();
+    }
+
+    /**
+     * Waits for the last flush and closes the file. The store reopens it if used again.
+     *
+     * @throws IOException if closing fails, or the last flush failed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            awaitFlush();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        map = null;
+        if (channel != null) {
+            FileChannel open = channel;
+            channel = null;
+            open.close();
+        }
+    }
+
+    /**
+     * Hands forcing the current mapping to disk to the flusher.
+     */
+    private void flush() {
+        MappedByteBuffer mapped = map;
+        flushing = CompletableFuture.runAsync(mapped::force, flusher);
+    }
+
+    /**
+     * Waits for the previous flush to finish.
+     *
+     * @throws IOException if it failed
+     */
+    private void awaitFlush() throws IOException {
+        CompletableFuture<Void> pending = flushing;
+        flushing = CompletableFuture.completedFuture(null);
+        try {
+            pending.join();
+        } catch (CompletionException e) {
+            throw new IOException("Flushing the save file failed", e.getCause());
+        }
+    }
+
+    private ByteBuffer latestPayload() throws IOException {
+        if (!open(false)) {
+            return null;
+        }
+        int latest = latestSlot();
+        if (latest < 0) {
+            return null;
+        }
+        int offset = slotOffset(latest);
+        return map.slice(offset + SLOT_HEADER, map.getInt(offset + 8));
+    }
+
+    /**
+     * Opens and maps the file, formatting it if it is new or not a save file.
+     *
+     * @param create whether a missing or foreign file may be (re)formatted
+     * @return {@code true} if the file is open and mapped
+     */
+    private boolean open(boolean create) throws IOException {
+        if (channel != null) {
+            return true;
+        }
+        if (!create && !Files.isRegularFile(file)) {
+            return false;
+        }
+        if (create && file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size >= FILE_HEADER) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_HEADER);
+            int capacity = header.getInt(8);
+            if (header.getInt(0) == MAGIC && header.getInt(4) == VERSION && capacity > SLOT_HEADER
+                    && size >= FILE_HEADER + (long) SLOTS * capacity) {
+                slotCapacity = capacity;
+                map = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER + (long) SLOTS * capacity);
+                return true;
+            }
+        }
+        if (!create) {
+            closeChannel();
+            return false;
+        }
+        format(DEFAULT_SLOT_CAPACITY);
+        return true;
+    }
+
+    private void format(int capacity) throws IOException {
+        slotCapacity = capacity;
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER + (long) SLOTS * capacity);
+        map.putInt(0, MAGIC);
+        map.putInt(4, VERSION);
+        map.putInt(8, capacity);
+        map.putInt(12, 0);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            map.putLong(slotOffset(slot), 0L);
+        }
+    }
+
+    /**
+     * Doubles the slot size, moving the latest save into slot 0.
+     *
+     * @return the slot now holding the latest save, or {@code -1} if there was none
+     */
+    private int grow(int latest) throws IOException {
+        if ((long) slotCapacity * 2 * SLOTS > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot does not fit in a save file");
+        }
+        byte[] kept = null;
+        if (latest >= 0) {
+            int offset = slotOffset(latest);
+            kept = new byte[SLOT_HEADER + map.getInt(offset + 8)];
+            map.get(offset, kept);
+        }
+        format(slotCapacity * 2);
+        if (kept == null) {
+            return -1;
+        }
+        map.put(slotOffset(0), kept);
+        map.force();
+        return 0;
+    }
+
+    /**
+     * Finds the slot with the highest sequence number whose contents check out.
+     *
+     * @return the slot, or {@code -1} if neither slot holds a save
+     */
+    private int latestSlot() {
+        int best = -1;
+        long bestSequence = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            int offset = slotOffset(slot);
+            long sequence = map.getLong(offset);
+            int length = map.getInt(offset + 8);
+            if (sequence <= bestSequence || length <= 0 || length > slotCapacity - SLOT_HEADER) {
+                continue;
+            }
+            if (checksum(map.slice(offset + SLOT_HEADER, length)) == map.getInt(offset + 12)) {
+                best = slot;
+                bestSequence = sequence;
+            }
+        }
+        return best;
+    }
+
+    private int slotOffset(int slot) {
+        return FILE_HEADER + slot * slotCapacity;
+    }
+
+    private static int checksum(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodeMode(String mode) {
+        byte[] bytes = Objects.requireNonNull(mode, "mode must not be null").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_MODE_BYTES) {
+            throw new IllegalArgumentException("Mode name is longer than " + MAX_MODE_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    private static String decodeMode(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.get() & 0xFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
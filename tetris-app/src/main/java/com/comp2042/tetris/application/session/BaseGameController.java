@@ -0,0 +1,630 @@
+package com.comp2042.tetris.application.session;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import com.comp2042.tetris.application.command.GameCommand;
+import com.comp2042.tetris.application.port.GameAudio;
+import com.comp2042.tetris.application.port.GameModeLifecycle;
+import com.comp2042.tetris.application.port.GameplayPort;
+import com.comp2042.tetris.application.replay.ReplayRecorder;
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.domain.scoring.ScoringPolicy;
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.engine.board.BoardLifecycle;
+import com.comp2042.tetris.engine.board.BoardPersistence;
+import com.comp2042.tetris.engine.board.BoardPorts;
+import com.comp2042.tetris.engine.board.BoardRead;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.engine.movement.BrickDrop;
+import com.comp2042.tetris.engine.movement.BrickDropActions;
+import com.comp2042.tetris.engine.movement.BrickMove;
+import com.comp2042.tetris.engine.movement.BrickMovement;
+import com.comp2042.tetris.engine.spawn.BrickSpawn;
+import com.comp2042.tetris.engine.spawn.SpawnManager;
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.ui.input.EventType;
+import com.comp2042.tetris.ui.input.InputLatencyTracer;
+import com.comp2042.tetris.ui.input.MoveEvent;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * Abstract base class implementing core game logic.
+ * <p>
+ * Provides template methods for subclass customization. Handles input routing,
+ * scoring, and spawn management. Concrete implementations extend this class
+ * to provide specific game mode behavior (Classic, Mystery, Timed).
+ * </p>
+ * <p>
+ * Uses the Template Method pattern to allow subclasses to hook into game events.
+ * </p>
+ * <p>
+ * While a {@link FixedStepGameLoop} runs, the game is changed only on its
+ * thread: the screen queues key presses there, and deferred changes such
+ * as a brick settling after its animation go through
+ * {@link #runOnBoard}. Entry points still synchronize on the controller,
+ * which covers calls made while the loop is stopped and costs nothing
+ * when uncontended. Subclasses changing the board from timers should use
+ * {@code runOnBoard} as well.
+ * </p>
+ * <p>
+ * {@link #createNewGame()} and {@link #readSnapshot} are the exceptions and
+ * change the board on the caller's thread. The screen only calls them
+ * while the loop is stopped, and a stopped loop drops whatever was still
+ * queued for it, so the only other writer can be a step the stopping loop
+ * thread was already running; both sides hold the controller's lock.
+ * </p>
+ *
+ * @version 1.0
+ */
+@SuppressWarnings("OverridableMethodCallInConstructor")
+public class BaseGameController implements GameplayPort, GameModeLifecycle {
+    protected final BrickMovement movement;
+    protected final BrickDropActions dropActions;
+    protected final BoardRead reader;
+    protected final BrickSpawn spawner;
+    protected final BoardLifecycle boardLifecycle;
+    protected final GameView view; 
+    protected final SpawnManager spawnManager;
+    protected final ScoreManager scoreService;
+    protected final IntegerProperty scoreProperty;
+    protected final BrickMove moveHandler;
+    protected final BrickDrop dropHandler;
+    protected final ScoringPolicy scoringPolicy;
+    
+    protected final java.util.Map<EventType, GameCommand> commands
+        = new java.util.EnumMap<>(EventType.class);
+    /** Owns the mode's timers; paused and resumed with the mode. */
+    protected final GameScheduler scheduler = new GameScheduler();
+
+    
+    protected volatile boolean active = true;
+    protected int totalLinesCleared = 0;
+    protected long gameStartTime = 0;
+
+    private final BoardPersistence persistence;
+    private volatile Executor boardExecutor = Runnable::run;
+    private ReplayRecorder replayRecorder;
+    private volatile InputLatencyTracer latencyTracer;
+    protected volatile GameAudio audio = GameAudio.SILENT;
+    private int inputDepth;
+
+    public BaseGameController(GameView view) {
+        this(view, new ClassicScoringPolicy(), new ScoreManager());
+    }
+
+    public BaseGameController(GameView view, ScoringPolicy policy, ScoreManager scoreManager) {
+        this(view, policy, scoreManager, new SimpleBoardFactory());
+    }
+
+    public BaseGameController(GameView view, ScoringPolicy policy, ScoreManager scoreManager, BoardFactory boardFactory) {
+        this(view, policy, scoreManager,
+            Objects.requireNonNull(boardFactory, "boardFactory must not be null").create(22, 10));
+    }
+
+    public BaseGameController(GameView view, ScoringPolicy policy, ScoreManager scoreManager, BoardPorts boardPorts) {
+        this.view = view;
+        BoardPorts ports = Objects.requireNonNull(boardPorts, "boardPorts must not be null");
+        this.movement = ports.movement();
+        this.dropActions = ports.dropActions();
+        this.reader = ports.reader();
+        this.spawner = ports.spawner();
+        this.boardLifecycle = ports.lifecycle();
+        this.persistence = ports.persistence();
+        this.spawnManager = new SpawnManager(spawner);
+        this.scoreService = scoreManager;
+        this.scoreProperty = ScorePropertyAdapter.of(scoreService);
+        this.moveHandler = new BrickMove(movement, reader);
+        this.scoringPolicy = policy;
+        this.dropHandler = new BrickDrop(dropActions, reader, scoreService, spawnManager, scoringPolicy);
+        
+        
+        spawnManager.addGameOverObserver(this::gameOver);
+        spawnManager.spawn();
+        registerDefaultCommands();
+        setupView();
+        
+    }
+
+    
+    protected void onStart() {
+        
+    }
+
+    @Override
+    public void startMode() {
+        gameStartTime = System.currentTimeMillis();
+        onStart();
+        scheduler.start();
+    }
+
+    @Override
+    public void pauseMode() {
+        scheduler.pause();
+    }
+
+    @Override
+    public void resumeMode() {
+        scheduler.resume();
+    }
+
+    
+    protected void registerDefaultCommands() {
+        commands.put(EventType.LEFT, new MoveLeftCommand(movement, reader));
+        commands.put(EventType.RIGHT, new MoveRightCommand(movement, reader));
+        commands.put(EventType.ROTATE, new RotateCommand(movement, reader));
+        commands.put(EventType.DOWN, new SoftDropCommand(dropHandler, view, reader));
+        commands.put(EventType.HARD_DROP,
+            new HardDropCommand(dropActions, scoringPolicy, scoreService, spawnManager, reader, view));
+    }
+
+    protected void setupView() {
+        view.initGameView(reader.getBoardMatrix(), reader.getViewData());
+        view.bindScore(scoreProperty);
+        
+        try { view.bindLevel(null); } catch (Exception ignored) {}
+        view.setInputHandlers(this, this, this);
+    }
+
+    @Override
+    public synchronized ShowResult onDown(MoveEvent event) {
+        ReplayRecorder recorder = replayRecorder;
+        if (recorder != null) {
+            recorder.record(event, true);
+        }
+        if (!active) return new ShowResult(null, reader.getViewData());
+        inputDepth++;
+        try {
+            ShowResult result = dropHandler.handleDrop(event.getEventSource(), () -> view.gameOver());
+            if (result.getClearRow() != null) {
+                view.refreshBoardCells(reader.cells());
+            }
+            return result.detached();
+        } finally {
+            inputDepth--;
+        }
+    }
+
+    @Override
+    public synchronized ShowResult onLeft(MoveEvent event) {
+        if (!active) return new ShowResult(null, reader.getViewData());
+        ViewData vd = moveHandler.handleLeftMove();
+        audio.play(GameAudio.Cue.MOVE);
+        return new ShowResult(null, vd);
+    }
+
+    @Override
+    public synchronized ShowResult onRight(MoveEvent event) {
+        if (!active) return new ShowResult(null, reader.getViewData());
+        ViewData vd = moveHandler.handleRightMove();
+        audio.play(GameAudio.Cue.MOVE);
+        return new ShowResult(null, vd);
+    }
+
+    @Override
+    public synchronized ShowResult onRotate(MoveEvent event) {
+        if (!active) return new ShowResult(null, reader.getViewData());
+        ViewData vd = moveHandler.handleRotation();
+        audio.play(GameAudio.Cue.ROTATE);
+        return new ShowResult(null, vd);
+    }
+
+    @Override
+    public synchronized ShowResult handle(MoveEvent event) {
+        long started = System.nanoTime();
+        ShowResult result = dispatch(event);
+        InputLatencyTracer tracer = latencyTracer;
+        if (tracer != null) {
+            tracer.handled(event, started, result);
+        }
+        return result;
+    }
+
+    private ShowResult dispatch(MoveEvent event) {
+        ReplayRecorder recorder = replayRecorder;
+        if (recorder != null) {
+            recorder.record(event, false);
+        }
+        if (!active) return new ShowResult(null, reader.getViewData());
+        GameCommand handler = commands.get(event.getEventType());
+        if (handler == null) {
+            return new ShowResult(null, reader.getViewData());
+        }
+        inputDepth++;
+        try {
+            return handler.execute(event).detached();
+        } finally {
+            inputDepth--;
+        }
+    }
+
+    /**
+     * Starts or stops recording this game's inputs.
+     * <p>
+     * Every event passed to {@link #handle} or {@link #onDown}, every
+     * finished settle animation, restart and game over not caused by an
+     * input is recorded, which is enough to replay the game from its
+     * board seed.
+     * </p>
+     *
+     * @param recorder the recorder, or {@code null} to stop recording
+     */
+    public void setReplayRecorder(ReplayRecorder recorder) {
+        this.replayRecorder = recorder;
+    }
+
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    /**
+     * Reports how long each stamped input took to handle, from queueing to result.
+     *
+     * @param tracer the tracer, or {@code null} to stop tracing
+     */
+    public void setLatencyTracer(InputLatencyTracer tracer) {
+        this.latencyTracer = tracer;
+    }
+
+    /**
+     * Sets where the game's sounds are played; games are silent until one is set.
+     *
+     * @param audio plays the move, rotate and lock cues and the mode's theme
+     */
+    public void setAudio(GameAudio audio) {
+        this.audio = Objects.requireNonNull(audio, "audio must not be null");
+    }
+
+    /**
+     * Sets where board changes that happen outside an input, such as a
+     * brick settling once its animation ends, are run.
+     * <p>
+     * The screen passes its game loop, so those changes run on the same
+     * thread as gravity and input. By default they run immediately on the
+     * thread that triggers them.
+     * </p>
+     *
+     * @param executor runs deferred board changes
+     */
+    public void setBoardExecutor(Executor executor) {
+        this.boardExecutor = Objects.requireNonNull(executor, "executor must not be null");
+    }
+
+    /**
+     * Runs a board change on the {@link #setBoardExecutor board executor}.
+     *
+     * @param change the change to run
+     */
+    protected final void runOnBoard(Runnable change) {
+        boardExecutor.execute(change);
+    }
+
+    /**
+     * Writes everything needed to resume this game later.
+     * <p>
+     * The snapshot holds the score, the lines cleared, the board's state
+     * (see {@link BoardPersistence}) and whatever the mode adds through
+     * {@link #writeModeState}.
+     * </p>
+     *
+     * @param out the buffer to write to
+     * @throws IllegalStateException if the board cannot be saved
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    public synchronized void writeSnapshot(ByteBuffer out) {
+        BoardPersistence board = requirePersistence();
+        out.putInt(scoreService.getValue());
+        out.putInt(totalLinesCleared);
+        board.saveState(out);
+        writeModeState(out);
+    }
+
+    /**
+     * Continues the game saved by {@link #writeSnapshot} in place of the current one.
+     * <p>
+     * Call this before the mode is started; the mode's timers then pick up
+     * from the saved values instead of starting afresh. The whole snapshot
+     * is read and checked before anything is applied, so a snapshot that
+     * is rejected leaves the game as it was.
+     * </p>
+     *
+     * @param in the buffer positioned at the snapshot
+     * @throws IllegalStateException if the board cannot be restored
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    public synchronized void readSnapshot(ByteBuffer in) {
+        BoardPersistence board = requirePersistence();
+        int score = in.getInt();
+        int lines = in.getInt();
+        if (score < 0 || lines < 0) {
+            throw new IllegalArgumentException("Invalid score " + score + " or line count " + lines);
+        }
+        Runnable boardState = board.prepareRestore(in);
+        Runnable modeState = readModeState(in);
+        boardState.run();
+        modeState.run();
+        scoreService.reset();
+        scoreService.add(score);
+        totalLinesCleared = lines;
+        active = true;
+        view.refreshBoardCells(reader.cells());
+        view.acceptShowResult(new ShowResult(null, reader.getViewData()));
+    }
+
+    /**
+     * Writes mode-specific state after the board; the default writes nothing.
+     *
+     * @param out the buffer to write to
+     */
+    protected void writeModeState(ByteBuffer out) {
+        
+    }
+
+    /**
+     * Reads and checks the state written by {@link #writeModeState}; the
+     * default reads nothing. Nothing may change until the returned action runs.
+     *
+     * @param in the buffer positioned at the mode state
+     * @return applies the mode state
+     * @throws IllegalArgumentException if the state is malformed
+     */
+    protected Runnable readModeState(ByteBuffer in) {
+        return () -> { };
+    }
+
+    private BoardPersistence requirePersistence() {
+        if (persistence == null) {
+            throw new IllegalStateException("This board does not support saving");
+        }
+        return persistence;
+    }
+
+    /**
+     * Tells whether the game is still running, i.e. has not ended.
+     *
+     * @return {@code false} once the game is over
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    
+    public void registerCommand(EventType type, GameCommand handler) {
+        if (type != null && handler != null) {
+            commands.put(type, handler);
+        }
+    }
+
+    private final class MoveLeftCommand implements GameCommand {
+        private final BrickMovement movement;
+        private final BoardRead reader;
+
+        private MoveLeftCommand(BrickMovement movement, BoardRead reader) {
+            this.movement = movement;
+            this.reader = reader;
+        }
+
+        @Override
+        public ShowResult execute(MoveEvent event) {
+            boolean moved = movement.moveBrickLeft();
+            ViewData vd = reader.getViewData();
+            if (moved) {
+                audio.play(GameAudio.Cue.MOVE);
+            }
+            return new ShowResult(null, vd);
+        }
+    }
+
+    private final class MoveRightCommand implements GameCommand {
+        private final BrickMovement movement;
+        private final BoardRead reader;
+
+        private MoveRightCommand(BrickMovement movement, BoardRead reader) {
+            this.movement = movement;
+            this.reader = reader;
+        }
+
+        @Override
+        public ShowResult execute(MoveEvent event) {
+            boolean moved = movement.moveBrickRight();
+            ViewData vd = reader.getViewData();
+            if (moved) {
+                audio.play(GameAudio.Cue.MOVE);
+            }
+            return new ShowResult(null, vd);
+        }
+    }
+
+    private final class RotateCommand implements GameCommand {
+        private final BrickMovement movement;
+        private final BoardRead reader;
+
+        private RotateCommand(BrickMovement movement, BoardRead reader) {
+            this.movement = movement;
+            this.reader = reader;
+        }
+
+        @Override
+        public ShowResult execute(MoveEvent event) {
+            boolean rotated = movement.rotateLeftBrick();
+            ViewData vd = reader.getViewData();
+            if (rotated) {
+                audio.play(GameAudio.Cue.ROTATE);
+            }
+            return new ShowResult(null, vd);
+        }
+    }
+
+    private final class SoftDropCommand implements GameCommand {
+        private final BrickDrop dropHandler;
+        private final GameView view;
+        private final BoardRead reader;
+
+        private SoftDropCommand(BrickDrop dropHandler, GameView view, BoardRead reader) {
+            this.dropHandler = dropHandler;
+            this.view = view;
+            this.reader = reader;
+        }
+
+        @Override
+        public ShowResult execute(MoveEvent event) {
+            
+            com.comp2042.tetris.domain.model.ViewData current = reader.getViewData();
+            boolean wouldCollide = com.comp2042.tetris.util.CollisionDetector.isCollision(
+                reader.getBoardMatrix(), current.getBrickData(), current.getxPosition(), current.getyPosition() + 1);
+
+            if (wouldCollide) {
+                
+                view.settleActiveBrick(() -> runOnBoard(() -> {
+                    synchronized (BaseGameController.this) {
+                        ReplayRecorder recorder = replayRecorder;
+                        if (recorder != null) {
+                            recorder.recordSettle();
+                        }
+                        inputDepth++;
+                        try {
+                            ShowResult asyncResult = dropHandler.handleDrop(event.getEventSource(), () -> view.gameOver());
+
+                            view.acceptShowResult(asyncResult);
+                            if (asyncResult.getClearRow() != null) {
+                                view.refreshBoardCells(reader.cells());
+                                totalLinesCleared += asyncResult.getClearRow().getLinesRemoved();
+                            }
+                        } finally {
+                            inputDepth--;
+                        }
+                    }
+                }));
+                audio.play(GameAudio.Cue.LOCK);
+                
+                return new ShowResult(null, reader.getViewData());
+            } else {
+                ShowResult result = dropHandler.handleDrop(event.getEventSource(), () -> view.gameOver());
+                if (result.getClearRow() != null) {
+                    view.refreshBoardCells(reader.cells());
+                    totalLinesCleared += result.getClearRow().getLinesRemoved();
+                }
+                return result;
+            }
+        }
+    }
+
+    private final class HardDropCommand implements GameCommand {
+        private final BrickDropActions dropActions;
+        private final ScoringPolicy scoringPolicy;
+        private final ScoreManager scoreService;
+        private final SpawnManager spawnManager;
+        private final BoardRead reader;
+        private final GameView view;
+
+        private HardDropCommand(BrickDropActions dropActions,
+                                ScoringPolicy scoringPolicy,
+                                ScoreManager scoreService,
+                                SpawnManager spawnManager,
+                                BoardRead reader,
+                                GameView view) {
+            this.dropActions = dropActions;
+            this.scoringPolicy = scoringPolicy;
+            this.scoreService = scoreService;
+            this.spawnManager = spawnManager;
+            this.reader = reader;
+            this.view = view;
+        }
+
+        @Override
+        public ShowResult execute(MoveEvent event) {
+            int distance = dropActions.hardDrop();
+            int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
+            if (distance > 0 && softScore > 0) {
+                scoreService.add(softScore * distance);
+            }
+            dropActions.mergeBrickToBackground();
+            RowClearResult clear = dropActions.clearRows();
+            if (clear.getLinesRemoved() > 0) {
+                int bonus = scoringPolicy.scoreForLineClear(clear.getLinesRemoved());
+                if (bonus > 0) {
+                    scoreService.add(bonus);
+                }
+                clear = clear.withScoreBonus(bonus);
+                totalLinesCleared += clear.getLinesRemoved();
+            }
+            spawnManager.spawn();
+            view.refreshBoardCells(reader.cells());
+            audio.play(GameAudio.Cue.LOCK);
+            return new ShowResult(clear, reader.getViewData());
+        }
+    }
+
+    @Override
+    public synchronized void createNewGame() {
+        ReplayRecorder recorder = replayRecorder;
+        if (recorder != null) {
+            recorder.recordNewGame();
+        }
+        active = true;
+        totalLinesCleared = 0;
+        boardLifecycle.newGame();
+        scoreService.reset();
+        view.refreshBoardCells(reader.cells());
+        
+        
+    }
+    
+    @Override
+    public IntegerProperty scoreProperty() {
+        return scoreProperty;
+    }
+
+    
+    protected synchronized void gameOver() {
+        ReplayRecorder recorder = replayRecorder;
+        if (recorder != null) {
+            if (inputDepth == 0) {
+                recorder.recordGameOver();
+            }
+            recorder.flush();
+        }
+        active = false;
+        runOnFxThread(scheduler::stop);
+        view.gameOver();
+    }
+
+    /**
+     * Runs an action on the FX thread: at once if already there, otherwise later.
+     * <p>
+     * Game over can be reached from the gravity loop thread, while mode
+     * timers must only be touched on the FX thread. Without a running
+     * toolkit, as in tests, the action runs on the calling thread.
+     * </p>
+     *
+     * @param action the action to run
+     */
+    protected static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        try {
+            Platform.runLater(action);
+        } catch (IllegalStateException toolkitNotRunning) {
+            action.run();
+        }
+    }
+
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    public long getGameStartTime() {
+        return gameStartTime;
+    }
+}
+
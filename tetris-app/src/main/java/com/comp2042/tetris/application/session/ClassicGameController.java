@@ -0,0 +1,36 @@
+package com.comp2042.tetris.application.session;
+
+import com.comp2042.tetris.application.port.GameAudio;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.engine.board.BoardFactory;
+
+/**
+ * Controller for Classic game mode.
+ * Extends BaseGameController with classic Tetris gameplay:
+ * endless play until game over with classic background music.
+ *
+ */
+public class ClassicGameController extends BaseGameController {
+    public ClassicGameController(GameView view) {
+        super(view);
+    }
+
+    /**
+     * Creates a controller playing on boards from the given factory,
+     * e.g. a seeded one for a recorded game.
+     *
+     * @param view the game view
+     * @param boardFactory creates the board
+     */
+    public ClassicGameController(GameView view, BoardFactory boardFactory) {
+        super(view, new ClassicScoringPolicy(), new ScoreManager(), boardFactory);
+    }
+
+    @Override
+    protected void onStart() {
+        audio.playTheme(GameAudio.Theme.CLASSIC);
+    }
+}
+
@@ -0,0 +1,374 @@
+package com.comp2042.tetris.application.session;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.comp2042.tetris.util.MpscRingBuffer;
+
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Game loop that ticks on its own thread with a fixed-timestep accumulator,
+ * and the single thread that changes the game while it runs.
+ * <p>
+ * The loop thread measures elapsed time with {@link System#nanoTime()} and
+ * runs one step for every whole interval that has passed, so gravity keeps
+ * its rate however busy the FX thread is with effects and animations. After
+ * a long stall at most {@value #MAX_CATCH_UP} steps are run back to back and
+ * the rest of the backlog is dropped, rather than letting the brick fall
+ * several rows at once. The thread parks until shortly before each step is
+ * due and spins for the last stretch, which keeps ticks within tens of
+ * microseconds of their deadline.
+ * </p>
+ * <p>
+ * Each step returns a frame, which should be immutable. Frames reach the FX
+ * thread through a single slot: the loop swaps its frame into the slot and
+ * schedules a drain only when the slot was empty, so the FX thread is never
+ * queued more than one drain however fast the loop runs. A frame published
+ * before the previous one was drained is combined with it, by default by
+ * keeping the newer one. The combine function may be called more than once
+ * for the same pair when another thread races the swap, so it should have
+ * no side effects; a {@link #setSupersededListener superseded listener}
+ * hears about each frame that was actually replaced, exactly once.
+ * </p>
+ * <p>
+ * Other threads hand work to the loop thread through a lock-free
+ * {@link MpscRingBuffer}: {@link #submit} for work that produces a frame,
+ * such as a key press, and {@link #execute} for work that does not. The
+ * loop thread wakes when work arrives, runs everything queued as one batch
+ * ahead of any gravity step that is due, and publishes a single frame for
+ * the batch. While the loop is stopped, or if the queue is full, submitting
+ * fails and {@code execute} runs the work on the calling thread instead.
+ * </p>
+ * <p>
+ * {@link #stop()} does not wait for the loop thread; a step that is already
+ * running finishes and its frame is still delivered. Work still queued
+ * when the loop stops is dropped: each run of the loop has its own queue,
+ * drained only by its own thread, so a restarted loop never replays key
+ * presses or changes meant for the previous run, and a stopped thread
+ * finishing its last pass never takes work meant for the new one.
+ * </p>
+ *
+ * @param <F> the frame type handed to the FX thread
+ * @version 1.0
+ */
+public final class FixedStepGameLoop<F> implements GameLoop, Executor {
+
+    private static final Logger LOGGER = Logger.getLogger(FixedStepGameLoop.class.getName());
+
+    /** Most steps run in one go to catch up after the loop thread was stalled. */
+    public static final int MAX_CATCH_UP = 5;
+
+    /** Most pieces of work that can wait for the loop thread at once. */
+    public static final int INBOX_CAPACITY = 1024;
+
+    private static final long SPIN_NANOS = 2_000_000L;
+
+    private final Supplier<? extends F> step;
+    private final Consumer<? super F> onFrame;
+    private final BinaryOperator<F> combine;
+    private final Executor frameExecutor;
+    private final AtomicReference<F> slot = new AtomicReference<>();
+    private final Runnable drain = this::drain;
+
+    private volatile Duration interval;
+    private volatile long stepNanos;
+    private volatile Run<F> current;
+    private volatile LongConsumer tickListener;
+    private volatile BiConsumer<? super F, ? super F> supersededListener;
+
+    /**
+     * Creates a loop that delivers the newest frame to the FX thread.
+     *
+     * @param interval the duration between steps
+     * @param step advances the game by one tick on the loop thread; may return {@code null} for no frame
+     * @param onFrame receives frames on the FX thread
+     */
+    public FixedStepGameLoop(Duration interval, Supplier<? extends F> step, Consumer<? super F> onFrame) {
+        this(interval, step, onFrame, (older, newer) -> newer, Platform::runLater);
+    }
+
+    /**
+     * Creates a loop with a custom frame merge and delivery executor.
+     *
+     * @param interval the duration between steps
+     * @param step advances the game by one tick on the loop thread; may return {@code null} for no frame
+     * @param onFrame receives frames on the executor
+     * @param combine merges a frame still waiting in the slot with a newer one
+     * @param frameExecutor runs frame delivery, normally {@code Platform::runLater}
+     */
+    public FixedStepGameLoop(Duration interval, Supplier<? extends F> step, Consumer<? super F> onFrame,
+                             BinaryOperator<F> combine, Executor frameExecutor) {
+        this.step = Objects.requireNonNull(step, "step must not be null");
+        this.onFrame = Objects.requireNonNull(onFrame, "onFrame must not be null");
+        this.combine = Objects.requireNonNull(combine, "combine must not be null");
+        this.frameExecutor = Objects.requireNonNull(frameExecutor, "frameExecutor must not be null");
+        setInterval(interval);
+    }
+
+    /**
+     * Changes the step interval.
+     * <p>
+     * Takes effect from the next step; time already accumulated is kept,
+     * so a shorter interval can make the next step due immediately.
+     * </p>
+     *
+     * @param newInterval the new duration between steps
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    @Override
+    public void setInterval(Duration newInterval) {
+        Objects.requireNonNull(newInterval, "newInterval must not be null");
+        long nanos = Math.round(newInterval.toMillis() * 1_000_000.0);
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + newInterval);
+        }
+        this.interval = newInterval;
+        this.stepNanos = nanos;
+        Run<F> run = current;
+        if (run != null) {
+            LockSupport.unpark(run.thread());
+        }
+    }
+
+    /**
+     * Gets the current step interval.
+     *
+     * @return the current interval duration
+     */
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets a listener told how long each busy pass of the loop took.
+     * <p>
+     * A pass is busy when it ran queued work or at least one step; the
+     * listener receives the nanoseconds spent on both together, on the loop
+     * thread, and must return quickly.
+     * </p>
+     *
+     * @param listener the listener, or {@code null} for none
+     */
+    public void setTickListener(LongConsumer listener) {
+        this.tickListener = listener;
+    }
+
+    /**
+     * Sets a listener told when a frame is combined away before it was delivered.
+     * <p>
+     * The listener receives the frame that will not be delivered and the
+     * combined frame that replaces it, on the loop thread, once the
+     * replacement has taken effect. It must return quickly.
+     * </p>
+     *
+     * @param listener the listener, or {@code null} for none
+     */
+    public void setSupersededListener(BiConsumer<? super F, ? super F> listener) {
+        this.supersededListener = listener;
+    }
+
+    /**
+     * Starts the loop thread; the first step runs one interval later.
+     */
+    @Override
+    public synchronized void start() {
+        if (current != null) {
+            return;
+        }
+        MpscRingBuffer<Supplier<? extends F>> inbox = new MpscRingBuffer<>(INBOX_CAPACITY);
+        Thread thread = Thread.ofPlatform().name("game-loop").daemon().unstarted(() -> run(inbox));
+        current = new Run<>(thread, inbox);
+        thread.start();
+    }
+
+    /**
+     * Stops the loop without waiting for a running step to finish.
+     */
+    @Override
+    public synchronized void stop() {
+        Run<F> run = current;
+        current = null;
+        if (run != null) {
+            LockSupport.unpark(run.thread());
+        }
+    }
+
+    /**
+     * Checks if the loop is currently running.
+     *
+     * @return {@code true} between {@link #start()} and {@link #stop()}
+     */
+    @Override
+    public boolean isRunning() {
+        return current != null;
+    }
+
+    /**
+     * Queues work to run on the loop thread.
+     *
+     * @param work changes the game and returns the frame to show, or {@code null} for none
+     * @return {@code false} if the loop is stopped or the queue is full; the work was not queued
+     */
+    public boolean submit(Supplier<? extends F> work) {
+        Objects.requireNonNull(work, "work must not be null");
+        Run<F> run = current;
+        if (run == null || !run.inbox().offer(work)) {
+            return false;
+        }
+        LockSupport.unpark(run.thread());
+        return true;
+    }
+
+    /**
+     * Runs work on the loop thread, or right away on this thread if it cannot be queued.
+     *
+     * @param command the work to run
+     */
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command must not be null");
+        if (!submit(() -> {
+            command.run();
+            return null;
+        })) {
+            command.run();
+        }
+    }
+
+    private void run(MpscRingBuffer<Supplier<? extends F>> inbox) {
+        Thread self = Thread.currentThread();
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        while (isCurrent(self)) {
+            long started = System.nanoTime();
+            boolean queued = !inbox.isEmpty();
+            F frame = runInbox(inbox, self);
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+            long stepLength = stepNanos;
+            int steps = 0;
+            for (; accumulator >= stepLength && steps < MAX_CATCH_UP && isCurrent(self); steps++) {
+                accumulator -= stepLength;
+                frame = merge(frame, call(step));
+            }
+            if (accumulator >= stepLength) {
+                accumulator %= stepLength;
+            }
+            LongConsumer listener = tickListener;
+            if (listener != null && (queued || steps > 0)) {
+                listener.accept(System.nanoTime() - started);
+            }
+            publish(frame);
+            awaitDeadline(inbox, self, previous + stepLength - accumulator, stepLength);
+        }
+    }
+
+    /**
+     * Runs everything queued so far as one batch, stopping early if the loop was stopped.
+     *
+     * @param inbox the queue of this run
+     * @param self the loop thread running the batch
+     * @return the merged frame of the batch, or {@code null}
+     */
+    private F runInbox(MpscRingBuffer<Supplier<? extends F>> inbox, Thread self) {
+        F frame = null;
+        Supplier<? extends F> work;
+        while (isCurrent(self) && (work = inbox.poll()) != null) {
+            frame = merge(frame, call(work));
+        }
+        return frame;
+    }
+
+    /**
+     * Waits until the deadline, work arrives, the loop is stopped or the interval changes.
+     */
+    private void awaitDeadline(MpscRingBuffer<Supplier<? extends F>> inbox, Thread self,
+                               long deadline, long stepLength) {
+        while (isCurrent(self) && stepNanos == stepLength && inbox.isEmpty()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(this, remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private boolean isCurrent(Thread self) {
+        Run<F> run = current;
+        return run != null && run.thread() == self;
+    }
+
+    private F call(Supplier<? extends F> work) {
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Game loop step failed", e);
+            return null;
+        }
+    }
+
+    private F merge(F older, F newer) {
+        if (older == null) {
+            return newer;
+        }
+        if (newer == null) {
+            return older;
+        }
+        F merged = combine.apply(older, newer);
+        superseded(older, merged);
+        return merged;
+    }
+
+    private void publish(F frame) {
+        if (frame == null) {
+            return;
+        }
+        F pending;
+        F merged;
+        do {
+            pending = slot.get();
+            merged = pending == null ? frame : combine.apply(pending, frame);
+        } while (!slot.compareAndSet(pending, merged));
+        if (pending == null) {
+            frameExecutor.execute(drain);
+        } else {
+            superseded(pending, merged);
+        }
+    }
+
+    private void superseded(F dropped, F kept) {
+        BiConsumer<? super F, ? super F> listener = supersededListener;
+        if (listener != null && dropped != kept) {
+            listener.accept(dropped, kept);
+        }
+    }
+
+    private void drain() {
+        F frame = slot.getAndSet(null);
+        if (frame != null) {
+            onFrame.accept(frame);
+        }
+    }
+
+    /**
+     * One run of the loop: its thread and the queue only that thread drains.
+     */
+    private record Run<F>(Thread thread, MpscRingBuffer<Supplier<? extends F>> inbox) {}
+}
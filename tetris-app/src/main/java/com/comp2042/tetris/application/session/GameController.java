@@ -1,14 +1,13 @@
 package com.comp2042.tetris.application.session;
 
 import com.comp2042.tetris.application.command.GameCommand;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.application.port.GameplayPort;
 import com.comp2042.tetris.engine.board.BoardFactory;
 import com.comp2042.tetris.engine.board.BoardLifecycle;
 import com.comp2042.tetris.engine.board.BoardPorts;
 import com.comp2042.tetris.engine.board.BoardRead;
-import com.comp2042.tetris.engine.board.GameView;
 import com.comp2042.tetris.engine.board.SimpleBoardFactory;
-import com.comp2042.tetris.engine.board.SimpleBoardPorts;
 import com.comp2042.tetris.engine.movement.BrickDrop;
 import com.comp2042.tetris.engine.movement.BrickDropActions;
 import com.comp2042.tetris.engine.movement.BrickMove;
@@ -17,7 +16,7 @@ import com.comp2042.tetris.engine.spawn.BrickSpawn;
 import com.comp2042.tetris.engine.spawn.SpawnManager;
 
 import javafx.beans.property.IntegerProperty;
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.ui.input.EventType;
 import com.comp2042.tetris.ui.input.MoveEvent;
 import java.util.Objects;
@@ -44,6 +43,7 @@ public class GameController implements GameplayPort {
     private final GameView view; 
     private final SpawnManager spawnManager;
     private final ScoreManager scoreService;
+    private final IntegerProperty scoreProperty;
     private final BrickMove moveHandler;
     private final BrickDrop dropHandler;
     private final ScoringPolicy scoringPolicy;
@@ -62,7 +62,7 @@ public class GameController implements GameplayPort {
 
     public GameController(GameView view, ScoringPolicy policy, ScoreManager scoreManager, BoardFactory boardFactory) {
         this(view, policy, scoreManager,
-            new SimpleBoardPorts(Objects.requireNonNull(boardFactory, "boardFactory must not be null").create(22, 10)));
+            Objects.requireNonNull(boardFactory, "boardFactory must not be null").create(22, 10));
     }
 
     public GameController(GameView view, ScoringPolicy policy, ScoreManager scoreManager, BoardPorts boardPorts) {
@@ -75,6 +75,7 @@ public class GameController implements GameplayPort {
         this.boardLifecycle = ports.lifecycle();
         this.spawnManager = new SpawnManager(spawner);
         this.scoreService = scoreManager;
+        this.scoreProperty = ScorePropertyAdapter.of(scoreService);
         this.moveHandler = new BrickMove(movement, reader);
         this.scoringPolicy = policy;
         this.dropHandler = new BrickDrop(dropActions, reader, scoreService, spawnManager, scoringPolicy);
@@ -97,7 +98,7 @@ public class GameController implements GameplayPort {
 
     private void setupView() {
         view.initGameView(reader.getBoardMatrix(), reader.getViewData());
-        view.bindScore(scoreService.scoreProperty());
+        view.bindScore(scoreProperty);
         view.setInputHandlers(this, this, this);
     }
 
@@ -221,11 +222,10 @@ public class GameController implements GameplayPort {
 
         @Override
         public ShowResult execute(MoveEvent event) {
-            while (dropActions.moveBrickDown()) {
-                int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
-                if (softScore > 0) {
-                    scoreService.add(softScore);
-                }
+            int distance = dropActions.hardDrop();
+            int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
+            if (distance > 0 && softScore > 0) {
+                scoreService.add(softScore * distance);
             }
             dropActions.mergeBrickToBackground();
             RowClearResult clear = dropActions.clearRows();
@@ -234,7 +234,7 @@ public class GameController implements GameplayPort {
                 if (bonus > 0) {
                     scoreService.add(bonus);
                 }
-                clear = new RowClearResult(clear.getLinesRemoved(), clear.getNewMatrix(), bonus, clear.getClearedRows());
+                clear = clear.withScoreBonus(bonus);
             }
             spawnManager.spawn();
             view.refreshGameBackground(reader.getBoardMatrix());
@@ -251,7 +251,7 @@ public class GameController implements GameplayPort {
     
     @Override
     public IntegerProperty scoreProperty() {
-        return scoreService.scoreProperty();
+        return scoreProperty;
     }
 }
 
@@ -4,8 +4,7 @@ import com.comp2042.tetris.engine.board.BoardFactory;
 import com.comp2042.tetris.engine.board.BoardLifecycle;
 import com.comp2042.tetris.engine.board.BoardPorts;
 import com.comp2042.tetris.engine.board.BoardRead;
-import com.comp2042.tetris.engine.board.GameView;
-import com.comp2042.tetris.engine.board.SimpleBoardPorts;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.engine.movement.BrickDrop;
 import com.comp2042.tetris.engine.movement.BrickDropActions;
 import com.comp2042.tetris.engine.movement.BrickMove;
@@ -33,7 +32,7 @@ public class GameInitializer {
     private final ScoringPolicy scoringPolicy;
 
     public GameInitializer(GameView view, ScoringPolicy policy, ScoreManager scoreManager, BoardFactory boardFactory) {
-        BoardPorts ports = new SimpleBoardPorts(boardFactory.create(22, 10));
+        BoardPorts ports = boardFactory.create(22, 10);
         this.movement = ports.movement();
         this.dropActions = ports.dropActions();
         this.reader = ports.reader();
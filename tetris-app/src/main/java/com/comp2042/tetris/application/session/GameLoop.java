@@ -0,0 +1,47 @@
+package com.comp2042.tetris.application.session;
+
+import javafx.util.Duration;
+
+/**
+ * Drives the game's gravity ticks at a configurable interval.
+ * <p>
+ * {@link TimelineGameLoop} ticks on the FX thread from a Timeline;
+ * {@link FixedStepGameLoop} ticks on its own thread with a fixed-timestep
+ * accumulator and hands frames to the FX thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface GameLoop {
+
+    /**
+     * Changes the tick interval; a running loop keeps running at the new rate.
+     *
+     * @param newInterval the new duration between ticks
+     */
+    void setInterval(Duration newInterval);
+
+    /**
+     * Gets the current tick interval.
+     *
+     * @return the current interval duration
+     */
+    Duration getInterval();
+
+    /**
+     * Starts the game loop.
+     */
+    void start();
+
+    /**
+     * Stops the game loop.
+     */
+    void stop();
+
+    /**
+     * Checks if the game loop is currently running.
+     *
+     * @return {@code true} if running, {@code false} otherwise
+     */
+    boolean isRunning();
+}
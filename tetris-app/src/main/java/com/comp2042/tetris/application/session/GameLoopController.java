@@ -1,5 +1,7 @@
 package com.comp2042.tetris.application.session;
 
+import java.util.Objects;
+
 import javafx.util.Duration;
 
 /**
@@ -14,7 +16,16 @@ public final class GameLoopController {
 
 
     public GameLoopController(Duration tickInterval, Runnable onTick) {
-        this.gameLoop = new GameLoop(tickInterval, onTick);
+        this(new TimelineGameLoop(tickInterval, onTick));
+    }
+
+    /**
+     * Creates a controller around an existing loop, e.g. a {@link FixedStepGameLoop}.
+     *
+     * @param gameLoop the loop to control
+     */
+    public GameLoopController(GameLoop gameLoop) {
+        this.gameLoop = Objects.requireNonNull(gameLoop, "gameLoop must not be null");
     }
 
 
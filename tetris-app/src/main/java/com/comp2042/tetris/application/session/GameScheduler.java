@@ -0,0 +1,173 @@
+package com.comp2042.tetris.application.session;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import com.comp2042.tetris.util.TimingWheel;
+
+import javafx.animation.AnimationTimer;
+import javafx.util.Duration;
+
+/**
+ * Runs a game mode's timers on game time, driven by the JavaFX pulse.
+ * <p>
+ * All of a mode's timers (countdowns, event cooldowns, effects that wear
+ * off) live in one {@link TimingWheel}, and a single {@link AnimationTimer}
+ * advances it by the time between pulses. Game time stands still while the
+ * scheduler is paused, so pausing or resuming every timer at once is a
+ * flag flip instead of walking a list of Timelines, and the remaining time
+ * of a timer is simply its deadline minus the game time.
+ * </p>
+ * <p>
+ * Timers fire on the FX thread, at most one pulse late. Instances must
+ * only be used from the FX thread; {@link #advance} lets tests and headless
+ * code drive game time without the toolkit.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class GameScheduler {
+
+    /** Firing resolution of the scheduler's timers, in milliseconds. */
+    public static final long TICK_MILLIS = 10;
+
+    private static final int SLOTS = 256;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, SLOTS);
+    private final Function<LongConsumer, AnimationTimer> pulseFactory;
+    private AnimationTimer pulse;
+    private long lastPulseNanos = -1;
+    private long gameNanos;
+    private boolean paused;
+
+    /**
+     * Creates a scheduler that follows the FX pulse once started.
+     */
+    public GameScheduler() {
+        this(GameScheduler::fxPulse);
+    }
+
+    /**
+     * Creates a scheduler with its own pulse, so tests can fire pulses by hand.
+     *
+     * @param pulseFactory builds the timer that calls the given consumer on every pulse
+     */
+    GameScheduler(Function<LongConsumer, AnimationTimer> pulseFactory) {
+        this.pulseFactory = Objects.requireNonNull(pulseFactory, "pulseFactory must not be null");
+    }
+
+    /**
+     * Runs a task once after some game time.
+     *
+     * @param delay the game time to wait
+     * @param task the task to run
+     * @return a handle to cancel the timer or ask how long is left
+     */
+    public TimingWheel.Timeout schedule(Duration delay, Runnable task) {
+        return wheel.schedule(toMillis(delay), task);
+    }
+
+    /**
+     * Runs a task every period of game time, first after one period.
+     *
+     * @param period the game time between runs
+     * @param task the task to run
+     * @return a handle to cancel the timer
+     */
+    public TimingWheel.Timeout scheduleRepeating(Duration period, Runnable task) {
+        return wheel.scheduleRepeating(toMillis(period), task);
+    }
+
+    /**
+     * Starts following the FX pulse and lifts any pause, so a mode started
+     * again after being paused, e.g. through the settings overlay, does not
+     * stay frozen.
+     */
+    public void start() {
+        if (pulse == null) {
+            pulse = pulseFactory.apply(this::onPulse);
+        }
+        paused = false;
+        lastPulseNanos = -1;
+        pulse.start();
+    }
+
+    /**
+     * Stops following the pulse; timers stay scheduled.
+     */
+    public void stop() {
+        if (pulse != null) {
+            pulse.stop();
+        }
+    }
+
+    /**
+     * Freezes game time; no timer fires until {@link #resume()}.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Lets game time run again from where it was paused.
+     */
+    public void resume() {
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Cancels every timer; game time keeps its value.
+     */
+    public void cancelAll() {
+        wheel.clear();
+    }
+
+    /**
+     * Moves game time forward by hand, firing whatever comes due.
+     *
+     * @param nanos the game time that passed
+     */
+    public void advance(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        gameNanos += nanos;
+        wheel.advanceTo(gameNanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Gets the game time this scheduler has run for.
+     *
+     * @return elapsed unpaused time in milliseconds
+     */
+    public long gameTimeMillis() {
+        return gameNanos / NANOS_PER_MILLI;
+    }
+
+    private void onPulse(long now) {
+        long previous = lastPulseNanos;
+        lastPulseNanos = now;
+        if (previous >= 0 && !paused) {
+            advance(now - previous);
+        }
+    }
+
+    private static AnimationTimer fxPulse(LongConsumer onPulse) {
+        return new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse.accept(now);
+            }
+        };
+    }
+
+    private static long toMillis(Duration duration) {
+        return Math.round(Objects.requireNonNull(duration, "duration must not be null").toMillis());
+    }
+}
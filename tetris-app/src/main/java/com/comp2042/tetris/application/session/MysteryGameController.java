@@ -0,0 +1,322 @@
+package com.comp2042.tetris.application.session;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.comp2042.tetris.application.command.GameCommand;
+import com.comp2042.tetris.application.port.GameAudio;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.ui.input.EventType;
+import com.comp2042.tetris.util.SplitMixRandom;
+import com.comp2042.tetris.util.TimingWheel;
+
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Controller for Mystery game mode with random events.
+ * Features progressive difficulty with speed increases every 30 seconds,
+ * random mystery events (control inversion, fog, gravity changes),
+ * and level progression. Extends BaseGameController.
+ * A saved game keeps its clock, level, speed, event countdown and event
+ * stream; inverted controls stay inverted for the time they had left,
+ * while fog and heavy gravity, which last only seconds, end on save.
+ *
+ */
+public class MysteryGameController extends BaseGameController {
+    private TimingWheel.Timeout speedUpTimer;
+    private TimingWheel.Timeout controlsRevertTimer;
+    private TimingWheel.Timeout fogRestoreTimer;
+    private TimingWheel.Timeout gravityRestoreTimer;
+    private int elapsedSeconds;
+    private int speedMultiplier;
+    
+    private int levelNumber;
+    private final javafx.beans.property.IntegerProperty levelProperty = new javafx.beans.property.SimpleIntegerProperty(1);
+    private int eventCountdown;
+    private final SplitMixRandom rnd = new SplitMixRandom(ThreadLocalRandom.current().nextLong());
+    
+    private int lastEvent = -1;
+    private volatile boolean controlsInverted = false;
+    private int originalSpeedMultiplier;
+    private boolean resumed = false;
+    private long resumedControlsMillis;
+
+    public MysteryGameController(GameView view) {
+        this(view, new SimpleBoardFactory());
+    }
+
+    /**
+     * Creates a mystery controller whose board comes from the given factory.
+     *
+     * @param view the game view
+     * @param boardFactory creates the board
+     */
+    public MysteryGameController(GameView view, BoardFactory boardFactory) {
+        super(view, new ClassicScoringPolicy(), new ScoreManager(), boardFactory);
+        
+        try { view.bindLevel(levelProperty); } catch (Exception ignored) {}
+    }
+
+    @Override
+    protected void onStart() {
+        audio.playTheme(GameAudio.Theme.MYSTERY);
+        
+        stopSpeedUpTimerIfRunning();
+        boolean resuming = resumed;
+        resumed = false;
+        if (!resuming) {
+            elapsedSeconds = 0;
+            speedMultiplier = 1;
+            levelNumber = 1;
+            if (controlsInverted) {
+                controlsInverted = false;
+                runOnBoard(this::applyControls);
+            }
+        }
+        try { levelProperty.set(levelNumber); } catch (Exception ignored) {}
+
+        
+        speedUpTimer = scheduler.scheduleRepeating(Duration.seconds(1), () -> {
+            elapsedSeconds++;
+            if (elapsedSeconds > 0 && elapsedSeconds % 30 == 0) {
+                
+                speedMultiplier++;
+                levelNumber++;
+                try { levelProperty.set(levelNumber); } catch (Exception ignored) {}
+                try { view.animateLevelIncrement(); } catch (Exception ignored) {}
+            }
+            
+            if (eventCountdown > 0) {
+                eventCountdown--;
+            } else {
+                triggerRandomEvent();
+                scheduleNextEvent();
+            }
+        });
+
+        if (!resuming) {
+            scheduleNextEvent();
+        } else if (controlsInverted) {
+            invertControls(Duration.millis(resumedControlsMillis));
+        }
+    }
+
+    
+    public int getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    
+    public int getLevel() {
+        return levelNumber;
+    }
+
+    public javafx.beans.property.IntegerProperty getLevelProperty() {
+        return levelProperty;
+    }
+
+    private void scheduleNextEvent() {
+        
+        eventCountdown = 6 + rnd.nextInt(9); 
+    }
+
+    private void triggerRandomEvent() {
+        
+        
+        int pick = -1;
+        int attempts = 0;
+        while (attempts < 4) {
+            attempts++;
+            int r = rnd.nextInt(100);
+            if (r < 22) {
+                pick = 0; 
+            } else if (r < 44) {
+                pick = 1; 
+            } else if (r < 66) {
+                pick = 2; 
+            } else if (r < 88) {
+                pick = 3; 
+            } else {
+                pick = 4; 
+            }
+            if (pick != lastEvent) break; 
+        }
+
+        lastEvent = pick;
+
+        switch (pick) {
+            case 0 -> {
+                speedMultiplier++;
+                try { view.showEventMessage("Speed Boost!"); } catch (Exception ignored) {}
+            }
+            case 1 -> toggleControls();
+            case 2 -> triggerEarthquake();
+            case 3 -> {
+                try { view.showFogEffect(3); } catch (Exception ignored) {}
+                triggerFog();
+            }
+            case 4 -> {
+                try { view.showHeavyGravityEffect(3); } catch (Exception ignored) {}
+                triggerHeavyGravity();
+            }
+        }
+    }
+
+    private void toggleControls() {
+        if (!controlsInverted) {
+            invertControls(Duration.seconds(8));
+        } else {
+            cancel(controlsRevertTimer);
+            controlsRevertTimer = null;
+            controlsInverted = false;
+            runOnBoard(this::applyControls);
+            try { view.showEventMessage("Controls Normal"); } catch (Exception ignored) {}
+        }
+    }
+
+    private void invertControls(Duration revertAfter) {
+        controlsInverted = true;
+        runOnBoard(this::applyControls);
+        try { view.showEventMessage("Controls Inverted!"); } catch (Exception ignored) {}
+        
+        cancel(controlsRevertTimer);
+        controlsRevertTimer = scheduler.schedule(revertAfter, () -> {
+            controlsInverted = false;
+            controlsRevertTimer = null;
+            runOnBoard(this::applyControls);
+            try { view.showEventMessage("Controls Normal"); } catch (Exception ignored) {}
+        });
+    }
+
+    /**
+     * Rebuilds the command map to match {@code controlsInverted}; runs on the
+     * board thread, which is the only one reading the map while the loop runs.
+     */
+    private void applyControls() {
+        registerDefaultCommands();
+        if (controlsInverted) {
+            GameCommand leftCmd = commands.get(EventType.LEFT);
+            GameCommand rightCmd = commands.get(EventType.RIGHT);
+            commands.put(EventType.LEFT, rightCmd);
+            commands.put(EventType.RIGHT, leftCmd);
+        }
+    }
+
+    private void triggerEarthquake() {
+        
+        try {
+            if (boardLifecycle != null) {
+                
+                
+                runOnBoard(() -> {
+                    synchronized (this) {
+                        boardLifecycle.addGarbageLine();
+                        view.refreshBoardCells(reader.cells());
+                    }
+
+                    try { view.playEarthquakeAnimation(); } catch (Exception ignored) {}
+                });
+            }
+            try { view.showEventMessage("Earthquake!"); } catch (Exception ignored) {}
+        } catch (Exception ignored) {}
+    }
+
+    private void triggerFog() {
+        
+        try {
+            Platform.runLater(() -> view.setBoardVisibility(false));
+            try { view.showEventMessage("The Fog"); } catch (Exception ignored) {}
+            cancel(fogRestoreTimer);
+            fogRestoreTimer = scheduler.schedule(Duration.seconds(3), () -> {
+                Platform.runLater(() -> view.setBoardVisibility(true));
+                fogRestoreTimer = null;
+            });
+        } catch (Exception ignored) {}
+    }
+
+    private void triggerHeavyGravity() {
+        
+        originalSpeedMultiplier = speedMultiplier;
+        speedMultiplier = Math.max(30, speedMultiplier * 12);
+        try { view.showEventMessage("Heavy Gravity!"); } catch (Exception ignored) {}
+        cancel(gravityRestoreTimer);
+        gravityRestoreTimer = scheduler.schedule(Duration.seconds(3), () -> {
+            speedMultiplier = originalSpeedMultiplier;
+            try { view.showEventMessage("Gravity Normalized"); } catch (Exception ignored) {}
+            gravityRestoreTimer = null;
+        });
+    }
+
+    @Override
+    protected void writeModeState(ByteBuffer out) {
+        out.putInt(elapsedSeconds);
+        out.putInt(gravityRestoreTimer != null ? originalSpeedMultiplier : speedMultiplier);
+        out.putInt(levelNumber);
+        out.putInt(eventCountdown);
+        out.putInt(lastEvent);
+        long controlsMillis = 0;
+        if (controlsInverted && controlsRevertTimer != null) {
+            controlsMillis = Math.max(1, controlsRevertTimer.remainingMillis());
+        }
+        out.putLong(controlsMillis);
+        SplitMixRandom.writeState(rnd, out);
+    }
+
+    @Override
+    protected Runnable readModeState(ByteBuffer in) {
+        int savedElapsed = in.getInt();
+        int savedSpeed = in.getInt();
+        int savedLevel = in.getInt();
+        int savedCountdown = in.getInt();
+        int savedLastEvent = in.getInt();
+        long savedControlsMillis = in.getLong();
+        if (savedElapsed < 0 || savedSpeed < 1 || savedLevel < 1 || savedCountdown < 0 || savedControlsMillis < 0) {
+            throw new IllegalArgumentException("Invalid mystery mode state");
+        }
+        Runnable eventStream = SplitMixRandom.prepareState(rnd, in);
+        return () -> {
+            eventStream.run();
+            elapsedSeconds = savedElapsed;
+            speedMultiplier = savedSpeed;
+            levelNumber = savedLevel;
+            eventCountdown = savedCountdown;
+            lastEvent = savedLastEvent;
+            controlsInverted = savedControlsMillis > 0;
+            resumedControlsMillis = savedControlsMillis;
+            resumed = true;
+        };
+    }
+
+    @Override
+    public void createNewGame() {
+        super.createNewGame();
+        onStart(); 
+    }
+
+    private void stopSpeedUpTimerIfRunning() {
+        scheduler.cancelAll();
+        speedUpTimer = null;
+        controlsRevertTimer = null;
+        fogRestoreTimer = null;
+        gravityRestoreTimer = null;
+    }
+
+    private static void cancel(TimingWheel.Timeout timer) {
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    @Override
+    protected void gameOver() {
+        runOnFxThread(this::stopSpeedUpTimerIfRunning);
+        super.gameOver();
+    }
+}
+
+
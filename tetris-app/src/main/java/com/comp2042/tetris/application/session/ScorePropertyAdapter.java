@@ -0,0 +1,34 @@
+package com.comp2042.tetris.application.session;
+
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Bridges a {@link ScoreManager} to a JavaFX {@link IntegerProperty}.
+ * <p>
+ * The scoring code publishes changes through plain listeners so it can run
+ * headless; controllers that drive a JavaFX view use this adapter to get a
+ * property the view can bind to.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class ScorePropertyAdapter {
+
+    private ScorePropertyAdapter() {
+    }
+
+    /**
+     * Creates a property that follows the manager's score.
+     *
+     * @param scoreManager the score to follow
+     * @return a property holding the current score and updated on every change
+     */
+    static IntegerProperty of(ScoreManager scoreManager) {
+        IntegerProperty property = new SimpleIntegerProperty(scoreManager.getValue());
+        scoreManager.addScoreListener((oldScore, newScore) -> property.set(newScore));
+        return property;
+    }
+}
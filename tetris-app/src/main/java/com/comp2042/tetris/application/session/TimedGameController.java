@@ -0,0 +1,108 @@
+package com.comp2042.tetris.application.session;
+
+import java.nio.ByteBuffer;
+
+import com.comp2042.tetris.application.port.GameAudio;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.util.TimingWheel;
+
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Controller for Time Attack game mode.
+ * Extends BaseGameController with a countdown timer (default 120 seconds).
+ * Game ends when timer reaches zero or player gets game over.
+ * Supports pause/resume of the countdown. A saved game keeps the time
+ * that was left on the clock.
+ *
+ */
+public class TimedGameController extends BaseGameController {
+    private static final int DEFAULT_SECONDS = 120; 
+    private int remainingSeconds = DEFAULT_SECONDS;
+    private int resumedSeconds;
+    private TimingWheel.Timeout countdown;
+
+    public TimedGameController(GameView view) {
+        super(view);
+    }
+
+    /**
+     * Creates a timed controller whose board comes from the given factory.
+     *
+     * @param view the game view
+     * @param boardFactory creates the board
+     */
+    public TimedGameController(GameView view, BoardFactory boardFactory) {
+        super(view, new ClassicScoringPolicy(), new ScoreManager(), boardFactory);
+    }
+
+    @Override
+    protected void onStart() {
+        audio.playTheme(GameAudio.Theme.RUSH);
+        
+        stopCountdownIfRunning();
+        remainingSeconds = resumedSeconds > 0 ? resumedSeconds : DEFAULT_SECONDS;
+        resumedSeconds = 0;
+        
+        try {
+            Platform.runLater(() -> view.setRemainingTime(remainingSeconds));
+        } catch (Exception ignored) {}
+        countdown = scheduler.scheduleRepeating(Duration.seconds(1), () -> {
+            remainingSeconds--;
+            try {
+                Platform.runLater(() -> view.setRemainingTime(remainingSeconds));
+            } catch (Exception ignored) {}
+            if (remainingSeconds <= 0) {
+                stopCountdownIfRunning();
+                
+                try {
+                    Platform.runLater(() -> view.setRemainingTime(0));
+                } catch (Exception ignored) {}
+                synchronized (this) {
+                    gameOver();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void writeModeState(ByteBuffer out) {
+        out.putInt(remainingSeconds);
+    }
+
+    @Override
+    protected Runnable readModeState(ByteBuffer in) {
+        int seconds = in.getInt();
+        if (seconds <= 0 || seconds > DEFAULT_SECONDS) {
+            throw new IllegalArgumentException("Invalid remaining time " + seconds);
+        }
+        return () -> {
+            resumedSeconds = seconds;
+            remainingSeconds = seconds;
+        };
+    }
+
+    @Override
+    public void createNewGame() {
+        super.createNewGame();
+        
+    }
+
+    private void stopCountdownIfRunning() {
+        if (countdown != null) {
+            countdown.cancel();
+            countdown = null;
+        }
+    }
+
+    @Override
+    protected void gameOver() {
+        runOnFxThread(this::stopCountdownIfRunning);
+        super.gameOver();
+    }
+}
+
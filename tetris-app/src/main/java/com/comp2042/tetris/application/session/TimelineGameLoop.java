@@ -5,7 +5,7 @@ import javafx.animation.Timeline;
 import javafx.util.Duration;
 
 /**
- * Encapsulates the JavaFX Timeline-based game tick mechanism.
+ * Game loop that ticks from a JavaFX {@link Timeline} on the FX thread.
  * <p>
  * Supports dynamic interval adjustment for speed changes during gameplay.
  * The loop runs indefinitely until stopped, calling the provided callback
@@ -14,18 +14,18 @@ import javafx.util.Duration;
  *
  * @version 1.0
  */
-public final class GameLoop {
+public final class TimelineGameLoop implements GameLoop {
     private final Timeline timeline;
     private final Runnable onTick;
     private javafx.util.Duration interval;
 
     /**
-     * Constructs a GameLoop with the specified interval and tick callback.
+     * Constructs a TimelineGameLoop with the specified interval and tick callback.
      *
      * @param interval the duration between ticks
      * @param onTick the callback to invoke on each tick
      */
-    public GameLoop(Duration interval, Runnable onTick) {
+    public TimelineGameLoop(Duration interval, Runnable onTick) {
         this.onTick = onTick;
         this.interval = interval;
         this.timeline = new Timeline(new KeyFrame(interval, _ -> this.onTick.run()));
@@ -40,6 +40,7 @@ public final class GameLoop {
      *
      * @param newInterval the new duration between ticks
      */
+    @Override
     public void setInterval(Duration newInterval) {
         boolean running = isRunning();
         timeline.stop();
@@ -55,6 +56,7 @@ public final class GameLoop {
      *
      * @return the current interval duration
      */
+    @Override
     public Duration getInterval() {
         return interval;
     }
@@ -62,6 +64,7 @@ public final class GameLoop {
     /**
      * Starts the game loop.
      */
+    @Override
     public void start() {
         timeline.play();
     }
@@ -69,6 +72,7 @@ public final class GameLoop {
     /**
      * Stops the game loop.
      */
+    @Override
     public void stop() {
         timeline.stop();
     }
@@ -78,6 +82,7 @@ public final class GameLoop {
      *
      * @return {@code true} if running, {@code false} otherwise
      */
+    @Override
     public boolean isRunning() {
         return timeline.getStatus() == Timeline.Status.RUNNING;
     }
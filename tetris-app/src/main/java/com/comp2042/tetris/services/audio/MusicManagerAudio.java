@@ -0,0 +1,55 @@
+package com.comp2042.tetris.services.audio;
+
+import com.comp2042.tetris.application.port.GameAudio;
+
+/**
+ * Plays a game's sounds through the {@link MusicManager}.
+ * <p>
+ * Moves and rotations briefly duck the music under their effect, as the
+ * controllers used to do themselves. Audio failures are swallowed, so a
+ * missing clip never interrupts the game.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class MusicManagerAudio implements GameAudio {
+
+    private static final String MOVE_SFX = "/audio/RotationSoundEffect.mp3";
+    private static final String LOCK_SFX = "/audio/BricksCollisionEffect.mp3";
+    private static final long THEME_FADE_MILLIS = 900;
+
+    @Override
+    public void play(Cue cue) {
+        try {
+            switch (cue) {
+                case MOVE -> duckUnder(MOVE_SFX, 0.45, 40, 0.95);
+                case ROTATE -> duckUnder(MOVE_SFX, 0.5, 30, 1.0);
+                case LOCK -> MusicManager.getInstance().playSfx(LOCK_SFX);
+            }
+        } catch (Exception ignored) {
+            // Sound is cosmetic; the game goes on without it
+        }
+    }
+
+    @Override
+    public void playTheme(Theme theme) {
+        MusicManager.Track track = switch (theme) {
+            case CLASSIC -> MusicManager.Track.CLASSIC;
+            case RUSH -> MusicManager.Track.RUSH;
+            case MYSTERY -> MusicManager.Track.MYSTERY;
+        };
+        try {
+            MusicManager.getInstance().playTrack(track, THEME_FADE_MILLIS);
+        } catch (Exception ignored) {
+            // Sound is cosmetic; the game goes on without it
+        }
+    }
+
+    private static void duckUnder(String sfx, double duckFactor, long duckMillis, double sfxVolume) {
+        MusicManager mm = MusicManager.getInstance();
+        double original = mm.getMusicVolume();
+        try { mm.fadeMusicTo(Math.max(0.01, original * duckFactor), duckMillis); } catch (Exception ignored) {}
+        mm.playSfxAtVolume(sfx, sfxVolume);
+        try { mm.fadeMusicTo(original, 200); } catch (Exception ignored) {}
+    }
+}
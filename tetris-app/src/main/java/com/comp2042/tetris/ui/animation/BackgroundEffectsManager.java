@@ -0,0 +1,34 @@
+package com.comp2042.tetris.ui.animation;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Manages animated background effects for the menu and game screens.
+ * Creates falling tetromino shapes and particle effects with neon colors.
+ * The effects come from a pooled {@link ParticleField} drawn by a
+ * {@link ParticleLayer}, so a long stay on the menu neither adds nodes
+ * nor allocates per frame.
+ *
+ */
+public class BackgroundEffectsManager {
+    private final ParticleLayer layer;
+
+    public BackgroundEffectsManager(Pane backgroundPane) {
+        this.layer = backgroundPane == null ? null
+            : new ParticleLayer(backgroundPane, new ParticleField(ParticleField.Config.MENU.withSystemBudget()));
+    }
+
+    
+    public void startAnimation() {
+        if (layer != null) {
+            layer.start();
+        }
+    }
+
+    
+    public void stopAnimation() {
+        if (layer != null) {
+            layer.stop();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.comp2042.tetris.ui.animation;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import javafx.scene.paint.Color;
+
+/**
+ * State of the falling tetrominoes and drifting particles behind the menu
+ * and the game.
+ * <p>
+ * Everything lives in fixed-capacity parallel arrays, one per attribute,
+ * sized by the {@link Config} budget when the field is created. Spawning
+ * writes into the next free slot and does nothing once the budget is
+ * used up; an effect that dies or leaves the screen is replaced by the
+ * last live one, so the live entries stay packed at the front. No object
+ * is allocated per spawn or per pulse, and no scene-graph node exists per
+ * effect: {@link ParticleLayer} draws the whole field onto canvases.
+ * </p>
+ * <p>
+ * The field advances one step per animation pulse, as the node-based
+ * backgrounds did. Instances are not thread-safe and are used from the FX
+ * thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ParticleField {
+
+    /** System property overriding the particle budget of every field. */
+    public static final String BUDGET_PROPERTY = "tetris.particles";
+
+    /** Colors of shapes and colored particles; the last one is white. */
+    static final Color[] COLORS = {
+        Color.CYAN, Color.YELLOW, Color.LIME, Color.RED, Color.MAGENTA, Color.ORANGE, Color.DODGERBLUE, Color.WHITE
+    };
+
+    private static final int WHITE = COLORS.length - 1;
+    private static final double SPAWN_Y = -100;
+    private static final double BURST_Y = -80;
+    private static final double OFFSCREEN_MARGIN = 100;
+    private static final double PARTICLE_DRIFT = 0.5;
+
+    private static final int[][][] TETROMINOES = {
+        {{0, 0}, {1, 0}, {2, 0}, {3, 0}},
+        {{0, 0}, {0, 1}, {1, 1}, {2, 1}},
+        {{2, 0}, {0, 1}, {1, 1}, {2, 1}},
+        {{0, 0}, {1, 0}, {0, 1}, {1, 1}},
+        {{1, 0}, {2, 0}, {0, 1}, {1, 1}},
+        {{1, 0}, {0, 1}, {1, 1}, {2, 1}},
+        {{0, 0}, {1, 0}, {1, 1}, {2, 1}}
+    };
+
+    /**
+     * How a field looks and how much it may hold.
+     *
+     * @param maxParticles the particle budget
+     * @param maxShapes the falling shape budget
+     * @param shapeChance chance of a new shape per pulse
+     * @param particleChance chance of a new ambient particle per pulse
+     * @param shapeMinSize smallest shape cell size
+     * @param shapeSizeRange added random cell size
+     * @param shapeMinSpeed slowest fall per pulse
+     * @param shapeSpeedRange added random fall speed
+     * @param shapeOpacity opacity of the shapes
+     * @param shapeBlur blur radius applied to the shape layer
+     * @param burstSize particles thrown off with each new shape
+     * @param particleSize size of an ambient particle
+     * @param coloredChance chance that an ambient particle is colored rather than white
+     */
+    public record Config(int maxParticles, int maxShapes, double shapeChance, double particleChance,
+                         double shapeMinSize, double shapeSizeRange, double shapeMinSpeed, double shapeSpeedRange,
+                         double shapeOpacity, double shapeBlur, int burstSize, double particleSize,
+                         double coloredChance) {
+
+        /** The busy, brighter menu background. */
+        public static final Config MENU = new Config(256, 32, 0.03, 0.18, 8, 12, 0.5, 1.5, 0.4, 7, 4, 2, 0.7);
+
+        /** The quiet background behind the board. */
+        public static final Config GAME = new Config(96, 16, 0.01, 0.05, 8, 10, 0.3, 0.8, 0.18, 3.5, 0, 1.5, 0);
+
+        /**
+         * Validates the budgets.
+         *
+         * @throws IllegalArgumentException if a budget is negative
+         */
+        public Config {
+            if (maxParticles < 0 || maxShapes < 0) {
+                throw new IllegalArgumentException("Budgets must not be negative: " + maxParticles + ", " + maxShapes);
+            }
+        }
+
+        /**
+         * Copies this config with other budgets.
+         *
+         * @param particles the particle budget
+         * @param shapes the falling shape budget
+         * @return the new config
+         */
+        public Config withBudget(int particles, int shapes) {
+            return new Config(particles, shapes, shapeChance, particleChance, shapeMinSize, shapeSizeRange,
+                shapeMinSpeed, shapeSpeedRange, shapeOpacity, shapeBlur, burstSize, particleSize, coloredChance);
+        }
+
+        /**
+         * Applies the {@value #BUDGET_PROPERTY} system property, if set, as the particle budget.
+         *
+         * @return this config, or a copy with the overridden budget
+         */
+        public Config withSystemBudget() {
+            Integer budget = Integer.getInteger(BUDGET_PROPERTY);
+            return budget == null ? this : withBudget(Math.max(0, budget), maxShapes);
+        }
+    }
+
+    private final Config config;
+    private final RandomGenerator random;
+
+    private final double[] particleX;
+    private final double[] particleY;
+    private final double[] particleLife;
+    private final double[] particleDecay;
+    private final double[] particleSize;
+    private final int[] particleColor;
+    private final boolean[] particleGlow;
+    private int particleCount;
+
+    private final double[] shapeX;
+    private final double[] shapeY;
+    private final double[] shapeSpeed;
+    private final double[] shapeAngle;
+    private final double[] shapeSpin;
+    private final double[] shapeSize;
+    private final int[] shapeType;
+    private final int[] shapeColor;
+    private int shapeCount;
+
+    public ParticleField(Config config) {
+        this(config, new Random());
+    }
+
+    /**
+     * Creates an empty field.
+     *
+     * @param config looks and budgets
+     * @param random source of every random choice
+     */
+    public ParticleField(Config config, RandomGenerator random) {
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        int particles = config.maxParticles();
+        particleX = new double[particles];
+        particleY = new double[particles];
+        particleLife = new double[particles];
+        particleDecay = new double[particles];
+        particleSize = new double[particles];
+        particleColor = new int[particles];
+        particleGlow = new boolean[particles];
+        int shapes = config.maxShapes();
+        shapeX = new double[shapes];
+        shapeY = new double[shapes];
+        shapeSpeed = new double[shapes];
+        shapeAngle = new double[shapes];
+        shapeSpin = new double[shapes];
+        shapeSize = new double[shapes];
+        shapeType = new int[shapes];
+        shapeColor = new int[shapes];
+    }
+
+    /**
+     * Advances the field by one pulse: spawns, moves, and retires what has died or fallen off.
+     *
+     * @param width the width of the area to fill
+     * @param height the height of the area to fill
+     */
+    public void step(double width, double height) {
+        if (random.nextDouble() < config.shapeChance()) {
+            spawnShape(random.nextDouble() * width);
+        }
+        if (random.nextDouble() < config.particleChance()) {
+            boolean colored = random.nextDouble() < config.coloredChance();
+            spawnParticle(random.nextDouble() * width, random.nextDouble() * height, config.particleSize(),
+                colored ? random.nextInt(WHITE) : WHITE, colored && random.nextDouble() < 0.4);
+        }
+
+        double bottom = Math.max(height, 0) + OFFSCREEN_MARGIN;
+        for (int i = 0; i < shapeCount; ) {
+            shapeY[i] += shapeSpeed[i];
+            shapeAngle[i] += shapeSpin[i];
+            if (shapeY[i] > bottom) {
+                removeShape(i);
+            } else {
+                i++;
+            }
+        }
+        for (int i = 0; i < particleCount; ) {
+            particleLife[i] -= particleDecay[i];
+            particleY[i] += PARTICLE_DRIFT;
+            if (particleLife[i] <= 0) {
+                removeParticle(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Drops every effect.
+     */
+    public void clear() {
+        particleCount = 0;
+        shapeCount = 0;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public int particleCount() {
+        return particleCount;
+    }
+
+    public int shapeCount() {
+        return shapeCount;
+    }
+
+    double particleX(int i) {
+        return particleX[i];
+    }
+
+    double particleY(int i) {
+        return particleY[i];
+    }
+
+    /**
+     * Gets a particle's remaining life, which is also its opacity.
+     */
+    double particleLife(int i) {
+        return particleLife[i];
+    }
+
+    double particleSize(int i) {
+        return particleSize[i];
+    }
+
+    int particleColor(int i) {
+        return particleColor[i];
+    }
+
+    boolean particleGlows(int i) {
+        return particleGlow[i];
+    }
+
+    double shapeX(int i) {
+        return shapeX[i];
+    }
+
+    double shapeY(int i) {
+        return shapeY[i];
+    }
+
+    double shapeAngle(int i) {
+        return shapeAngle[i];
+    }
+
+    double shapeSize(int i) {
+        return shapeSize[i];
+    }
+
+    int shapeColor(int i) {
+        return shapeColor[i];
+    }
+
+    /**
+     * Gets the cell offsets of a shape, in cells.
+     */
+    int[][] shapeCells(int i) {
+        return TETROMINOES[shapeType[i]];
+    }
+
+    private void spawnShape(double x) {
+        if (shapeCount == shapeX.length) {
+            return;
+        }
+        int i = shapeCount++;
+        int color = random.nextInt(WHITE);
+        shapeX[i] = x;
+        shapeY[i] = SPAWN_Y;
+        shapeSize[i] = config.shapeMinSize() + random.nextDouble() * config.shapeSizeRange();
+        shapeSpeed[i] = config.shapeMinSpeed() + random.nextDouble() * config.shapeSpeedRange();
+        shapeAngle[i] = 0;
+        shapeSpin[i] = random.nextDouble() * 2 - 1;
+        shapeType[i] = random.nextInt(TETROMINOES.length);
+        shapeColor[i] = color;
+
+        for (int n = 0; n < config.burstSize(); n++) {
+            spawnParticle(x + (random.nextDouble() - 0.5) * 50, BURST_Y + random.nextDouble() * 30,
+                2 + random.nextDouble() * 2, color, true);
+        }
+    }
+
+    private void spawnParticle(double x, double y, double size, int color, boolean glow) {
+        if (particleCount == particleX.length) {
+            return;
+        }
+        int i = particleCount++;
+        particleX[i] = x;
+        particleY[i] = y;
+        particleLife[i] = 1.0;
+        particleDecay[i] = 0.005 + random.nextDouble() * 0.01;
+        particleSize[i] = size;
+        particleColor[i] = color;
+        particleGlow[i] = glow;
+    }
+
+    private void removeShape(int i) {
+        int last = --shapeCount;
+        shapeX[i] = shapeX[last];
+        shapeY[i] = shapeY[last];
+        shapeSpeed[i] = shapeSpeed[last];
+        shapeAngle[i] = shapeAngle[last];
+        shapeSpin[i] = shapeSpin[last];
+        shapeSize[i] = shapeSize[last];
+        shapeType[i] = shapeType[last];
+        shapeColor[i] = shapeColor[last];
+    }
+
+    private void removeParticle(int i) {
+        int last = --particleCount;
+        particleX[i] = particleX[last];
+        particleY[i] = particleY[last];
+        particleLife[i] = particleLife[last];
+        particleDecay[i] = particleDecay[last];
+        particleSize[i] = particleSize[last];
+        particleColor[i] = particleColor[last];
+        particleGlow[i] = particleGlow[last];
+    }
+}
@@ -0,0 +1,148 @@
+package com.comp2042.tetris.ui.animation;
+
+import java.util.Objects;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.layout.Pane;
+
+/**
+ * Draws a {@link ParticleField} into a pane, one canvas pass per pulse.
+ * <p>
+ * The layer adds two canvases that follow the pane's size: one for the
+ * falling shapes, blurred by a single {@link GaussianBlur} on the canvas,
+ * and one for the particles, where glowing particles get a faint halo.
+ * Each pulse steps the field and repaints both canvases, so the scene
+ * graph holds the same two nodes however long the background runs.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ParticleLayer {
+
+    private static final double SHAPE_STROKE = 2;
+    private static final double HALO_ALPHA = 0.35;
+    private static final double HALO_SCALE = 2.5;
+
+    private final Pane pane;
+    private final ParticleField field;
+    private final Canvas shapeCanvas = new Canvas();
+    private final Canvas particleCanvas = new Canvas();
+    private AnimationTimer timer;
+    private Runnable onPulse;
+
+    /**
+     * Creates a layer; nothing is added to the pane until {@link #start()}.
+     *
+     * @param pane the pane to draw into
+     * @param field the effects to draw
+     */
+    public ParticleLayer(Pane pane, ParticleField field) {
+        this.pane = Objects.requireNonNull(pane, "pane must not be null");
+        this.field = Objects.requireNonNull(field, "field must not be null");
+        shapeCanvas.setEffect(new GaussianBlur(field.getConfig().shapeBlur()));
+        for (Canvas canvas : new Canvas[] {shapeCanvas, particleCanvas}) {
+            canvas.setManaged(false);
+            canvas.setMouseTransparent(true);
+            canvas.widthProperty().bind(pane.widthProperty());
+            canvas.heightProperty().bind(pane.heightProperty());
+        }
+    }
+
+    /**
+     * Sets a task to run after every pulse, e.g. to update a clock on the same timer.
+     *
+     * @param onPulse the task, or {@code null}
+     */
+    public void setOnPulse(Runnable onPulse) {
+        this.onPulse = onPulse;
+    }
+
+    /**
+     * Adds the canvases to the pane if needed and starts animating.
+     */
+    public void start() {
+        if (!pane.getChildren().contains(shapeCanvas)) {
+            pane.getChildren().addAll(shapeCanvas, particleCanvas);
+        }
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    pulse();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Stops animating; the effects stay where they are.
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    public ParticleField getField() {
+        return field;
+    }
+
+    private void pulse() {
+        field.step(pane.getWidth(), pane.getHeight());
+        drawShapes(shapeCanvas.getGraphicsContext2D());
+        drawParticles(particleCanvas.getGraphicsContext2D());
+        if (onPulse != null) {
+            onPulse.run();
+        }
+    }
+
+    private void drawShapes(GraphicsContext gc) {
+        gc.clearRect(0, 0, shapeCanvas.getWidth(), shapeCanvas.getHeight());
+        gc.setGlobalAlpha(field.getConfig().shapeOpacity());
+        gc.setLineWidth(SHAPE_STROKE);
+        for (int i = 0; i < field.shapeCount(); i++) {
+            int[][] cells = field.shapeCells(i);
+            double size = field.shapeSize(i);
+            int spanX = 0;
+            int spanY = 0;
+            for (int[] cell : cells) {
+                spanX = Math.max(spanX, cell[0] + 1);
+                spanY = Math.max(spanY, cell[1] + 1);
+            }
+            double cx = spanX * size / 2;
+            double cy = spanY * size / 2;
+            gc.save();
+            gc.translate(field.shapeX(i) + cx, field.shapeY(i) + cy);
+            gc.rotate(field.shapeAngle(i));
+            gc.setStroke(ParticleField.COLORS[field.shapeColor(i)]);
+            for (int[] cell : cells) {
+                gc.strokeRect(cell[0] * size - cx, cell[1] * size - cy, size, size);
+            }
+            gc.restore();
+        }
+    }
+
+    private void drawParticles(GraphicsContext gc) {
+        gc.clearRect(0, 0, particleCanvas.getWidth(), particleCanvas.getHeight());
+        for (int i = 0; i < field.particleCount(); i++) {
+            double x = field.particleX(i);
+            double y = field.particleY(i);
+            double size = field.particleSize(i);
+            double alpha = Math.min(1.0, field.particleLife(i));
+            gc.setFill(ParticleField.COLORS[field.particleColor(i)]);
+            if (field.particleGlows(i)) {
+                double halo = size * HALO_SCALE;
+                double offset = (halo - size) / 2;
+                gc.setGlobalAlpha(alpha * HALO_ALPHA);
+                gc.fillRect(x - offset, y - offset, halo, halo);
+            }
+            gc.setGlobalAlpha(alpha);
+            gc.fillRect(x, y, size, size);
+        }
+        gc.setGlobalAlpha(1.0);
+    }
+}
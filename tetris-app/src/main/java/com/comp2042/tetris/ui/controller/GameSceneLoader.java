@@ -0,0 +1,282 @@
+package com.comp2042.tetris.ui.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.comp2042.tetris.application.port.GameAudio;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.application.replay.ReplayRecorder;
+import com.comp2042.tetris.application.save.SessionStore;
+import com.comp2042.tetris.application.session.BaseGameController;
+import com.comp2042.tetris.application.session.ClassicGameController;
+import com.comp2042.tetris.application.session.MysteryGameController;
+import com.comp2042.tetris.application.session.TimedGameController;
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.services.audio.MusicManager;
+import com.comp2042.tetris.services.audio.MusicManagerAudio;
+import com.comp2042.tetris.ui.view.BufferedGameView;
+import com.comp2042.tetris.ui.view.FxThreadGameView;
+import com.comp2042.tetris.ui.view.GuiController;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * Loads and transitions to game scenes for different modes.
+ * Handles Classic, Timed, and Mystery game mode initialization.
+ * Every game is played on a seeded board. With the
+ * {@value #REPLAY_PROPERTY} system property set to a positive count,
+ * Classic and Timed games are also recorded to {@code ~/.tetris/replays}
+ * so they can be replayed later, and only that many of the newest
+ * recordings are kept. Mystery games are not recorded: their events come
+ * from the mode's own timers and random stream, which a replay does not
+ * capture.
+ * The running game is also saved to {@code ~/.tetris/session.tsav} every
+ * few seconds and when the player returns to the menu; starting the same
+ * mode again, even after a crash, resumes it; only the latest game is
+ * kept. Resumed games are not recorded, since their board no longer
+ * follows from a fresh seed. A save that cannot be restored is cleared
+ * and the new game goes ahead on the same controller, which a rejected
+ * save leaves untouched. Saves are flushed to disk on a background
+ * thread, and autosaving stops once the game is over until the player
+ * starts another.
+ */
+public class GameSceneLoader {
+
+    /** System property giving the number of replays to keep; recording is off unless it is positive. */
+    public static final String REPLAY_PROPERTY = "tetris.replays";
+
+    private final Button triggerButton;
+    private final MenuAnimationController animationController;
+
+    private static final Path REPLAY_DIR = Path.of(System.getProperty("user.home"), ".tetris", "replays");
+    private static final SplittableRandom SEEDS = new SplittableRandom();
+    private static final SessionStore SESSION_STORE =
+            new SessionStore(Path.of(System.getProperty("user.home"), ".tetris", "session.tsav"),
+                    Executors.newSingleThreadExecutor(Thread.ofPlatform().name("session-flush").daemon().factory()));
+    private static final Duration AUTOSAVE_INTERVAL = Duration.seconds(5);
+    private static final GameAudio GAME_AUDIO = new MusicManagerAudio();
+
+    private BaseGameController activeControllerRef;
+    private GameView activeViewRef;
+    private ReplayRecorder activeRecorderRef;
+    private Timeline autosave;
+
+    public GameSceneLoader(Button triggerButton, MenuAnimationController animationController) {
+        this.triggerButton = triggerButton;
+        this.animationController = animationController;
+    }
+
+    
+    public BaseGameController getActiveGameController() {
+        return activeControllerRef;
+    }
+
+    
+    public GameView getActiveGameView() {
+        return activeViewRef;
+    }
+
+    
+    public void loadGameSceneWithMode(String mode) {
+        
+        try {
+            switch (mode) {
+                case "RUSH" -> MusicManager.getInstance().playTrack(MusicManager.Track.RUSH, 900);
+                case "MYSTERY" -> MusicManager.getInstance().playTrack(MusicManager.Track.MYSTERY, 900);
+                default -> MusicManager.getInstance().playTrack(MusicManager.Track.CLASSIC, 900);
+            }
+        } catch (Exception ignored) {
+        }
+
+        
+        animationController.playGameSceneWarpTransition(() -> loadGameScene(mode));
+    }
+
+    
+    private void loadGameScene(String selectedGameMode) {
+        try {
+            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/ui/layout/game.fxml"));
+            Parent root = fxmlLoader.load();
+            GuiController controller = fxmlLoader.getController();
+
+            Scene scene = new Scene(root, 700, 600);
+            scene.getStylesheets().add(getClass().getResource("/ui/styles/window.css").toExternalForm());
+
+            Stage stage = (Stage) triggerButton.getScene().getWindow();
+            root.setOpacity(0);
+            stage.setScene(scene);
+
+            FadeTransition fadeIn = new FadeTransition(Duration.millis(600), root);
+            fadeIn.setFromValue(0.0);
+            fadeIn.setToValue(1.0);
+            fadeIn.play();
+
+            
+            GameView decoratedView = new FxThreadGameView(new BufferedGameView(controller));
+
+            
+            long seed;
+            synchronized (SEEDS) {
+                seed = SEEDS.nextLong();
+            }
+            BoardFactory boardFactory = ReplayRecorder.boardFactory(seed);
+            BaseGameController gameController = createController(selectedGameMode, decoratedView, boardFactory);
+            boolean resumed;
+            try {
+                resumed = SESSION_STORE.restore(gameController, selectedGameMode);
+            } catch (IOException | RuntimeException e) {
+                // A rejected save leaves the controller untouched, so the new game just goes ahead
+                discardSession();
+                resumed = false;
+            }
+            if (resumed || "MYSTERY".equals(selectedGameMode)) {
+                stopRecording();
+            } else {
+                startRecording(gameController, seed, selectedGameMode);
+            }
+            startAutosave(gameController, selectedGameMode);
+            controller.setOnNewGame(() -> startAutosave(gameController, selectedGameMode));
+            controller.setOnSuspend(() -> {
+                stopAutosave();
+                stopRecording();
+                saveSession(gameController, selectedGameMode);
+            });
+
+            
+            activeControllerRef = gameController;
+            activeViewRef = decoratedView;
+
+            
+            if (activeControllerRef instanceof MysteryGameController mgc) {
+                try {
+                    ((GameView) decoratedView).bindLevel(
+                            mgc.getLevelProperty()
+                    );
+                } catch (Exception ignored) {
+                }
+            }
+
+        } catch (Exception e) {
+            // Game scene loading failed
+        }
+    }
+
+    private static BaseGameController createController(String mode, GameView view, BoardFactory boardFactory) {
+        BaseGameController controller = switch (mode) {
+            case "RUSH" -> new TimedGameController(view, boardFactory);
+            case "MYSTERY" -> new MysteryGameController(view, boardFactory);
+            default -> new ClassicGameController(view, boardFactory);
+        };
+        controller.setAudio(GAME_AUDIO);
+        return controller;
+    }
+
+    private void discardSession() {
+        try {
+            SESSION_STORE.clear();
+        } catch (IOException ignored) {
+            // The next autosave overwrites the bad save anyway
+        }
+    }
+
+    private void saveSession(BaseGameController gameController, String mode) {
+        try {
+            if (gameController.isActive()) {
+                SESSION_STORE.save(gameController, mode);
+            } else {
+                SESSION_STORE.clear();
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // Saving is best effort; the game itself is unaffected
+        }
+    }
+
+    private void startAutosave(BaseGameController gameController, String mode) {
+        stopAutosave();
+        autosave = new Timeline(new KeyFrame(AUTOSAVE_INTERVAL, e -> {
+            saveSession(gameController, mode);
+            if (!gameController.isActive()) {
+                // The save is cleared once; a new game in this scene starts saving again
+                stopAutosave();
+            }
+        }));
+        autosave.setCycleCount(Animation.INDEFINITE);
+        autosave.play();
+    }
+
+    private void stopAutosave() {
+        if (autosave != null) {
+            autosave.stop();
+            autosave = null;
+        }
+    }
+
+    private void startRecording(BaseGameController gameController, long seed, String mode) {
+        stopRecording();
+        int keep = Integer.getInteger(REPLAY_PROPERTY, 0);
+        if (keep <= 0) {
+            return;
+        }
+        try {
+            Files.createDirectories(REPLAY_DIR);
+            pruneReplays(keep - 1);
+            Path file = REPLAY_DIR.resolve(System.currentTimeMillis() + "-" + mode + ".trpl");
+            activeRecorderRef = ReplayRecorder.create(file, seed, mode, 22, 10);
+            gameController.setReplayRecorder(activeRecorderRef);
+        } catch (IOException ignored) {
+            // Recording is optional; the game runs without it
+        }
+    }
+
+    /**
+     * Deletes the oldest replays until at most {@code keep} are left.
+     */
+    private static void pruneReplays(int keep) throws IOException {
+        List<Path> replays;
+        try (Stream<Path> files = Files.list(REPLAY_DIR)) {
+            replays = files.filter(file -> file.getFileName().toString().endsWith(".trpl"))
+                    .sorted(Comparator.comparing(GameSceneLoader::lastModified).reversed())
+                    .toList();
+        }
+        for (Path old : replays.subList(Math.min(keep, replays.size()), replays.size())) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void stopRecording() {
+        if (activeRecorderRef != null) {
+            try {
+                activeRecorderRef.close();
+            } catch (IOException ignored) {
+            }
+            activeRecorderRef = null;
+        }
+    }
+}
+
+
+
@@ -2,6 +2,7 @@ package com.comp2042.tetris.ui.controller;
 
 import com.comp2042.tetris.services.audio.MusicManager;
 import com.comp2042.tetris.ui.animation.BackgroundEffectsManager;
+import com.comp2042.tetris.ui.view.TetrisMainMenu;
 
 import javafx.animation.FadeTransition;
 import javafx.fxml.FXML;
@@ -72,6 +73,7 @@ public class MenuController {
     private LevelSelectionManager levelSelectionManager;
     private MenuAnimationController menuAnimationController;
     private GameSceneLoader gameSceneLoader;
+    private final TetrisMainMenu tetrisMainMenu = new TetrisMainMenu();
 
     
     @FXML
@@ -89,6 +91,7 @@ public class MenuController {
 
         
         backgroundEffectsManager.startAnimation();
+        tetrisMainMenu.enableIdleAttract(rootPane, backgroundPane, TetrisMainMenu.DEFAULT_IDLE_DELAY);
 
         
         menuAnimationController.prepareLaunchForAnimation();
@@ -154,6 +157,7 @@ public class MenuController {
         levelSelectionManager.setOnModeSelected(() -> {
             String selectedMode = levelSelectionManager.getSelectedGameMode();
             if (selectedMode != null) {
+                tetrisMainMenu.disableIdleAttract();
                 gameSceneLoader.loadGameSceneWithMode(selectedMode);
             }
         });
@@ -0,0 +1,80 @@
+package com.comp2042.tetris.ui.input;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.bot.Placement;
+import com.comp2042.tetris.engine.bot.PlacementHeuristic;
+import com.comp2042.tetris.engine.bot.PlacementSearch;
+
+/**
+ * Plays bricks automatically by sending move events to an input handler.
+ * <p>
+ * For each brick a {@link PlacementSearch} picks the best placement, and
+ * the rotations, shifts and hard drop that reach it are fed through
+ * {@link InputActionHandler#handle(MoveEvent)} exactly as key presses
+ * would be, so scoring, sounds and rendering behave as in a normal game.
+ * The position reported after each event is used to steer the next one.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BotInput {
+
+    private final InputActionHandler handler;
+    private final PlacementSearch search;
+
+    /**
+     * Creates a bot with the default heuristic.
+     *
+     * @param handler the handler receiving the bot's move events
+     */
+    public BotInput(InputActionHandler handler) {
+        this(handler, new PlacementSearch(PlacementHeuristic.DEFAULT));
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param handler the handler receiving the bot's move events
+     * @param search chooses each placement
+     */
+    public BotInput(InputActionHandler handler, PlacementSearch search) {
+        this.handler = Objects.requireNonNull(handler, "handler must not be null");
+        this.search = Objects.requireNonNull(search, "search must not be null");
+    }
+
+    /**
+     * Moves the falling brick into the best placement and hard-drops it.
+     *
+     * @param boardMatrix the settled cells, without the falling brick
+     * @param view the falling brick's shape and position
+     * @return the result of the hard drop, or {@code null} if no placement was found
+     */
+    public ShowResult playPiece(int[][] boardMatrix, ViewData view) {
+        Placement placement = search.search(boardMatrix, view);
+        if (placement == null) {
+            return null;
+        }
+        ViewData current = view;
+        for (int i = 0; i < placement.getRotations(); i++) {
+            current = send(EventType.ROTATE, current);
+        }
+        EventType shift = current.getxPosition() < placement.getX() ? EventType.RIGHT : EventType.LEFT;
+        while (current.getxPosition() != placement.getX()) {
+            int before = current.getxPosition();
+            current = send(shift, current);
+            if (current.getxPosition() == before) {
+                break;
+            }
+        }
+        return handler.handle(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+    }
+
+    private ViewData send(EventType type, ViewData fallback) {
+        ShowResult result = handler.handle(new MoveEvent(type, EventSource.USER));
+        return result != null && result.getViewData() != null ? result.getViewData() : fallback;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
 
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.domain.model.ShowResult;
 
 import javafx.scene.Node;
@@ -64,6 +65,10 @@ public final class InputHandler {
 
     /**
      * Attaches this input handler to a JavaFX node.
+     * <p>
+     * Every move is stamped with {@link System#nanoTime()} as it is
+     * created, so an {@link InputLatencyTracer} can time it to the screen.
+     * </p>
      *
      * @param focusNode the node to receive keyboard events
      * @param handler the handler to process input actions
@@ -85,7 +90,7 @@ public final class InputHandler {
                 return;
             }
             if (type != null && (canAcceptInput == null || canAcceptInput.getAsBoolean())) {
-                    ShowResult result = handler.handle(new MoveEvent(type, EventSource.USER));
+                    ShowResult result = handler.handle(new MoveEvent(type, EventSource.USER, System.nanoTime()));
                     callbacks.onResult(result);
                     keyEvent.consume();
             }
@@ -0,0 +1,340 @@
+package com.comp2042.tetris.ui.input;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.util.MpscRingBuffer;
+
+/**
+ * Measures how long a key press takes to reach the screen, stage by stage.
+ * <p>
+ * {@link InputHandler} stamps every key press with {@link System#nanoTime()}
+ * when it creates the {@link MoveEvent}. The game controller reports the
+ * event through {@link #handled} when it has finished with it, which
+ * splits the time so far into the {@link Stage#INPUT input} stage (queued
+ * for the game loop) and the {@link Stage#ENGINE engine} stage. The active
+ * brick renderer reports each {@link ViewData} it draws through
+ * {@link #rendered}, which closes the {@link Stage#RENDER render} stage
+ * and the {@link Stage#TOTAL total} of every press that view reflects.
+ * </p>
+ * <p>
+ * Results are matched to what is drawn by the identity of their view
+ * data. A frame the screen never drew because a newer one replaced it
+ * still shows the press, so whoever merges frames reports the replacement
+ * through {@link #superseded} and the press is closed by the newer view.
+ * Presses and replacements travel to the FX thread in one lock-free
+ * queue, in the order they happened, and every duration is recorded there.
+ * </p>
+ * <p>
+ * Durations are kept in microseconds in one {@link Histogram} per event
+ * type and stage, and can be written out as CSV with {@link #exportSummary}
+ * and {@link #exportHistograms}. Since only the FX thread records, the
+ * histograms are plain arrays. {@link #handled} and {@link #superseded}
+ * may be called from any thread; everything else only from the FX thread.
+ * A press that finds the queue full is not counted.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class InputLatencyTracer {
+
+    /** System property naming a file the histograms are written to when the player returns to the menu. */
+    public static final String EXPORT_PROPERTY = "tetris.latency";
+
+    /**
+     * The parts a press's latency is split into.
+     */
+    public enum Stage {
+        /** From the key press until the controller started handling it. */
+        INPUT,
+        /** The controller handling the press. */
+        ENGINE,
+        /** From the controller's result until the active brick showed it. */
+        RENDER,
+        /** From the key press until the active brick showed it. */
+        TOTAL
+    }
+
+    /** Width of a histogram bin in microseconds. */
+    public static final long BUCKET_MICROS = 100;
+
+    /** Number of histogram bins; the last also counts everything slower. */
+    public static final int BUCKETS = 500;
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int MAX_PENDING = 64;
+    private static final long NANOS_PER_MICRO = 1_000;
+
+    private final Histogram[][] histograms;
+    private final MpscRingBuffer<Note> notes = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final List<Pending> pending = new ArrayList<>();
+
+    /**
+     * Creates a tracer with empty histograms.
+     */
+    public InputLatencyTracer() {
+        EventType[] types = EventType.values();
+        Stage[] stages = Stage.values();
+        histograms = new Histogram[types.length][stages.length];
+        for (Histogram[] row : histograms) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new Histogram();
+            }
+        }
+    }
+
+    /**
+     * Records that the controller has finished handling an event.
+     * <p>
+     * Events without a {@link MoveEvent#getCreatedNanos() creation stamp},
+     * such as gravity ticks or the demo bot's moves, are ignored.
+     * </p>
+     *
+     * @param event the event handled
+     * @param startedNanos when handling started
+     * @param result what handling produced, may be {@code null}
+     */
+    public void handled(MoveEvent event, long startedNanos, ShowResult result) {
+        long created = event.getCreatedNanos();
+        if (created == MoveEvent.NO_TIMESTAMP) {
+            return;
+        }
+        long returned = System.nanoTime();
+        ViewData view = result == null ? null : result.getViewData();
+        notes.offer(new Pending(event.getEventType(), created, startedNanos, returned, view));
+    }
+
+    /**
+     * Records that a frame was dropped in favor of a newer one before it was drawn.
+     *
+     * @param dropped the view data that will not be drawn
+     * @param kept the view data drawn in its place
+     */
+    public void superseded(ViewData dropped, ViewData kept) {
+        if (dropped != null && kept != null && dropped != kept) {
+            notes.offer(new Alias(dropped, kept));
+        }
+    }
+
+    /**
+     * Closes every press reflected by view data that is now on screen; FX thread only.
+     *
+     * @param shown the view data just drawn
+     */
+    public void rendered(ViewData shown) {
+        long now = System.nanoTime();
+        drainNotes();
+        int last = -1;
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            if (pending.get(i).view == shown) {
+                last = i;
+                break;
+            }
+        }
+        for (int i = 0; i <= last; i++) {
+            Pending press = pending.get(i);
+            record(press.type, Stage.RENDER, now - press.returnedNanos);
+            record(press.type, Stage.TOTAL, now - press.createdNanos);
+        }
+        pending.subList(0, last + 1).clear();
+        if (pending.size() > MAX_PENDING) {
+            pending.subList(0, pending.size() - MAX_PENDING).clear();
+        }
+    }
+
+    /**
+     * Gets the histogram of one stage of one event type; FX thread only.
+     *
+     * @param type the event type
+     * @param stage the stage
+     * @return the durations in microseconds
+     */
+    public Histogram get(EventType type, Stage stage) {
+        drainNotes();
+        return histograms[type.ordinal()][stage.ordinal()];
+    }
+
+    /**
+     * Writes one CSV row of count, mean and percentiles per event type and stage that saw a press.
+     *
+     * @param out where to write
+     * @throws IOException if writing fails
+     */
+    public void exportSummary(Appendable out) throws IOException {
+        out.append("event,stage,count,mean_us,min_us,p50_us,p95_us,p99_us,max_us\n");
+        for (EventType type : EventType.values()) {
+            for (Stage stage : Stage.values()) {
+                Histogram d = get(type, stage);
+                if (d.count() == 0) {
+                    continue;
+                }
+                out.append(String.format(Locale.ROOT, "%s,%s,%d,%.1f,%d,%d,%d,%d,%d\n",
+                    type, stage, d.count(), d.mean(), d.min(), d.percentile(0.5), d.percentile(0.95),
+                    d.percentile(0.99), d.max()));
+            }
+        }
+    }
+
+    /**
+     * Writes the non-empty histogram bins as CSV, one row per event type, stage and bin.
+     *
+     * @param out where to write
+     * @throws IOException if writing fails
+     */
+    public void exportHistograms(Appendable out) throws IOException {
+        out.append("event,stage,bucket_start_us,count\n");
+        for (EventType type : EventType.values()) {
+            for (Stage stage : Stage.values()) {
+                long[] bins = get(type, stage).histogram();
+                for (int i = 0; i < bins.length; i++) {
+                    if (bins[i] > 0) {
+                        out.append(type.name()).append(',').append(stage.name()).append(',')
+                            .append(Long.toString(i * BUCKET_MICROS)).append(',')
+                            .append(Long.toString(bins[i])).append('\n');
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the queue stages of presses handed over so far and follows replaced frames.
+     */
+    private void drainNotes() {
+        Note note;
+        while ((note = notes.poll()) != null) {
+            switch (note) {
+                case Pending press -> {
+                    record(press.type, Stage.INPUT, press.startedNanos - press.createdNanos);
+                    record(press.type, Stage.ENGINE, press.returnedNanos - press.startedNanos);
+                    if (press.view != null) {
+                        pending.add(press);
+                    }
+                }
+                case Alias alias -> {
+                    for (Pending press : pending) {
+                        if (press.view == alias.dropped()) {
+                            press.view = alias.kept();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void record(EventType type, Stage stage, long nanos) {
+        histograms[type.ordinal()][stage.ordinal()].record(Math.max(0, nanos) / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Durations of one stage of one event type, in {@value #BUCKETS} bins of
+     * {@value #BUCKET_MICROS} microseconds; the last bin also counts
+     * everything slower. Only the FX thread touches it.
+     */
+    public static final class Histogram {
+        private final long[] bins = new long[BUCKETS];
+        private long count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max;
+
+        private Histogram() {
+        }
+
+        private void record(long micros) {
+            bins[(int) Math.min(micros / BUCKET_MICROS, BUCKETS - 1)]++;
+            count++;
+            sum += micros;
+            min = Math.min(min, micros);
+            max = Math.max(max, micros);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Gets the fastest recorded duration.
+         *
+         * @return the minimum, or 0 if nothing was recorded
+         */
+        public long min() {
+            return count == 0 ? 0 : min;
+        }
+
+        public long max() {
+            return max;
+        }
+
+        /**
+         * Gets the mean of the recorded durations.
+         *
+         * @return the mean, or 0 if nothing was recorded
+         */
+        public double mean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Estimates a percentile from the bins.
+         *
+         * @param fraction the percentile as a fraction in {@code [0, 1]}
+         * @return the start of the bin holding the percentile, or 0 if empty
+         * @throws IllegalArgumentException if the fraction is outside {@code [0, 1]}
+         */
+        public long percentile(double fraction) {
+            if (fraction < 0.0 || fraction > 1.0) {
+                throw new IllegalArgumentException("fraction must be in [0, 1], got " + fraction);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int i = 0; i < bins.length; i++) {
+                seen += bins[i];
+                if (seen >= rank) {
+                    return i * BUCKET_MICROS;
+                }
+            }
+            return (bins.length - 1) * BUCKET_MICROS;
+        }
+
+        /**
+         * Copies the bins.
+         *
+         * @return the number of durations per bin; bin {@code i} starts at {@code i * BUCKET_MICROS}
+         */
+        public long[] histogram() {
+            return Arrays.copyOf(bins, bins.length);
+        }
+    }
+
+    private sealed interface Note permits Pending, Alias {}
+
+    /**
+     * A handled press waiting to be drawn; its view moves on when a frame is superseded.
+     */
+    private static final class Pending implements Note {
+        final EventType type;
+        final long createdNanos;
+        final long startedNanos;
+        final long returnedNanos;
+        ViewData view;
+
+        Pending(EventType type, long createdNanos, long startedNanos, long returnedNanos, ViewData view) {
+            this.type = type;
+            this.createdNanos = createdNanos;
+            this.startedNanos = startedNanos;
+            this.returnedNanos = returnedNanos;
+            this.view = view;
+        }
+    }
+
+    private record Alias(ViewData dropped, ViewData kept) implements Note {}
+}
@@ -1,5 +1,7 @@
 package com.comp2042.tetris.ui.input;
 
+import com.comp2042.tetris.domain.model.EventSource;
+
 /**
  * Immutable event object representing a game input action.
  * <p>
@@ -10,8 +12,13 @@ package com.comp2042.tetris.ui.input;
  * @version 1.0
  */
 public final class MoveEvent {
+
+    /** Creation time of events that were not stamped. */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long createdNanos;
 
     /**
      * Constructs a MoveEvent with the specified type and source.
@@ -20,8 +27,20 @@ public final class MoveEvent {
      * @param eventSource the source of the event
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, NO_TIMESTAMP);
+    }
+
+    /**
+     * Constructs a MoveEvent stamped with the moment it was created.
+     *
+     * @param eventType the type of input event
+     * @param eventSource the source of the event
+     * @param createdNanos the {@link System#nanoTime()} at which the input arrived
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long createdNanos) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.createdNanos = createdNanos;
     }
 
     /**
@@ -41,5 +60,13 @@ public final class MoveEvent {
     public EventSource getEventSource() {
         return eventSource;
     }
-}
 
+    /**
+     * Gets the moment this event was created, for latency tracing.
+     *
+     * @return the {@link System#nanoTime()} stamp, or {@link #NO_TIMESTAMP}
+     */
+    public long getCreatedNanos() {
+        return createdNanos;
+    }
+}
@@ -1,33 +1,54 @@
 package com.comp2042.tetris.ui.render;
 
+import java.util.Objects;
+
 import com.comp2042.tetris.domain.model.ViewData;
-import com.comp2042.tetris.ui.theme.ColorPalette;
-import com.comp2042.tetris.ui.theme.NeonGlowStyle;
+import com.comp2042.tetris.ui.input.InputLatencyTracer;
+import com.comp2042.tetris.ui.theme.NeonSpriteAtlas;
 
+import javafx.geometry.Insets;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Renders the active (falling) brick and its ghost preview.
  * Manages two GridPanes: one for the actual brick with neon glow effects,
  * and one for the ghost showing where the brick will land.
  * Includes settle animation for visual feedback on brick placement.
+ * Cells are image views showing sprites from a {@link NeonSpriteAtlas};
+ * the glow is part of the sprite and overhangs the cell through negative
+ * grid margins, so no node carries an effect.
  *
  */
 public final class ActiveBrickRenderer {
     private final int brickSize;
     private final GridPane ghostPanel;
     private final GridPane brickPanel;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] ghostRectangles;
+    private final NeonSpriteAtlas atlas;
+    private ImageView[][] cells;
+    private ImageView[][] ghostCells;
+    private InputLatencyTracer latencyTracer;
 
     public ActiveBrickRenderer(int brickSize, GridPane ghostPanel, GridPane brickPanel) {
-        this.brickSize = brickSize;
+        this(NeonSpriteAtlas.forBrickSize(brickSize), ghostPanel, brickPanel);
+    }
+
+    public ActiveBrickRenderer(NeonSpriteAtlas atlas, GridPane ghostPanel, GridPane brickPanel) {
+        this.atlas = Objects.requireNonNull(atlas, "atlas must not be null");
+        this.brickSize = atlas.getBrickSize();
         this.ghostPanel = ghostPanel;
         this.brickPanel = brickPanel;
     }
 
+    /**
+     * Tells a tracer about every brick view drawn, closing the latency of the presses it shows.
+     *
+     * @param tracer the tracer, or {@code null} for none
+     */
+    public void setLatencyTracer(InputLatencyTracer tracer) {
+        this.latencyTracer = tracer;
+    }
+
     public void initialize(ViewData brick) {
         if (brickPanel == null) {
             return;
@@ -36,18 +57,18 @@ public final class ActiveBrickRenderer {
         if (ghostPanel != null) ghostPanel.getChildren().clear();
 
         int[][] brickData = brick.getBrickData();
-        rectangles = new Rectangle[brickData.length][brickData[0].length];
-        ghostRectangles = new Rectangle[brickData.length][brickData[0].length];
+        cells = new ImageView[brickData.length][brickData[0].length];
+        ghostCells = new ImageView[brickData.length][brickData[0].length];
 
         for (int i = 0; i < brickData.length; i++) {
             for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle gRect = new Rectangle(brickSize, brickSize);
+                ImageView gRect = newCell();
                 gRect.setVisible(false);
-                ghostRectangles[i][j] = gRect;
+                ghostCells[i][j] = gRect;
                 if (ghostPanel != null) ghostPanel.add(gRect, j, i);
 
-                Rectangle rect = new Rectangle(brickSize, brickSize);
-                rectangles[i][j] = rect;
+                ImageView rect = newCell();
+                cells[i][j] = rect;
                 brickPanel.add(rect, j, i);
             }
         }
@@ -57,12 +78,15 @@ public final class ActiveBrickRenderer {
     }
 
     public void refresh(ViewData brick) {
-        if (rectangles == null) {
+        if (cells == null) {
             initialize(brick);
             return;
         }
         updateColors(brick.getBrickData());
         updatePosition(brick);
+        if (latencyTracer != null) {
+            latencyTracer.rendered(brick);
+        }
     }
 
     
@@ -119,35 +143,31 @@ public final class ActiveBrickRenderer {
         
     }
 
+    private ImageView newCell() {
+        ImageView cell = new ImageView();
+        cell.setFitWidth(atlas.getSpriteSize());
+        cell.setFitHeight(atlas.getSpriteSize());
+        GridPane.setMargin(cell, new Insets(-atlas.getPadding()));
+        return cell;
+    }
+
     private void updateColors(int[][] brickData) {
-        for (int i = 0; i < brickData.length && i < rectangles.length; i++) {
-            for (int j = 0; j < brickData[i].length && j < rectangles[i].length; j++) {
-                Rectangle rect = rectangles[i][j];
-                Rectangle gRect = (ghostRectangles != null) ? ghostRectangles[i][j] : null;
+        for (int i = 0; i < brickData.length && i < cells.length; i++) {
+            for (int j = 0; j < brickData[i].length && j < cells[i].length; j++) {
+                ImageView rect = cells[i][j];
+                ImageView gRect = (ghostCells != null) ? ghostCells[i][j] : null;
 
                 if (rect != null) {
-                    if (brickData[i][j] != 0) {
-                        
-                        Color baseColor = ColorPalette.getInstance().getColor(brickData[i][j]) instanceof Color
-                                ? (Color) ColorPalette.getInstance().getColor(brickData[i][j])
-                                : Color.WHITE;
-                        Color neonColor = ColorPalette.getNeon(brickData[i][j]);
-                        if (neonColor == null) {
-                            neonColor = baseColor;
-                        }
-                        
-                        NeonGlowStyle.applyNeonGlow(rect, baseColor, neonColor);
+                    int cellId = brickData[i][j];
+                    if (cellId != 0) {
+                        rect.setImage(atlas.sprite(cellId, NeonSpriteAtlas.Kind.GLOW));
                         rect.setVisible(true);
-
-                        
                         if (gRect != null) {
-                            NeonGlowStyle.applyGhostNeon(gRect, baseColor, neonColor);
+                            gRect.setImage(atlas.sprite(cellId, NeonSpriteAtlas.Kind.GHOST));
                             gRect.setVisible(true);
                         }
                     } else {
-                        rect.setFill(Color.TRANSPARENT);
-                        rect.setStroke(null);
-                        rect.setEffect(null);
+                        rect.setImage(null);
                         rect.setVisible(false);
                         if (gRect != null) {
                             gRect.setVisible(false);
@@ -157,6 +177,4 @@ public final class ActiveBrickRenderer {
             }
         }
     }
-    
-    
 }
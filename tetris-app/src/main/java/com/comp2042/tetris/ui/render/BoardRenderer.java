@@ -3,6 +3,8 @@ package com.comp2042.tetris.ui.render;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardDelta;
 import com.comp2042.tetris.ui.theme.ColorPalette;
 
 /**
@@ -48,6 +50,39 @@ public final class BoardRenderer {
         }
     }
 
+    /**
+     * Repaints the board straight from a read-only cell view, without
+     * materialising a matrix.
+     *
+     * @param cells the board cells to draw
+     * @param displayMatrix the rectangles created by {@link #initBoard}
+     */
+    public void refreshBoard(BoardCells cells, Rectangle[][] displayMatrix) {
+        for (int i = 2; i < cells.getRows(); i++) {
+            for (int j = 0; j < cells.getCols(); j++) {
+                setRectangleData(cells.getCell(i, j), displayMatrix[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Restyles only the cells listed in a board delta.
+     *
+     * @param cells the board cells to draw
+     * @param changes the cells that changed since the last refresh
+     * @param displayMatrix the rectangles created by {@link #initBoard}
+     */
+    public void refreshCells(BoardCells cells, BoardDelta changes, Rectangle[][] displayMatrix) {
+        int cols = changes.getCols();
+        for (int n = 0; n < changes.size(); n++) {
+            int index = changes.index(n);
+            int row = index / cols;
+            if (row >= 2) {
+                setRectangleData(cells.getCell(row, index % cols), displayMatrix[row][index % cols]);
+            }
+        }
+    }
+
     private void setRectangleData(int cellId, Rectangle rectangle) {
         if (rectangle != null) {
             
@@ -0,0 +1,146 @@
+package com.comp2042.tetris.ui.render;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardDelta;
+import com.comp2042.tetris.ui.theme.NeonSpriteAtlas;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the placed bricks onto a single {@link Canvas} instead of one
+ * {@code Rectangle} per cell.
+ * <p>
+ * A {@link DirtyCellTracker} compares every refresh with the previous
+ * frame, and only the cells that changed are cleared and redrawn, so a
+ * move that changes nothing costs one pass over the cell ids and a lock
+ * repaints a handful of cells. Boards that journal their changes skip
+ * even that pass: only the cells listed since the last drawn version are
+ * checked.
+ * </p>
+ * <p>
+ * Each cell is a copy of its placed sprite from the
+ * {@link NeonSpriteAtlas}, which looks the same as a cell of
+ * {@link BoardRenderer}: a dark translucent fill with a rounded neon
+ * outline. When the atlas swaps in sprites for a new palette the whole
+ * board is redrawn. The two hidden spawn rows are not drawn.
+ * </p>
+ * <p>
+ * Per-cell animations of the rectangle renderer, such as bricks dropping
+ * into place and the line-clear sweep, are not available on the canvas.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class CanvasBoardRenderer {
+
+    private static final int HIDDEN_ROWS = 2;
+
+    private final int brickSize;
+    private final NeonSpriteAtlas atlas;
+    private final DirtyCellTracker tracker = new DirtyCellTracker();
+    private Canvas canvas;
+    private final BoardDelta changes = new BoardDelta();
+    private long drawnVersion = BoardCells.UNVERSIONED;
+    private int spriteGeneration;
+    private int lastRedrawCount;
+
+    public CanvasBoardRenderer(int brickSize) {
+        this(NeonSpriteAtlas.forBrickSize(brickSize));
+    }
+
+    public CanvasBoardRenderer(NeonSpriteAtlas atlas) {
+        this.atlas = Objects.requireNonNull(atlas, "atlas must not be null");
+        this.brickSize = atlas.getBrickSize();
+    }
+
+    /**
+     * Replaces the contents of the game panel with an empty board canvas.
+     *
+     * @param gamePanel the grid the board is shown in
+     * @param boardMatrix the initial board, used for its size
+     * @return the canvas
+     */
+    public Canvas initBoard(GridPane gamePanel, int[][] boardMatrix) {
+        gamePanel.getChildren().clear();
+        gamePanel.setSnapToPixel(true);
+        int rows = boardMatrix.length;
+        int cols = rows == 0 ? 0 : boardMatrix[0].length;
+        canvas = new Canvas(cols * brickSize, Math.max(0, rows - HIDDEN_ROWS) * brickSize);
+        gamePanel.add(canvas, 0, 0);
+        tracker.invalidate();
+        refreshBoard(BoardCells.of(boardMatrix));
+        return canvas;
+    }
+
+    /**
+     * Redraws the cells that changed since the last refresh.
+     *
+     * @param cells the board cells to draw
+     */
+    public void refreshBoard(BoardCells cells) {
+        if (canvas == null || cells == null) {
+            return;
+        }
+        int generation = atlas.getGeneration();
+        if (generation != spriteGeneration) {
+            spriteGeneration = generation;
+            tracker.invalidate();
+        }
+        int count;
+        if (tracker.matchesLast(cells) && cells.changesSince(drawnVersion, changes)) {
+            count = tracker.apply(cells, changes);
+        } else {
+            count = tracker.update(cells);
+        }
+        drawnVersion = cells.getVersion();
+        int cols = tracker.getCols();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        int redrawn = 0;
+        for (int n = 0; n < count; n++) {
+            int index = tracker.dirtyIndex(n);
+            int row = index / cols;
+            if (row >= HIDDEN_ROWS) {
+                drawCell(gc, row - HIDDEN_ROWS, index % cols, tracker.cellAt(index));
+                redrawn++;
+            }
+        }
+        lastRedrawCount = redrawn;
+    }
+
+    /**
+     * Forces the next refresh to redraw every cell.
+     */
+    public void invalidate() {
+        tracker.invalidate();
+    }
+
+    /**
+     * Gets how many cells the last refresh redrew.
+     *
+     * @return the number of visible cells redrawn
+     */
+    public int getLastRedrawCount() {
+        return lastRedrawCount;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    private void drawCell(GraphicsContext gc, int row, int col, int cellId) {
+        double x = col * brickSize;
+        double y = row * brickSize;
+        gc.clearRect(x, y, brickSize, brickSize);
+        Image sprite = atlas.sprite(cellId, NeonSpriteAtlas.Kind.PLACED);
+        if (sprite == null) {
+            return;
+        }
+        int pad = atlas.getPadding();
+        gc.drawImage(sprite, pad, pad, brickSize, brickSize, x, y, brickSize, brickSize);
+    }
+}
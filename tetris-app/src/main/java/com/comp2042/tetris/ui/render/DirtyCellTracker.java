@@ -0,0 +1,126 @@
+package com.comp2042.tetris.ui.render;
+
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardDelta;
+
+/**
+ * Remembers the last drawn board and reports which cells changed since.
+ * <p>
+ * The previous frame is kept in one flat array; each call compares the new
+ * cells against it, records the new values and lists the flat indices
+ * ({@code row * cols + col}) that differ. The first frame, a frame of a
+ * different size and the frame after {@link #invalidate()} report every
+ * cell. Nothing is allocated per frame once the buffers have grown.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class DirtyCellTracker {
+
+    private int[] drawn = new int[0];
+    private int[] dirty = new int[0];
+    private int rows;
+    private int cols;
+    private boolean valid;
+
+    /**
+     * Compares a frame with the last one and takes it as the new last frame.
+     *
+     * @param cells the cells about to be drawn
+     * @return the number of changed cells; their indices are in {@link #dirtyIndex}
+     */
+    public int update(BoardCells cells) {
+        int newRows = cells.getRows();
+        int newCols = cells.getCols();
+        int size = newRows * newCols;
+        boolean full = !valid || newRows != rows || newCols != cols;
+        if (drawn.length < size) {
+            drawn = new int[size];
+            dirty = new int[size];
+        }
+        rows = newRows;
+        cols = newCols;
+        valid = true;
+        int count = 0;
+        for (int r = 0, i = 0; r < newRows; r++) {
+            for (int c = 0; c < newCols; c++, i++) {
+                int cell = cells.getCell(r, c);
+                if (full || drawn[i] != cell) {
+                    drawn[i] = cell;
+                    dirty[count++] = i;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Takes a frame whose changes are already known, checking only those cells.
+     * <p>
+     * The frame must have the size of the last one and {@code changes} must
+     * cover every cell that differs from it, as a board journal does.
+     * </p>
+     *
+     * @param cells the cells about to be drawn
+     * @param changes the cells that may have changed
+     * @return the number of changed cells; their indices are in {@link #dirtyIndex}
+     */
+    public int apply(BoardCells cells, BoardDelta changes) {
+        int count = 0;
+        for (int n = 0; n < changes.size(); n++) {
+            int i = changes.index(n);
+            int cell = cells.getCell(i / cols, i % cols);
+            if (drawn[i] != cell) {
+                drawn[i] = cell;
+                dirty[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tells whether {@link #apply} may be used for a frame.
+     *
+     * @param cells the next frame
+     * @return {@code true} if a valid frame of the same size was taken last
+     */
+    public boolean matchesLast(BoardCells cells) {
+        return valid && cells.getRows() == rows && cells.getCols() == cols;
+    }
+
+    /**
+     * Gets the flat index of a changed cell from the last {@link #update}.
+     *
+     * @param n which changed cell, below the count {@code update} returned
+     * @return {@code row * cols + col} of that cell
+     */
+    public int dirtyIndex(int n) {
+        return dirty[n];
+    }
+
+    /**
+     * Gets the value a cell had in the last frame.
+     *
+     * @param index the flat cell index
+     * @return the cell id
+     */
+    public int cellAt(int index) {
+        return drawn[index];
+    }
+
+    /**
+     * Gets the width of the last frame.
+     *
+     * @return the number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Makes the next {@link #update} report every cell, e.g. after the canvas was cleared.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+}
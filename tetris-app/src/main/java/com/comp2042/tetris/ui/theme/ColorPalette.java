@@ -1,7 +1,10 @@
 package com.comp2042.tetris.ui.theme;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -10,7 +13,10 @@ import javafx.scene.paint.Paint;
  * Singleton color palette manager for brick and UI colors.
  * <p>
  * Maintains mappings from brick IDs to both standard and neon colors.
- * Supports custom color registration for extensibility.
+ * Supports custom color registration for extensibility. Every
+ * registration bumps a version number, so caches built from the palette,
+ * such as {@link NeonSpriteAtlas}, can tell when they are stale; lookups
+ * are safe from any thread.
  * </p>
  *
  * @version 1.0
@@ -19,8 +25,9 @@ public final class ColorPalette {
 
     private static final ColorPalette INSTANCE = new ColorPalette();
 
-    private final Map<Integer, Paint> colors = new HashMap<>();
-    private final Map<Integer, Color> neonColors = new HashMap<>();
+    private final Map<Integer, Paint> colors = new ConcurrentHashMap<>();
+    private final Map<Integer, Color> neonColors = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Private constructor initializes default brick colors.
@@ -82,6 +89,7 @@ public final class ColorPalette {
     private void registerInternal(int id, Paint paint) {
         if (paint != null) {
             colors.put(id, paint);
+            version.incrementAndGet();
         }
     }
 
@@ -118,6 +126,7 @@ public final class ColorPalette {
     private void registerNeonInternal(int id, Color neonColor) {
         if (neonColor != null) {
             neonColors.put(id, neonColor);
+            version.incrementAndGet();
         }
     }
 
@@ -140,5 +149,24 @@ public final class ColorPalette {
     public static Color getNeon(int id) {
         return INSTANCE.getNeonColor(id);
     }
-}
 
+    /**
+     * Gets the palette version, which changes whenever a color is registered.
+     *
+     * @return the current version
+     */
+    public static long getVersion() {
+        return INSTANCE.version.get();
+    }
+
+    /**
+     * Gets every brick ID that has a color or a neon color.
+     *
+     * @return the registered IDs in ascending order
+     */
+    public static Set<Integer> ids() {
+        Set<Integer> ids = new TreeSet<>(INSTANCE.colors.keySet());
+        ids.addAll(INSTANCE.neonColors.keySet());
+        return ids;
+    }
+}
@@ -0,0 +1,171 @@
+package com.comp2042.tetris.ui.theme;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Paints the neon cell looks of {@link NeonGlowStyle} into plain pixel arrays.
+ * <p>
+ * Each pixel is shaded from its signed distance to the rounded cell
+ * outline: the translucent fill and the one-pixel neon stroke inside it,
+ * and for the glowing looks a soft halo that fades out over the glow
+ * radius around it, standing in for the chained {@code DropShadow}s. The
+ * result is anti-aliased, non-premultiplied ARGB with {@link #PADDING}
+ * transparent-or-glow pixels on every side of the cell.
+ * </p>
+ * <p>
+ * Nothing here touches the scene graph, so sprites can be painted on any
+ * thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class NeonCellRasterizer {
+
+    /** Pixels around the cell that the glow may reach into. */
+    static final int PADDING = NeonGlowStyle.PRIMARY_GLOW_RADIUS;
+
+    private static final double GLOW_FILL_ALPHA = 0.30;
+    private static final double GHOST_FILL_ALPHA = 0.12;
+    private static final double PLACED_FILL_ALPHA = 0.28;
+    private static final double GHOST_STROKE_ALPHA = 0.22;
+    private static final double GHOST_GLOW_RADIUS = 1.0;
+    private static final double GHOST_GLOW_SPREAD = 0.06;
+
+    private NeonCellRasterizer() {}
+
+    /**
+     * Paints one cell look.
+     *
+     * @param kind which look to paint
+     * @param neon the neon color of the brick
+     * @param brickSize the cell size in pixels
+     * @return {@code (brickSize + 2 * PADDING)^2} ARGB pixels, row by row
+     */
+    static int[] rasterize(NeonSpriteAtlas.Kind kind, Color neon, int brickSize) {
+        int side = brickSize + 2 * PADDING;
+        int[] pixels = new int[side * side];
+        Layer[] layers = layersFor(kind, neon);
+        double half = brickSize / 2.0;
+        double radius = NeonGlowStyle.ARC_RADIUS / 2.0;
+        double[] rgba = new double[4];
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                double d = roundedRectDistance(x + 0.5 - PADDING - half, y + 0.5 - PADDING - half, half, radius);
+                rgba[0] = rgba[1] = rgba[2] = rgba[3] = 0;
+                for (Layer layer : layers) {
+                    layer.blendOver(d, rgba);
+                }
+                pixels[y * side + x] = toArgb(rgba);
+            }
+        }
+        return pixels;
+    }
+
+    private static Layer[] layersFor(NeonSpriteAtlas.Kind kind, Color neon) {
+        switch (kind) {
+            case GLOW:
+                return new Layer[] {
+                    Layer.glow(neon.deriveColor(0, 0.80, 0.90, 0.30), NeonGlowStyle.SECONDARY_GLOW_RADIUS,
+                        NeonGlowStyle.SECONDARY_GLOW_SPREAD, GLOW_FILL_ALPHA),
+                    Layer.glow(neon.deriveColor(0, 0.85, 0.80, 0.55), NeonGlowStyle.PRIMARY_GLOW_RADIUS,
+                        NeonGlowStyle.PRIMARY_GLOW_SPREAD, GLOW_FILL_ALPHA),
+                    Layer.fill(GLOW_FILL_ALPHA),
+                    Layer.stroke(neon, 1.0)
+                };
+            case GHOST:
+                return new Layer[] {
+                    Layer.glow(neon.deriveColor(0, 0.85, 0.90, 0.08), GHOST_GLOW_RADIUS,
+                        GHOST_GLOW_SPREAD, GHOST_FILL_ALPHA),
+                    Layer.fill(GHOST_FILL_ALPHA),
+                    Layer.stroke(neon, GHOST_STROKE_ALPHA)
+                };
+            default:
+                return new Layer[] {Layer.fill(PLACED_FILL_ALPHA), Layer.stroke(neon, 1.0)};
+        }
+    }
+
+    /**
+     * Signed distance from a point to a rounded square centred on the origin; negative inside.
+     */
+    static double roundedRectDistance(double px, double py, double half, double radius) {
+        double qx = Math.abs(px) - (half - radius);
+        double qy = Math.abs(py) - (half - radius);
+        double outside = Math.hypot(Math.max(qx, 0), Math.max(qy, 0));
+        return outside + Math.min(Math.max(qx, qy), 0) - radius;
+    }
+
+    private static double coverage(double d) {
+        return Math.clamp(0.5 - d, 0.0, 1.0);
+    }
+
+    private static int toArgb(double[] rgba) {
+        double a = rgba[3];
+        if (a <= 0) {
+            return 0;
+        }
+        int alpha = (int) Math.round(Math.min(1.0, a) * 255);
+        int r = (int) Math.round(Math.min(1.0, rgba[0] / a) * 255);
+        int g = (int) Math.round(Math.min(1.0, rgba[1] / a) * 255);
+        int b = (int) Math.round(Math.min(1.0, rgba[2] / a) * 255);
+        return alpha << 24 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * One paint layer, blended source-over in premultiplied form.
+     */
+    private record Layer(double r, double g, double b, double a, Shape shape, double radius, double spread,
+                         double interior) {
+
+        enum Shape { FILL, STROKE, GLOW }
+
+        static Layer fill(double alpha) {
+            return new Layer(0, 0, 0, alpha, Shape.FILL, 0, 0, 0);
+        }
+
+        static Layer stroke(Color color, double alpha) {
+            return new Layer(color.getRed(), color.getGreen(), color.getBlue(), color.getOpacity() * alpha,
+                Shape.STROKE, 0, 0, 0);
+        }
+
+        static Layer glow(Color color, double radius, double spread, double interior) {
+            return new Layer(color.getRed(), color.getGreen(), color.getBlue(), color.getOpacity(),
+                Shape.GLOW, radius, spread, interior);
+        }
+
+        void blendOver(double d, double[] dst) {
+            double alpha = a * mask(d);
+            if (alpha <= 0) {
+                return;
+            }
+            double keep = 1 - alpha;
+            dst[0] = r * alpha + dst[0] * keep;
+            dst[1] = g * alpha + dst[1] * keep;
+            dst[2] = b * alpha + dst[2] * keep;
+            dst[3] = alpha + dst[3] * keep;
+        }
+
+        private double mask(double d) {
+            switch (shape) {
+                case FILL:
+                    return coverage(d);
+                case STROKE:
+                    return coverage(d) - coverage(d + NeonGlowStyle.STROKE_WIDTH);
+                default:
+                    if (d <= 0) {
+                        // A shadow takes the node's alpha, which inside the cell is the fill's.
+                        double band = coverage(d) - coverage(d + NeonGlowStyle.STROKE_WIDTH);
+                        return interior + (1 - interior) * band;
+                    }
+                    double t = d / radius;
+                    if (t >= 1) {
+                        return 0;
+                    }
+                    if (t <= spread) {
+                        return 1;
+                    }
+                    double u = 1 - (t - spread) / (1 - spread);
+                    return u * u * (3 - 2 * u);
+            }
+        }
+    }
+}
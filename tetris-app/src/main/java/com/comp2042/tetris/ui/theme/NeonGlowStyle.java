@@ -7,17 +7,19 @@ import javafx.scene.shape.Rectangle;
 /**
  * Utility class for applying neon glow visual effects to rectangles.
  * Creates a cyberpunk-style appearance with layered drop shadows
- * and configurable glow colors. Used for brick rendering.
+ * and configurable glow colors. The board renderers draw the same looks
+ * from {@link NeonSpriteAtlas} instead of attaching effects per node; the
+ * constants here are shared with that atlas so both stay in step.
  *
  */
 public final class NeonGlowStyle {
 
-    private static final int STROKE_WIDTH = 1;
-    private static final int PRIMARY_GLOW_RADIUS = 4;
-    private static final double PRIMARY_GLOW_SPREAD = 0.18;
-    private static final int SECONDARY_GLOW_RADIUS = 2;
-    private static final double SECONDARY_GLOW_SPREAD = 0.25;
-    private static final int ARC_RADIUS = 9;
+    static final int STROKE_WIDTH = 1;
+    static final int PRIMARY_GLOW_RADIUS = 4;
+    static final double PRIMARY_GLOW_SPREAD = 0.18;
+    static final int SECONDARY_GLOW_RADIUS = 2;
+    static final double SECONDARY_GLOW_SPREAD = 0.25;
+    static final int ARC_RADIUS = 9;
 
     private NeonGlowStyle() {}
 
@@ -0,0 +1,189 @@
+package com.comp2042.tetris.ui.theme;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Pre-rendered neon cell sprites, one set per palette color id.
+ * <p>
+ * The glowing active brick, its ghost and the placed cells used to be
+ * styled with per-node {@code DropShadow} effects, which JavaFX renders
+ * again for every node on every frame. The atlas compiles the theme once
+ * instead: for each color id it paints the three looks into images
+ * {@link #getSpriteSize()} pixels square, the cell itself plus
+ * {@link #getPadding()} pixels of glow on each side, and renderers only
+ * place those images.
+ * </p>
+ * <p>
+ * When the {@link ColorPalette} changes, the next lookup notices the new
+ * palette version and recompiles every sprite on a background thread;
+ * the old sprites stay in use until the new set is swapped in, after
+ * which {@link #getGeneration()} changes so renderers know to redraw.
+ * Ids that were never compiled are painted on first use. Lookups are safe
+ * from any thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class NeonSpriteAtlas {
+
+    /**
+     * The cell looks held for every color id.
+     */
+    public enum Kind {
+        /** The falling brick, with its neon glow. */
+        GLOW,
+        /** The faint landing preview of the falling brick. */
+        GHOST,
+        /** A brick that has settled on the board. */
+        PLACED
+    }
+
+    private static final Map<Integer, NeonSpriteAtlas> SHARED = new ConcurrentHashMap<>();
+    private static final ExecutorService COMPILER = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("neon-atlas").daemon().factory());
+
+    private final int brickSize;
+    private final Executor compiler;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Sheet sheet;
+
+    /**
+     * Creates an atlas that recompiles on the given executor.
+     *
+     * @param brickSize the cell size in pixels
+     * @param compiler where palette rebuilds run
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public NeonSpriteAtlas(int brickSize, Executor compiler) {
+        if (brickSize <= 0) {
+            throw new IllegalArgumentException("Brick size must be positive: " + brickSize);
+        }
+        this.brickSize = brickSize;
+        this.compiler = Objects.requireNonNull(compiler, "compiler must not be null");
+        this.sheet = new Sheet(ColorPalette.getVersion(), 0, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Gets the atlas shared by every renderer of one cell size.
+     *
+     * @param brickSize the cell size in pixels
+     * @return the shared atlas for that size
+     */
+    public static NeonSpriteAtlas forBrickSize(int brickSize) {
+        return SHARED.computeIfAbsent(brickSize, size -> new NeonSpriteAtlas(size, COMPILER));
+    }
+
+    /**
+     * Gets the sprite of one look of one color.
+     *
+     * @param colorId the palette color id
+     * @param kind the look
+     * @return the sprite, or {@code null} for the empty cell id {@code 0}
+     */
+    public Image sprite(int colorId, Kind kind) {
+        if (colorId == 0) {
+            return null;
+        }
+        Sheet current = sheet;
+        if (current.paletteVersion != ColorPalette.getVersion()) {
+            requestRebuild();
+        }
+        Image[] looks = current.sprites.get(colorId);
+        if (looks == null) {
+            looks = current.sprites.computeIfAbsent(colorId, this::compile);
+        }
+        return looks[kind.ordinal()];
+    }
+
+    /**
+     * Gets a number that changes whenever a palette rebuild has been swapped in.
+     *
+     * @return the current sprite generation
+     */
+    public int getGeneration() {
+        return sheet.generation;
+    }
+
+    public int getBrickSize() {
+        return brickSize;
+    }
+
+    /**
+     * Gets how far the glow reaches past the cell on each side.
+     *
+     * @return the padding in pixels
+     */
+    public int getPadding() {
+        return NeonCellRasterizer.PADDING;
+    }
+
+    /**
+     * Gets the width and height of every sprite.
+     *
+     * @return the cell size plus the padding on both sides
+     */
+    public int getSpriteSize() {
+        return brickSize + 2 * NeonCellRasterizer.PADDING;
+    }
+
+    private void requestRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        compiler.execute(() -> {
+            try {
+                long version;
+                Map<Integer, Image[]> sprites;
+                do {
+                    version = ColorPalette.getVersion();
+                    sprites = new ConcurrentHashMap<>();
+                    for (int id : ColorPalette.ids()) {
+                        if (id != 0) {
+                            sprites.put(id, compile(id));
+                        }
+                    }
+                } while (version != ColorPalette.getVersion());
+                sheet = new Sheet(version, sheet.generation + 1, sprites);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private Image[] compile(int colorId) {
+        Color neon = neonColor(colorId);
+        Kind[] kinds = Kind.values();
+        Image[] looks = new Image[kinds.length];
+        int side = getSpriteSize();
+        for (Kind kind : kinds) {
+            WritableImage image = new WritableImage(side, side);
+            image.getPixelWriter().setPixels(0, 0, side, side, PixelFormat.getIntArgbInstance(),
+                NeonCellRasterizer.rasterize(kind, neon, brickSize), 0, side);
+            looks[kind.ordinal()] = image;
+        }
+        return looks;
+    }
+
+    private static Color neonColor(int colorId) {
+        Color neon = ColorPalette.getNeon(colorId);
+        if (neon != null) {
+            return neon;
+        }
+        Paint base = ColorPalette.get(colorId);
+        return base instanceof Color color ? color : Color.WHITE;
+    }
+
+    private record Sheet(long paletteVersion, int generation, Map<Integer, Image[]> sprites) {}
+}
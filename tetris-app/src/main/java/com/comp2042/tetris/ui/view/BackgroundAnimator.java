@@ -0,0 +1,36 @@
+package com.comp2042.tetris.ui.view;
+
+import com.comp2042.tetris.ui.animation.ParticleField;
+import com.comp2042.tetris.ui.animation.ParticleLayer;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Animates the background with falling shapes and particles.
+ * Creates a dynamic visual effect during gameplay, using the same pooled
+ * particle engine as the menu with a quieter {@link ParticleField.Config#GAME} look.
+ */
+public class BackgroundAnimator {
+
+    private final ParticleLayer layer;
+
+    public BackgroundAnimator(Pane backgroundPane, Runnable onUpdate) {
+        this.layer = backgroundPane == null ? null
+            : new ParticleLayer(backgroundPane, new ParticleField(ParticleField.Config.GAME.withSystemBudget()));
+        if (layer != null) {
+            layer.setOnPulse(onUpdate);
+        }
+    }
+
+    public void start() {
+        if (layer != null) {
+            layer.start();
+        }
+    }
+
+    public void stop() {
+        if (layer != null) {
+            layer.stop();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.tetris.ui.view;
+
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardSnapshot;
+
+/**
+ * Decorator that adds buffering/caching to a GameView.
+ * Prevents redundant board refreshes by comparing the new matrix
+ * with the cached version before delegating to the wrapped view.
+ * Implements the Decorator pattern for performance optimization.
+ * <p>
+ * Versioned {@link BoardCells} refreshes are filtered by version alone,
+ * without copying or comparing cells.
+ * </p>
+ *
+ */
+public final class BufferedGameView extends GameViewDecorator {
+
+    private BoardSnapshot lastSnapshot;
+    private long lastVersion = BoardCells.UNVERSIONED;
+
+    public BufferedGameView(GameView delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData activeBrickData) {
+        cache(boardMatrix);
+        super.initGameView(boardMatrix, activeBrickData);
+    }
+
+    @Override
+    public void refreshBoardCells(BoardCells cells) {
+        long version = cells == null ? BoardCells.UNVERSIONED : cells.getVersion();
+        if (version != BoardCells.UNVERSIONED) {
+            if (version != lastVersion) {
+                lastVersion = version;
+                lastSnapshot = null;
+                super.refreshBoardCells(cells);
+            }
+            return;
+        }
+        lastVersion = BoardCells.UNVERSIONED;
+        if (cells == null || lastSnapshot == null || !lastSnapshot.matches(cells)) {
+            lastSnapshot = cells == null ? null : BoardSnapshot.of(cells);
+            super.refreshBoardCells(cells);
+        }
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+        if (!isSameMatrix(boardMatrix)) {
+            cache(boardMatrix);
+            super.refreshGameBackground(boardMatrix);
+        }
+    }
+
+    private boolean isSameMatrix(int[][] boardMatrix) {
+        return lastSnapshot != null && lastSnapshot.matches(boardMatrix);
+    }
+
+    private void cache(int[][] boardMatrix) {
+        lastVersion = BoardCells.UNVERSIONED;
+        if (boardMatrix == null) {
+            lastSnapshot = null;
+        } else {
+            lastSnapshot = BoardSnapshot.of(boardMatrix);
+        }
+    }
+}
+
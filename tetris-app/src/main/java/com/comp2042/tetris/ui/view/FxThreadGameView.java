@@ -0,0 +1,136 @@
+package com.comp2042.tetris.ui.view;
+
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.util.MatrixOperations;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Decorator that moves view updates made off the FX thread onto it.
+ * <p>
+ * When gravity runs on its own thread, the controller calls the view from
+ * that thread: to redraw the board after a lock, to show game over and so
+ * on. Calls already on the FX thread pass straight through; the others are
+ * posted with {@link Platform#runLater}. Boards and results are copied
+ * before they are posted, since the engine may change them before the FX
+ * thread gets to them; board copies keep the board's change journal.
+ * Score and level are mirrored into properties that only change on the
+ * FX thread, so bound labels are never touched from the loop thread.
+ * </p>
+ * <p>
+ * Wrap the view outermost, so every decorator below it runs on the FX thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class FxThreadGameView extends GameViewDecorator {
+
+    public FxThreadGameView(GameView delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+        if (Platform.isFxApplicationThread()) {
+            super.refreshGameBackground(boardMatrix);
+        } else {
+            int[][] copy = boardMatrix == null ? null : MatrixOperations.copy(boardMatrix);
+            Platform.runLater(() -> super.refreshGameBackground(copy));
+        }
+    }
+
+    @Override
+    public void refreshBoardCells(BoardCells cells) {
+        if (Platform.isFxApplicationThread() || cells == null) {
+            onFxThread(() -> super.refreshBoardCells(cells));
+        } else {
+            BoardCells copy = cells.detached();
+            Platform.runLater(() -> super.refreshBoardCells(copy));
+        }
+    }
+
+    @Override
+    public void acceptShowResult(ShowResult showResult) {
+        ShowResult result = showResult == null || Platform.isFxApplicationThread() ? showResult : showResult.detached();
+        onFxThread(() -> super.acceptShowResult(result));
+    }
+
+    @Override
+    public void bindScore(IntegerProperty scoreProperty) {
+        super.bindScore(mirror(scoreProperty));
+    }
+
+    @Override
+    public void bindLevel(IntegerProperty levelProperty) {
+        super.bindLevel(mirror(levelProperty));
+    }
+
+    @Override
+    public void gameOver() {
+        onFxThread(super::gameOver);
+    }
+
+    @Override
+    public void setRemainingTime(int seconds) {
+        onFxThread(() -> super.setRemainingTime(seconds));
+    }
+
+    @Override
+    public void settleActiveBrick(Runnable onSettled) {
+        onFxThread(() -> super.settleActiveBrick(onSettled));
+    }
+
+    @Override
+    public void showMessage(String message) {
+        onFxThread(() -> super.showMessage(message));
+    }
+
+    @Override
+    public void showEventMessage(String message) {
+        onFxThread(() -> super.showEventMessage(message));
+    }
+
+    @Override
+    public void playEarthquakeAnimation() {
+        onFxThread(super::playEarthquakeAnimation);
+    }
+
+    @Override
+    public void animateLevelIncrement() {
+        onFxThread(super::animateLevelIncrement);
+    }
+
+    @Override
+    public void showFogEffect(int seconds) {
+        onFxThread(() -> super.showFogEffect(seconds));
+    }
+
+    @Override
+    public void showHeavyGravityEffect(int seconds) {
+        onFxThread(() -> super.showHeavyGravityEffect(seconds));
+    }
+
+    private static void onFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    /**
+     * Creates a property that follows the source but only changes on the FX thread.
+     */
+    private static IntegerProperty mirror(IntegerProperty source) {
+        if (source == null) {
+            return null;
+        }
+        IntegerProperty mirror = new SimpleIntegerProperty(source.get());
+        source.addListener((obs, oldValue, newValue) -> onFxThread(() -> mirror.set(source.get())));
+        return mirror;
+    }
+}
@@ -5,10 +5,13 @@ import java.util.List;
 import com.comp2042.tetris.application.session.GameLoopController;
 import com.comp2042.tetris.domain.model.RowClearResult;
 import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardDelta;
 import com.comp2042.tetris.engine.state.GameStateManager;
 import com.comp2042.tetris.services.notify.NotificationManager;
 import com.comp2042.tetris.ui.render.ActiveBrickRenderer;
 import com.comp2042.tetris.ui.render.BoardRenderer;
+import com.comp2042.tetris.ui.render.CanvasBoardRenderer;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -33,11 +36,16 @@ public final class GameMediator {
     private final GameOverAnimator gameOverAnimator;
 
     private Rectangle[][] displayMatrix;
+    private CanvasBoardRenderer canvasRenderer;
     private ActiveBrickRenderer activeBrickRenderer;
     private NotificationManager notificationService;
     private GameLoopController gameLoopController;
+    private PerformanceMonitor performanceMonitor;
     
-    private int[][] lastBoardMatrix;
+    private int[] lastCells = new int[0];
+    private boolean hasLastCells;
+    private long lastVersion = BoardCells.UNVERSIONED;
+    private final BoardDelta changes = new BoardDelta();
 
     GameMediator(BoardRenderer boardRenderer,
                        ViewInitializer viewInitializer,
@@ -56,6 +64,7 @@ public final class GameMediator {
                           ActiveBrickRenderer activeBrickRenderer,
                           NotificationManager notificationService) {
         this.displayMatrix = displayMatrix;
+        this.hasLastCells = false;
         this.activeBrickRenderer = activeBrickRenderer;
         this.notificationService = notificationService;
     }
@@ -69,91 +78,84 @@ public final class GameMediator {
         activeBrickRenderer.animateSettle(onFinished);
     }
 
+    /**
+     * Draws the board on a canvas instead of the rectangles, when set.
+     */
+    void setCanvasRenderer(CanvasBoardRenderer renderer) {
+        this.canvasRenderer = renderer;
+    }
+
     void setGameLoop(GameLoopController controller) {
         this.gameLoopController = controller;
     }
 
+    /**
+     * Reports board and active brick redraw times to a monitor, when set.
+     */
+    void setPerformanceMonitor(PerformanceMonitor monitor) {
+        this.performanceMonitor = monitor;
+    }
+
     void refreshGameBackground(int[][] boardMatrix) {
-        if (boardRenderer == null || displayMatrix == null) return;
+        refreshBoardCells(boardMatrix == null ? null : BoardCells.of(boardMatrix));
+    }
 
-        
-        if (lastBoardMatrix == null) {
-            boardRenderer.refreshBoard(boardMatrix, displayMatrix);
-            lastBoardMatrix = copyMatrix(boardMatrix);
+    /**
+     * Redraws the board from a read-only cell view and animates newly
+     * filled cells.
+     * <p>
+     * Cells are read straight from the view; the previous frame is kept in
+     * a flat buffer that is reused between refreshes instead of copying the
+     * board matrix each time. When the view can say which cells changed
+     * since the version drawn last, only those cells are restyled and
+     * compared; otherwise the whole board is.
+     * </p>
+     */
+    void refreshBoardCells(BoardCells boardCells) {
+        long start = System.nanoTime();
+        drawBoardCells(boardCells);
+        if (performanceMonitor != null) {
+            performanceMonitor.recordBoardRender(System.nanoTime() - start);
+        }
+    }
+
+    private void drawBoardCells(BoardCells boardCells) {
+        if (canvasRenderer != null) {
+            canvasRenderer.refreshBoard(boardCells);
             return;
         }
+        if (boardRenderer == null || displayMatrix == null || boardCells == null) return;
 
-        
-        boardRenderer.refreshBoard(boardMatrix, displayMatrix);
+        int rows = boardCells.getRows();
+        int cols = boardCells.getCols();
+        if (!hasLastCells || lastCells.length != rows * cols) {
+            boardRenderer.refreshBoard(boardCells, displayMatrix);
+            rememberCells(boardCells);
+            return;
+        }
 
-        
         javafx.collections.ObservableList<javafx.animation.Animation> animations = javafx.collections.FXCollections.observableArrayList();
-        for (int i = 0; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                int prev = lastBoardMatrix[i][j];
-                int now = boardMatrix[i][j];
-                if (prev == 0 && now != 0) {
-                    Rectangle rect = displayMatrix[i][j];
-                    if (rect == null) continue;
-
-                    
-                    rect.setTranslateY(-10);
-                    javafx.animation.TranslateTransition tt = new javafx.animation.TranslateTransition(javafx.util.Duration.millis(160), rect);
-                    tt.setFromY(-10);
-                    tt.setToY(0);
-                    tt.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
-
-                    javafx.animation.ScaleTransition st = new javafx.animation.ScaleTransition(javafx.util.Duration.millis(160), rect);
-                    st.setFromX(0.90);
-                    st.setFromY(0.90);
-                    st.setToX(1.0);
-                    st.setToY(1.0);
-                    st.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
-
-                    
-                    javafx.animation.Timeline effectPulse = null;
-                    javafx.scene.effect.Effect eff = rect.getEffect();
-                    if (eff instanceof javafx.scene.effect.DropShadow ds) {
-                        double baseRadius = ds.getRadius();
-                        double baseSpread = ds.getSpread();
-
-                        effectPulse = new javafx.animation.Timeline(
-                            new javafx.animation.KeyFrame(javafx.util.Duration.ZERO,
-                                new javafx.animation.KeyValue(ds.radiusProperty(), baseRadius),
-                                new javafx.animation.KeyValue(ds.spreadProperty(), baseSpread)
-                            ),
-                            new javafx.animation.KeyFrame(javafx.util.Duration.millis(80),
-                                new javafx.animation.KeyValue(ds.radiusProperty(), Math.min(baseRadius + 8, baseRadius * 2 + 6)),
-                                new javafx.animation.KeyValue(ds.spreadProperty(), Math.min(baseSpread + 0.25, 1.0))
-                            ),
-                            new javafx.animation.KeyFrame(javafx.util.Duration.millis(160),
-                                new javafx.animation.KeyValue(ds.radiusProperty(), baseRadius),
-                                new javafx.animation.KeyValue(ds.spreadProperty(), baseSpread)
-                            )
-                        );
+        if (boardCells.changesSince(lastVersion, changes)) {
+            boardRenderer.refreshCells(boardCells, changes, displayMatrix);
+            for (int n = 0; n < changes.size(); n++) {
+                int index = changes.index(n);
+                int now = boardCells.getCell(index / cols, index % cols);
+                if (lastCells[index] == 0 && now != 0) {
+                    addFillAnimation(animations, index / cols, index % cols, rows);
+                }
+                lastCells[index] = now;
+            }
+            lastVersion = boardCells.getVersion();
+        } else {
+            boardRenderer.refreshBoard(boardCells, displayMatrix);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (lastCells[i * cols + j] == 0 && boardCells.getCell(i, j) != 0) {
+                        addFillAnimation(animations, i, j, rows);
                     }
-
-                    
-                    javafx.animation.Timeline strokePulse = new javafx.animation.Timeline(
-                        new javafx.animation.KeyFrame(javafx.util.Duration.ZERO,
-                            new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth())),
-                        new javafx.animation.KeyFrame(javafx.util.Duration.millis(80),
-                            new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth() + 1.5)),
-                        new javafx.animation.KeyFrame(javafx.util.Duration.millis(160),
-                            new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth()))
-                    );
-
-                    javafx.animation.ParallelTransition pt = new javafx.animation.ParallelTransition(tt, st);
-                    if (effectPulse != null) pt.getChildren().add(effectPulse);
-                    pt.getChildren().add(strokePulse);
-
-                    
-                    int rows = boardMatrix.length;
-                    long delay = Math.max(0, (rows - i) * 10 + j * 8);
-                    pt.setDelay(javafx.util.Duration.millis(delay));
-                    animations.add(pt);
                 }
             }
+            rememberCells(boardCells);
         }
 
         
@@ -179,17 +181,85 @@ public final class GameMediator {
             }
             all.play();
         }
+    }
 
-        
-        lastBoardMatrix = copyMatrix(boardMatrix);
+    /**
+     * Queues the drop-in animation of a cell that just filled.
+     */
+    private void addFillAnimation(List<javafx.animation.Animation> animations, int i, int j, int rows) {
+        Rectangle rect = displayMatrix[i][j];
+        if (rect == null) return;
+
+
+        rect.setTranslateY(-10);
+        javafx.animation.TranslateTransition tt = new javafx.animation.TranslateTransition(javafx.util.Duration.millis(160), rect);
+        tt.setFromY(-10);
+        tt.setToY(0);
+        tt.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
+
+        javafx.animation.ScaleTransition st = new javafx.animation.ScaleTransition(javafx.util.Duration.millis(160), rect);
+        st.setFromX(0.90);
+        st.setFromY(0.90);
+        st.setToX(1.0);
+        st.setToY(1.0);
+        st.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
+
+
+        javafx.animation.Timeline effectPulse = null;
+        javafx.scene.effect.Effect eff = rect.getEffect();
+        if (eff instanceof javafx.scene.effect.DropShadow ds) {
+            double baseRadius = ds.getRadius();
+            double baseSpread = ds.getSpread();
+
+            effectPulse = new javafx.animation.Timeline(
+                new javafx.animation.KeyFrame(javafx.util.Duration.ZERO,
+                    new javafx.animation.KeyValue(ds.radiusProperty(), baseRadius),
+                    new javafx.animation.KeyValue(ds.spreadProperty(), baseSpread)
+                ),
+                new javafx.animation.KeyFrame(javafx.util.Duration.millis(80),
+                    new javafx.animation.KeyValue(ds.radiusProperty(), Math.min(baseRadius + 8, baseRadius * 2 + 6)),
+                    new javafx.animation.KeyValue(ds.spreadProperty(), Math.min(baseSpread + 0.25, 1.0))
+                ),
+                new javafx.animation.KeyFrame(javafx.util.Duration.millis(160),
+                    new javafx.animation.KeyValue(ds.radiusProperty(), baseRadius),
+                    new javafx.animation.KeyValue(ds.spreadProperty(), baseSpread)
+                )
+            );
+        }
+
+
+        javafx.animation.Timeline strokePulse = new javafx.animation.Timeline(
+            new javafx.animation.KeyFrame(javafx.util.Duration.ZERO,
+                new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth())),
+            new javafx.animation.KeyFrame(javafx.util.Duration.millis(80),
+                new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth() + 1.5)),
+            new javafx.animation.KeyFrame(javafx.util.Duration.millis(160),
+                new javafx.animation.KeyValue(rect.strokeWidthProperty(), rect.getStrokeWidth()))
+        );
+
+        javafx.animation.ParallelTransition pt = new javafx.animation.ParallelTransition(tt, st);
+        if (effectPulse != null) pt.getChildren().add(effectPulse);
+        pt.getChildren().add(strokePulse);
+
+
+        long delay = Math.max(0, (rows - i) * 10 + j * 8);
+        pt.setDelay(javafx.util.Duration.millis(delay));
+        animations.add(pt);
     }
 
-    private int[][] copyMatrix(int[][] src) {
-        int[][] copy = new int[src.length][src[0].length];
-        for (int i = 0; i < src.length; i++) {
-            System.arraycopy(src[i], 0, copy[i], 0, src[i].length);
+    private void rememberCells(BoardCells boardCells) {
+        int rows = boardCells.getRows();
+        int cols = boardCells.getCols();
+        if (lastCells.length != rows * cols) {
+            lastCells = new int[rows * cols];
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                lastCells[i * cols + j] = boardCells.getCell(i, j);
+            }
         }
-        return copy;
+        hasLastCells = true;
+        lastVersion = boardCells.getVersion();
     }
 
     void handleResult(ShowResult data) {
@@ -213,12 +283,17 @@ public final class GameMediator {
             playLockEffects();
             if (clear.getLinesRemoved() > 0) {
                 
+                // The controller redraws the board after every lock, so the
+                // cleared rows arrive through the board's change journal.
                 playNeonSweep(clear.getClearedRows());
-                refreshGameBackground(clear.getNewMatrix());
             }
         }
         if (activeBrickRenderer != null && data.getViewData() != null && stateManager.canUpdateGame()) {
+            long start = System.nanoTime();
             activeBrickRenderer.refresh(data.getViewData());
+            if (performanceMonitor != null) {
+                performanceMonitor.recordBrickRender(System.nanoTime() - start);
+            }
         }
     }
 
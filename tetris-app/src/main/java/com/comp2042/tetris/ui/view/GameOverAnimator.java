@@ -65,7 +65,11 @@ public class GameOverAnimator {
     }
 
     private void startDissolveCascade(Rectangle[][] displayMatrix, int finalScore, int totalLines, long gameTime) {
-        if (displayMatrix == null) return;
+        if (displayMatrix == null) {
+            playBackdropTransition();
+            if (gameOverPanel != null) gameOverPanel.show(finalScore, totalLines, gameTime);
+            return;
+        }
 
         
         Timeline cascade = new Timeline();
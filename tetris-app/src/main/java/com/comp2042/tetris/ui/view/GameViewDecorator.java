@@ -3,9 +3,10 @@ package com.comp2042.tetris.ui.view;
 import java.util.Objects;
 
 import com.comp2042.tetris.application.port.CreateNewGame;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.domain.model.ShowResult;
 import com.comp2042.tetris.domain.model.ViewData;
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.engine.board.BoardCells;
 import com.comp2042.tetris.ui.input.DropInput;
 import com.comp2042.tetris.ui.input.InputActionHandler;
 
@@ -36,6 +37,11 @@ public class GameViewDecorator implements GameView {
         delegate.refreshGameBackground(boardMatrix);
     }
 
+    @Override
+    public void refreshBoardCells(BoardCells cells) {
+        delegate.refreshBoardCells(cells);
+    }
+
     @Override
     public void bindScore(IntegerProperty scoreProperty) {
         delegate.bindScore(scoreProperty);
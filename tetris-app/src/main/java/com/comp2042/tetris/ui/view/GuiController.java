@@ -1,7 +1,10 @@
 package com.comp2042.tetris.ui.view;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ResourceBundle;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -9,22 +12,26 @@ import java.util.logging.Logger;
 import com.comp2042.tetris.application.port.CreateNewGame;
 import com.comp2042.tetris.application.port.GameModeLifecycle;
 import com.comp2042.tetris.application.session.BaseGameController;
+import com.comp2042.tetris.application.session.FixedStepGameLoop;
 import com.comp2042.tetris.application.session.GameLoopController;
 import com.comp2042.tetris.application.session.MysteryGameController;
 import com.comp2042.tetris.domain.model.ShowResult;
 import com.comp2042.tetris.domain.model.ViewData;
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.engine.state.GameStateManager;
 import com.comp2042.tetris.services.audio.MusicManager;
 import com.comp2042.tetris.services.notify.NotificationManager;
 import com.comp2042.tetris.ui.input.DropInput;
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.ui.input.EventType;
 import com.comp2042.tetris.ui.input.InputActionHandler;
 import com.comp2042.tetris.ui.input.InputHandler;
+import com.comp2042.tetris.ui.input.InputLatencyTracer;
 import com.comp2042.tetris.ui.input.MoveEvent;
 import com.comp2042.tetris.ui.render.ActiveBrickRenderer;
 import com.comp2042.tetris.ui.render.BoardRenderer;
+import com.comp2042.tetris.ui.render.CanvasBoardRenderer;
 
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
@@ -40,6 +47,8 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Slider;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -54,6 +63,12 @@ public class GuiController implements Initializable, GameView {
     private static final Logger LOGGER = Logger.getLogger(GuiController.class.getName());
     private static final int BRICK_SIZE = 20;
 
+    /** System property that selects the board renderer; {@code canvas} draws the board on one canvas. */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+
+    /** Key that shows and hides the performance overlay. */
+    public static final KeyCode PERFORMANCE_KEY = KeyCode.F3;
+
     @FXML
     private Pane backgroundPane;
 
@@ -129,17 +144,22 @@ public class GuiController implements Initializable, GameView {
     private HBox helpContainer;
 
     private final transient BoardRenderer boardRenderer = new BoardRenderer(BRICK_SIZE);
+    private final transient CanvasBoardRenderer canvasBoardRenderer =
+        "canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY)) ? new CanvasBoardRenderer(BRICK_SIZE) : null;
     private final transient InputHandler inputHandler = new InputHandler();
     private final transient ViewInitializer viewInitializer = new ViewInitializer();
     private final transient GameStateManager stateManager = new GameStateManager();
     private transient GameMediator mediator;
 
     private GameLoopController gameLoopController;
+    private FixedStepGameLoop<ShowResult> engineLoop;
     private final Duration baseTickInterval = Duration.millis(400);
 
     private InputActionHandler inputActionHandler;
-    private DropInput dropInput;
+    private volatile DropInput dropInput;
     private CreateNewGame gameLifecycle;
+    private Runnable onSuspend;
+    private Runnable onNewGame;
 
     private GameTimer gameTimer;
     private AudioSettingsController audioSettingsController;
@@ -147,6 +167,9 @@ public class GuiController implements Initializable, GameView {
     private CountdownManager countdownManager;
     private GameEffectManager effectManager;
     private NextBrickRenderer nextBrickRenderer;
+    private final transient PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+    private PerformanceOverlay performanceOverlay;
+    private final transient InputLatencyTracer latencyTracer = new InputLatencyTracer();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -173,6 +196,8 @@ public class GuiController implements Initializable, GameView {
         pauseOverlayController = new PauseOverlayController(pauseDim, rootPane);
         pauseOverlayController.bindHelpContainer(helpContainer, stateManager);
         mediator = new GameMediator(boardRenderer, viewInitializer, stateManager, gamePanel, gameOverPanel);
+        mediator.setPerformanceMonitor(performanceMonitor);
+        installPerformanceOverlay();
 
         gameTimer = new GameTimer(timerText, backgroundPane);
         gameTimer.startAnimation();
@@ -211,6 +236,19 @@ public class GuiController implements Initializable, GameView {
         });
     }
 
+    private void installPerformanceOverlay() {
+        if (rootPane == null || gamePanel == null) {
+            return;
+        }
+        performanceOverlay = new PerformanceOverlay(rootPane, performanceMonitor);
+        gamePanel.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == PERFORMANCE_KEY) {
+                performanceOverlay.toggle();
+                event.consume();
+            }
+        });
+    }
+
     private void startCountdown() {
         if (countdownManager != null) {
             countdownManager.setGameLifecycle(gameLifecycle);
@@ -246,8 +284,36 @@ public class GuiController implements Initializable, GameView {
         }
     }
 
+    /**
+     * Sets an action run when the player leaves the game for the menu,
+     * before the game scene is torn down; used to save the game for later.
+     *
+     * @param onSuspend the action, or {@code null} for none
+     */
+    public void setOnSuspend(Runnable onSuspend) {
+        this.onSuspend = onSuspend;
+    }
+
+    /**
+     * Sets an action run after the player starts another game in this scene.
+     *
+     * @param onNewGame the action, or {@code null} for none
+     */
+    public void setOnNewGame(Runnable onNewGame) {
+        this.onNewGame = onNewGame;
+    }
+
     @FXML
     public void returnToMenu() {
+        if (performanceOverlay != null) {
+            performanceOverlay.hide();
+        }
+        exportLatency();
+        if (onSuspend != null) {
+            Runnable suspend = onSuspend;
+            onSuspend = null;
+            suspend.run();
+        }
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/ui/layout/menu.fxml"));
             Parent root = loader.load();
@@ -278,6 +344,26 @@ public class GuiController implements Initializable, GameView {
         }
     }
 
+    /**
+     * Logs the input latency summary and, when {@value InputLatencyTracer#EXPORT_PROPERTY}
+     * names a file, writes the histograms there.
+     */
+    private void exportLatency() {
+        try {
+            StringBuilder summary = new StringBuilder();
+            latencyTracer.exportSummary(summary);
+            LOGGER.info(() -> "Input latency\n" + summary);
+            String target = System.getProperty(InputLatencyTracer.EXPORT_PROPERTY);
+            if (target != null && !target.isBlank()) {
+                try (Writer out = Files.newBufferedWriter(Path.of(target))) {
+                    latencyTracer.exportHistograms(out);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Unable to export input latency", e);
+        }
+    }
+
     @FXML
     public void increaseVolume() {
         if (audioSettingsController != null) {
@@ -375,19 +461,30 @@ public class GuiController implements Initializable, GameView {
     @FXML
     @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        Rectangle[][] displayMatrix = boardRenderer.initBoard(gamePanel, boardMatrix);
+        Rectangle[][] displayMatrix = null;
+        if (canvasBoardRenderer != null) {
+            canvasBoardRenderer.initBoard(gamePanel, boardMatrix);
+        } else {
+            displayMatrix = boardRenderer.initBoard(gamePanel, boardMatrix);
+        }
         ActiveBrickRenderer activeBrickRenderer = new ActiveBrickRenderer(BRICK_SIZE, ghostPanel, brickPanel);
         activeBrickRenderer.initialize(brick);
+        activeBrickRenderer.setLatencyTracer(latencyTracer);
         if (nextBrickRenderer != null) {
             nextBrickRenderer.render(brick.getNextBrickData());
         }
         notificationService = new NotificationManager(groupNotification);
 
-        this.gameLoopController = new GameLoopController(baseTickInterval,
-            () -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        this.engineLoop = new FixedStepGameLoop<>(baseTickInterval,
+            this::gravityStep, this::renderFrame, this::mergeFrames, Platform::runLater);
+        this.engineLoop.setTickListener(performanceMonitor::recordEngineTick);
+        this.engineLoop.setSupersededListener(
+            (dropped, kept) -> latencyTracer.superseded(dropped.getViewData(), kept.getViewData()));
+        this.gameLoopController = new GameLoopController(engineLoop);
 
         if (mediator != null) {
             mediator.configureVisuals(displayMatrix, activeBrickRenderer, notificationService);
+            mediator.setCanvasRenderer(canvasBoardRenderer);
             mediator.setGameLoop(gameLoopController);
         }
         if (effectManager != null) {
@@ -408,16 +505,64 @@ public class GuiController implements Initializable, GameView {
         }
     }
 
-    private void moveDown(MoveEvent event) {
-        if (stateManager.canUpdateGame() && dropInput != null) {
-            ShowResult result = dropInput.onDown(event);
-            handleResult(result);
+    @Override
+    public void refreshBoardCells(BoardCells cells) {
+        if (mediator != null) {
+            mediator.refreshBoardCells(cells);
+        }
+    }
+
+    /**
+     * Moves the brick down one row; runs on the game loop thread.
+     * <p>
+     * The game controllers return results that no longer share the board's
+     * matrix, so the frame can be drawn after the next tick has run.
+     * </p>
+     *
+     * @return the frame to render, or {@code null} if the game is not being updated
+     */
+    private ShowResult gravityStep() {
+        DropInput input = dropInput;
+        if (!stateManager.canUpdateGame() || input == null) {
+            return null;
         }
+        return input.onDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+    }
+
+    private void renderFrame(ShowResult frame) {
+        handleResult(frame);
         if (mediator != null) {
             mediator.focusGamePanel();
         }
     }
 
+    /**
+     * Queues a key press on the engine thread; its result arrives as a frame.
+     * <p>
+     * While the loop is stopped the press is handled here, as before.
+     * </p>
+     *
+     * @return {@code null} if queued, otherwise the result of handling the press
+     */
+    private ShowResult submitInput(MoveEvent event) {
+        InputActionHandler handler = inputActionHandler;
+        FixedStepGameLoop<ShowResult> loop = engineLoop;
+        if (loop != null && loop.submit(() -> handler.handle(event))) {
+            return null;
+        }
+        return handler.handle(event);
+    }
+
+    /**
+     * Combines frames the FX thread has not drawn yet, keeping a line clear.
+     */
+    private ShowResult mergeFrames(ShowResult older, ShowResult newer) {
+        if (newer.getClearRow() == null && older.getClearRow() != null) {
+            return new ShowResult(older.getClearRow(), newer.getViewData());
+        }
+        return newer;
+    }
+
     private void handleResult(ShowResult data) {
         if (mediator != null) {
             mediator.handleResult(data);
@@ -449,6 +594,12 @@ public class GuiController implements Initializable, GameView {
         if (countdownManager != null) {
             countdownManager.setGameLifecycle(gameLifecycle);
         }
+        if (engineLoop != null && gameLifecycle instanceof BaseGameController controller) {
+            controller.setBoardExecutor(engineLoop);
+        }
+        if (gameLifecycle instanceof BaseGameController controller) {
+            controller.setLatencyTracer(latencyTracer);
+        }
         inputHandler.setPauseAction(() -> {
             boolean canAccept = stateManager == null || stateManager.canAcceptInput();
             boolean gameOverVisible = gameOverPanel != null && gameOverPanel.isVisible();
@@ -457,7 +608,7 @@ public class GuiController implements Initializable, GameView {
             }
         });
         if (gamePanel != null && inputHandler != null && inputActionHandler != null) {
-            inputHandler.attach(gamePanel, this.inputActionHandler,
+            inputHandler.attach(gamePanel, this::submitInput,
                 result -> handleResult(result), () -> stateManager.canAcceptInput());
         }
     }
@@ -556,6 +707,9 @@ public class GuiController implements Initializable, GameView {
             gameTimer.resetTimerTracking();
         }
         startCountdown();
+        if (onNewGame != null) {
+            onNewGame.run();
+        }
     }
 
     @FXML
@@ -30,8 +30,8 @@ public class PauseOverlayController {
             return;
         }
         helpContainer.setVisible(stateManager.getCurrentState() == GameStateManager.GameState.MENU);
-        stateManager.stateProperty().addListener((obs, oldVal, newVal) ->
-            helpContainer.setVisible(newVal == GameStateManager.GameState.MENU)
+        stateManager.addStateObserver((oldState, newState) ->
+            helpContainer.setVisible(newState == GameStateManager.GameState.MENU)
         );
     }
 
@@ -0,0 +1,193 @@
+package com.comp2042.tetris.ui.view;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import com.comp2042.tetris.util.NanoSampleRing;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Timing samples and runtime gauges behind the performance overlay.
+ * <p>
+ * Each measured stage writes its durations into its own
+ * {@link NanoSampleRing}: frame intervals and pulse times from the FX
+ * thread, engine passes from the game loop thread, and the time spent in
+ * the board and active brick renderers. Recording is a no-op while the
+ * monitor is disabled, so the hooks can stay in place when the overlay is
+ * hidden.
+ * </p>
+ * <p>
+ * The gauges are read on demand by the overlay: live scene-graph nodes,
+ * bytes allocated by all threads (where the JVM reports it) and garbage
+ * collector counts and times.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PerformanceMonitor {
+
+    /** Samples kept per stage. */
+    public static final int SAMPLES = 256;
+
+    private final NanoSampleRing frames = new NanoSampleRing(SAMPLES);
+    private final NanoSampleRing pulses = new NanoSampleRing(SAMPLES);
+    private final NanoSampleRing engineTicks = new NanoSampleRing(SAMPLES);
+    private final NanoSampleRing boardRenders = new NanoSampleRing(SAMPLES);
+    private final NanoSampleRing brickRenders = new NanoSampleRing(SAMPLES);
+    private final com.sun.management.ThreadMXBean allocations = allocationBean();
+
+    private volatile boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records the time between two FX pulses; FX thread only.
+     *
+     * @param nanos the interval
+     */
+    public void recordFrame(long nanos) {
+        if (enabled) {
+            frames.record(nanos);
+        }
+    }
+
+    /**
+     * Records how long a pulse took up to the end of layout; FX thread only.
+     *
+     * @param nanos the pulse time
+     */
+    public void recordPulse(long nanos) {
+        if (enabled) {
+            pulses.record(nanos);
+        }
+    }
+
+    /**
+     * Records one busy pass of the game loop; game loop thread only.
+     *
+     * @param nanos the time spent on queued work and steps
+     */
+    public void recordEngineTick(long nanos) {
+        if (enabled) {
+            engineTicks.record(nanos);
+        }
+    }
+
+    /**
+     * Records one board redraw; FX thread only.
+     *
+     * @param nanos the time spent redrawing
+     */
+    public void recordBoardRender(long nanos) {
+        if (enabled) {
+            boardRenders.record(nanos);
+        }
+    }
+
+    /**
+     * Records one active brick redraw; FX thread only.
+     *
+     * @param nanos the time spent redrawing
+     */
+    public void recordBrickRender(long nanos) {
+        if (enabled) {
+            brickRenders.record(nanos);
+        }
+    }
+
+    public NanoSampleRing getFrames() {
+        return frames;
+    }
+
+    public NanoSampleRing getPulses() {
+        return pulses;
+    }
+
+    public NanoSampleRing getEngineTicks() {
+        return engineTicks;
+    }
+
+    public NanoSampleRing getBoardRenders() {
+        return boardRenders;
+    }
+
+    public NanoSampleRing getBrickRenders() {
+        return brickRenders;
+    }
+
+    /**
+     * Gets the bytes allocated so far by all live threads.
+     *
+     * @return the byte count, or {@code -1} if this JVM does not track it
+     */
+    public long allocatedBytes() {
+        return allocations == null ? -1 : allocations.getTotalThreadAllocatedBytes();
+    }
+
+    /**
+     * Gets the number of garbage collections so far, over all collectors.
+     *
+     * @return the collection count
+     */
+    public long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Gets the time spent collecting garbage so far, over all collectors.
+     *
+     * @return the accumulated time in milliseconds
+     */
+    public long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /**
+     * Counts a node and all of its descendants.
+     *
+     * @param node the subtree root, may be {@code null}
+     * @return the number of nodes in the subtree
+     */
+    public static int countNodes(Node node) {
+        if (node == null) {
+            return 0;
+        }
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean bean) || !bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        try {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+}
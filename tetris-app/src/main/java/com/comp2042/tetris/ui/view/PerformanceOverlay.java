@@ -0,0 +1,190 @@
+package com.comp2042.tetris.ui.view;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import com.comp2042.tetris.util.NanoSampleRing;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * Toggleable text overlay showing where frame time goes.
+ * <p>
+ * While shown, an animation timer records the interval between pulses
+ * and, through a post-layout pulse listener, how long each pulse took
+ * from its timestamp until layout finished. Four times a second the
+ * overlay turns the {@link PerformanceMonitor} rings into FPS, pulse
+ * percentiles, engine and renderer times, and reads the node count,
+ * allocation rate and GC activity over the last refresh. Hiding the
+ * overlay stops the timer, removes the listener and disables recording.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PerformanceOverlay {
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final StackPane host;
+    private final PerformanceMonitor monitor;
+    private final Text text = new Text();
+    private final long[] scratch = new long[PerformanceMonitor.SAMPLES];
+    private final Runnable postLayout = this::afterLayout;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            pulse(now);
+        }
+    };
+
+    private Scene scene;
+    private long pulseStart;
+    private long lastRefresh;
+    private long lastAllocated;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private boolean showing;
+
+    /**
+     * Creates a hidden overlay.
+     *
+     * @param host the pane the overlay is shown in, at its top left
+     * @param monitor the samples to show
+     */
+    public PerformanceOverlay(StackPane host, PerformanceMonitor monitor) {
+        this.host = Objects.requireNonNull(host, "host must not be null");
+        this.monitor = Objects.requireNonNull(monitor, "monitor must not be null");
+        text.setFont(Font.font("Monospaced", FontWeight.BOLD, 11));
+        text.setStyle("-fx-fill: #7CFC00;");
+        text.setMouseTransparent(true);
+        StackPane.setAlignment(text, Pos.TOP_LEFT);
+        StackPane.setMargin(text, new Insets(6));
+    }
+
+    public boolean isShowing() {
+        return showing;
+    }
+
+    /**
+     * Shows the overlay if hidden, hides it otherwise.
+     */
+    public void toggle() {
+        if (showing) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    /**
+     * Starts sampling and adds the overlay on top of the host.
+     */
+    public void show() {
+        if (showing) {
+            return;
+        }
+        showing = true;
+        scene = host.getScene();
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(postLayout);
+        }
+        host.getChildren().remove(text);
+        host.getChildren().add(text);
+        text.setText("collecting...");
+        lastRefresh = 0;
+        pulseStart = 0;
+        monitor.setEnabled(true);
+        timer.start();
+    }
+
+    /**
+     * Stops sampling and removes the overlay.
+     */
+    public void hide() {
+        if (!showing) {
+            return;
+        }
+        showing = false;
+        monitor.setEnabled(false);
+        timer.stop();
+        if (scene != null) {
+            scene.removePostLayoutPulseListener(postLayout);
+            scene = null;
+        }
+        host.getChildren().remove(text);
+    }
+
+    private void pulse(long now) {
+        if (pulseStart != 0) {
+            monitor.recordFrame(now - pulseStart);
+        }
+        pulseStart = now;
+        if (lastRefresh == 0) {
+            lastRefresh = now;
+            lastAllocated = monitor.allocatedBytes();
+            lastGcCount = monitor.gcCount();
+            lastGcMillis = monitor.gcMillis();
+        } else if (now - lastRefresh >= REFRESH_NANOS) {
+            refresh(now);
+        }
+    }
+
+    private void afterLayout() {
+        if (pulseStart != 0) {
+            monitor.recordPulse(System.nanoTime() - pulseStart);
+        }
+    }
+
+    private void refresh(long now) {
+        double seconds = (now - lastRefresh) / 1e9;
+        long allocated = monitor.allocatedBytes();
+        long gcCount = monitor.gcCount();
+        long gcMillis = monitor.gcMillis();
+
+        int count = monitor.getFrames().snapshot(scratch);
+        double meanFrame = NanoSampleRing.mean(scratch, count);
+        String fps = meanFrame > 0 ? format("%.0f", 1e9 / meanFrame) : "-";
+
+        StringBuilder report = new StringBuilder();
+        report.append("FPS   ").append(fps)
+            .append("  worst ").append(millis(NanoSampleRing.percentile(scratch, count, 100))).append('\n');
+        report.append(stage("pulse ", monitor.getPulses())).append('\n');
+        report.append(stage("tick  ", monitor.getEngineTicks())).append('\n');
+        report.append(stage("board ", monitor.getBoardRenders())).append('\n');
+        report.append(stage("brick ", monitor.getBrickRenders())).append('\n');
+        report.append("nodes ").append(PerformanceMonitor.countNodes(scene == null ? host : scene.getRoot())).append('\n');
+        report.append("alloc ").append(allocated < 0 || lastAllocated < 0
+            ? "n/a" : format("%.1f MB/s", (allocated - lastAllocated) / seconds / (1024 * 1024))).append('\n');
+        report.append("gc    ").append(gcCount - lastGcCount).append(" runs ")
+            .append(gcMillis - lastGcMillis).append(" ms in ").append(format("%.2f s", seconds));
+        text.setText(report.toString());
+
+        lastRefresh = now;
+        lastAllocated = allocated;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+    }
+
+    private String stage(String label, NanoSampleRing ring) {
+        int count = ring.snapshot(scratch);
+        return label + "p50 " + millis(NanoSampleRing.percentile(scratch, count, 50))
+            + "  p95 " + millis(NanoSampleRing.percentile(scratch, count, 95))
+            + "  p99 " + millis(NanoSampleRing.percentile(scratch, count, 99));
+    }
+
+    private static String millis(long nanos) {
+        return format("%.2f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+}
@@ -0,0 +1,246 @@
+package com.comp2042.tetris.ui.view;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.board.BoardRead;
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+import com.comp2042.tetris.ui.input.BotInput;
+import com.comp2042.tetris.ui.input.InputActionHandler;
+import com.comp2042.tetris.ui.input.MoveEvent;
+import com.comp2042.tetris.ui.theme.CellColor;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+
+/**
+ * Main menu view features.
+ * <p>
+ * Hosts the attract mode: while the menu is idle, a bot plays a game
+ * through the regular input path so the board behind the menu stays alive.
+ * {@link #enableIdleAttract} wires it into the menu: after a spell without
+ * key or mouse input, a bot starts playing a {@link HeadlessGameSession}
+ * drawn faintly behind the menu, restarting whenever it tops out. Any
+ * input hides the demo and starts the idle wait again.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TetrisMainMenu {
+
+    /** Time without input after which the demo game starts. */
+    public static final Duration DEFAULT_IDLE_DELAY = Duration.seconds(20);
+
+    private static final Duration DEFAULT_PIECE_INTERVAL = Duration.millis(400);
+    private static final int HIDDEN_ROWS = 2;
+    private static final double DEMO_CELL_SIZE = 14;
+    private static final double DEMO_OPACITY = 0.35;
+
+    private final EventHandler<Event> activity = e -> onActivity();
+
+    private Timeline attractLoop;
+    private PauseTransition idleTimer;
+    private Node inputSource;
+    private Pane demoHost;
+    private Canvas demoCanvas;
+    private HeadlessGameSession demo;
+
+    /**
+     * Starts the attract mode, placing one brick per default interval.
+     *
+     * @param handler the game's input handler
+     * @param board reads the demo game's board
+     */
+    public void startAttractMode(InputActionHandler handler, BoardRead board) {
+        startAttractMode(handler, board, DEFAULT_PIECE_INTERVAL);
+    }
+
+    /**
+     * Starts the attract mode. Any attract mode already running is stopped.
+     *
+     * @param handler the game's input handler
+     * @param board reads the demo game's board
+     * @param pieceInterval the time between two placed bricks
+     */
+    public void startAttractMode(InputActionHandler handler, BoardRead board, Duration pieceInterval) {
+        BotInput bot = new BotInput(handler);
+        runAttractLoop(pieceInterval, () -> bot.playPiece(board.getBoardMatrix(), board.getViewData()) != null);
+    }
+
+    /**
+     * Stops the attract mode if it is running.
+     */
+    public void stopAttractMode() {
+        if (attractLoop != null) {
+            attractLoop.stop();
+            attractLoop = null;
+        }
+    }
+
+    public boolean isAttractModeRunning() {
+        return attractLoop != null;
+    }
+
+    /**
+     * Starts a demo game behind the menu whenever it has been idle for a while.
+     * <p>
+     * Any previous wiring is removed first. Call {@link #disableIdleAttract()}
+     * when the menu is left.
+     * </p>
+     *
+     * @param inputSource the node whose key and mouse events count as activity, normally the menu root
+     * @param host the pane the demo board is drawn in, centered
+     * @param idleDelay the time without input before the demo starts
+     * @throws IllegalArgumentException if the delay is not positive
+     */
+    public void enableIdleAttract(Node inputSource, Pane host, Duration idleDelay) {
+        Objects.requireNonNull(inputSource, "inputSource must not be null");
+        Objects.requireNonNull(host, "host must not be null");
+        Objects.requireNonNull(idleDelay, "idleDelay must not be null");
+        if (idleDelay.lessThanOrEqualTo(Duration.ZERO)) {
+            throw new IllegalArgumentException("Idle delay must be positive: " + idleDelay);
+        }
+        disableIdleAttract();
+
+        this.inputSource = inputSource;
+        this.demoHost = host;
+        demoCanvas = new Canvas(HeadlessGameSession.DEFAULT_COLS * DEMO_CELL_SIZE,
+            (HeadlessGameSession.DEFAULT_ROWS - HIDDEN_ROWS) * DEMO_CELL_SIZE);
+        demoCanvas.setMouseTransparent(true);
+        demoCanvas.setOpacity(DEMO_OPACITY);
+        demoCanvas.setVisible(false);
+        demoCanvas.layoutXProperty().bind(host.widthProperty().subtract(demoCanvas.getWidth()).divide(2));
+        demoCanvas.layoutYProperty().bind(host.heightProperty().subtract(demoCanvas.getHeight()).divide(2));
+        host.getChildren().add(0, demoCanvas);
+
+        inputSource.addEventFilter(KeyEvent.KEY_PRESSED, activity);
+        inputSource.addEventFilter(MouseEvent.MOUSE_MOVED, activity);
+        inputSource.addEventFilter(MouseEvent.MOUSE_PRESSED, activity);
+        inputSource.addEventFilter(ScrollEvent.SCROLL, activity);
+
+        idleTimer = new PauseTransition(idleDelay);
+        idleTimer.setOnFinished(e -> startDemo());
+        idleTimer.playFromStart();
+    }
+
+    /**
+     * Stops the demo game and the idle wait and removes the demo board.
+     */
+    public void disableIdleAttract() {
+        if (idleTimer == null) {
+            return;
+        }
+        idleTimer.stop();
+        idleTimer = null;
+        stopDemo();
+        inputSource.removeEventFilter(KeyEvent.KEY_PRESSED, activity);
+        inputSource.removeEventFilter(MouseEvent.MOUSE_MOVED, activity);
+        inputSource.removeEventFilter(MouseEvent.MOUSE_PRESSED, activity);
+        inputSource.removeEventFilter(ScrollEvent.SCROLL, activity);
+        demoCanvas.layoutXProperty().unbind();
+        demoCanvas.layoutYProperty().unbind();
+        demoHost.getChildren().remove(demoCanvas);
+        inputSource = null;
+        demoHost = null;
+        demoCanvas = null;
+    }
+
+    private void onActivity() {
+        stopDemo();
+        if (idleTimer != null) {
+            idleTimer.playFromStart();
+        }
+    }
+
+    private void startDemo() {
+        HeadlessGameSession session = new HeadlessGameSession();
+        BotInput bot = new BotInput(event -> playDemoMove(session, event));
+        demo = session;
+        demoCanvas.setVisible(true);
+        drawDemo();
+        runAttractLoop(DEFAULT_PIECE_INTERVAL, () -> {
+            BoardRead board = session.reader();
+            if (session.isGameOver() || bot.playPiece(board.getBoardMatrix(), board.getViewData()) == null) {
+                session.newGame();
+            }
+            drawDemo();
+            return true;
+        });
+    }
+
+    private void stopDemo() {
+        if (demo == null) {
+            return;
+        }
+        stopAttractMode();
+        demo = null;
+        demoCanvas.setVisible(false);
+    }
+
+    private static ShowResult playDemoMove(HeadlessGameSession session, MoveEvent event) {
+        switch (event.getEventType()) {
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case DOWN -> {
+                return session.softDrop();
+            }
+            case HARD_DROP -> {
+                return session.hardDrop();
+            }
+            default -> { }
+        }
+        return new ShowResult(null, session.reader().getViewData());
+    }
+
+    private void drawDemo() {
+        GraphicsContext g = demoCanvas.getGraphicsContext2D();
+        g.clearRect(0, 0, demoCanvas.getWidth(), demoCanvas.getHeight());
+        BoardRead board = demo.reader();
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = HIDDEN_ROWS; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                fillCell(g, row, col, matrix[row][col]);
+            }
+        }
+        ViewData brick = board.getViewData();
+        int[][] shape = brick.getBrickData();
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                fillCell(g, brick.getyPosition() + i, brick.getxPosition() + j, shape[i][j]);
+            }
+        }
+    }
+
+    private static void fillCell(GraphicsContext g, int row, int col, int value) {
+        if (value == 0 || row < HIDDEN_ROWS) {
+            return;
+        }
+        g.setFill(CellColor.fromValue(value));
+        g.fillRect(col * DEMO_CELL_SIZE, (row - HIDDEN_ROWS) * DEMO_CELL_SIZE, DEMO_CELL_SIZE - 1, DEMO_CELL_SIZE - 1);
+    }
+
+    private void runAttractLoop(Duration pieceInterval, BooleanSupplier playPiece) {
+        stopAttractMode();
+        attractLoop = new Timeline(new KeyFrame(pieceInterval, e -> {
+            if (!playPiece.getAsBoolean()) {
+                stopAttractMode();
+            }
+        }));
+        attractLoop.setCycleCount(Timeline.INDEFINITE);
+        attractLoop.play();
+    }
+}
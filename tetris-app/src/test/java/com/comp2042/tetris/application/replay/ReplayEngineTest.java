@@ -0,0 +1,221 @@
+package com.comp2042.tetris.application.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.application.port.CreateNewGame;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.application.session.BaseGameController;
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.engine.board.BoardCells;
+import com.comp2042.tetris.engine.board.BoardSnapshot;
+import com.comp2042.tetris.ui.input.BotInput;
+import com.comp2042.tetris.ui.input.DropInput;
+import com.comp2042.tetris.ui.input.EventType;
+import com.comp2042.tetris.ui.input.InputActionHandler;
+import com.comp2042.tetris.ui.input.MoveEvent;
+
+import javafx.beans.property.IntegerProperty;
+
+class ReplayEngineTest {
+
+    private final List<Path> files = new ArrayList<>();
+
+    @AfterEach
+    void deleteFiles() throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** View whose settle animation only finishes when the test says so. */
+    private static final class DeferredView implements GameView {
+        private BoardCells cells;
+        private ViewData current;
+        private Runnable pendingSettle;
+
+        void finishSettle() {
+            Runnable settle = pendingSettle;
+            pendingSettle = null;
+            if (settle != null) {
+                settle.run();
+            }
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData activeBrickData) {
+            current = activeBrickData;
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void refreshBoardCells(BoardCells boardCells) {
+            cells = boardCells;
+        }
+
+        @Override
+        public void acceptShowResult(ShowResult result) {
+            current = result.getViewData();
+        }
+
+        @Override
+        public void settleActiveBrick(Runnable onFinished) {
+            pendingSettle = onFinished;
+        }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty) {
+        }
+
+        @Override
+        public void setInputHandlers(InputActionHandler inputActionHandler, DropInput dropInput,
+                                     CreateNewGame gameLifecycle) {
+        }
+
+        @Override
+        public void gameOver() {
+        }
+
+        @Override
+        public void setRemainingTime(int seconds) {
+        }
+    }
+
+    private static final class Recorded {
+        Path file;
+        int score;
+        int lines;
+        BoardSnapshot board;
+    }
+
+    private Recorded recordGame(long seed, int pieces) throws IOException {
+        Recorded recorded = new Recorded();
+        recorded.file = Files.createTempFile("replay-" + seed, ".trpl");
+        files.add(recorded.file);
+        AtomicLong clock = new AtomicLong();
+        DeferredView view = new DeferredView();
+        ScoreManager score = new ScoreManager();
+        BaseGameController controller = new BaseGameController(view, new ClassicScoringPolicy(), score,
+                ReplayRecorder.boardFactory(seed));
+        ReplayRecorder recorder = ReplayRecorder.create(recorded.file, seed, "CLASSIC", 22, 10,
+                () -> clock.addAndGet(16_000_000L));
+        controller.setReplayRecorder(recorder);
+
+        BotInput bot = new BotInput(controller);
+        for (int piece = 0; piece < pieces; piece++) {
+            ShowResult gravity = controller.onDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            if (gravity.getClearRow() != null) {
+                continue;
+            }
+            ViewData before = gravity.getViewData();
+            if (piece % 3 == 0) {
+                // soft drop onto the stack; the lock waits for the settle animation
+                int y = before.getyPosition();
+                while (true) {
+                    int next = controller.handle(new MoveEvent(EventType.DOWN, EventSource.USER))
+                            .getViewData().getyPosition();
+                    if (next <= y) {
+                        break;
+                    }
+                    y = next;
+                }
+                controller.handle(new MoveEvent(EventType.LEFT, EventSource.USER));
+                view.finishSettle();
+            } else {
+                int[][] board = view.cells == null ? new int[22][10] : view.cells.toMatrix();
+                bot.playPiece(board, before);
+            }
+        }
+        recorder.close();
+        recorded.score = score.getValue();
+        recorded.lines = controller.getTotalLinesCleared();
+        recorded.board = BoardSnapshot.of(view.cells);
+        return recorded;
+    }
+
+    @Test
+    void replayReproducesRecordedGame() throws IOException {
+        Recorded recorded = recordGame(77L, 60);
+        ReplayLog log = ReplayLog.read(recorded.file);
+
+        ReplayEngine engine = new ReplayEngine(log, 10);
+        engine.runToEnd();
+
+        assertEquals(77L, log.getSeed());
+        assertEquals("CLASSIC", log.getMode());
+        assertEquals(recorded.score, engine.getScore());
+        assertEquals(recorded.lines, engine.getLinesCleared());
+        assertTrue(recorded.board.matches(engine.board().toMatrix()));
+    }
+
+    @Test
+    void recordsAreCompact() throws IOException {
+        Recorded recorded = recordGame(5L, 30);
+        ReplayLog log = ReplayLog.read(recorded.file);
+
+        long headerBytes = 4 + 1 + 8 + 1 + 1 + 1 + "CLASSIC".length();
+        assertEquals(headerBytes + 2L * log.size(), Files.size(recorded.file));
+        assertEquals(16, log.getDelayMillis(log.size() - 1));
+    }
+
+    @Test
+    void seekingBackMatchesPlayingForward() throws IOException {
+        ReplayLog log = ReplayLog.read(recordGame(123L, 40).file);
+        ReplayEngine engine = new ReplayEngine(log, 5);
+
+        int middle = log.size() / 2;
+        engine.seek(middle);
+        long forward = engine.fingerprint();
+        engine.runToEnd();
+        engine.seek(middle);
+
+        assertEquals(middle, engine.position());
+        assertEquals(forward, engine.fingerprint());
+        assertTrue(engine.keyframes().size() > 2);
+        for (ReplayEngine.Keyframe keyframe : engine.keyframes()) {
+            ReplayEngine probe = new ReplayEngine(log, 5);
+            probe.seek(keyframe.getPosition());
+            assertEquals(keyframe.getFingerprint(), probe.fingerprint());
+            assertEquals(keyframe.getPiecesPlaced(), probe.getPiecesPlaced());
+        }
+    }
+
+    @Test
+    void seekingBackRestoresTheNearestKeyframe() throws IOException {
+        ReplayLog log = ReplayLog.read(recordGame(31L, 60).file);
+        ReplayEngine engine = new ReplayEngine(log, 5);
+
+        int target = log.size() * 3 / 4;
+        engine.seek(target);
+        long forward = engine.fingerprint();
+        int applied = engine.runToEnd();
+        long end = engine.fingerprint();
+        assertTrue(applied > 0);
+
+        int stepped = engine.seek(target);
+        assertEquals(target, engine.position());
+        assertEquals(forward, engine.fingerprint());
+        assertTrue(stepped < target, "stepped " + stepped + " of " + target + " records");
+        assertTrue(engine.keyframes().stream().anyMatch(ReplayEngine.Keyframe::isRestorable));
+
+        engine.runToEnd();
+        assertEquals(end, engine.fingerprint());
+    }
+}
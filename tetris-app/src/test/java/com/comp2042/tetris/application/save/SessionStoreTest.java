@@ -0,0 +1,220 @@
+package com.comp2042.tetris.application.save;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.application.port.CreateNewGame;
+import com.comp2042.tetris.application.port.GameView;
+import com.comp2042.tetris.application.session.BaseGameController;
+import com.comp2042.tetris.application.session.ClassicGameController;
+import com.comp2042.tetris.application.session.MysteryGameController;
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.board.DefaultBoardComponentsFactory;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.ui.input.DropInput;
+import com.comp2042.tetris.ui.input.EventType;
+import com.comp2042.tetris.ui.input.InputActionHandler;
+import com.comp2042.tetris.ui.input.MoveEvent;
+
+import javafx.beans.property.IntegerProperty;
+
+class SessionStoreTest {
+
+    private Path file;
+    private SessionStore store;
+
+    @BeforeEach
+    void createStore() throws IOException {
+        file = Files.createTempFile("session", ".tsav");
+        Files.delete(file);
+        store = new SessionStore(file);
+    }
+
+    @AfterEach
+    void deleteStore() throws IOException {
+        store.close();
+        Files.deleteIfExists(file);
+    }
+
+    private static final class NullView implements GameView {
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData activeBrickData) { }
+
+        @Override
+        public void refreshGameBackground(int[][] boardMatrix) { }
+
+        @Override
+        public void acceptShowResult(ShowResult result) { }
+
+        @Override
+        public void settleActiveBrick(Runnable onFinished) { if (onFinished != null) onFinished.run(); }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty) { }
+
+        @Override
+        public void setInputHandlers(InputActionHandler inputActionHandler, DropInput dropInput, CreateNewGame gameLifecycle) { }
+
+        @Override
+        public void gameOver() { }
+
+        @Override
+        public void setRemainingTime(int seconds) { }
+    }
+
+    private static ClassicGameController classic(long seed) {
+        return new ClassicGameController(new NullView(),
+            new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(seed)));
+    }
+
+    private static void play(BaseGameController controller, int pieces) {
+        for (int i = 0; i < pieces; i++) {
+            controller.handle(new MoveEvent(i % 3 == 0 ? EventType.LEFT : EventType.ROTATE, EventSource.USER));
+            controller.handle(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        }
+    }
+
+    @Test
+    void resumedGameContinuesExactlyWhereItWasSaved() throws IOException {
+        ClassicGameController original = classic(11L);
+        play(original, 6);
+        original.handle(new MoveEvent(EventType.RIGHT, EventSource.USER));
+        store.save(original, "CLASSIC");
+        store.close();
+
+        ClassicGameController resumed = classic(99L);
+        assertTrue(new SessionStore(file).restore(resumed, "CLASSIC"));
+
+        assertEquals(original.scoreProperty().get(), resumed.scoreProperty().get());
+        assertEquals(original.getTotalLinesCleared(), resumed.getTotalLinesCleared());
+        assertSnapshotsEqual(original, resumed);
+
+        play(original, 20);
+        play(resumed, 20);
+        assertSnapshotsEqual(original, resumed);
+    }
+
+    @Test
+    void restoreIgnoresMissingSavesAndOtherModes() throws IOException {
+        assertFalse(store.restore(classic(1L), "CLASSIC"));
+        assertNull(store.savedMode());
+
+        store.save(classic(1L), "RUSH");
+        assertEquals("RUSH", store.savedMode());
+        assertFalse(store.restore(classic(2L), "CLASSIC"));
+
+        store.clear();
+        assertNull(store.savedMode());
+    }
+
+    @Test
+    void tornSaveFallsBackToThePreviousOne() throws IOException {
+        ClassicGameController game = classic(5L);
+        play(game, 3);
+        store.save(game, "CLASSIC");
+        int savedScore = game.scoreProperty().get();
+        play(game, 3);
+        store.save(game, "CLASSIC");
+        store.close();
+
+        int slotCapacity = SessionStore.DEFAULT_SLOT_CAPACITY;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x55, 0x55, 0x55, 0x55}), 16 + slotCapacity + 40);
+        }
+
+        ClassicGameController resumed = classic(6L);
+        assertTrue(store.restore(resumed, "CLASSIC"));
+        assertEquals(savedScore, resumed.scoreProperty().get());
+    }
+
+    @Test
+    void mysteryModeKeepsItsLevelAndSpeed() throws Exception {
+        MysteryGameController original = new MysteryGameController(new NullView(),
+            new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(3L)));
+        setInt(original, "levelNumber", 4);
+        setInt(original, "speedMultiplier", 6);
+        store.save(original, "MYSTERY");
+
+        MysteryGameController resumed = new MysteryGameController(new NullView(),
+            new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(4L)));
+        assertTrue(store.restore(resumed, "MYSTERY"));
+        assertEquals(4, resumed.getLevel());
+        assertEquals(6, resumed.getSpeedMultiplier());
+    }
+
+    @Test
+    void corruptModeSectionLeavesTheGameUntouched() throws Exception {
+        MysteryGameController original = new MysteryGameController(new NullView(),
+            new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(3L)));
+        play(original, 5);
+        setInt(original, "levelNumber", 0);
+        store.save(original, "MYSTERY");
+
+        MysteryGameController fresh = new MysteryGameController(new NullView(),
+            new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(4L)));
+        byte[] before = snapshot(fresh);
+        int level = fresh.getLevel();
+        assertThrows(IllegalArgumentException.class, () -> store.restore(fresh, "MYSTERY"));
+
+        assertArrayEquals(before, snapshot(fresh));
+        assertEquals(0, fresh.scoreProperty().get());
+        assertEquals(level, fresh.getLevel());
+    }
+
+    @Test
+    void savesHandTheFlushToTheExecutor() throws IOException {
+        List<Runnable> flushes = new ArrayList<>();
+        SessionStore deferred = new SessionStore(file, flushes::add);
+        ClassicGameController game = classic(7L);
+        play(game, 2);
+
+        deferred.save(game, "CLASSIC");
+        assertEquals(1, flushes.size());
+        assertEquals("CLASSIC", deferred.savedMode());
+
+        flushes.get(0).run();
+        deferred.clear();
+        assertEquals(2, flushes.size());
+        assertNull(deferred.savedMode());
+        flushes.get(1).run();
+        deferred.close();
+    }
+
+    private static void setInt(Object target, String name, int value) throws ReflectiveOperationException {
+        Field field = MysteryGameController.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.setInt(target, value);
+    }
+
+    private static void assertSnapshotsEqual(BaseGameController expected, BaseGameController actual) {
+        assertArrayEquals(snapshot(expected), snapshot(actual));
+    }
+
+    private static byte[] snapshot(BaseGameController controller) {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        controller.writeSnapshot(buffer);
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,235 @@
+package com.comp2042.tetris.application.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Duration;
+
+/**
+ * Runs the loop with plain executors in place of the FX thread.
+ */
+class FixedStepGameLoopTest {
+
+    private FixedStepGameLoop<Integer> loop;
+
+    @AfterEach
+    void stopLoop() {
+        if (loop != null) {
+            loop.stop();
+        }
+    }
+
+    @Test
+    void stepsOffTheCallingThreadAndDeliversFrames() throws InterruptedException {
+        AtomicInteger steps = new AtomicInteger();
+        List<Integer> frames = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(5);
+        Thread caller = Thread.currentThread();
+        List<Thread> stepThreads = new CopyOnWriteArrayList<>();
+        loop = new FixedStepGameLoop<>(Duration.millis(5), () -> {
+            stepThreads.add(Thread.currentThread());
+            return steps.incrementAndGet();
+        }, frame -> {
+            frames.add(frame);
+            delivered.countDown();
+        }, (older, newer) -> newer, Runnable::run);
+
+        loop.start();
+        assertTrue(loop.isRunning());
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        loop.stop();
+
+        assertFalse(loop.isRunning());
+        assertFalse(stepThreads.contains(caller));
+        for (int i = 1; i < frames.size(); i++) {
+            assertTrue(frames.get(i) > frames.get(i - 1));
+        }
+    }
+
+    @Test
+    void reportsTheDurationOfBusyPassesToTheTickListener() throws InterruptedException {
+        List<Long> ticks = new CopyOnWriteArrayList<>();
+        CountDownLatch reported = new CountDownLatch(3);
+        loop = new FixedStepGameLoop<>(Duration.millis(2), () -> 1, frame -> { }, (older, newer) -> newer, Runnable::run);
+        loop.setTickListener(nanos -> {
+            ticks.add(nanos);
+            reported.countDown();
+        });
+
+        loop.start();
+        assertTrue(reported.await(2, TimeUnit.SECONDS));
+        loop.stop();
+
+        for (long nanos : ticks) {
+            assertTrue(nanos >= 0);
+        }
+    }
+
+    @Test
+    void framesWaitingForTheFxThreadAreCombined() throws InterruptedException {
+        ConcurrentLinkedQueue<Runnable> fxQueue = new ConcurrentLinkedQueue<>();
+        AtomicInteger steps = new AtomicInteger();
+        List<Integer> frames = new CopyOnWriteArrayList<>();
+        loop = new FixedStepGameLoop<>(Duration.millis(2), steps::incrementAndGet, frames::add,
+            Integer::sum, fxQueue::add);
+
+        loop.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (steps.get() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(2);
+        }
+        loop.stop();
+        Thread.sleep(20);
+
+        assertEquals(1, fxQueue.size(), "only one drain is queued however many frames are published");
+        fxQueue.poll().run();
+        int total = steps.get();
+        assertEquals(List.of(total * (total + 1) / 2), frames);
+    }
+
+    @Test
+    void eachCombinedFrameIsReportedOnceAsSuperseded() throws InterruptedException {
+        ConcurrentLinkedQueue<Runnable> fxQueue = new ConcurrentLinkedQueue<>();
+        AtomicInteger steps = new AtomicInteger();
+        List<Integer> dropped = new CopyOnWriteArrayList<>();
+        loop = new FixedStepGameLoop<>(Duration.millis(2), steps::incrementAndGet, frame -> { },
+            Integer::sum, fxQueue::add);
+        loop.setSupersededListener((older, kept) -> dropped.add(older));
+
+        loop.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (steps.get() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(2);
+        }
+        loop.stop();
+        Thread.sleep(20);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int n = 1; n < steps.get(); n++) {
+            expected.add(n * (n + 1) / 2);
+        }
+        assertEquals(expected, dropped);
+    }
+
+    @Test
+    void nullFramesAreNotDelivered() throws InterruptedException {
+        AtomicInteger drains = new AtomicInteger();
+        CountDownLatch stepped = new CountDownLatch(3);
+        loop = new FixedStepGameLoop<>(Duration.millis(2), () -> {
+            stepped.countDown();
+            return null;
+        }, frame -> drains.incrementAndGet(), (older, newer) -> newer, Runnable::run);
+
+        loop.start();
+        assertTrue(stepped.await(2, TimeUnit.SECONDS));
+        loop.stop();
+
+        assertEquals(0, drains.get());
+    }
+
+    @Test
+    void submittedWorkRunsOnTheLoopThreadAsOneBatch() throws InterruptedException {
+        List<Integer> frames = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<Thread> workThreads = new CopyOnWriteArrayList<>();
+        loop = new FixedStepGameLoop<>(Duration.seconds(10), () -> null, frame -> {
+            frames.add(frame);
+            delivered.countDown();
+        }, Integer::sum, Runnable::run);
+
+        assertFalse(loop.submit(() -> 1), "a stopped loop takes no work");
+        loop.start();
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        loop.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 1; i <= 3; i++) {
+            int value = i;
+            assertTrue(loop.submit(() -> {
+                workThreads.add(Thread.currentThread());
+                ran.incrementAndGet();
+                return value;
+            }));
+        }
+        release.countDown();
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        loop.stop();
+
+        assertEquals(3, ran.get());
+        assertEquals(List.of(6), frames);
+        assertFalse(workThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    void workStillQueuedWhenTheLoopStopsIsDropped() throws InterruptedException {
+        loop = new FixedStepGameLoop<>(Duration.seconds(10), () -> null, frame -> { },
+            (older, newer) -> newer, Runnable::run);
+        loop.start();
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        loop.execute(() -> {
+            busy.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(busy.await(2, TimeUnit.SECONDS));
+        AtomicInteger stale = new AtomicInteger();
+        assertTrue(loop.submit(() -> {
+            stale.incrementAndGet();
+            return 1;
+        }));
+
+        loop.stop();
+        release.countDown();
+        loop.start();
+        CountDownLatch fresh = new CountDownLatch(1);
+        assertTrue(loop.submit(() -> {
+            fresh.countDown();
+            return 2;
+        }));
+
+        assertTrue(fresh.await(2, TimeUnit.SECONDS));
+        assertEquals(0, stale.get());
+    }
+
+    @Test
+    void executeRunsInlineWhileStopped() {
+        loop = new FixedStepGameLoop<>(Duration.millis(10), () -> 1, frame -> { },
+            (older, newer) -> newer, Runnable::run);
+        List<Thread> ranOn = new ArrayList<>();
+
+        loop.execute(() -> ranOn.add(Thread.currentThread()));
+
+        assertEquals(List.of(Thread.currentThread()), ranOn);
+    }
+
+    @Test
+    void rejectsNonPositiveIntervals() {
+        loop = new FixedStepGameLoop<>(Duration.millis(10), () -> 1, frame -> { },
+            (older, newer) -> newer, Runnable::run);
+
+        assertThrows(IllegalArgumentException.class, () -> loop.setInterval(Duration.ZERO));
+        assertEquals(Duration.millis(10), loop.getInterval());
+    }
+}
@@ -15,13 +15,13 @@ import com.comp2042.tetris.domain.scoring.ScoringPolicy;
 import com.comp2042.tetris.engine.board.BoardLifecycle;
 import com.comp2042.tetris.engine.board.BoardPorts;
 import com.comp2042.tetris.engine.board.BoardRead;
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.engine.movement.BrickDropActions;
 import com.comp2042.tetris.engine.movement.BrickMovement;
 import com.comp2042.tetris.engine.spawn.BrickSpawn;
 import com.comp2042.tetris.application.port.CreateNewGame;
 import com.comp2042.tetris.ui.input.DropInput;
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.ui.input.EventType;
 import com.comp2042.tetris.ui.input.InputActionHandler;
 import com.comp2042.tetris.ui.input.MoveEvent;
@@ -52,7 +52,7 @@ final class GameControllerTest {
         assertTrue(view.initCalled);
         assertSame(boardPorts.reader.getBoardMatrix(), view.initMatrix);
         assertSame(boardPorts.reader.getViewData(), view.initViewData);
-        assertSame(scoreManager.scoreProperty(), view.boundScore);
+        assertSame(controller.scoreProperty(), view.boundScore);
         assertTrue(view.handlersSet);
         assertSame(controller, view.inputHandler);
         assertSame(controller, view.dropInput);
@@ -129,7 +129,10 @@ final class GameControllerTest {
         
         IntegerProperty exposed = controller.scoreProperty();
 
-        assertSame(scoreManager.scoreProperty(), exposed);
+        scoreManager.add(25);
+
+        assertEquals(25, exposed.get());
+        assertSame(exposed, controller.scoreProperty());
     }
 
     private static final class TestBoardPorts implements BoardPorts {
@@ -0,0 +1,80 @@
+package com.comp2042.tetris.application.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.util.TimingWheel;
+
+import javafx.animation.AnimationTimer;
+import javafx.util.Duration;
+
+/**
+ * Drives game time by hand, or through a pulse fired by hand, since the
+ * real pulse needs the FX toolkit.
+ */
+class GameSchedulerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void repeatingTimerFollowsGameTime() {
+        GameScheduler scheduler = new GameScheduler();
+        AtomicInteger seconds = new AtomicInteger();
+        scheduler.scheduleRepeating(Duration.seconds(1), seconds::incrementAndGet);
+
+        for (int frame = 0; frame < 300; frame++) {
+            scheduler.advance(16_666_667L);
+        }
+
+        assertEquals(5, seconds.get());
+        assertEquals(5_000, scheduler.gameTimeMillis());
+    }
+
+    @Test
+    void remainingTimeIsMeasuredInGameTime() {
+        GameScheduler scheduler = new GameScheduler();
+        TimingWheel.Timeout timeout = scheduler.schedule(Duration.seconds(8), () -> { });
+
+        scheduler.advance(3_000 * MILLI);
+
+        assertEquals(5_000, timeout.remainingMillis());
+    }
+
+    @Test
+    void startingAgainLiftsAPause() {
+        AnimationTimer[] pulse = new AnimationTimer[1];
+        GameScheduler scheduler = new GameScheduler(onPulse -> pulse[0] = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse.accept(now);
+            }
+
+            @Override
+            public void start() { }
+
+            @Override
+            public void stop() { }
+        });
+        AtomicInteger fired = new AtomicInteger();
+        scheduler.schedule(Duration.seconds(1), fired::incrementAndGet);
+
+        scheduler.start();
+        scheduler.pause();
+        pulse[0].handle(0);
+        pulse[0].handle(2_000 * MILLI);
+        assertEquals(0, fired.get());
+
+        scheduler.stop();
+        scheduler.start();
+        assertFalse(scheduler.isPaused());
+        pulse[0].handle(3_000 * MILLI);
+        pulse[0].handle(4_000 * MILLI);
+
+        assertEquals(1, fired.get());
+        assertEquals(1_000, scheduler.gameTimeMillis());
+    }
+}
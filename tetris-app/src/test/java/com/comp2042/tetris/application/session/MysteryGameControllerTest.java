@@ -3,7 +3,7 @@ package com.comp2042.tetris.application.session;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.application.port.GameView;
 
 import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.Test;
@@ -0,0 +1,51 @@
+package com.comp2042.tetris.ui.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ParticleFieldTest {
+
+    private static final ParticleField.Config BUSY =
+        new ParticleField.Config(8, 2, 1.0, 1.0, 8, 0, 50, 0, 0.4, 4, 4, 2, 0.5);
+
+    @Test
+    void neverHoldsMoreThanItsBudget() {
+        ParticleField field = new ParticleField(BUSY, new SplittableRandom(7));
+        for (int pulse = 0; pulse < 5; pulse++) {
+            field.step(400, 600);
+            assertTrue(field.particleCount() <= 8);
+            assertTrue(field.shapeCount() <= 2);
+        }
+        assertEquals(8, field.particleCount());
+        assertEquals(2, field.shapeCount());
+    }
+
+    @Test
+    void retiredEffectsFreeTheirSlots() {
+        ParticleField field = new ParticleField(BUSY, new SplittableRandom(7));
+        for (int pulse = 0; pulse < 300; pulse++) {
+            field.step(400, 100);
+            for (int i = 0; i < field.shapeCount(); i++) {
+                assertTrue(field.shapeY(i) <= 200, "shapes past the bottom are retired");
+            }
+            for (int i = 0; i < field.particleCount(); i++) {
+                assertTrue(field.particleLife(i) > 0, "dead particles are retired");
+            }
+        }
+        assertEquals(2, field.shapeCount(), "retired slots are refilled");
+
+        field.clear();
+        assertEquals(0, field.particleCount());
+        assertEquals(0, field.shapeCount());
+    }
+
+    @Test
+    void rejectsNegativeBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> BUSY.withBudget(-1, 2));
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.tetris.ui.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.engine.board.DefaultBoardComponentsFactory;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.engine.bot.PlacementHeuristic;
+import com.comp2042.tetris.engine.bot.PlacementSearch;
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+
+class BotInputTest {
+
+    /** Routes move events to a headless session and records them. */
+    private static final class SessionHandler implements InputActionHandler {
+        private final HeadlessGameSession session = new HeadlessGameSession(
+                new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(8L)), 22, 10, new ClassicScoringPolicy());
+        private final List<EventType> events = new ArrayList<>();
+
+        @Override
+        public ShowResult handle(MoveEvent event) {
+            events.add(event.getEventType());
+            switch (event.getEventType()) {
+                case LEFT -> session.moveLeft();
+                case RIGHT -> session.moveRight();
+                case ROTATE -> session.rotate();
+                case HARD_DROP -> {
+                    return session.hardDrop();
+                }
+                default -> { }
+            }
+            return new ShowResult(null, session.reader().getViewData());
+        }
+    }
+
+    @Test
+    void everyPieceEndsWithOneHardDrop() {
+        SessionHandler handler = new SessionHandler();
+        BotInput bot = new BotInput(handler, PlacementSearch.sequential(PlacementHeuristic.DEFAULT));
+
+        for (int piece = 0; piece < 50; piece++) {
+            handler.events.clear();
+            ShowResult result = bot.playPiece(handler.session.reader().getBoardMatrix(),
+                    handler.session.reader().getViewData());
+
+            assertNotNull(result);
+            assertNotNull(result.getClearRow());
+            assertEquals(EventType.HARD_DROP, handler.events.get(handler.events.size() - 1));
+            assertEquals(1, handler.events.stream().filter(e -> e == EventType.HARD_DROP).count());
+        }
+        assertEquals(50, handler.session.getPiecesPlaced());
+        assertFalse(handler.session.isGameOver());
+    }
+}
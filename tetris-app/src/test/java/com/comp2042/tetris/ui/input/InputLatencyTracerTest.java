@@ -0,0 +1,79 @@
+package com.comp2042.tetris.ui.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.ui.input.InputLatencyTracer.Stage;
+
+class InputLatencyTracerTest {
+
+    private static ViewData view(int x) {
+        return new ViewData(new int[][] {{1}}, x, 0, new int[][] {{1}});
+    }
+
+    @Test
+    void tracesStampedPressesThroughEveryStageAndIgnoresUnstampedOnes() {
+        InputLatencyTracer tracer = new InputLatencyTracer();
+        ViewData moved = view(1);
+        long created = System.nanoTime() - 3_000_000L;
+
+        tracer.handled(new MoveEvent(EventType.LEFT, EventSource.USER, created), created + 1_000_000L,
+            new ShowResult(null, moved));
+        tracer.handled(new MoveEvent(EventType.DOWN, EventSource.THREAD), System.nanoTime(),
+            new ShowResult(null, view(2)));
+        tracer.rendered(moved);
+
+        assertEquals(1000, tracer.get(EventType.LEFT, Stage.INPUT).max());
+        for (Stage stage : Stage.values()) {
+            assertEquals(1, tracer.get(EventType.LEFT, stage).count(), stage.name());
+            assertEquals(0, tracer.get(EventType.DOWN, stage).count(), stage.name());
+        }
+        assertTrue(tracer.get(EventType.LEFT, Stage.TOTAL).min() >= 3000);
+    }
+
+    @Test
+    void closesPressesWhenTheViewReplacingTheirsIsDrawn() {
+        InputLatencyTracer tracer = new InputLatencyTracer();
+        ViewData first = view(1);
+        ViewData second = view(2);
+        ViewData gravity = view(3);
+        long now = System.nanoTime();
+
+        tracer.handled(new MoveEvent(EventType.LEFT, EventSource.USER, now), now, new ShowResult(null, first));
+        tracer.handled(new MoveEvent(EventType.ROTATE, EventSource.USER, now), now, new ShowResult(null, second));
+        tracer.superseded(first, gravity);
+
+        tracer.rendered(view(4));
+        assertEquals(0, tracer.get(EventType.LEFT, Stage.RENDER).count());
+
+        tracer.rendered(gravity);
+        assertEquals(1, tracer.get(EventType.LEFT, Stage.RENDER).count());
+        assertEquals(0, tracer.get(EventType.ROTATE, Stage.RENDER).count());
+
+        tracer.rendered(second);
+        assertEquals(1, tracer.get(EventType.ROTATE, Stage.RENDER).count());
+    }
+
+    @Test
+    void exportsSummaryRowsAndNonEmptyBins() throws Exception {
+        InputLatencyTracer tracer = new InputLatencyTracer();
+        long now = System.nanoTime();
+        tracer.handled(new MoveEvent(EventType.HARD_DROP, EventSource.USER, now - 250_000L), now, null);
+
+        StringBuilder summary = new StringBuilder();
+        tracer.exportSummary(summary);
+        String[] rows = summary.toString().split("\n");
+        assertEquals("event,stage,count,mean_us,min_us,p50_us,p95_us,p99_us,max_us", rows[0]);
+        assertEquals(3, rows.length);
+        assertTrue(rows[1].startsWith("HARD_DROP,INPUT,1,250.0,250,200,"));
+
+        StringBuilder bins = new StringBuilder();
+        tracer.exportHistograms(bins);
+        assertTrue(bins.toString().contains("HARD_DROP,INPUT,200,1\n"));
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.comp2042.tetris.domain.model.EventSource;
+
 /**
  * Tests for input system components: MoveEvent, EventType, EventSource, and InputActionHandler.
  * Focuses on API contracts and event data propagation.
@@ -0,0 +1,37 @@
+package com.comp2042.tetris.ui.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.engine.board.BoardCells;
+
+class DirtyCellTrackerTest {
+
+    @Test
+    void firstFrameIsFullyDirtyThenOnlyChangesAreReported() {
+        int[][] board = new int[4][3];
+        DirtyCellTracker tracker = new DirtyCellTracker();
+
+        assertEquals(12, tracker.update(BoardCells.of(board)));
+        assertEquals(0, tracker.update(BoardCells.of(board)));
+
+        board[3][1] = 5;
+        board[2][0] = 2;
+        assertEquals(2, tracker.update(BoardCells.of(board)));
+        assertEquals(6, tracker.dirtyIndex(0));
+        assertEquals(10, tracker.dirtyIndex(1));
+        assertEquals(5, tracker.cellAt(10));
+    }
+
+    @Test
+    void resizeOrInvalidateRedrawsEverything() {
+        DirtyCellTracker tracker = new DirtyCellTracker();
+        tracker.update(BoardCells.of(new int[4][3]));
+
+        assertEquals(10, tracker.update(BoardCells.of(new int[5][2])));
+        tracker.invalidate();
+        assertEquals(10, tracker.update(BoardCells.of(new int[5][2])));
+        assertEquals(0, tracker.update(BoardCells.of(new int[5][2])));
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.tetris.ui.theme;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.paint.Color;
+
+class NeonCellRasterizerTest {
+
+    private static final int SIZE = 20;
+    private static final int SIDE = SIZE + 2 * NeonCellRasterizer.PADDING;
+
+    @Test
+    void strokeIsOpaqueNeonAndInteriorIsDarkTranslucent() {
+        int[] pixels = NeonCellRasterizer.rasterize(NeonSpriteAtlas.Kind.PLACED, Color.RED, SIZE);
+        assertEquals(SIDE * SIDE, pixels.length);
+
+        int edge = pixel(pixels, NeonCellRasterizer.PADDING, SIDE / 2);
+        assertEquals(0xFFFF0000, edge);
+
+        int centre = pixel(pixels, SIDE / 2, SIDE / 2);
+        assertEquals(Math.round(0.28 * 255), centre >>> 24);
+        assertEquals(0, centre & 0xFFFFFF);
+
+        assertEquals(0, pixel(pixels, NeonCellRasterizer.PADDING, NeonCellRasterizer.PADDING) >>> 24,
+            "rounded corner stays clear");
+        assertEquals(0, pixel(pixels, 1, SIDE / 2), "placed cells have no glow");
+    }
+
+    @Test
+    void onlyTheGlowingLooksReachIntoThePadding() {
+        int[] glow = NeonCellRasterizer.rasterize(NeonSpriteAtlas.Kind.GLOW, Color.CYAN, SIZE);
+        int[] ghost = NeonCellRasterizer.rasterize(NeonSpriteAtlas.Kind.GHOST, Color.CYAN, SIZE);
+
+        int halo = pixel(glow, NeonCellRasterizer.PADDING - 1, SIDE / 2);
+        assertTrue(halo >>> 24 > 0);
+        assertTrue((halo & 0xFF) > ((halo >>> 16) & 0xFF), "halo takes the neon hue");
+        assertEquals(0, pixel(glow, 0, 0));
+
+        int ghostEdge = pixel(ghost, NeonCellRasterizer.PADDING, SIDE / 2) >>> 24;
+        assertTrue(ghostEdge > 0 && ghostEdge < 0x80, "ghost outline is faint: " + ghostEdge);
+    }
+
+    private static int pixel(int[] pixels, int x, int y) {
+        return pixels[y * SIDE + x];
+    }
+}
@@ -6,8 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.Test;
 
 import com.comp2042.tetris.application.port.CreateNewGame;
+import com.comp2042.tetris.application.port.GameView;
 import com.comp2042.tetris.domain.model.ViewData;
-import com.comp2042.tetris.engine.board.GameView;
+import com.comp2042.tetris.engine.board.BoardCells;
 import com.comp2042.tetris.ui.input.DropInput;
 import com.comp2042.tetris.ui.input.InputActionHandler;
 
@@ -73,6 +74,22 @@ class BufferedGameViewTest {
         assertSame(null, delegate.lastRefreshMatrix);
     }
 
+    @Test
+    void cellsRefreshSkipsWhenVersionUnchanged() {
+        RecordingGameView delegate = new RecordingGameView();
+        BufferedGameView view = new BufferedGameView(delegate);
+        int[][] board = new int[][]{{1, 0}, {0, 1}};
+        long[] version = {1L};
+        BoardCells cells = BoardCells.of(board, () -> version[0]);
+
+        view.refreshBoardCells(cells);
+        view.refreshBoardCells(cells);
+        version[0]++;
+        view.refreshBoardCells(cells);
+
+        assertEquals(2, delegate.refreshCalls);
+    }
+
     private static final class RecordingGameView implements GameView {
         int initCalls;
         int refreshCalls;
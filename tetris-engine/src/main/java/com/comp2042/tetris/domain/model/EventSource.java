@@ -1,4 +1,4 @@
-package com.comp2042.tetris.ui.input;
+package com.comp2042.tetris.domain.model;
 
 /**
  * Enumeration of event sources indicating the origin of game events.
@@ -0,0 +1,186 @@
+package com.comp2042.tetris.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.comp2042.tetris.util.MatrixOperations;
+
+/**
+ * Result object returned after row clearing operations.
+ * <p>
+ * Contains information about how many lines were removed, the updated board matrix,
+ * score bonus earned, and indices of the cleared rows for animation purposes.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class RowClearResult {
+
+    private final int linesRemoved;
+    private final int[][] newMatrix;
+    private final int scoreBonus;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int[] clearedRows;
+    private List<Integer> clearedRowList;
+
+    /**
+     * Constructs a RowClearResult with all clearing information.
+     *
+     * @param linesRemoved the number of lines that were cleared
+     * @param newMatrix the board matrix after clearing
+     * @param scoreBonus bonus points earned from the clear
+     * @param clearedRows list of row indices that were cleared
+     */
+    public RowClearResult(int linesRemoved, int[][] newMatrix, int scoreBonus, List<Integer> clearedRows) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = newMatrix;
+        this.scoreBonus = scoreBonus;
+        if (clearedRows == null || clearedRows.isEmpty()) {
+            this.clearedRows = NO_ROWS;
+        } else {
+            this.clearedRows = new int[clearedRows.size()];
+            for (int i = 0; i < this.clearedRows.length; i++) {
+                this.clearedRows[i] = clearedRows.get(i);
+            }
+        }
+    }
+
+    private RowClearResult(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = newMatrix;
+        this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
+    }
+
+    /**
+     * Creates a result from primitive cleared row indices.
+     * <p>
+     * The first {@code linesRemoved} entries of {@code clearedRows} are
+     * copied, so boards can pass a reusable scratch buffer. The matrix is
+     * stored as given; {@link #getNewMatrix()} still hands out copies.
+     * </p>
+     *
+     * @param linesRemoved the number of lines that were cleared
+     * @param newMatrix the board matrix after clearing
+     * @param scoreBonus bonus points earned from the clear
+     * @param clearedRows buffer whose first {@code linesRemoved} entries are the cleared row indices
+     * @return the clear result
+     */
+    public static RowClearResult of(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
+        int[] rows = linesRemoved == 0 ? NO_ROWS : Arrays.copyOf(clearedRows, linesRemoved);
+        return new RowClearResult(linesRemoved, newMatrix, scoreBonus, rows);
+    }
+
+    /**
+     * Returns a copy of this result with a different score bonus.
+     * <p>
+     * Shares the matrix and row indices with this result, avoiding the
+     * matrix copy that rebuilding through {@link #getNewMatrix()} would cost.
+     * </p>
+     *
+     * @param bonus the score bonus for the new result
+     * @return a result identical to this one apart from the bonus
+     */
+    public RowClearResult withScoreBonus(int bonus) {
+        return new RowClearResult(linesRemoved, newMatrix, bonus, clearedRows);
+    }
+
+    /**
+     * Returns a copy of this result that owns its matrix.
+     * <p>
+     * Boards may hand out their live matrix, which changes with the next
+     * move; a detached result can be read later, or from another thread.
+     * </p>
+     *
+     * @return a result whose matrix is a private copy
+     */
+    public RowClearResult detached() {
+        return new RowClearResult(linesRemoved, MatrixOperations.copy(newMatrix), scoreBonus, clearedRows);
+    }
+
+    /**
+     * Gets the number of lines that were removed.
+     *
+     * @return the count of cleared lines
+     */
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    /**
+     * Returns a defensive copy of the board matrix after clearing.
+     *
+     * @return a copy of the updated matrix
+     */
+    public int[][] getNewMatrix() {
+        return MatrixOperations.copy(newMatrix);
+    }
+
+    /**
+     * Gets the bonus score earned from the line clear.
+     *
+     * @return the score bonus
+     */
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+
+    /**
+     * Gets the list of row indices that were cleared.
+     * <p>
+     * Used for triggering row clear animations.
+     * </p>
+     *
+     * @return an unmodifiable list of cleared row indices
+     */
+    public List<Integer> getClearedRows() {
+        if (clearedRowList == null) {
+            clearedRowList = clearedRows.length == 0 ? Collections.emptyList() : new ClearedRowList(clearedRows);
+        }
+        return clearedRowList;
+    }
+
+    /**
+     * Gets the number of cleared row indices recorded.
+     *
+     * @return the cleared row count
+     */
+    public int getClearedRowCount() {
+        return clearedRows.length;
+    }
+
+    /**
+     * Gets a cleared row index without boxing.
+     *
+     * @param index position in the cleared row list, below {@link #getClearedRowCount()}
+     * @return the board row that was cleared
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
+
+    /**
+     * Read-only boxed view over the primitive cleared row indices.
+     */
+    private static final class ClearedRowList extends AbstractList<Integer> implements RandomAccess {
+        private final int[] rows;
+
+        ClearedRowList(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return rows[index];
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
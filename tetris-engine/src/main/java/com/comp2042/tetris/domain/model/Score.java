@@ -0,0 +1,82 @@
+package com.comp2042.tetris.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.comp2042.tetris.domain.scoring.ScoreListener;
+
+/**
+ * Value object encapsulating the game score.
+ * <p>
+ * Changes are published to registered {@link ScoreListener}s, so the score
+ * can be observed without depending on JavaFX.
+ * The score can only be increased with positive values and can be reset to zero.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Score {
+    private int score;
+    private final List<ScoreListener> listeners = new ArrayList<>();
+
+    /**
+     * Registers a listener notified after every change.
+     *
+     * @param listener the listener to add
+     */
+    public void addScoreListener(ScoreListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeScoreListener(ScoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the current score value.
+     *
+     * @return the current score as an integer
+     */
+    public int getValue() {
+        return score;
+    }
+
+    /**
+     * Adds points to the current score.
+     *
+     * @param points the number of points to add (must be non-negative)
+     * @throws IllegalArgumentException if points is negative
+     */
+    public void add(int points) {
+        if (points < 0) {
+            
+            throw new IllegalArgumentException("Cannot add negative points");
+        }
+        set(score + points);
+    }
+
+    /**
+     * Resets the score to zero.
+     */
+    public void reset() {
+        set(0);
+    }
+
+    private void set(int value) {
+        int old = score;
+        if (old == value) {
+            return;
+        }
+        score = value;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).scoreChanged(old, value);
+        }
+    }
+}
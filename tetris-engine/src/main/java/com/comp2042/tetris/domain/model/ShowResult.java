@@ -24,6 +24,15 @@ public final class ShowResult {
         this.viewData = viewData;
     }
 
+    /**
+     * Returns a result that stays valid after the board moves on.
+     *
+     * @return this result, or a copy holding a {@link RowClearResult#detached() detached} clear result
+     */
+    public ShowResult detached() {
+        return clearResult == null ? this : new ShowResult(clearResult.detached(), viewData);
+    }
+
     /**
      * Gets the row clear result.
      *
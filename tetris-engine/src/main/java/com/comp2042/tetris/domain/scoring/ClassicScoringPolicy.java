@@ -1,6 +1,6 @@
 package com.comp2042.tetris.domain.scoring;
 
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 
 /**
  * Classic Tetris scoring policy implementation.
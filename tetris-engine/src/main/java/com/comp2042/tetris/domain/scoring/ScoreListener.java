@@ -0,0 +1,23 @@
+package com.comp2042.tetris.domain.scoring;
+
+/**
+ * Observer notified whenever a score changes.
+ * <p>
+ * Plain Java replacement for binding to a JavaFX property, so the scoring
+ * code can run without the JavaFX toolkit. UI code adapts it to a property
+ * where it needs one.
+ * </p>
+ *
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * Called after the score has changed.
+     *
+     * @param oldScore the score before the change
+     * @param newScore the score after the change
+     */
+    void scoreChanged(int oldScore, int newScore);
+}
@@ -2,13 +2,11 @@ package com.comp2042.tetris.domain.scoring;
 
 import com.comp2042.tetris.domain.model.Score;
 
-import javafx.beans.property.IntegerProperty;
-
 /**
  * Manages the game score and provides a facade over the {@link Score} value object.
  * <p>
- * Provides methods for adding points, resetting the score, and accessing
- * the score property for UI binding.
+ * Provides methods for adding points, resetting the score, and observing
+ * changes through {@link ScoreListener}s.
  * </p>
  *
  * @version 1.0
@@ -17,12 +15,21 @@ public final class ScoreManager {
     private final Score score = new Score();
 
     /**
-     * Returns the score property for JavaFX binding.
+     * Registers a listener notified after every score change.
+     *
+     * @param listener the listener to add
+     */
+    public void addScoreListener(ScoreListener listener) {
+        score.addScoreListener(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
      *
-     * @return the {@link IntegerProperty} representing the score
+     * @param listener the listener to remove
      */
-    public IntegerProperty scoreProperty() {
-        return score.scoreProperty();
+    public void removeScoreListener(ScoreListener listener) {
+        score.removeScoreListener(listener);
     }
 
     /**
@@ -0,0 +1,521 @@
+package com.comp2042.tetris.engine.board;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.domain.model.SpawnResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+import com.comp2042.tetris.engine.movement.BrickDropActions;
+import com.comp2042.tetris.engine.movement.BrickMovement;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.engine.spawn.BrickSpawn;
+
+/**
+ * Base class for game boards, holding everything that does not depend on
+ * how the cells are stored.
+ * <p>
+ * Movement, wall kicks, spawning, the ghost and hard drop, merging, line
+ * clears, garbage lines, the column surface, the change journal and
+ * persistence all live here. Subclasses only store the cells: they answer
+ * {@link #collides}, read and write single cells, and remove or shift
+ * whole rows in whatever way suits their layout.
+ * </p>
+ * <p>
+ * Every change made through the board bumps its version and is recorded in
+ * a {@link BoardJournal}. Cells written straight into a live
+ * {@link #getBoardMatrix()} are not tracked.
+ * </p>
+ *
+ * @version 1.0
+ */
+public abstract class AbstractBoard implements BrickMovement, BrickDropActions, BoardRead, BrickSpawn, BoardLifecycle, BoardPersistence {
+
+    protected final int rows;
+    protected final int cols;
+
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final BrickPositionManager positionManager;
+    private final RandomGenerator garbageRandom;
+    private final NextBrickPreview nextBrickPreview = new NextBrickPreview(3);
+    private final int[] clearedRowBuffer;
+    private final ColumnHeights columnHeights;
+    private final ColumnHeights.CellProbe cellProbe;
+    private final BoardJournal journal;
+    private final BoardCells cellsView = new VersionedCells();
+    private int[][] matrixView;
+    private long version;
+    private long decodedVersion = -1L;
+
+    /**
+     * Creates a board with empty cells.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param componentsFactory the factory to create board components
+     * @param journalCapacity the number of versions the journal remembers, or 0 for no journal
+     * @throws IllegalArgumentException if the dimensions are not positive or the capacity is negative
+     */
+    protected AbstractBoard(int rows, int cols, BoardComponentsFactory componentsFactory, int journalCapacity) {
+        Objects.requireNonNull(componentsFactory, "componentsFactory must not be null");
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive, got " + rows + "x" + cols);
+        }
+        if (journalCapacity < 0) {
+            throw new IllegalArgumentException("Journal capacity must not be negative: " + journalCapacity);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.clearedRowBuffer = new int[rows];
+        this.columnHeights = new ColumnHeights(rows, cols);
+        this.cellProbe = this::isFilled;
+        this.journal = journalCapacity == 0
+                ? BoardJournal.disabled(rows, cols)
+                : new BoardJournal(rows, cols, journalCapacity);
+        brickGenerator = componentsFactory.createGenerator();
+        brickRotator = componentsFactory.createRotator();
+        positionManager = componentsFactory.createPositionManager();
+        garbageRandom = componentsFactory.createGarbageRandom();
+    }
+
+    /**
+     * Checks whether a rotation collides with filled cells or the board
+     * edges when placed at {@code (x, y)}.
+     *
+     * @param table the brick's rotation table
+     * @param rotation the rotation index to test
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return {@code true} if the placement is blocked
+     */
+    protected abstract boolean collides(RotationTable table, int rotation, int x, int y);
+
+    /**
+     * Reads the colour id of a cell, 0 when it is empty.
+     */
+    protected abstract int cellAt(int row, int col);
+
+    /**
+     * Fills a cell inside the board with a non-zero colour id.
+     */
+    protected abstract void setCell(int row, int col, int colorId);
+
+    /**
+     * Empties every cell.
+     */
+    protected abstract void clearCells();
+
+    /**
+     * Checks whether every cell of a row is filled.
+     */
+    protected abstract boolean isFullRow(int row);
+
+    /**
+     * Removes full rows, moving the rows above them down and leaving
+     * empty rows at the top.
+     *
+     * @param fullRows the rows to remove, in ascending order
+     * @param count the number of rows in {@code fullRows}
+     */
+    protected abstract void removeRows(int[] fullRows, int count);
+
+    /**
+     * Drops the top row and moves every other row up by one, leaving an
+     * empty bottom row.
+     */
+    protected abstract void shiftRowsUp();
+
+    /**
+     * Checks whether a cell is filled. Used to rescan the column surface.
+     */
+    protected boolean isFilled(int row, int col) {
+        return cellAt(row, col) != 0;
+    }
+
+    /**
+     * Rejects saved cells this board cannot hold. Accepts everything by default.
+     *
+     * @param saved the saved cells, row-major
+     * @throws IllegalArgumentException if a cell cannot be stored
+     */
+    protected void checkRestoredCells(byte[] saved) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(positionManager.calculateMoveDown());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(positionManager.calculateMoveLeft());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(positionManager.calculateMoveRight());
+    }
+
+    private boolean tryMove(Point p) {
+        if (collides(brickRotator.getRotationTable(), brickRotator.getCurrentShapeIndex(), (int) p.getX(), (int) p.getY())) {
+            return false;
+        }
+        positionManager.updatePosition(p);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implements wall kick logic: if the rotation would cause collision,
+     * tries one column right, then one column left.
+     * </p>
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        RotationTable table = brickRotator.getRotationTable();
+        int next = brickRotator.getNextShapeIndex();
+        int currentX = positionManager.getX();
+        int currentY = positionManager.getY();
+
+        if (!collides(table, next, currentX, currentY)) {
+            brickRotator.setCurrentShape(next);
+            return true;
+        }
+
+        if (!collides(table, next, currentX + 1, currentY)) {
+            positionManager.updatePosition(new Point(currentX + 1, currentY));
+            brickRotator.setCurrentShape(next);
+            return true;
+        }
+
+        if (!collides(table, next, currentX - 1, currentY)) {
+            positionManager.updatePosition(new Point(currentX - 1, currentY));
+            brickRotator.setCurrentShape(next);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Spawns the brick at the center-top of the board.
+     * </p>
+     */
+    @Override
+    public SpawnResult spawnBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        int[][] shape = brickRotator.getCurrentShape();
+        int spawnX = Math.max(0, (cols - shape[0].length) / 2);
+        positionManager.reset(spawnX, 0);
+        boolean gameOver = collides(brickRotator.getRotationTable(), 0, positionManager.getX(), positionManager.getY());
+        return new SpawnResult(gameOver);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The view reads the cells directly and its version counts merges,
+     * clears, garbage lines and resets made through this board, each of
+     * which is journaled so readers can ask what changed.
+     * </p>
+     */
+    @Override
+    public BoardCells cells() {
+        return cellsView;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The landing row comes from the tracked column surface, so the drop
+     * is resolved without stepping the brick down row by row.
+     * </p>
+     */
+    @Override
+    public int hardDrop() {
+        int x = positionManager.getX();
+        int y = positionManager.getY();
+        int distance = dropDistance(brickRotator.getRotationTable(), brickRotator.getCurrentShapeIndex(), x, y);
+        if (distance > 0) {
+            positionManager.updatePosition(new Point(x, y + distance));
+        }
+        return distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnHeight(int col) {
+        return columnHeights.height(col);
+    }
+
+    /**
+     * Counts the free rows below a brick placement.
+     * <p>
+     * Uses the column surface when the brick is above the stack and falls
+     * back to a collision scan when it is tucked under an overhang.
+     * </p>
+     */
+    private int dropDistance(RotationTable table, int rotation, int x, int y) {
+        int distance = columnHeights.dropDistance(table, rotation, x, y);
+        if (distance >= 0) {
+            return distance;
+        }
+        distance = 0;
+        while (!collides(table, rotation, x, y + distance + 1)) {
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also calculates the ghost piece position for preview.
+     * </p>
+     */
+    @Override
+    public ViewData getViewData() {
+        List<int[][]> nextBrickMatrices = nextBrickPreview.shapes(brickGenerator);
+
+        int[][] currentShape = brickRotator.getCurrentShape();
+        int currentX = positionManager.getX();
+        int ghostY = positionManager.getY()
+                + dropDistance(brickRotator.getRotationTable(), brickRotator.getCurrentShapeIndex(), currentX, positionManager.getY());
+
+        return new ViewData(currentShape, currentX, positionManager.getY(), nextBrickMatrices, ghostY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        RotationTable table = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentShapeIndex();
+        int[][] shape = table.shape(rotation);
+        int x = positionManager.getX();
+        int y = positionManager.getY();
+        for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+            int shapeRow = table.cellRow(rotation, i);
+            int shapeCol = table.cellCol(rotation, i);
+            int targetY = y + shapeRow;
+            int targetX = x + shapeCol;
+            if (targetY >= 0 && targetY < rows && targetX >= 0 && targetX < cols) {
+                setCell(targetY, targetX, shape[shapeRow][shapeCol]);
+            }
+        }
+        columnHeights.onMerge(table, rotation, x, y);
+        bumpVersion();
+        for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+            journal.cell(y + table.cellRow(rotation, i), x + table.cellCol(rotation, i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RowClearResult clearRows() {
+        int removed = 0;
+        for (int r = 0; r < rows; r++) {
+            if (isFullRow(r)) {
+                clearedRowBuffer[removed++] = r;
+            }
+        }
+        if (removed > 0) {
+            removeRows(clearedRowBuffer, removed);
+            columnHeights.onRowsCleared(cellProbe);
+            bumpVersion();
+            journal.rows(0, clearedRowBuffer[removed - 1]);
+        }
+        return RowClearResult.of(removed, getBoardMatrix(), 0, clearedRowBuffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void newGame() {
+        clearCells();
+        columnHeights.reset();
+        bumpVersion();
+        journal.all();
+
+        spawnBrick();
+    }
+
+    /**
+     * Adds a garbage line at the bottom of the board.
+     * <p>
+     * Used in mystery mode events. Creates a partial row with random blocks
+     * and one guaranteed hole.
+     * </p>
+     */
+    @Override
+    public void addGarbageLine() {
+        shiftRowsUp();
+
+        int bottom = rows - 1;
+        int holeIndex = garbageRandom.nextInt(cols);
+        boolean anyBlock = false;
+        for (int c = 0; c < cols; c++) {
+            if (c != holeIndex && garbageRandom.nextBoolean()) {
+                setCell(bottom, c, 1);
+                anyBlock = true;
+            }
+        }
+        if (!anyBlock && cols > 1) {
+            setCell(bottom, holeIndex == 0 ? 1 : 0, 1);
+        }
+        cellsReplaced();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveState(ByteBuffer out) {
+        BoardStateCodec.writeCells(out, cells());
+        BoardStateCodec.writeComponents(out, brickRotator, positionManager, brickGenerator, garbageRandom);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Runnable prepareRestore(ByteBuffer in) {
+        byte[] saved = BoardStateCodec.readCells(in, rows, cols);
+        checkRestoredCells(saved);
+        Runnable components = BoardStateCodec.readComponents(in, brickRotator, positionManager, brickGenerator,
+                garbageRandom);
+        return () -> {
+            components.run();
+            clearCells();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int colorId = saved[r * cols + c] & 0xFF;
+                    if (colorId != 0) {
+                        setCell(r, c, colorId);
+                    }
+                }
+            }
+            cellsReplaced();
+        };
+    }
+
+    /**
+     * Resynchronises derived state after the cells were rewritten wholesale,
+     * e.g. by a garbage line, a restore or a {@link BoardPool} copy.
+     */
+    void cellsReplaced() {
+        columnHeights.rescan(cellProbe);
+        bumpVersion();
+        journal.all();
+    }
+
+    /**
+     * Gets the number of changes made through this board.
+     */
+    protected final long version() {
+        return version;
+    }
+
+    /**
+     * Gets the journal recording what each version changed.
+     */
+    protected final BoardJournal journal() {
+        return journal;
+    }
+
+    /**
+     * Returns a matrix decoded from the cells, for boards that do not store one.
+     * <p>
+     * The matrix is allocated on the first call and reused; it is only
+     * rebuilt after the board has changed, and writes to it are not
+     * reflected back into the board.
+     * </p>
+     *
+     * @return the decoded cells
+     */
+    protected final int[][] decodedMatrix() {
+        if (matrixView == null) {
+            matrixView = new int[rows][cols];
+        }
+        if (decodedVersion != version) {
+            for (int r = 0; r < rows; r++) {
+                int[] row = matrixView[r];
+                for (int c = 0; c < cols; c++) {
+                    row[c] = cellAt(r, c);
+                }
+            }
+            decodedVersion = version;
+        }
+        return matrixView;
+    }
+
+    /**
+     * Moves to the next version and opens its journal entry.
+     */
+    private void bumpVersion() {
+        version++;
+        journal.begin(version);
+    }
+
+    /**
+     * Versioned view over the board's cells.
+     */
+    private final class VersionedCells implements BoardCells {
+        @Override
+        public int getRows() {
+            return rows;
+        }
+
+        @Override
+        public int getCols() {
+            return cols;
+        }
+
+        @Override
+        public int getCell(int row, int col) {
+            return cellAt(row, col);
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean changesSince(long since, BoardDelta delta) {
+            return journal.collect(since, version, delta);
+        }
+
+        @Override
+        public BoardCells detached() {
+            return journal.detach(this);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.bricks.BrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RandomBrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
+/**
+ * Game board implementation storing each row as a bit mask.
+ * <p>
+ * Bit {@code c} of a row word is set when column {@code c} is filled, so
+ * collision, merge and full-row checks cost a few word operations per brick
+ * row instead of a scan over every cell. Cell colour ids (1-7) are kept in
+ * three parallel bit planes per row. Brick handling is inherited from
+ * {@link AbstractBoard}, and the board can be swapped in through
+ * {@link BitBoardFactory}.
+ * </p>
+ * <p>
+ * Boards are limited to {@value #MAX_COLS} columns. {@link #getBoardMatrix()}
+ * returns a decoded view of the bit rows; writes to it are not reflected
+ * back into the board.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class BitBoard extends AbstractBoard {
+
+    /** Widest board a single row word can hold. */
+    public static final int MAX_COLS = Long.SIZE;
+
+    private static final int COLOR_PLANES = 3;
+
+    private final long fullRowMask;
+    private final long[] occupied;
+    private final long[] colorPlanes;
+
+    /**
+     * Constructs a BitBoard with default random brick generator.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns (at most {@value #MAX_COLS})
+     */
+    public BitBoard(int rows, int cols) {
+        this(rows, cols, new RandomBrickGeneratorFactory());
+    }
+
+    /**
+     * Constructs a BitBoard with a custom brick generator factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns (at most {@value #MAX_COLS})
+     * @param generatorFactory the factory to create brick generators
+     */
+    public BitBoard(int rows, int cols, BrickGeneratorFactory generatorFactory) {
+        this(rows, cols, new DefaultBoardComponentsFactory(Objects.requireNonNull(generatorFactory, "generatorFactory must not be null")));
+    }
+
+    /**
+     * Constructs a BitBoard with a custom components factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns (at most {@value #MAX_COLS})
+     * @param componentsFactory the factory to create board components
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int rows, int cols, BoardComponentsFactory componentsFactory) {
+        super(rows, checkCols(rows, cols), componentsFactory, BoardJournal.DEFAULT_CAPACITY);
+        this.fullRowMask = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        this.occupied = new long[rows];
+        this.colorPlanes = new long[rows * COLOR_PLANES];
+    }
+
+    private static int checkCols(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || cols > MAX_COLS) {
+            throw new IllegalArgumentException("BitBoard supports 1-" + MAX_COLS + " columns, got " + rows + "x" + cols);
+        }
+        return cols;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Bounds are checked once against the rotation's precompiled bounding
+     * box; each filled shape row then costs one shift and one AND against
+     * the matching board row.
+     * </p>
+     */
+    @Override
+    protected boolean collides(RotationTable table, int rotation, int x, int y) {
+        if (table.cellCount(rotation) == 0) {
+            return false;
+        }
+        int top = table.minRow(rotation);
+        int bottom = table.maxRow(rotation);
+        if (y + top < 0 || y + bottom >= rows
+                || x + table.minCol(rotation) < 0 || x + table.maxCol(rotation) >= cols) {
+            return true;
+        }
+        for (int i = top; i <= bottom; i++) {
+            long mask = table.rowMask(rotation, i);
+            long placed = x >= 0 ? mask << x : mask >>> -x;
+            if ((occupied[y + i] & placed) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix is decoded from the bit rows and reused between
+     * calls; it is only rebuilt after the board has changed.
+     * </p>
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return decodedMatrix();
+    }
+
+    @Override
+    protected boolean isFilled(int row, int col) {
+        return ((occupied[row] >>> col) & 1L) != 0L;
+    }
+
+    @Override
+    protected int cellAt(int row, int col) {
+        if ((occupied[row] >>> col & 1L) == 0L) {
+            return 0;
+        }
+        int base = row * COLOR_PLANES;
+        int colorId = 0;
+        for (int p = 0; p < COLOR_PLANES; p++) {
+            colorId |= (int) (colorPlanes[base + p] >>> col & 1L) << p;
+        }
+        return colorId;
+    }
+
+    @Override
+    protected void setCell(int row, int col, int colorId) {
+        long bit = 1L << col;
+        occupied[row] |= bit;
+        int base = row * COLOR_PLANES;
+        for (int p = 0; p < COLOR_PLANES; p++) {
+            if (((colorId >>> p) & 1) != 0) {
+                colorPlanes[base + p] |= bit;
+            } else {
+                colorPlanes[base + p] &= ~bit;
+            }
+        }
+    }
+
+    @Override
+    protected void clearCells() {
+        Arrays.fill(occupied, 0L);
+        Arrays.fill(colorPlanes, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compares the row word against the full row mask.
+     * </p>
+     */
+    @Override
+    protected boolean isFullRow(int row) {
+        return occupied[row] == fullRowMask;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Surviving rows are compacted downwards in place, one row word and
+     * its colour planes at a time.
+     * </p>
+     */
+    @Override
+    protected void removeRows(int[] fullRows, int count) {
+        int write = rows - 1;
+        int nextCleared = count - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (nextCleared >= 0 && fullRows[nextCleared] == read) {
+                nextCleared--;
+                continue;
+            }
+            if (write != read) {
+                occupied[write] = occupied[read];
+                System.arraycopy(colorPlanes, read * COLOR_PLANES, colorPlanes, write * COLOR_PLANES, COLOR_PLANES);
+            }
+            write--;
+        }
+        Arrays.fill(occupied, 0, write + 1, 0L);
+        Arrays.fill(colorPlanes, 0, (write + 1) * COLOR_PLANES, 0L);
+    }
+
+    @Override
+    protected void shiftRowsUp() {
+        System.arraycopy(occupied, 1, occupied, 0, rows - 1);
+        System.arraycopy(colorPlanes, COLOR_PLANES, colorPlanes, 0, (rows - 1) * COLOR_PLANES);
+        occupied[rows - 1] = 0L;
+        Arrays.fill(colorPlanes, (rows - 1) * COLOR_PLANES, rows * COLOR_PLANES, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cells are limited to the colour ids the colour planes can hold.
+     * </p>
+     */
+    @Override
+    protected void checkRestoredCells(byte[] saved) {
+        int maxColorId = (1 << COLOR_PLANES) - 1;
+        for (byte cell : saved) {
+            if ((cell & 0xFF) > maxColorId) {
+                throw new IllegalArgumentException("Cell value " + (cell & 0xFF) + " exceeds colour id " + maxColorId);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.bricks.RandomBrickGeneratorFactory;
+
+/**
+ * Factory for creating BitBoard instances.
+ * <p>
+ * Drop-in replacement for {@link SimpleBoardFactory} that hands out
+ * bit-packed boards, for headless simulations where collision and
+ * row clearing dominate.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class BitBoardFactory implements BoardFactory {
+
+    private final BoardComponentsFactory componentsFactory;
+
+    public BitBoardFactory() {
+        this(new DefaultBoardComponentsFactory(new RandomBrickGeneratorFactory()));
+    }
+
+    public BitBoardFactory(BoardComponentsFactory componentsFactory) {
+        this.componentsFactory = Objects.requireNonNull(componentsFactory, "componentsFactory must not be null");
+    }
+
+    @Override
+    public BoardPorts create(int rows, int cols) {
+        return new BitBoardPorts(new BitBoard(rows, cols, componentsFactory));
+    }
+}
@@ -0,0 +1,134 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.function.LongSupplier;
+
+import com.comp2042.tetris.util.MatrixOperations;
+
+/**
+ * Read-only, versioned view of board cells.
+ * <p>
+ * Lets renderers and view decorators read cells straight from the board
+ * without copying it. {@link #getVersion()} changes whenever the board's
+ * cells change, so a reader that remembers the last version it drew can
+ * skip unchanged frames without comparing cells.
+ * </p>
+ * <p>
+ * A view reflects the live board: it must be read on the thread that
+ * drives the board and must not be held across moves when an isolated
+ * copy is needed (see {@link BoardSnapshot}).
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface BoardCells {
+
+    /** Version reported by views that cannot track changes. */
+    long UNVERSIONED = -1L;
+
+    int getRows();
+
+    int getCols();
+
+    /**
+     * Gets the colour id of a cell.
+     *
+     * @param row the row, 0 being the top
+     * @param col the column
+     * @return the cell's colour id, 0 when empty
+     */
+    int getCell(int row, int col);
+
+    /**
+     * Gets the board version this view currently shows.
+     *
+     * @return a counter that changes with every cell change, or {@link #UNVERSIONED}
+     */
+    long getVersion();
+
+    /**
+     * Lists the cells that changed since an earlier version of this view.
+     * <p>
+     * Boards that keep a {@link BoardJournal} answer from it, so a reader
+     * that remembers the version it last drew can redraw just those cells
+     * instead of comparing the whole board. The default cannot tell.
+     * </p>
+     *
+     * @param version the version the reader last saw
+     * @param delta receives the changed cells when the answer is known
+     * @return {@code false} if the changes are unknown and the reader must redraw everything
+     */
+    default boolean changesSince(long version, BoardDelta delta) {
+        return false;
+    }
+
+    /**
+     * Takes a copy of the current cells that is safe to hand to another thread.
+     *
+     * @return a view that no longer follows the board and keeps this view's version
+     */
+    default BoardCells detached() {
+        long version = getVersion();
+        return of(toMatrix(), () -> version);
+    }
+
+    /**
+     * Copies the cells into a new matrix.
+     *
+     * @return a fresh {@code int[rows][cols]} holding the current cells
+     */
+    default int[][] toMatrix() {
+        int[][] matrix = new int[getRows()][getCols()];
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                matrix[r][c] = getCell(r, c);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Wraps a matrix without copying it.
+     *
+     * @param matrix the matrix to view
+     * @return an unversioned view over {@code matrix}
+     */
+    static BoardCells of(int[][] matrix) {
+        return of(matrix, () -> UNVERSIONED);
+    }
+
+    /**
+     * Wraps a matrix without copying it, reporting versions from {@code version}.
+     *
+     * @param matrix the matrix to view
+     * @param version supplies the owning board's current version
+     * @return a view over {@code matrix}
+     */
+    static BoardCells of(int[][] matrix, LongSupplier version) {
+        return new BoardCells() {
+            @Override
+            public int getRows() {
+                return matrix.length;
+            }
+
+            @Override
+            public int getCols() {
+                return matrix.length == 0 ? 0 : matrix[0].length;
+            }
+
+            @Override
+            public int getCell(int row, int col) {
+                return matrix[row][col];
+            }
+
+            @Override
+            public long getVersion() {
+                return version.getAsLong();
+            }
+
+            @Override
+            public int[][] toMatrix() {
+                return MatrixOperations.copy(matrix);
+            }
+        };
+    }
+}
@@ -1,5 +1,8 @@
 package com.comp2042.tetris.engine.board;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 import com.comp2042.tetris.engine.bricks.BrickGenerator;
 import com.comp2042.tetris.engine.movement.BrickPositionManager;
 import com.comp2042.tetris.engine.rotation.BrickRotator;
@@ -19,5 +22,18 @@ public interface BoardComponentsFactory {
     BrickRotator createRotator();
 
     BrickPositionManager createPositionManager();
+
+    /**
+     * Creates the random source a board uses to lay garbage lines.
+     * <p>
+     * The default is unseeded; seeded factories override this so that
+     * garbage is as reproducible as the piece sequence.
+     * </p>
+     *
+     * @return a random source owned by the board
+     */
+    default RandomGenerator createGarbageRandom() {
+        return new SplittableRandom();
+    }
 }
 
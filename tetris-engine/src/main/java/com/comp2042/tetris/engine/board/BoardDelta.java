@@ -0,0 +1,99 @@
+package com.comp2042.tetris.engine.board;
+
+/**
+ * Set of board cells that changed between two versions.
+ * <p>
+ * Filled by {@link BoardCells#changesSince} and read by views that redraw
+ * only what moved. Cells are listed by flat index ({@code row * cols + col}),
+ * each at most once, in the order they were first marked. One instance is
+ * meant to be kept and reused: clearing it only touches the cells the last
+ * use marked, so a lock that changed four cells costs four cells of work.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BoardDelta {
+
+    private boolean[] marked = new boolean[0];
+    private int[] indices = new int[0];
+    private int count;
+    private int rows;
+    private int cols;
+
+    /**
+     * Empties the delta and sizes it for a board.
+     *
+     * @param rows the board rows
+     * @param cols the board columns
+     */
+    public void reset(int rows, int cols) {
+        int size = rows * cols;
+        if (marked.length < size) {
+            marked = new boolean[size];
+            indices = new int[size];
+        } else {
+            for (int n = 0; n < count; n++) {
+                marked[indices[n]] = false;
+            }
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.count = 0;
+    }
+
+    /**
+     * Adds one cell; cells outside the board are ignored.
+     *
+     * @param row the row
+     * @param col the column
+     */
+    public void markCell(int row, int col) {
+        if (row >= 0 && row < rows && col >= 0 && col < cols) {
+            mark(row * cols + col);
+        }
+    }
+
+    /**
+     * Adds every cell of a range of rows, clamped to the board.
+     *
+     * @param fromRow the first row
+     * @param toRow the last row, inclusive
+     */
+    public void markRows(int fromRow, int toRow) {
+        int from = Math.max(0, fromRow);
+        int to = Math.min(rows - 1, toRow);
+        for (int index = from * cols, end = (to + 1) * cols; index < end; index++) {
+            mark(index);
+        }
+    }
+
+    /**
+     * Gets the number of changed cells.
+     *
+     * @return how many cells are listed
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets a changed cell.
+     *
+     * @param n which cell, below {@link #size()}
+     * @return the flat index {@code row * cols + col}
+     */
+    public int index(int n) {
+        return indices[n];
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    private void mark(int index) {
+        if (!marked[index]) {
+            marked[index] = true;
+            indices[count++] = index;
+        }
+    }
+}
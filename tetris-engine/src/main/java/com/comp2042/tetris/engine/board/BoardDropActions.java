@@ -14,6 +14,7 @@ import com.comp2042.tetris.util.MatrixOperations;
  */
 public class BoardDropActions implements com.comp2042.tetris.engine.movement.BrickDropActions {
     private final BoardState boardState;
+    private int[] clearedRowBuffer = new int[0];
 
     public BoardDropActions(BoardState boardState) {
         this.boardState = boardState;
@@ -21,7 +22,7 @@ public class BoardDropActions implements com.comp2042.tetris.engine.movement.Bri
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(boardState.getBoardMatrix());
+        int[][] currentMatrix = boardState.getBoardMatrix();
         java.awt.Point p = boardState.getPositionManager().calculateMoveDown();
         boolean conflict = com.comp2042.tetris.util.CollisionDetector.isCollision(currentMatrix, boardState.getBrickRotator().getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
@@ -39,8 +40,11 @@ public class BoardDropActions implements com.comp2042.tetris.engine.movement.Bri
 
     @Override
     public RowClearResult clearRows() {
-        RowClearResult result = MatrixOperations.clearRows(boardState.getBoardMatrix());
-        boardState.setBoardMatrix(result.getNewMatrix());
-        return result;
+        int[][] matrix = boardState.getBoardMatrix();
+        if (clearedRowBuffer.length < matrix.length) {
+            clearedRowBuffer = new int[matrix.length];
+        }
+        int removed = MatrixOperations.clearRowsInPlace(matrix, clearedRowBuffer);
+        return RowClearResult.of(removed, matrix, 0, clearedRowBuffer);
     }
 }
@@ -3,8 +3,9 @@ package com.comp2042.tetris.engine.board;
 /**
  * Factory interface for creating game boards.
  * Allows different board implementations to be injected.
+ * Boards are handed out through their {@link BoardPorts} so callers
+ * never depend on a concrete board class.
  */
 public interface BoardFactory {
-    SimpleBoard create(int rows, int cols);
+    BoardPorts create(int rows, int cols);
 }
-
@@ -0,0 +1,251 @@
+package com.comp2042.tetris.engine.board;
+
+/**
+ * Log of what each recent board version changed.
+ * <p>
+ * A board opens one entry per version bump and marks in it the cells it
+ * wrote: the cells of a merged brick, or a range of rows for changes that
+ * shift rows, such as a line clear (every row from the top down to the
+ * lowest cleared one), a garbage line or a reset (every row). The last
+ * {@code capacity} entries are kept in a ring of primitive arrays, so
+ * recording allocates nothing.
+ * </p>
+ * <p>
+ * {@link #collect} answers "what changed since version v" from the
+ * entries, and boards use it to implement
+ * {@link BoardCells#changesSince}. When v is older than the oldest entry
+ * it reports that it cannot tell, and the reader redraws in full. The
+ * journal belongs to its board's thread, like the board itself.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BoardJournal {
+
+    /** Number of versions a board remembers by default. */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private static final int MAX_CELLS = 16;
+    private static final int NO_ROWS = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int capacity;
+    private final long[] versions;
+    private final int[] rowFrom;
+    private final int[] rowTo;
+    private final int[] cellCounts;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final boolean recording;
+    private int size;
+    private int current = -1;
+
+    /**
+     * Creates an empty journal.
+     *
+     * @param rows the board rows
+     * @param cols the board columns
+     * @param capacity the number of versions to remember
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public BoardJournal(int rows, int cols, int capacity) {
+        this(rows, cols, checkCapacity(capacity), true);
+    }
+
+    private BoardJournal(int rows, int cols, int capacity, boolean recording) {
+        this.recording = recording;
+        this.rows = rows;
+        this.cols = cols;
+        this.capacity = capacity;
+        this.versions = new long[capacity];
+        this.rowFrom = new int[capacity];
+        this.rowTo = new int[capacity];
+        this.cellCounts = new int[capacity];
+        this.cellRows = new int[capacity * MAX_CELLS];
+        this.cellCols = new int[capacity * MAX_CELLS];
+    }
+
+    /**
+     * Creates a journal that records nothing, for boards no view renders.
+     * <p>
+     * It costs no memory per version; {@link #collect} can only tell that
+     * nothing changed, and otherwise makes the reader redraw in full.
+     * </p>
+     *
+     * @param rows the board rows
+     * @param cols the board columns
+     * @return a journal that ignores every change
+     */
+    public static BoardJournal disabled(int rows, int cols) {
+        return new BoardJournal(rows, cols, 0, false);
+    }
+
+    /**
+     * Opens the entry for a new version, dropping the oldest when full.
+     *
+     * @param version the version the change produces
+     */
+    public void begin(long version) {
+        if (!recording) {
+            return;
+        }
+        current = (current + 1) % capacity;
+        versions[current] = version;
+        rowFrom[current] = NO_ROWS;
+        rowTo[current] = NO_ROWS;
+        cellCounts[current] = 0;
+        size = Math.min(size + 1, capacity);
+    }
+
+    /**
+     * Marks one cell in the open entry.
+     * <p>
+     * An entry holds a few cells, enough for any brick; past that it falls
+     * back to marking whole rows.
+     * </p>
+     *
+     * @param row the row
+     * @param col the column
+     */
+    public void cell(int row, int col) {
+        if (current < 0) {
+            return;
+        }
+        int count = cellCounts[current];
+        if (count == MAX_CELLS) {
+            rows(row, row);
+            return;
+        }
+        cellRows[current * MAX_CELLS + count] = row;
+        cellCols[current * MAX_CELLS + count] = col;
+        cellCounts[current] = count + 1;
+    }
+
+    /**
+     * Marks a range of rows in the open entry.
+     *
+     * @param from the first row
+     * @param to the last row, inclusive
+     */
+    public void rows(int from, int to) {
+        if (current < 0) {
+            return;
+        }
+        if (rowFrom[current] == NO_ROWS) {
+            rowFrom[current] = from;
+            rowTo[current] = to;
+        } else {
+            rowFrom[current] = Math.min(rowFrom[current], from);
+            rowTo[current] = Math.max(rowTo[current], to);
+        }
+    }
+
+    /**
+     * Marks every row in the open entry.
+     */
+    public void all() {
+        rows(0, rows - 1);
+    }
+
+    /**
+     * Lists the cells changed by the versions after {@code since} up to {@code latest}.
+     *
+     * @param since the version the reader last saw
+     * @param latest the board's current version
+     * @param delta receives the changed cells; it is reset first when the answer is known
+     * @return {@code false} if the journal no longer covers {@code since}
+     */
+    public boolean collect(long since, long latest, BoardDelta delta) {
+        if (since == BoardCells.UNVERSIONED || since > latest) {
+            return false;
+        }
+        if (since < latest && (size == 0 || since + 1 < versions[oldest()])) {
+            return false;
+        }
+        delta.reset(rows, cols);
+        for (int n = 0; n < size; n++) {
+            int entry = (oldest() + n) % capacity;
+            long version = versions[entry];
+            if (version <= since || version > latest) {
+                continue;
+            }
+            if (rowFrom[entry] != NO_ROWS) {
+                delta.markRows(rowFrom[entry], rowTo[entry]);
+            }
+            for (int i = 0, base = entry * MAX_CELLS; i < cellCounts[entry]; i++) {
+                delta.markCell(cellRows[base + i], cellCols[base + i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes an isolated copy of a live board view together with this journal.
+     * <p>
+     * The copy keeps the version and the journal answers of the moment it
+     * was taken, so it can be handed to another thread.
+     * </p>
+     *
+     * @param live the board view, read on the board's thread
+     * @return a detached view that still reports its changes
+     */
+    public BoardCells detach(BoardCells live) {
+        BoardJournal journal = new BoardJournal(rows, cols, capacity, recording);
+        System.arraycopy(versions, 0, journal.versions, 0, capacity);
+        System.arraycopy(rowFrom, 0, journal.rowFrom, 0, capacity);
+        System.arraycopy(rowTo, 0, journal.rowTo, 0, capacity);
+        System.arraycopy(cellCounts, 0, journal.cellCounts, 0, capacity);
+        System.arraycopy(cellRows, 0, journal.cellRows, 0, cellRows.length);
+        System.arraycopy(cellCols, 0, journal.cellCols, 0, cellCols.length);
+        journal.size = size;
+        journal.current = current;
+        return new Detached(live.toMatrix(), live.getVersion(), journal);
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        return capacity;
+    }
+
+    private int oldest() {
+        return (current - size + 1 + capacity) % capacity;
+    }
+
+    /**
+     * Frozen board cells with the journal they were taken with.
+     */
+    private record Detached(int[][] matrix, long version, BoardJournal journal) implements BoardCells {
+        @Override
+        public int getRows() {
+            return matrix.length;
+        }
+
+        @Override
+        public int getCols() {
+            return matrix.length == 0 ? 0 : matrix[0].length;
+        }
+
+        @Override
+        public int getCell(int row, int col) {
+            return matrix[row][col];
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean changesSince(long since, BoardDelta delta) {
+            return journal.collect(since, version, delta);
+        }
+
+        @Override
+        public BoardCells detached() {
+            return this;
+        }
+    }
+}
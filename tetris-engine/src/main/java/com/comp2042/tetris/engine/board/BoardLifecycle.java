@@ -6,5 +6,12 @@ package com.comp2042.tetris.engine.board;
  */
 public interface BoardLifecycle {
     void newGame();
-}
 
+    /**
+     * Pushes a garbage line in from the bottom of the board.
+     * Used by mystery mode events. Default implementation does nothing.
+     */
+    default void addGarbageLine() {
+
+    }
+}
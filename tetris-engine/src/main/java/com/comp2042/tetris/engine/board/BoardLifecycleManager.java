@@ -1,6 +1,8 @@
 package com.comp2042.tetris.engine.board;
 
-import java.util.Random;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages board lifecycle operations including game reset.
@@ -13,9 +15,21 @@ import java.util.Random;
  */
 public class BoardLifecycleManager implements BoardLifecycle {
     private final BoardState boardState;
+    private final RandomGenerator garbageRandom;
 
     public BoardLifecycleManager(BoardState boardState) {
+        this(boardState, new SplittableRandom());
+    }
+
+    /**
+     * Creates a lifecycle manager laying garbage from the given random source.
+     *
+     * @param boardState the board state to manage
+     * @param garbageRandom the source of garbage holes and blocks
+     */
+    public BoardLifecycleManager(BoardState boardState, RandomGenerator garbageRandom) {
         this.boardState = boardState;
+        this.garbageRandom = Objects.requireNonNull(garbageRandom, "garbageRandom must not be null");
     }
 
     @Override
@@ -36,6 +50,7 @@ public class BoardLifecycleManager implements BoardLifecycle {
         }.spawnBrick();
     }
 
+    @Override
     public void addGarbageLine() {
         int[][] newMatrix = new int[boardState.getRows()][boardState.getCols()];
 
@@ -43,14 +58,13 @@ public class BoardLifecycleManager implements BoardLifecycle {
             System.arraycopy(boardState.getBoardMatrix()[r + 1], 0, newMatrix[r], 0, boardState.getCols());
         }
 
-        Random rnd = new Random();
         int[] bottom = new int[boardState.getCols()];
-        int holeIndex = rnd.nextInt(boardState.getCols());
+        int holeIndex = garbageRandom.nextInt(boardState.getCols());
         for (int c = 0; c < boardState.getCols(); c++) {
             if (c == holeIndex) {
                 bottom[c] = 0;
             } else {
-                bottom[c] = rnd.nextBoolean() ? 1 : 0;
+                bottom[c] = garbageRandom.nextBoolean() ? 1 : 0;
             }
         }
 
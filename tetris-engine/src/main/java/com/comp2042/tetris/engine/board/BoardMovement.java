@@ -1,7 +1,7 @@
 package com.comp2042.tetris.engine.board;
 
+import com.comp2042.tetris.engine.bricks.RotationTable;
 import com.comp2042.tetris.util.CollisionDetector;
-import com.comp2042.tetris.util.MatrixOperations;
 
 /**
  * Implements brick movement operations on the board.
@@ -21,9 +21,9 @@ public class BoardMovement implements com.comp2042.tetris.engine.movement.BrickM
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(boardState.getBoardMatrix());
+        int[][] currentMatrix = boardState.getBoardMatrix();
         java.awt.Point p = boardState.getPositionManager().calculateMoveLeft();
-        boolean conflict = CollisionDetector.isCollision(currentMatrix, boardState.getBrickRotator().getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = CollisionDetector.isCollision(currentMatrix, boardState.getBrickRotator().getRotationTable(), boardState.getBrickRotator().getCurrentShapeIndex(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
@@ -34,9 +34,9 @@ public class BoardMovement implements com.comp2042.tetris.engine.movement.BrickM
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(boardState.getBoardMatrix());
+        int[][] currentMatrix = boardState.getBoardMatrix();
         java.awt.Point p = boardState.getPositionManager().calculateMoveRight();
-        boolean conflict = CollisionDetector.isCollision(currentMatrix, boardState.getBrickRotator().getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = CollisionDetector.isCollision(currentMatrix, boardState.getBrickRotator().getRotationTable(), boardState.getBrickRotator().getCurrentShapeIndex(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
@@ -47,26 +47,26 @@ public class BoardMovement implements com.comp2042.tetris.engine.movement.BrickM
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(boardState.getBoardMatrix());
-        com.comp2042.tetris.domain.model.RotationInfo nextShape = boardState.getBrickRotator().getNextShape();
-        int[][] shape = nextShape.getShape();
+        int[][] currentMatrix = boardState.getBoardMatrix();
+        RotationTable table = boardState.getBrickRotator().getRotationTable();
+        int next = boardState.getBrickRotator().getNextShapeIndex();
         int currentX = boardState.getPositionManager().getX();
         int currentY = boardState.getPositionManager().getY();
 
-        if (!CollisionDetector.isCollision(currentMatrix, shape, currentX, currentY)) {
-            boardState.getBrickRotator().setCurrentShape(nextShape.getPosition());
+        if (!CollisionDetector.isCollision(currentMatrix, table, next, currentX, currentY)) {
+            boardState.getBrickRotator().setCurrentShape(next);
             return true;
         }
 
-        if (!CollisionDetector.isCollision(currentMatrix, shape, currentX + 1, currentY)) {
+        if (!CollisionDetector.isCollision(currentMatrix, table, next, currentX + 1, currentY)) {
             boardState.getPositionManager().updatePosition(new java.awt.Point(currentX + 1, currentY));
-            boardState.getBrickRotator().setCurrentShape(nextShape.getPosition());
+            boardState.getBrickRotator().setCurrentShape(next);
             return true;
         }
 
-        if (!CollisionDetector.isCollision(currentMatrix, shape, currentX - 1, currentY)) {
+        if (!CollisionDetector.isCollision(currentMatrix, table, next, currentX - 1, currentY)) {
             boardState.getPositionManager().updatePosition(new java.awt.Point(currentX - 1, currentY));
-            boardState.getBrickRotator().setCurrentShape(nextShape.getPosition());
+            boardState.getBrickRotator().setCurrentShape(next);
             return true;
         }
 
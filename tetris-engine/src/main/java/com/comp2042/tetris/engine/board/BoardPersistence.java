@@ -0,0 +1,50 @@
+package com.comp2042.tetris.engine.board;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Saves and restores the complete state of a board in play.
+ * <p>
+ * The state covers the settled cells, the falling brick's type, rotation
+ * and position, the brick generator's queue and randomizer, and the
+ * garbage stream. Restoring it into a board of the same size built by the
+ * same kind of factory continues the game exactly where it was saved.
+ * Randomizers that cannot be captured keep their current state.
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface BoardPersistence {
+
+    /**
+     * Writes the board's state at the buffer's position.
+     *
+     * @param out the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    void saveState(ByteBuffer out);
+
+    /**
+     * Replaces the board's state with state written by {@link #saveState}.
+     *
+     * @param in the buffer positioned at the saved state
+     * @throws IllegalArgumentException if the state does not fit this board
+     */
+    default void restoreState(ByteBuffer in) {
+        prepareRestore(in).run();
+    }
+
+    /**
+     * Reads and checks state written by {@link #saveState} without applying it.
+     * <p>
+     * The board is left untouched until the returned action runs, so a
+     * caller restoring more than the board can reject a bad save before
+     * anything has changed.
+     * </p>
+     *
+     * @param in the buffer positioned at the saved state
+     * @return replaces the board's state when run
+     * @throws IllegalArgumentException if the state does not fit this board
+     */
+    Runnable prepareRestore(ByteBuffer in);
+}
@@ -0,0 +1,228 @@
+package com.comp2042.tetris.engine.board;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * Fixed-size pool of boards whose cells live off-heap in one memory segment.
+ * <p>
+ * Every slot holds the {@code rows * cols} byte cells of one board, laid
+ * out back to back in a single segment allocated from a shared
+ * {@link Arena}. The cells put no load on the garbage collector, and a
+ * slot can be snapshotted, restored or duplicated with one bulk memory
+ * copy. Each acquired slot is driven through a {@link ByteBoard} facade,
+ * so the rest of the engine sees an ordinary board.
+ * </p>
+ * <p>
+ * Acquiring and releasing slots is not thread-safe and should be done by
+ * the thread that owns the pool. Different slots may be played on
+ * different threads, as long as each slot is used by one thread at a time.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BoardPool implements AutoCloseable {
+
+    private final int capacity;
+    private final int rows;
+    private final int cols;
+    private final int slotSize;
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final ByteBoard[] boards;
+    private final int[] freeSlots;
+    private int freeCount;
+
+    /**
+     * Allocates a pool.
+     *
+     * @param capacity the number of board slots
+     * @param rows the number of rows per board
+     * @param cols the number of columns per board
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public BoardPool(int capacity, int rows, int cols) {
+        if (capacity <= 0 || rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Pool capacity and board dimensions must be positive, got "
+                    + capacity + " x " + rows + "x" + cols);
+        }
+        this.capacity = capacity;
+        this.rows = rows;
+        this.cols = cols;
+        this.slotSize = Math.multiplyExact(rows, cols);
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(Math.multiplyExact((long) capacity, slotSize), Long.BYTES);
+        this.boards = new ByteBoard[capacity];
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        this.freeCount = capacity;
+    }
+
+    /**
+     * Takes a free slot and attaches an empty board without a change journal to it.
+     *
+     * @param componentsFactory supplies the board's generator, rotator and position manager
+     * @return the slot index
+     * @throws IllegalStateException if every slot is in use
+     */
+    public int acquire(BoardComponentsFactory componentsFactory) {
+        return acquire(componentsFactory, 0);
+    }
+
+    /**
+     * Takes a free slot and attaches an empty board to it.
+     * <p>
+     * Only boards a view renders incrementally need a journal; simulated
+     * boards should pass 0 and skip its per-version bookkeeping.
+     * </p>
+     *
+     * @param componentsFactory supplies the board's generator, rotator and position manager
+     * @param journalCapacity the number of versions the board's journal remembers, or 0 for none
+     * @return the slot index
+     * @throws IllegalStateException if every slot is in use
+     * @throws IllegalArgumentException if the journal capacity is negative
+     */
+    public int acquire(BoardComponentsFactory componentsFactory, int journalCapacity) {
+        Objects.requireNonNull(componentsFactory, "componentsFactory must not be null");
+        if (journalCapacity < 0) {
+            throw new IllegalArgumentException("Journal capacity must not be negative: " + journalCapacity);
+        }
+        if (freeCount == 0) {
+            throw new IllegalStateException("Board pool is full (" + capacity + " slots)");
+        }
+        int slot = freeSlots[--freeCount];
+        MemorySegment cells = slice(slot);
+        cells.fill((byte) 0);
+        boards[slot] = new ByteBoard(rows, cols, componentsFactory, CellStore.offHeap(cells), journalCapacity);
+        return slot;
+    }
+
+    /**
+     * Returns a slot to the pool. The slot's board must not be used afterwards.
+     *
+     * @param slot the slot to release
+     */
+    public void release(int slot) {
+        checkInUse(slot);
+        boards[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Gets the board attached to a slot.
+     *
+     * @param slot the slot
+     * @return the board reading and writing the slot's cells
+     */
+    public ByteBoard board(int slot) {
+        checkInUse(slot);
+        return boards[slot];
+    }
+
+    /**
+     * Gets the ports of the board attached to a slot.
+     *
+     * @param slot the slot
+     * @return the board's ports
+     */
+    public BoardPorts ports(int slot) {
+        return new ByteBoardPorts(board(slot));
+    }
+
+    /**
+     * Copies the cells of one slot over another.
+     * <p>
+     * Only the cells are copied; the target keeps its own falling brick
+     * and brick generator.
+     * </p>
+     *
+     * @param from the source slot
+     * @param to the target slot
+     */
+    public void copy(int from, int to) {
+        checkInUse(from);
+        checkInUse(to);
+        MemorySegment.copy(segment, offset(from), segment, offset(to), slotSize);
+        boards[to].cellsReplaced();
+    }
+
+    /**
+     * Copies a slot's cells into an array.
+     *
+     * @param slot the slot
+     * @param target receives {@link #slotSize()} bytes, row-major
+     */
+    public void snapshot(int slot, byte[] target) {
+        checkInUse(slot);
+        checkBuffer(target);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset(slot), target, 0, slotSize);
+    }
+
+    /**
+     * Overwrites a slot's cells from an array taken by {@link #snapshot}.
+     *
+     * @param slot the slot
+     * @param source holds {@link #slotSize()} bytes, row-major
+     */
+    public void restore(int slot, byte[] source) {
+        checkInUse(slot);
+        checkBuffer(source);
+        MemorySegment.copy(source, 0, segment, ValueLayout.JAVA_BYTE, offset(slot), slotSize);
+        boards[slot].cellsReplaced();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of slots currently acquired.
+     *
+     * @return the number of slots in use
+     */
+    public int size() {
+        return capacity - freeCount;
+    }
+
+    /**
+     * Gets the number of bytes one board occupies.
+     *
+     * @return {@code rows * cols}
+     */
+    public int slotSize() {
+        return slotSize;
+    }
+
+    /**
+     * Frees the off-heap memory. No board of this pool may be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private MemorySegment slice(int slot) {
+        return segment.asSlice(offset(slot), slotSize);
+    }
+
+    private long offset(int slot) {
+        return (long) slot * slotSize;
+    }
+
+    private void checkInUse(int slot) {
+        if (slot < 0 || slot >= capacity || boards[slot] == null) {
+            throw new IllegalArgumentException("Slot " + slot + " is not in use");
+        }
+    }
+
+    private void checkBuffer(byte[] buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        if (buffer.length < slotSize) {
+            throw new IllegalArgumentException("Buffer holds " + buffer.length + " bytes, need " + slotSize);
+        }
+    }
+}
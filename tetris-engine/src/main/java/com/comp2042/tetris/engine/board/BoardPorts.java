@@ -18,5 +18,14 @@ public interface BoardPorts {
     BrickSpawn spawner();
 
     BoardLifecycle lifecycle();
+
+    /**
+     * Gets the port that saves and restores the board, if the board supports it.
+     *
+     * @return the board's persistence, or {@code null} if it cannot be saved
+     */
+    default BoardPersistence persistence() {
+        return null;
+    }
 }
 
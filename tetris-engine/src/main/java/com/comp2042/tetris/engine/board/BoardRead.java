@@ -0,0 +1,64 @@
+package com.comp2042.tetris.engine.board;
+
+import com.comp2042.tetris.domain.model.ViewData;
+
+/**
+ * Read-only interface for accessing board state.
+ * Provides the board matrix and active brick view data.
+ */
+public interface BoardRead {
+    /**
+     * Returns the live board matrix. Callers must treat it as read-only
+     * and must not hold on to it across moves; use {@link #snapshot()}
+     * when an isolated copy is needed.
+     *
+     * @return the current board matrix
+     */
+    int[][] getBoardMatrix();
+
+    ViewData getViewData();
+
+    /**
+     * Gets the stack height of a column, counted from the floor up to and
+     * including its topmost filled cell.
+     * <p>
+     * The default scans the board matrix; boards that track their stack
+     * surface answer in constant time.
+     * </p>
+     *
+     * @param col the column
+     * @return the column height, 0 for an empty column
+     */
+    default int getColumnHeight(int col) {
+        int[][] matrix = getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            if (matrix[row][col] != 0) {
+                return matrix.length - row;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a read-only, versioned view of the live board cells.
+     * <p>
+     * The default wraps {@link #getBoardMatrix()} without version tracking;
+     * boards that count their changes report real versions so readers can
+     * skip unchanged frames without comparing cells.
+     * </p>
+     *
+     * @return a view of the current cells
+     */
+    default BoardCells cells() {
+        return BoardCells.of(getBoardMatrix());
+    }
+
+    /**
+     * Captures an isolated copy of the current board cells.
+     *
+     * @return a snapshot unaffected by later board changes
+     */
+    default BoardSnapshot snapshot() {
+        return BoardSnapshot.of(getBoardMatrix());
+    }
+}
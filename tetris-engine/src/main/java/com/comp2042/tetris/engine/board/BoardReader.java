@@ -1,9 +1,8 @@
 package com.comp2042.tetris.engine.board;
 
 import com.comp2042.tetris.domain.model.ViewData;
-import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.RotationTable;
 import com.comp2042.tetris.util.CollisionDetector;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,6 +16,7 @@ import java.util.List;
  */
 public class BoardReader implements BoardRead {
     private final BoardState boardState;
+    private final NextBrickPreview nextBrickPreview = new NextBrickPreview(3);
 
     public BoardReader(BoardState boardState) {
         this.boardState = boardState;
@@ -29,17 +29,15 @@ public class BoardReader implements BoardRead {
 
     @Override
     public ViewData getViewData() {
-        List<Brick> nextBricks = boardState.getBrickGenerator().peekNextBricks(3);
-        List<int[][]> nextBrickMatrices = new ArrayList<>();
-        for (Brick b : nextBricks) {
-            nextBrickMatrices.add(b.getRotationMatrix().get(0));
-        }
+        List<int[][]> nextBrickMatrices = nextBrickPreview.shapes(boardState.getBrickGenerator());
 
         int ghostY = boardState.getPositionManager().getY();
         int[][] currentShape = boardState.getBrickRotator().getCurrentShape();
+        RotationTable table = boardState.getBrickRotator().getRotationTable();
+        int rotation = boardState.getBrickRotator().getCurrentShapeIndex();
         int currentX = boardState.getPositionManager().getX();
 
-        while (!CollisionDetector.isCollision(boardState.getBoardMatrix(), currentShape, currentX, ghostY + 1)) {
+        while (!CollisionDetector.isCollision(boardState.getBoardMatrix(), table, rotation, currentX, ghostY + 1)) {
             ghostY++;
         }
 
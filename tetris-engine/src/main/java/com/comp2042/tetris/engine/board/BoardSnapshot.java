@@ -0,0 +1,123 @@
+package com.comp2042.tetris.engine.board;
+
+import com.comp2042.tetris.util.MatrixOperations;
+
+/**
+ * Immutable copy of the board cells taken at a single point in time.
+ * <p>
+ * Board implementations hand out their live matrix from
+ * {@link BoardRead#getBoardMatrix()} so that gameplay never pays for a copy.
+ * Callers that need isolation from later moves (caches, background work,
+ * diffing) take a snapshot instead of copying the matrix themselves.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+
+    private final int[][] cells;
+
+    private BoardSnapshot(int[][] cells) {
+        this.cells = cells;
+    }
+
+    /**
+     * Copies the given board matrix into a new snapshot.
+     *
+     * @param boardMatrix the matrix to copy
+     * @return a snapshot independent of {@code boardMatrix}
+     */
+    public static BoardSnapshot of(int[][] boardMatrix) {
+        return new BoardSnapshot(MatrixOperations.copy(boardMatrix));
+    }
+
+    /**
+     * Copies the cells of a board view into a new snapshot.
+     *
+     * @param boardCells the view to copy
+     * @return a snapshot independent of the board
+     */
+    public static BoardSnapshot of(BoardCells boardCells) {
+        return new BoardSnapshot(boardCells.toMatrix());
+    }
+
+    /**
+     * Gets the number of rows captured.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the number of columns in the given row.
+     *
+     * @param row the row index
+     * @return the column count of that row
+     */
+    public int getCols(int row) {
+        return cells[row].length;
+    }
+
+    /**
+     * Gets the cell value at the given position.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the colour id stored in the cell, or 0 if empty
+     */
+    public int getCell(int row, int col) {
+        return cells[row][col];
+    }
+
+    /**
+     * Checks whether the given matrix holds exactly the captured cells.
+     *
+     * @param boardMatrix the matrix to compare against
+     * @return {@code true} if dimensions and every cell match
+     */
+    public boolean matches(int[][] boardMatrix) {
+        if (boardMatrix == null || boardMatrix.length != cells.length) {
+            return false;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if (!java.util.Arrays.equals(cells[i], boardMatrix[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a board view holds exactly the captured cells.
+     *
+     * @param boardCells the view to compare against
+     * @return {@code true} if dimensions and every cell match
+     */
+    public boolean matches(BoardCells boardCells) {
+        if (boardCells == null || boardCells.getRows() != cells.length) {
+            return false;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].length != boardCells.getCols()) {
+                return false;
+            }
+            for (int j = 0; j < cells[i].length; j++) {
+                if (cells[i][j] != boardCells.getCell(i, j)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a mutable copy of the captured cells.
+     *
+     * @return a new matrix with the snapshot contents
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(cells);
+    }
+}
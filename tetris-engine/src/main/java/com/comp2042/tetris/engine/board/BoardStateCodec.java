@@ -0,0 +1,142 @@
+package com.comp2042.tetris.engine.board;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.bricks.BrickRegistry;
+import com.comp2042.tetris.engine.bricks.QueuedBrickGenerator;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.util.SplitMixRandom;
+
+/**
+ * Shared encoding of the state written by the boards' {@link BoardPersistence}.
+ * <p>
+ * Layout: rows and cols as ints, one unsigned byte per cell in row-major
+ * order, the falling brick as type id, rotation, x and y ints (type id
+ * {@code -1} when nothing has spawned), a generator marker followed by
+ * the generator's own state, and the garbage stream.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class BoardStateCodec {
+
+    private static final byte NO_GENERATOR_STATE = 0;
+    private static final byte GENERATOR_STATE = 1;
+
+    private BoardStateCodec() {
+    }
+
+    static void writeCells(ByteBuffer out, BoardCells cells) {
+        int rows = cells.getRows();
+        int cols = cells.getCols();
+        out.putInt(rows);
+        out.putInt(cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int value = cells.getCell(r, c);
+                if (value < 0 || value > 0xFF) {
+                    throw new IllegalStateException("Cell (" + r + ", " + c + ") holds " + value
+                            + ", which does not fit in a byte");
+                }
+                out.put((byte) value);
+            }
+        }
+    }
+
+    /**
+     * Reads the cells written by {@link #writeCells} without applying them.
+     *
+     * @return the cells, row-major, as unsigned bytes
+     */
+    static byte[] readCells(ByteBuffer in, int rows, int cols) {
+        int savedRows = in.getInt();
+        int savedCols = in.getInt();
+        if (savedRows != rows || savedCols != cols) {
+            throw new IllegalArgumentException("Saved board is " + savedRows + "x" + savedCols
+                    + ", this board is " + rows + "x" + cols);
+        }
+        byte[] cells = new byte[rows * cols];
+        in.get(cells);
+        return cells;
+    }
+
+    static void writeComponents(ByteBuffer out, BrickRotator rotator, BrickPositionManager positions,
+                                BrickGenerator generator, RandomGenerator garbageRandom) {
+        RotationTable table = rotator.getRotationTable();
+        if (table == null) {
+            out.putInt(-1);
+            out.putInt(0);
+        } else {
+            int typeId = BrickRegistry.getInstance().typeId(table);
+            if (typeId < 0) {
+                throw new IllegalStateException("The falling brick is not a registered type and cannot be saved");
+            }
+            out.putInt(typeId);
+            out.putInt(rotator.getCurrentShapeIndex());
+        }
+        out.putInt(positions.getX());
+        out.putInt(positions.getY());
+
+        if (generator instanceof QueuedBrickGenerator queued) {
+            out.put(GENERATOR_STATE);
+            queued.saveState(out);
+        } else {
+            out.put(NO_GENERATOR_STATE);
+        }
+        SplitMixRandom.writeState(garbageRandom, out);
+    }
+
+    /**
+     * Reads and checks the components written by {@link #writeComponents} without applying them.
+     *
+     * @return applies the falling brick, generator and garbage stream when run
+     */
+    static Runnable readComponents(ByteBuffer in, BrickRotator rotator, BrickPositionManager positions,
+                                   BrickGenerator generator, RandomGenerator garbageRandom) {
+        int typeId = in.getInt();
+        int rotation = in.getInt();
+        int x = in.getInt();
+        int y = in.getInt();
+        BrickRegistry registry = BrickRegistry.getInstance();
+        RotationTable table = null;
+        if (typeId != -1) {
+            if (typeId < 0 || typeId >= registry.typeCount()) {
+                throw new IllegalArgumentException("Unknown brick type id " + typeId);
+            }
+            table = BrickRegistry.rotationTable(registry.flyweight(typeId));
+            if (rotation < 0 || rotation >= table.rotationCount()) {
+                throw new IllegalArgumentException("Rotation " + rotation + " out of range for brick type " + typeId);
+            }
+        }
+
+        byte marker = in.get();
+        Runnable generatorState;
+        if (marker == GENERATOR_STATE) {
+            if (!(generator instanceof QueuedBrickGenerator queued)) {
+                throw new IllegalArgumentException("Saved generator state cannot be restored into "
+                        + generator.getClass().getSimpleName());
+            }
+            generatorState = queued.prepareRestore(in);
+        } else if (marker == NO_GENERATOR_STATE) {
+            generatorState = () -> { };
+        } else {
+            throw new IllegalArgumentException("Unknown generator state marker " + marker);
+        }
+        Runnable garbageState = SplitMixRandom.prepareState(garbageRandom, in);
+
+        boolean spawned = table != null;
+        return () -> {
+            generatorState.run();
+            garbageState.run();
+            if (spawned) {
+                rotator.setBrick(registry.flyweight(typeId));
+                rotator.setCurrentShape(rotation);
+            }
+            positions.reset(x, y);
+        };
+    }
+}
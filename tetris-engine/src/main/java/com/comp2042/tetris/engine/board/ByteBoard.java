@@ -0,0 +1,207 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.bricks.BrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RandomBrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
+/**
+ * Game board implementation storing one byte per cell in a single flat array.
+ * <p>
+ * Cells are laid out row-major, so cell {@code (r, c)} lives at
+ * {@code r * cols + c}. Compared with {@code int[][]} this takes a quarter
+ * of the memory and no per-row array headers, which matters when many
+ * boards are simulated at once. Brick handling is inherited from
+ * {@link AbstractBoard}, and the board can be swapped in through
+ * {@link ByteBoardFactory}. The cells can also live off-heap in a slot of
+ * a {@link BoardPool}.
+ * </p>
+ * <p>
+ * The board is its own {@link BoardCells} view: {@link #cells()} returns it
+ * and readers see cells without copying. Boards taken from a
+ * {@link BoardPool} only keep a journal when asked to.
+ * {@link #getBoardMatrix()} returns a decoded {@code int[][]} that is
+ * rebuilt only when the version has moved; writes to it are not reflected
+ * back into the board.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ByteBoard extends AbstractBoard implements BoardCells {
+
+    private final CellStore cells;
+
+    /**
+     * Constructs a ByteBoard with default random brick generator.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     */
+    public ByteBoard(int rows, int cols) {
+        this(rows, cols, new RandomBrickGeneratorFactory());
+    }
+
+    /**
+     * Constructs a ByteBoard with a custom brick generator factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param generatorFactory the factory to create brick generators
+     */
+    public ByteBoard(int rows, int cols, BrickGeneratorFactory generatorFactory) {
+        this(rows, cols, new DefaultBoardComponentsFactory(Objects.requireNonNull(generatorFactory, "generatorFactory must not be null")));
+    }
+
+    /**
+     * Constructs a ByteBoard with a custom components factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param componentsFactory the factory to create board components
+     * @throws IllegalArgumentException if the dimensions are not positive
+     */
+    public ByteBoard(int rows, int cols, BoardComponentsFactory componentsFactory) {
+        this(rows, cols, componentsFactory, null, BoardJournal.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a ByteBoard over existing cell storage.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param componentsFactory the factory to create board components
+     * @param store the storage for {@code rows * cols} cells, or {@code null} for a fresh heap array
+     * @param journalCapacity the number of versions the journal remembers, or 0 for no journal
+     * @throws IllegalArgumentException if the dimensions are not positive or the capacity is negative
+     */
+    ByteBoard(int rows, int cols, BoardComponentsFactory componentsFactory, CellStore store, int journalCapacity) {
+        super(rows, cols, componentsFactory, journalCapacity);
+        this.cells = store != null ? store : CellStore.heap(rows * cols);
+    }
+
+    @Override
+    protected boolean collides(RotationTable table, int rotation, int x, int y) {
+        for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+            int targetX = x + table.cellCol(rotation, i);
+            int targetY = y + table.cellRow(rotation, i);
+            if (targetY < 0 || targetY >= rows || targetX < 0 || targetX >= cols
+                    || cells.get(targetY * cols + targetX) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix is decoded from the byte cells and reused between
+     * calls; it is only rebuilt after the board has changed. It is allocated
+     * on the first call, so pooled boards that are only simulated never
+     * carry one.
+     * </p>
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return decodedMatrix();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns this board; no copy is made.
+     * </p>
+     */
+    @Override
+    public BoardCells cells() {
+        return this;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int getCell(int row, int col) {
+        return cells.get(row * cols + col);
+    }
+
+    @Override
+    public long getVersion() {
+        return version();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Answered from the board's journal of recent changes.
+     * </p>
+     */
+    @Override
+    public boolean changesSince(long since, BoardDelta delta) {
+        return journal().collect(since, version(), delta);
+    }
+
+    @Override
+    public BoardCells detached() {
+        return journal().detach(this);
+    }
+
+    @Override
+    protected int cellAt(int row, int col) {
+        return cells.get(row * cols + col);
+    }
+
+    @Override
+    protected void setCell(int row, int col, int colorId) {
+        cells.set(row * cols + col, (byte) colorId);
+    }
+
+    @Override
+    protected void clearCells() {
+        cells.clear(0, rows * cols);
+    }
+
+    @Override
+    protected boolean isFullRow(int row) {
+        int from = row * cols;
+        return cells.isFull(from, from + cols);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Surviving rows are compacted downwards in place with one array copy
+     * per moved row.
+     * </p>
+     */
+    @Override
+    protected void removeRows(int[] fullRows, int count) {
+        int write = rows - 1;
+        int nextCleared = count - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (nextCleared >= 0 && fullRows[nextCleared] == read) {
+                nextCleared--;
+                continue;
+            }
+            if (write != read) {
+                cells.move(read * cols, write * cols, cols);
+            }
+            write--;
+        }
+        cells.clear(0, (write + 1) * cols);
+    }
+
+    @Override
+    protected void shiftRowsUp() {
+        cells.move(cols, 0, (rows - 1) * cols);
+        cells.clear((rows - 1) * cols, rows * cols);
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.bricks.RandomBrickGeneratorFactory;
+
+/**
+ * Factory for creating ByteBoard instances.
+ * <p>
+ * Drop-in replacement for {@link SimpleBoardFactory} that hands out
+ * byte-per-cell boards, for simulations that keep many boards
+ * in memory at once.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ByteBoardFactory implements BoardFactory {
+
+    private final BoardComponentsFactory componentsFactory;
+
+    public ByteBoardFactory() {
+        this(new DefaultBoardComponentsFactory(new RandomBrickGeneratorFactory()));
+    }
+
+    public ByteBoardFactory(BoardComponentsFactory componentsFactory) {
+        this.componentsFactory = Objects.requireNonNull(componentsFactory, "componentsFactory must not be null");
+    }
+
+    @Override
+    public BoardPorts create(int rows, int cols) {
+        return new ByteBoardPorts(new ByteBoard(rows, cols, componentsFactory));
+    }
+}
@@ -0,0 +1,126 @@
+package com.comp2042.tetris.engine.board;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+import com.comp2042.tetris.util.RowScan;
+
+/**
+ * Flat byte storage for the cells of a {@link ByteBoard}.
+ * <p>
+ * Cells are addressed by their row-major index. The heap store backs a
+ * stand-alone board; the off-heap store backs a board living in a slot of
+ * a {@link BoardPool}.
+ * </p>
+ *
+ * @version 1.0
+ */
+interface CellStore {
+
+    byte get(int index);
+
+    void set(int index, byte value);
+
+    /**
+     * Copies {@code length} cells from {@code from} to {@code to}; the ranges may overlap.
+     */
+    void move(int from, int to, int length);
+
+    /**
+     * Empties the cells in {@code [from, to)}.
+     */
+    void clear(int from, int to);
+
+    /**
+     * Checks whether every cell in {@code [from, to)} is filled.
+     */
+    boolean isFull(int from, int to);
+
+    static CellStore heap(int size) {
+        return new Heap(new byte[size]);
+    }
+
+    static CellStore offHeap(MemorySegment segment) {
+        return new OffHeap(segment);
+    }
+
+    /**
+     * Cells held in a plain byte array.
+     */
+    final class Heap implements CellStore {
+
+        private final byte[] cells;
+
+        Heap(byte[] cells) {
+            this.cells = cells;
+        }
+
+        @Override
+        public byte get(int index) {
+            return cells[index];
+        }
+
+        @Override
+        public void set(int index, byte value) {
+            cells[index] = value;
+        }
+
+        @Override
+        public void move(int from, int to, int length) {
+            System.arraycopy(cells, from, cells, to, length);
+        }
+
+        @Override
+        public void clear(int from, int to) {
+            Arrays.fill(cells, from, to, (byte) 0);
+        }
+
+        @Override
+        public boolean isFull(int from, int to) {
+            return RowScan.isFull(cells, from, to);
+        }
+    }
+
+    /**
+     * Cells held in a slice of an off-heap memory segment.
+     */
+    final class OffHeap implements CellStore {
+
+        private final MemorySegment segment;
+
+        OffHeap(MemorySegment segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public byte get(int index) {
+            return segment.get(ValueLayout.JAVA_BYTE, index);
+        }
+
+        @Override
+        public void set(int index, byte value) {
+            segment.set(ValueLayout.JAVA_BYTE, index, value);
+        }
+
+        @Override
+        public void move(int from, int to, int length) {
+            MemorySegment.copy(segment, from, segment, to, length);
+        }
+
+        @Override
+        public void clear(int from, int to) {
+            segment.asSlice(from, to - from).fill((byte) 0);
+        }
+
+        @Override
+        public boolean isFull(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (segment.get(ValueLayout.JAVA_BYTE, i) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Arrays;
+
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
+/**
+ * Incrementally maintained surface of the stack, one entry per column.
+ * <p>
+ * For each column the index of its topmost filled row is kept ({@code rows}
+ * when the column is empty). Boards update it on merge, clear and garbage
+ * insertion, which lets {@link #dropDistance} answer "how far can this brick
+ * fall" by looking only at the columns the brick covers.
+ * </p>
+ * <p>
+ * The surface only reflects changes made through the owning board; cells
+ * written straight into a board's matrix are not tracked.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class ColumnHeights {
+
+    /**
+     * Reads one cell of the board being tracked.
+     */
+    @FunctionalInterface
+    interface CellProbe {
+        boolean isFilled(int row, int col);
+    }
+
+    private final int rows;
+    private final int[] top;
+
+    /**
+     * Creates the surface of an empty board.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     */
+    ColumnHeights(int rows, int cols) {
+        this.rows = rows;
+        this.top = new int[cols];
+        reset();
+    }
+
+    /**
+     * Marks every column as empty.
+     */
+    void reset() {
+        Arrays.fill(top, rows);
+    }
+
+    /**
+     * Gets the stack height of a column.
+     *
+     * @param col the column
+     * @return the number of rows from the floor up to and including the topmost filled cell
+     */
+    int height(int col) {
+        return rows - top[col];
+    }
+
+    /**
+     * Raises the surface for a brick that has just been merged.
+     *
+     * @param table the brick's rotation table
+     * @param rotation the merged rotation
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     */
+    void onMerge(RotationTable table, int rotation, int x, int y) {
+        for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+            int row = y + table.cellRow(rotation, i);
+            int col = x + table.cellCol(rotation, i);
+            if (row >= 0 && row < rows && col >= 0 && col < top.length && row < top[col]) {
+                top[col] = row;
+            }
+        }
+    }
+
+    /**
+     * Lowers the surface after rows were cleared.
+     * <p>
+     * Clearing only moves cells down, so each column is rescanned from its
+     * previous top rather than from row 0.
+     * </p>
+     *
+     * @param probe reads the board after the clear
+     */
+    void onRowsCleared(CellProbe probe) {
+        for (int col = 0; col < top.length; col++) {
+            int row = top[col];
+            while (row < rows && !probe.isFilled(row, col)) {
+                row++;
+            }
+            top[col] = row;
+        }
+    }
+
+    /**
+     * Recomputes every column from scratch.
+     *
+     * @param probe reads the board
+     */
+    void rescan(CellProbe probe) {
+        Arrays.fill(top, 0);
+        onRowsCleared(probe);
+    }
+
+    /**
+     * Computes how many rows a brick can fall from {@code (x, y)}.
+     * <p>
+     * Exact whenever every filled column of the brick sits above the stack
+     * surface, which is always the case for a brick falling from the spawn
+     * row. Returns {@code -1} when the brick is tucked under an overhang,
+     * overlaps the board edge or is already blocked; callers then fall
+     * back to a collision scan.
+     * </p>
+     *
+     * @param table the brick's rotation table
+     * @param rotation the rotation to drop
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return the number of free rows below the brick, or {@code -1} if unknown
+     */
+    int dropDistance(RotationTable table, int rotation, int x, int y) {
+        if (table.cellCount(rotation) == 0 || y + table.minRow(rotation) < 0) {
+            return -1;
+        }
+        int distance = Integer.MAX_VALUE;
+        for (int c = table.minCol(rotation); c <= table.maxCol(rotation); c++) {
+            int bottom = table.bottom(rotation, c);
+            if (bottom < 0) {
+                continue;
+            }
+            int col = x + c;
+            if (col < 0 || col >= top.length) {
+                return -1;
+            }
+            int free = top[col] - 1 - (y + bottom);
+            if (free < 0) {
+                return -1;
+            }
+            distance = Math.min(distance, free);
+        }
+        return distance;
+    }
+}
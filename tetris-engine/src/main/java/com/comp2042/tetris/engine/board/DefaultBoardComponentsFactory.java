@@ -0,0 +1,82 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.bricks.BrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.SeededBrickGeneratorFactory;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.util.SplitMixRandom;
+
+/**
+ * Default implementation of BoardComponentsFactory.
+ * <p>
+ * Creates standard board components using the provided
+ * brick generator factory.
+ * </p>
+ * <p>
+ * A factory built with a garbage seed hands each board its own garbage
+ * stream split from that seed; see {@link #seeded(long)} for a factory
+ * whose pieces and garbage are both reproducible. Seeded garbage streams
+ * are {@link SplitMixRandom}s, so they can be saved with the board.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class DefaultBoardComponentsFactory implements BoardComponentsFactory {
+
+    private final BrickGeneratorFactory generatorFactory;
+    private final SplitMixRandom garbageRoot;
+
+    public DefaultBoardComponentsFactory(BrickGeneratorFactory generatorFactory) {
+        this.generatorFactory = Objects.requireNonNull(generatorFactory, "generatorFactory must not be null");
+        this.garbageRoot = null;
+    }
+
+    /**
+     * Creates a factory whose boards lay reproducible garbage lines.
+     *
+     * @param generatorFactory creates each board's brick generator
+     * @param garbageSeed the seed of the garbage streams
+     */
+    public DefaultBoardComponentsFactory(BrickGeneratorFactory generatorFactory, long garbageSeed) {
+        this.generatorFactory = Objects.requireNonNull(generatorFactory, "generatorFactory must not be null");
+        this.garbageRoot = new SplitMixRandom(garbageSeed);
+    }
+
+    /**
+     * Creates a factory whose pieces (7-bag) and garbage both follow from one seed.
+     *
+     * @param seed the seed
+     * @return the factory
+     */
+    public static DefaultBoardComponentsFactory seeded(long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        return new DefaultBoardComponentsFactory(new SeededBrickGeneratorFactory(seeds.nextLong()), seeds.nextLong());
+    }
+
+    @Override
+    public BrickGenerator createGenerator() {
+        return generatorFactory.create();
+    }
+
+    @Override
+    public BrickRotator createRotator() {
+        return new BrickRotator();
+    }
+
+    @Override
+    public BrickPositionManager createPositionManager() {
+        
+        return new BrickPositionManager(4, 0);
+    }
+
+    @Override
+    public synchronized RandomGenerator createGarbageRandom() {
+        return garbageRoot != null ? garbageRoot.split() : new SplittableRandom();
+    }
+}
+
@@ -0,0 +1,63 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.bricks.BrickRegistry;
+
+/**
+ * Shapes of the upcoming bricks, as shown in the "next" panel.
+ * <p>
+ * Boards rebuild their {@link com.comp2042.tetris.domain.model.ViewData}
+ * after every move, but the queue only changes when a brick spawns. The
+ * preview reads the queue into a reused buffer and only builds a new shape
+ * list when a brick in it differs from the last one shown, so moving and
+ * rotating do not allocate anything here.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class NextBrickPreview {
+
+    private final Brick[] next;
+    private final Brick[] shown;
+    private int shownCount = -1;
+    private List<int[][]> shapes = List.of();
+
+    /**
+     * Creates a preview of the next {@code count} bricks.
+     *
+     * @param count how many upcoming bricks to show
+     */
+    NextBrickPreview(int count) {
+        this.next = new Brick[count];
+        this.shown = new Brick[count];
+    }
+
+    /**
+     * Gets the spawn-rotation shapes of the upcoming bricks.
+     *
+     * @param generator the generator to preview
+     * @return an unmodifiable list of shared shapes, the same list while the queue is unchanged
+     */
+    List<int[][]> shapes(BrickGenerator generator) {
+        int count = generator.peekNextBricks(next);
+        boolean changed = count != shownCount;
+        for (int i = 0; i < count && !changed; i++) {
+            changed = next[i] != shown[i];
+        }
+        if (changed) {
+            int[][][] matrices = new int[count][][];
+            for (int i = 0; i < count; i++) {
+                matrices[i] = BrickRegistry.rotationTable(next[i]).shape(0);
+            }
+            shapes = List.of(matrices);
+            System.arraycopy(next, 0, shown, 0, count);
+            Arrays.fill(next, null);
+            shownCount = count;
+        }
+        return shapes;
+    }
+}
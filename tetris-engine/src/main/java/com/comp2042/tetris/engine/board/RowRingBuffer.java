@@ -0,0 +1,134 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Arrays;
+
+/**
+ * Board storage holding row arrays in a circular buffer.
+ * <p>
+ * Logical row {@code r} lives in physical slot {@code (base + r) % rows}.
+ * Dropping the top row to push a new one in at the bottom only moves
+ * {@code base}, and removing a cleared row only moves the row references
+ * between it and the nearer board edge; no cell is copied and no row is
+ * allocated after construction.
+ * </p>
+ * <p>
+ * {@link #view()} exposes the rows as a plain {@code int[][]} in logical
+ * order. The view array keeps its identity for the life of the buffer and
+ * shares its row arrays with the buffer, so cell writes through it are
+ * seen by the board. Its row references are refreshed lazily after the
+ * buffer has been rotated.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class RowRingBuffer {
+
+    private final int rows;
+    private final int cols;
+    private final int[][] ring;
+    private final int[][] view;
+    private int base;
+    private boolean viewDirty;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     */
+    RowRingBuffer(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.ring = new int[rows][cols];
+        this.view = new int[rows][];
+        this.viewDirty = true;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the array backing a logical row.
+     *
+     * @param row the logical row, 0 being the top
+     * @return the live row array
+     */
+    int[] row(int row) {
+        return ring[slot(row)];
+    }
+
+    /**
+     * Returns the rows in logical order.
+     *
+     * @return the live view, the same array on every call
+     */
+    int[][] view() {
+        if (viewDirty) {
+            int split = rows - base;
+            System.arraycopy(ring, base, view, 0, split);
+            System.arraycopy(ring, 0, view, split, base);
+            viewDirty = false;
+        }
+        return view;
+    }
+
+    /**
+     * Removes a row; the rows above it move down by one and an empty row
+     * appears at the top.
+     * <p>
+     * References are shifted on whichever side of {@code row} is shorter,
+     * so clearing near the bottom of the stack costs next to nothing.
+     * </p>
+     *
+     * @param row the logical row to remove
+     */
+    void removeRow(int row) {
+        int[] removed = ring[slot(row)];
+        Arrays.fill(removed, 0);
+        if (row >= rows / 2) {
+            for (int i = row; i < rows - 1; i++) {
+                ring[slot(i)] = ring[slot(i + 1)];
+            }
+            ring[slot(rows - 1)] = removed;
+            base = base == 0 ? rows - 1 : base - 1;
+        } else {
+            for (int i = row; i > 0; i--) {
+                ring[slot(i)] = ring[slot(i - 1)];
+            }
+            ring[slot(0)] = removed;
+        }
+        viewDirty = true;
+    }
+
+    /**
+     * Drops the top row and makes room for a new row at the bottom.
+     *
+     * @return the new, zeroed bottom row for the caller to fill
+     */
+    int[] pushBottom() {
+        int[] recycled = ring[base];
+        Arrays.fill(recycled, 0);
+        base = base == rows - 1 ? 0 : base + 1;
+        viewDirty = true;
+        return recycled;
+    }
+
+    /**
+     * Empties every row without reallocating.
+     */
+    void clear() {
+        for (int[] row : ring) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int slot(int row) {
+        int slot = base + row;
+        return slot >= rows ? slot - rows : slot;
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.engine.bricks.BrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RandomBrickGeneratorFactory;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+import com.comp2042.tetris.util.CollisionDetector;
+import com.comp2042.tetris.util.MatrixOperations;
+
+/**
+ * Core game board implementation managing brick placement and movement.
+ * <p>
+ * Stores the cells as {@code int} rows in a circular row buffer; brick
+ * handling is inherited from {@link AbstractBoard}. The board matrix is
+ * live, so cells written straight into it are seen by collision checks.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class SimpleBoard extends AbstractBoard {
+
+    private final RowRingBuffer rowBuffer;
+
+    /**
+     * Constructs a SimpleBoard with default random brick generator.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     */
+    public SimpleBoard(int rows, int cols) {
+        this(rows, cols, new RandomBrickGeneratorFactory());
+    }
+
+    /**
+     * Constructs a SimpleBoard with a custom brick generator factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param generatorFactory the factory to create brick generators
+     */
+    public SimpleBoard(int rows, int cols, BrickGeneratorFactory generatorFactory) {
+        this(rows, cols, new DefaultBoardComponentsFactory(Objects.requireNonNull(generatorFactory, "generatorFactory must not be null")));
+    }
+
+    /**
+     * Constructs a SimpleBoard with a custom components factory.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param componentsFactory the factory to create board components
+     * @throws IllegalArgumentException if the dimensions are not positive
+     */
+    public SimpleBoard(int rows, int cols, BoardComponentsFactory componentsFactory) {
+        super(rows, cols, componentsFactory, BoardJournal.DEFAULT_CAPACITY);
+        rowBuffer = new RowRingBuffer(rows, cols);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The collision check reads the live board matrix directly; it never
+     * writes to it, so no defensive copy is needed.
+     * </p>
+     */
+    @Override
+    protected boolean collides(RotationTable table, int rotation, int x, int y) {
+        return CollisionDetector.isCollision(rowBuffer.view(), table, rotation, x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return rowBuffer.view();
+    }
+
+    @Override
+    protected int cellAt(int row, int col) {
+        return rowBuffer.row(row)[col];
+    }
+
+    @Override
+    protected void setCell(int row, int col, int colorId) {
+        rowBuffer.row(row)[col] = colorId;
+    }
+
+    @Override
+    protected void clearCells() {
+        rowBuffer.clear();
+    }
+
+    @Override
+    protected boolean isFullRow(int row) {
+        return MatrixOperations.isFullRow(rowBuffer.row(row));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each full row is dropped from the circular row buffer, which only
+     * moves row references; the board matrix keeps its identity.
+     * </p>
+     */
+    @Override
+    protected void removeRows(int[] fullRows, int count) {
+        for (int i = 0; i < count; i++) {
+            rowBuffer.removeRow(fullRows[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The top row is recycled as the new bottom row, so the rest of the
+     * board is not copied.
+     * </p>
+     */
+    @Override
+    protected void shiftRowsUp() {
+        rowBuffer.pushBottom();
+    }
+}
@@ -26,8 +26,8 @@ public class SimpleBoardFactory implements BoardFactory {
     }
 
     @Override
-    public SimpleBoard create(int rows, int cols) {
-        return new SimpleBoard(rows, cols, componentsFactory);
+    public BoardPorts create(int rows, int cols) {
+        return new SimpleBoardPorts(new SimpleBoard(rows, cols, componentsFactory));
     }
 }
 
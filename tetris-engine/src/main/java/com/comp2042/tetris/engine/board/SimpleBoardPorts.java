@@ -42,5 +42,9 @@ public final class SimpleBoardPorts implements BoardPorts {
     public BoardLifecycle lifecycle() {
         return board;
     }
-}
 
+    @Override
+    public BoardPersistence persistence() {
+        return board;
+    }
+}
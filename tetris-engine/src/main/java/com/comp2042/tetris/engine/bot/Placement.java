@@ -0,0 +1,68 @@
+package com.comp2042.tetris.engine.bot;
+
+/**
+ * A reachable resting position for the falling brick, as chosen by {@link PlacementSearch}.
+ * <p>
+ * The position is reached by rotating {@link #getRotations()} times where
+ * the brick is, shifting it to column {@link #getX()} and dropping it.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Placement {
+
+    private final int rotations;
+    private final int x;
+    private final int y;
+    private final int linesCleared;
+    private final double score;
+
+    Placement(int rotations, int x, int y, int linesCleared, double score) {
+        this.rotations = rotations;
+        this.x = x;
+        this.y = y;
+        this.linesCleared = linesCleared;
+        this.score = score;
+    }
+
+    /**
+     * Gets the number of rotations to apply before shifting.
+     *
+     * @return the rotation count
+     */
+    public int getRotations() {
+        return rotations;
+    }
+
+    /**
+     * Gets the target column of the brick's shape origin.
+     *
+     * @return the x position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row the brick's shape origin comes to rest at.
+     *
+     * @return the landing y position
+     */
+    public int getY() {
+        return y;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[rotations=" + rotations + ", x=" + x + ", y=" + y
+                + ", lines=" + linesCleared + ", score=" + score + "]";
+    }
+}
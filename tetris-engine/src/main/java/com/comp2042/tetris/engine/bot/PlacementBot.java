@@ -0,0 +1,60 @@
+package com.comp2042.tetris.engine.bot;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+import com.comp2042.tetris.engine.simulation.MovePolicy;
+
+/**
+ * Move policy that places every brick where a {@link PlacementSearch} says.
+ * <p>
+ * Suitable for load tests and simulations. Each thread gets its own
+ * sequential search, since the simulator already spreads games over all
+ * cores; the policy itself can be shared.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PlacementBot implements MovePolicy {
+
+    private final PlacementHeuristic heuristic;
+    private final ThreadLocal<PlacementSearch> searches;
+
+    public PlacementBot() {
+        this(PlacementHeuristic.DEFAULT);
+    }
+
+    public PlacementBot(PlacementHeuristic heuristic) {
+        this.heuristic = Objects.requireNonNull(heuristic, "heuristic must not be null");
+        this.searches = ThreadLocal.withInitial(() -> PlacementSearch.sequential(this.heuristic));
+    }
+
+    /**
+     * Rotates and shifts the session's brick into the best placement.
+     * The brick is left for the caller to drop.
+     */
+    @Override
+    public void place(HeadlessGameSession session, RandomGenerator random) {
+        ViewData view = session.reader().getViewData();
+        Placement placement = searches.get().search(session.reader().getBoardMatrix(), view);
+        if (placement == null) {
+            return;
+        }
+        for (int i = 0; i < placement.getRotations(); i++) {
+            session.rotate();
+        }
+        int x = session.reader().getViewData().getxPosition();
+        while (x < placement.getX() && session.moveRight()) {
+            x++;
+        }
+        while (x > placement.getX() && session.moveLeft()) {
+            x--;
+        }
+    }
+
+    public PlacementHeuristic getHeuristic() {
+        return heuristic;
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.tetris.engine.bot;
+
+/**
+ * Weighted evaluation of the board left behind by a placement.
+ * <p>
+ * A placement is scored from four features of the resulting board, after
+ * any completed lines are removed: the sum of column heights, the number
+ * of lines cleared, the number of holes (empty cells with a filled cell
+ * somewhere above them) and the bumpiness (sum of height differences
+ * between neighbouring columns). Higher scores are better, so penalties
+ * take negative weights.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PlacementHeuristic {
+
+    /** Weights tuned for clearing lines steadily on a standard board. */
+    public static final PlacementHeuristic DEFAULT =
+            new PlacementHeuristic(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+
+    /**
+     * Creates a heuristic.
+     *
+     * @param heightWeight the weight of the aggregate column height
+     * @param linesWeight the weight of the number of lines cleared
+     * @param holesWeight the weight of the number of holes
+     * @param bumpinessWeight the weight of the bumpiness
+     */
+    public PlacementHeuristic(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    /**
+     * Scores a resulting board from its features.
+     *
+     * @param aggregateHeight the sum of column heights
+     * @param linesCleared the number of lines the placement completed
+     * @param holes the number of covered empty cells
+     * @param bumpiness the sum of absolute height differences of neighbouring columns
+     * @return the score; higher is better
+     */
+    public double score(int aggregateHeight, int linesCleared, int holes, int bumpiness) {
+        return heightWeight * aggregateHeight
+                + linesWeight * linesCleared
+                + holesWeight * holes
+                + bumpinessWeight * bumpiness;
+    }
+
+    public double getHeightWeight() {
+        return heightWeight;
+    }
+
+    public double getLinesWeight() {
+        return linesWeight;
+    }
+
+    public double getHolesWeight() {
+        return holesWeight;
+    }
+
+    public double getBumpinessWeight() {
+        return bumpinessWeight;
+    }
+}
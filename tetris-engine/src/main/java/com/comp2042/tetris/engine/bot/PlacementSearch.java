@@ -0,0 +1,345 @@
+package com.comp2042.tetris.engine.bot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.bricks.BrickRegistry;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
+/**
+ * Finds the best reachable placement for the falling brick.
+ * <p>
+ * Every rotation count the brick can reach where it is (using the same
+ * one-column wall kicks as the boards) is expanded into every column it
+ * can slide to at its current row, and each column into the resting
+ * position a hard drop would give. The board each candidate leaves behind
+ * is scored with a {@link PlacementHeuristic}.
+ * </p>
+ * <p>
+ * Rotations are evaluated as separate fork/join tasks. The tasks, and the
+ * scratch board each one stamps candidates into, are allocated once and
+ * reused by every search, so evaluating candidates allocates nothing. A
+ * search instance is therefore not thread-safe: give each thread its own.
+ * Ties are broken towards fewer rotations and then smaller columns, so the
+ * result does not depend on scheduling.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PlacementSearch {
+
+    private static final int MAX_ROTATIONS = 4;
+
+    private final PlacementHeuristic heuristic;
+    private final ForkJoinPool pool;
+    private final RotationTable[] knownTables;
+    private final RotationCandidates[] tasks = new RotationCandidates[MAX_ROTATIONS];
+    private final SearchRoot root = new SearchRoot();
+
+    private int[][] board;
+    private RotationTable table;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private int taskCount;
+
+    /**
+     * Creates a search evaluating rotations in parallel on the common pool.
+     *
+     * @param heuristic scores candidate placements
+     */
+    public PlacementSearch(PlacementHeuristic heuristic) {
+        this(heuristic, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param heuristic scores candidate placements
+     * @param pool the pool evaluating rotations in parallel, or {@code null}
+     *             to evaluate them on the calling thread
+     */
+    public PlacementSearch(PlacementHeuristic heuristic, ForkJoinPool pool) {
+        this.heuristic = Objects.requireNonNull(heuristic, "heuristic must not be null");
+        this.pool = pool;
+        BrickRegistry registry = BrickRegistry.getInstance();
+        this.knownTables = new RotationTable[registry.typeCount()];
+        for (int i = 0; i < knownTables.length; i++) {
+            knownTables[i] = BrickRegistry.rotationTable(registry.flyweight(i));
+        }
+        for (int k = 0; k < MAX_ROTATIONS; k++) {
+            tasks[k] = new RotationCandidates(k);
+        }
+    }
+
+    /**
+     * Creates a search that evaluates candidates on the calling thread.
+     * <p>
+     * Preferable when the caller already keeps every core busy, e.g. as
+     * the move policy of a parallel simulation.
+     * </p>
+     *
+     * @param heuristic scores candidate placements
+     * @return the search
+     */
+    public static PlacementSearch sequential(PlacementHeuristic heuristic) {
+        return new PlacementSearch(heuristic, null);
+    }
+
+    /**
+     * Searches placements for the brick described by a view snapshot.
+     *
+     * @param boardMatrix the settled cells, without the falling brick; only read
+     * @param view the falling brick's shape and position
+     * @return the best placement, or {@code null} if the brick cannot be placed
+     */
+    public Placement search(int[][] boardMatrix, ViewData view) {
+        return search(boardMatrix, view.getBrickData(), view.getxPosition(), view.getyPosition());
+    }
+
+    /**
+     * Searches placements for a falling brick.
+     *
+     * @param boardMatrix the settled cells, without the falling brick; only read
+     * @param shape the brick's current rotation matrix
+     * @param x the column of the brick's shape origin
+     * @param y the row of the brick's shape origin
+     * @return the best placement, or {@code null} if the brick cannot be placed
+     */
+    public Placement search(int[][] boardMatrix, int[][] shape, int x, int y) {
+        Objects.requireNonNull(boardMatrix, "boardMatrix must not be null");
+        Objects.requireNonNull(shape, "shape must not be null");
+        if (boardMatrix.length == 0) {
+            return null;
+        }
+        identify(shape);
+        this.board = boardMatrix;
+        this.startX = x;
+        this.startY = y;
+        this.taskCount = Math.min(table.rotationCount(), MAX_ROTATIONS);
+
+        if (pool == null || taskCount == 1) {
+            for (int k = 0; k < taskCount; k++) {
+                tasks[k].evaluate();
+            }
+        } else {
+            root.reinitialize();
+            pool.invoke(root);
+        }
+        this.board = null;
+
+        RotationCandidates best = null;
+        for (int k = 0; k < taskCount; k++) {
+            RotationCandidates task = tasks[k];
+            if (task.found && (best == null || task.bestScore > best.bestScore)) {
+                best = task;
+            }
+        }
+        return best == null ? null
+                : new Placement(best.rotations, best.bestX, best.bestY, best.bestLines, best.bestScore);
+    }
+
+    public PlacementHeuristic getHeuristic() {
+        return heuristic;
+    }
+
+    private void identify(int[][] shape) {
+        for (RotationTable candidate : knownTables) {
+            for (int r = 0; r < candidate.rotationCount(); r++) {
+                if (Arrays.deepEquals(candidate.shape(r), shape)) {
+                    table = candidate;
+                    startRotation = r;
+                    return;
+                }
+            }
+        }
+        table = RotationTable.of(List.<int[][]>of(shape));
+        startRotation = 0;
+    }
+
+    /**
+     * Forks one task per extra rotation count, evaluates the first itself
+     * and waits for the rest.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private final class SearchRoot extends RecursiveAction {
+
+        @Override
+        protected void compute() {
+            for (int k = 1; k < taskCount; k++) {
+                tasks[k].reinitialize();
+                tasks[k].fork();
+            }
+            tasks[0].evaluate();
+            for (int k = taskCount - 1; k >= 1; k--) {
+                tasks[k].join();
+            }
+        }
+    }
+
+    /**
+     * Evaluates every column for one rotation count, keeping the best.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private final class RotationCandidates extends RecursiveAction {
+
+        private final int rotations;
+        private byte[] cells = new byte[0];
+        private boolean[] fullRows = new boolean[0];
+        private int[] heights = new int[0];
+
+        boolean found;
+        double bestScore;
+        int bestX;
+        int bestY;
+        int bestLines;
+
+        RotationCandidates(int rotations) {
+            this.rotations = rotations;
+        }
+
+        @Override
+        protected void compute() {
+            evaluate();
+        }
+
+        void evaluate() {
+            found = false;
+            int rows = board.length;
+            int cols = board[0].length;
+
+            int rotation = startRotation;
+            int x = startX;
+            for (int i = 0; i < rotations; i++) {
+                int next = table.next(rotation);
+                if (fits(next, x, startY)) {
+                    rotation = next;
+                } else if (fits(next, x + 1, startY)) {
+                    rotation = next;
+                    x++;
+                } else if (fits(next, x - 1, startY)) {
+                    rotation = next;
+                    x--;
+                } else {
+                    return;
+                }
+            }
+            if (!fits(rotation, x, startY)) {
+                return;
+            }
+
+            loadBoard(rows, cols);
+            int left = x;
+            while (fits(rotation, left - 1, startY)) {
+                left--;
+            }
+            int right = x;
+            while (fits(rotation, right + 1, startY)) {
+                right++;
+            }
+            for (int cx = left; cx <= right; cx++) {
+                int cy = startY;
+                while (fits(rotation, cx, cy + 1)) {
+                    cy++;
+                }
+                evaluateAt(rotation, cx, cy, rows, cols);
+            }
+        }
+
+        private boolean fits(int rotation, int x, int y) {
+            int[][] matrix = board;
+            for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+                int r = y + table.cellRow(rotation, i);
+                int c = x + table.cellCol(rotation, i);
+                if (r < 0 || r >= matrix.length || c < 0 || c >= matrix[r].length || matrix[r][c] != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void loadBoard(int rows, int cols) {
+            if (cells.length != rows * cols) {
+                cells = new byte[rows * cols];
+                fullRows = new boolean[rows];
+                heights = new int[cols];
+            }
+            for (int r = 0; r < rows; r++) {
+                int[] row = board[r];
+                int base = r * cols;
+                for (int c = 0; c < cols; c++) {
+                    cells[base + c] = (byte) (row[c] != 0 ? 1 : 0);
+                }
+            }
+        }
+
+        private void evaluateAt(int rotation, int x, int y, int rows, int cols) {
+            int n = table.cellCount(rotation);
+            for (int i = 0; i < n; i++) {
+                cells[(y + table.cellRow(rotation, i)) * cols + x + table.cellCol(rotation, i)] = 1;
+            }
+
+            int lines = 0;
+            for (int r = y + table.minRow(rotation), last = y + table.maxRow(rotation); r <= last; r++) {
+                boolean full = true;
+                for (int c = 0, base = r * cols; c < cols; c++) {
+                    if (cells[base + c] == 0) {
+                        full = false;
+                        break;
+                    }
+                }
+                fullRows[r] = full;
+                if (full) {
+                    lines++;
+                }
+            }
+
+            int remainingRows = rows - lines;
+            int aggregateHeight = 0;
+            int holes = 0;
+            for (int c = 0; c < cols; c++) {
+                int height = 0;
+                int rowIndex = 0;
+                for (int r = 0; r < rows; r++) {
+                    if (fullRows[r]) {
+                        continue;
+                    }
+                    if (cells[r * cols + c] != 0) {
+                        if (height == 0) {
+                            height = remainingRows - rowIndex;
+                        }
+                    } else if (height != 0) {
+                        holes++;
+                    }
+                    rowIndex++;
+                }
+                heights[c] = height;
+                aggregateHeight += height;
+            }
+            int bumpiness = 0;
+            for (int c = 1; c < cols; c++) {
+                bumpiness += Math.abs(heights[c] - heights[c - 1]);
+            }
+
+            double score = heuristic.score(aggregateHeight, lines, holes, bumpiness);
+            if (!found || score > bestScore) {
+                found = true;
+                bestScore = score;
+                bestX = x;
+                bestY = y;
+                bestLines = lines;
+            }
+
+            for (int r = y + table.minRow(rotation), last = y + table.maxRow(rotation); r <= last; r++) {
+                fullRows[r] = false;
+            }
+            for (int i = 0; i < n; i++) {
+                cells[(y + table.cellRow(rotation, i)) * cols + x + table.cellCol(rotation, i)] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.util.SplitMixRandom;
+
+/**
+ * Generates bricks with the "7-bag" randomizer.
+ * <p>
+ * Every registered type is put in a bag, the bag is shuffled and emptied
+ * in order, then refilled. Each type therefore appears exactly once per
+ * bag, which bounds droughts of any piece to two bags.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BagBrickGenerator extends QueuedBrickGenerator {
+
+    private final RandomGenerator random;
+    private int[] bag = new int[0];
+    private int drawn;
+
+    /**
+     * Creates a bag generator drawing from the given random source.
+     *
+     * @param random the source of randomness; owned by this generator from now on
+     */
+    public BagBrickGenerator(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        initializeQueue();
+    }
+
+    @Override
+    protected int nextTypeId() {
+        if (drawn == bag.length) {
+            refill();
+        }
+        return bag[drawn++];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes the current bag, how much of it has been drawn and the
+     * shuffling stream.
+     * </p>
+     */
+    @Override
+    protected void saveRandomizerState(ByteBuffer out) {
+        out.putInt(bag.length);
+        for (int typeId : bag) {
+            out.putInt(typeId);
+        }
+        out.putInt(drawn);
+        SplitMixRandom.writeState(random, out);
+    }
+
+    @Override
+    protected Runnable readRandomizerState(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining() / Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid bag length " + length);
+        }
+        int[] savedBag = new int[length];
+        for (int i = 0; i < length; i++) {
+            savedBag[i] = checkTypeId(in.getInt());
+        }
+        int savedDrawn = in.getInt();
+        if (savedDrawn < 0 || savedDrawn > length) {
+            throw new IllegalArgumentException("Invalid bag position " + savedDrawn);
+        }
+        Runnable stream = SplitMixRandom.prepareState(random, in);
+        return () -> {
+            stream.run();
+            bag = savedBag;
+            drawn = savedDrawn;
+        };
+    }
+
+    private void refill() {
+        int types = registry.typeCount();
+        if (bag.length != types) {
+            bag = new int[types];
+        }
+        for (int i = 0; i < types; i++) {
+            bag[i] = i;
+        }
+        for (int i = types - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = tmp;
+        }
+        drawn = 0;
+    }
+}
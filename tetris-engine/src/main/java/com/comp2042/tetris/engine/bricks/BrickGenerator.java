@@ -0,0 +1,38 @@
+package com.comp2042.tetris.engine.bricks;
+
+/**
+ * Interface for brick generation strategies.
+ * Provides methods to get the next brick and preview upcoming bricks.
+ * Implementations can use different generation algorithms (random, bag, etc.).
+ *
+ */
+public interface BrickGenerator {
+
+    Brick getBrick();
+    
+    Brick peekNextBrick();
+
+    
+    
+    java.util.List<Brick> peekNextBricks(int count);
+
+    /**
+     * Copies the upcoming bricks into a caller-owned buffer.
+     * <p>
+     * Lets the preview be refreshed on every move without allocating. The
+     * default implementation goes through {@link #peekNextBricks(int)};
+     * generators with their own queue should override it.
+     * </p>
+     *
+     * @param target receives the next {@code target.length} bricks, soonest first
+     * @return the number of entries written
+     */
+    default int peekNextBricks(Brick[] target) {
+        java.util.List<Brick> next = peekNextBricks(target.length);
+        int count = Math.min(next.size(), target.length);
+        for (int i = 0; i < count; i++) {
+            target[i] = next.get(i);
+        }
+        return count;
+    }
+}
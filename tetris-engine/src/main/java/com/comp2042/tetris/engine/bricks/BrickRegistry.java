@@ -0,0 +1,149 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Singleton registry for brick (tetromino) types.
+ * <p>
+ * Maintains a list of brick suppliers that can be used by generators
+ * to create new brick instances. All standard Tetris bricks are
+ * registered by default.
+ * </p>
+ * <p>
+ * Each registered type also gets a {@link RotationTable}, compiled once at
+ * registration and shared by every board, so hot paths never have to copy
+ * rotation matrices out of a brick.
+ * </p>
+ * <p>
+ * Registered types are numbered in registration order. Bricks are
+ * immutable, so generators can hand out the shared {@link #flyweight(int)}
+ * instance of a type instead of creating a new brick per spawn.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class BrickRegistry {
+
+    private static final BrickRegistry INSTANCE = new BrickRegistry();
+
+    private final List<Supplier<Brick>> suppliers = new ArrayList<>();
+    private final List<Brick> flyweights = new ArrayList<>();
+    private final Map<Class<? extends Brick>, RotationTable> rotationTables = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor initializes with all standard brick types.
+     */
+    private BrickRegistry() {
+        registerInternal(IBrick::new);
+        registerInternal(JBrick::new);
+        registerInternal(LBrick::new);
+        registerInternal(OBrick::new);
+        registerInternal(SBrick::new);
+        registerInternal(TBrick::new);
+        registerInternal(ZBrick::new);
+    }
+
+    /**
+     * Returns the singleton instance.
+     *
+     * @return the BrickRegistry instance
+     */
+    public static BrickRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a custom brick supplier.
+     *
+     * @param supplier the supplier function to create brick instances
+     */
+    public static void register(Supplier<Brick> supplier) {
+        INSTANCE.registerInternal(supplier);
+    }
+
+    private void registerInternal(Supplier<Brick> supplier) {
+        if (supplier != null) {
+            suppliers.add(supplier);
+            Brick sample = supplier.get();
+            flyweights.add(sample);
+            if (sample != null) {
+                rotationTables.putIfAbsent(sample.getClass(), RotationTable.of(sample.getRotationMatrix()));
+            }
+        }
+    }
+
+    /**
+     * Returns the precompiled rotation table for a brick.
+     * <p>
+     * Registered types share the table built at registration. Bricks of an
+     * unregistered type get a freshly compiled table, since such types (for
+     * example lambdas) may carry different shapes per instance.
+     * </p>
+     *
+     * @param brick the brick to look up
+     * @return the rotation table for the brick's shapes
+     */
+    public static RotationTable rotationTable(Brick brick) {
+        RotationTable table = INSTANCE.rotationTables.get(brick.getClass());
+        return table != null ? table : RotationTable.of(brick.getRotationMatrix());
+    }
+
+    /**
+     * Gets the number of registered brick types.
+     *
+     * @return the number of type ids, which run from 0
+     */
+    public int typeCount() {
+        return flyweights.size();
+    }
+
+    /**
+     * Returns the shared instance of a registered brick type.
+     *
+     * @param typeId the type id, in registration order
+     * @return the brick built by the type's supplier at registration
+     */
+    public Brick flyweight(int typeId) {
+        return flyweights.get(typeId);
+    }
+
+    /**
+     * Finds the registered type whose shared rotation table this is.
+     *
+     * @param table a table obtained from {@link #rotationTable(Brick)}
+     * @return the type id, or {@code -1} if the table belongs to no registered type
+     */
+    public int typeId(RotationTable table) {
+        for (int i = 0; i < flyweights.size(); i++) {
+            Brick brick = flyweights.get(i);
+            if (brick != null && rotationTables.get(brick.getClass()) == table) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an unmodifiable list of registered suppliers.
+     *
+     * @return the list of brick suppliers
+     */
+    public List<Supplier<Brick>> suppliers() {
+        return Collections.unmodifiableList(suppliers);
+    }
+
+    /**
+     * Static convenience method to get all suppliers.
+     *
+     * @return the list of brick suppliers
+     */
+    public static List<Supplier<Brick>> getSuppliers() {
+        return INSTANCE.suppliers();
+    }
+}
+
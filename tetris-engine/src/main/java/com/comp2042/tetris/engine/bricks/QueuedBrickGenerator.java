@@ -0,0 +1,207 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for generators that queue upcoming bricks ahead of time.
+ * <p>
+ * Upcoming bricks are kept as type ids in a fixed-size primitive ring and
+ * resolved to the shared flyweight instances of {@link BrickRegistry}, so
+ * spawning and previewing allocate nothing. Subclasses only decide which
+ * type comes next through {@link #nextTypeId()}.
+ * </p>
+ * <p>
+ * The queue and the subclass's randomizer state can be written with
+ * {@link #saveState} and read back with {@link #restoreState}, so a
+ * suspended game deals the same pieces once resumed.
+ * </p>
+ *
+ * @version 1.0
+ */
+public abstract class QueuedBrickGenerator implements BrickGenerator {
+
+    private static final int QUEUE_SIZE = 5;
+
+    protected final BrickRegistry registry;
+    private int[] ring = new int[QUEUE_SIZE + 1];
+    private int head;
+    private int size;
+
+    /**
+     * Creates a generator drawing from the registered brick types.
+     *
+     * @throws IllegalStateException if no brick types are registered
+     */
+    protected QueuedBrickGenerator() {
+        this.registry = BrickRegistry.getInstance();
+        if (registry.typeCount() == 0) {
+            throw new IllegalStateException("No bricks registered in BrickRegistry");
+        }
+    }
+
+    /**
+     * Picks the type id of the brick to append to the queue.
+     *
+     * @return a type id in {@code [0, registry.typeCount())}
+     */
+    protected abstract int nextTypeId();
+
+    /**
+     * Fills the queue; subclasses call this at the end of their constructor.
+     * <p>
+     * Filling calls {@link #nextTypeId()}, so a subclass calling this must
+     * be final: a further subclass would be asked for types before its own
+     * fields were set.
+     * </p>
+     */
+    protected final void initializeQueue() {
+        fillTo(QUEUE_SIZE);
+    }
+
+    /**
+     * Writes the queued type ids followed by the randomizer state.
+     *
+     * @param out the buffer to write to
+     */
+    public final void saveState(ByteBuffer out) {
+        out.putInt(size);
+        for (int i = 0; i < size; i++) {
+            out.putInt(ring[(head + i) % ring.length]);
+        }
+        saveRandomizerState(out);
+    }
+
+    /**
+     * Replaces the queue and randomizer state with state written by {@link #saveState}.
+     *
+     * @param in the buffer positioned at the saved state
+     * @throws IllegalArgumentException if the state names an unknown brick type
+     */
+    public final void restoreState(ByteBuffer in) {
+        prepareRestore(in).run();
+    }
+
+    /**
+     * Reads and checks state written by {@link #saveState} without applying it.
+     *
+     * @param in the buffer positioned at the saved state
+     * @return replaces the queue and randomizer state when run
+     * @throws IllegalArgumentException if the state names an unknown brick type
+     */
+    public final Runnable prepareRestore(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining() / Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid queue length " + count);
+        }
+        int[] queued = new int[Math.max(count, QUEUE_SIZE + 1)];
+        for (int i = 0; i < count; i++) {
+            queued[i] = checkTypeId(in.getInt());
+        }
+        Runnable randomizer = readRandomizerState(in);
+        return () -> {
+            randomizer.run();
+            ring = queued;
+            head = 0;
+            size = count;
+        };
+    }
+
+    /**
+     * Writes whatever decides the upcoming types; the default writes nothing.
+     *
+     * @param out the buffer to write to
+     */
+    protected void saveRandomizerState(ByteBuffer out) {
+    }
+
+    /**
+     * Reads and checks state written by {@link #saveRandomizerState}; the
+     * default reads nothing. Nothing may change until the returned action runs.
+     *
+     * @param in the buffer positioned at the saved state
+     * @return applies the state
+     */
+    protected Runnable readRandomizerState(ByteBuffer in) {
+        return () -> { };
+    }
+
+    /**
+     * Checks that a restored type id names a registered type.
+     *
+     * @param typeId the type id to check
+     * @return the type id
+     * @throws IllegalArgumentException if no such type is registered
+     */
+    protected final int checkTypeId(int typeId) {
+        if (typeId < 0 || typeId >= registry.typeCount()) {
+            throw new IllegalArgumentException("Unknown brick type id " + typeId);
+        }
+        return typeId;
+    }
+
+    private void fillTo(int count) {
+        if (count > ring.length) {
+            grow(count);
+        }
+        while (size < count) {
+            ring[(head + size) % ring.length] = nextTypeId();
+            size++;
+        }
+    }
+
+    private void grow(int capacity) {
+        int[] larger = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            larger[i] = ring[(head + i) % ring.length];
+        }
+        ring = larger;
+        head = 0;
+    }
+
+    private Brick brickAt(int offset) {
+        return registry.flyweight(ring[(head + offset) % ring.length]);
+    }
+
+    @Override
+    public Brick getBrick() {
+        fillTo(QUEUE_SIZE + 1);
+        Brick brick = brickAt(0);
+        head = (head + 1) % ring.length;
+        size--;
+        return brick;
+    }
+
+    @Override
+    public Brick peekNextBrick() {
+        fillTo(1);
+        return brickAt(0);
+    }
+
+    @Override
+    public List<Brick> peekNextBricks(int count) {
+        fillTo(count);
+        List<Brick> result = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            result.add(brickAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads the ring directly; the ring only grows if the buffer is longer
+     * than any preview requested before.
+     * </p>
+     */
+    @Override
+    public int peekNextBricks(Brick[] target) {
+        fillTo(target.length);
+        for (int i = 0; i < target.length; i++) {
+            target[i] = brickAt(i);
+        }
+        return target.length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.util.SplitMixRandom;
+
+/**
+ * Generates bricks by picking each type uniformly at random.
+ * Queuing and previewing are handled by {@link QueuedBrickGenerator}.
+ * Without an explicit random source ThreadLocalRandom is used, so every
+ * game differs; pass a seeded generator (see
+ * {@link SeededBrickGeneratorFactory}) to reproduce a sequence.
+ *
+ */
+public final class RandomBrickGenerator extends QueuedBrickGenerator {
+
+    private final RandomGenerator random;
+
+    
+    public RandomBrickGenerator() {
+        this.random = null;
+        initializeQueue();
+    }
+
+    /**
+     * Creates a generator drawing from the given random source.
+     *
+     * @param random the source of randomness; owned by this generator from now on
+     */
+    public RandomBrickGenerator(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        initializeQueue();
+    }
+
+    @Override
+    protected int nextTypeId() {
+        RandomGenerator source = random != null ? random : ThreadLocalRandom.current();
+        return source.nextInt(registry.typeCount());
+    }
+
+    @Override
+    protected void saveRandomizerState(ByteBuffer out) {
+        SplitMixRandom.writeState(random, out);
+    }
+
+    @Override
+    protected Runnable readRandomizerState(ByteBuffer in) {
+        return SplitMixRandom.prepareState(random, in);
+    }
+}
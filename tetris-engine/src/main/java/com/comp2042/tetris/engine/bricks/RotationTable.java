@@ -0,0 +1,249 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.comp2042.tetris.util.MatrixOperations;
+
+/**
+ * Immutable, precompiled rotation data for one brick type.
+ * <p>
+ * Built once per type by {@link BrickRegistry} so that rotation, collision
+ * and preview code can read shapes without copying them. For every rotation
+ * the table keeps the shape matrix, a bit mask per shape row (bit {@code j}
+ * set when column {@code j} is filled), the list of filled cells, the
+ * bounding box of the filled cells and, per column, the lowest filled row.
+ * </p>
+ * <p>
+ * Arrays returned by {@link #shape(int)} are shared by every board and must
+ * be treated as read-only.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class RotationTable {
+
+    private final int[][][] shapes;
+    private final long[][] rowMasks;
+    private final int[][] cellRows;
+    private final int[][] cellCols;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minCol;
+    private final int[] maxCol;
+    private final int[][] bottomProfile;
+
+    private RotationTable(int[][][] shapes) {
+        int count = shapes.length;
+        this.shapes = shapes;
+        this.rowMasks = new long[count][];
+        this.cellRows = new int[count][];
+        this.cellCols = new int[count][];
+        this.minRow = new int[count];
+        this.maxRow = new int[count];
+        this.minCol = new int[count];
+        this.maxCol = new int[count];
+        this.bottomProfile = new int[count][];
+        for (int r = 0; r < count; r++) {
+            compile(r, shapes[r]);
+        }
+    }
+
+    /**
+     * Compiles a table from a list of rotation matrices.
+     * <p>
+     * The matrices are copied, so later changes to {@code rotations} do not
+     * affect the table. A {@code null} list yields an empty table.
+     * </p>
+     *
+     * @param rotations the rotation matrices, in rotation order
+     * @return the compiled table
+     * @throws IllegalArgumentException if a shape is wider than 64 columns
+     */
+    public static RotationTable of(List<int[][]> rotations) {
+        if (rotations == null) {
+            return new RotationTable(new int[0][][]);
+        }
+        int[][][] shapes = new int[rotations.size()][][];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = MatrixOperations.copy(rotations.get(i));
+        }
+        return new RotationTable(shapes);
+    }
+
+    private void compile(int rotation, int[][] shape) {
+        long[] masks = new long[shape.length];
+        int cells = 0;
+        int width = 0;
+        for (int[] row : shape) {
+            width = Math.max(width, row.length);
+            if (row.length > Long.SIZE) {
+                throw new IllegalArgumentException("Brick shapes are limited to " + Long.SIZE + " columns");
+            }
+            for (int cell : row) {
+                if (cell != 0) {
+                    cells++;
+                }
+            }
+        }
+
+        int[] rows = new int[cells];
+        int[] cols = new int[cells];
+        int[] bottom = new int[width];
+        Arrays.fill(bottom, -1);
+        int top = Integer.MAX_VALUE;
+        int lowest = -1;
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        int n = 0;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] == 0) {
+                    continue;
+                }
+                masks[i] |= 1L << j;
+                rows[n] = i;
+                cols[n] = j;
+                n++;
+                top = Math.min(top, i);
+                lowest = Math.max(lowest, i);
+                left = Math.min(left, j);
+                right = Math.max(right, j);
+                bottom[j] = i;
+            }
+        }
+
+        rowMasks[rotation] = masks;
+        cellRows[rotation] = rows;
+        cellCols[rotation] = cols;
+        bottomProfile[rotation] = bottom;
+        minRow[rotation] = cells == 0 ? 0 : top;
+        maxRow[rotation] = lowest;
+        minCol[rotation] = cells == 0 ? 0 : left;
+        maxCol[rotation] = right;
+    }
+
+    /**
+     * Gets the number of rotation states.
+     *
+     * @return the rotation count
+     */
+    public int rotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * Gets the index of the rotation that follows {@code rotation}.
+     *
+     * @param rotation the current rotation index
+     * @return the next rotation index, wrapping around
+     */
+    public int next(int rotation) {
+        return (rotation + 1) % shapes.length;
+    }
+
+    /**
+     * Returns the shared shape matrix for a rotation. Must not be modified.
+     *
+     * @param rotation the rotation index
+     * @return the shape matrix
+     */
+    public int[][] shape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Gets the bit mask of filled columns in one shape row.
+     *
+     * @param rotation the rotation index
+     * @param row the shape row
+     * @return the row mask, bit {@code j} set for a filled column {@code j}
+     */
+    public long rowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+
+    /**
+     * Gets the number of filled cells in a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the filled cell count
+     */
+    public int cellCount(int rotation) {
+        return cellRows[rotation].length;
+    }
+
+    /**
+     * Gets the shape row of the {@code index}-th filled cell.
+     *
+     * @param rotation the rotation index
+     * @param index the cell index, below {@link #cellCount(int)}
+     * @return the row of that cell within the shape
+     */
+    public int cellRow(int rotation, int index) {
+        return cellRows[rotation][index];
+    }
+
+    /**
+     * Gets the shape column of the {@code index}-th filled cell.
+     *
+     * @param rotation the rotation index
+     * @param index the cell index, below {@link #cellCount(int)}
+     * @return the column of that cell within the shape
+     */
+    public int cellCol(int rotation, int index) {
+        return cellCols[rotation][index];
+    }
+
+    /**
+     * Gets the topmost shape row containing a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the first filled row
+     */
+    public int minRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /**
+     * Gets the lowest shape row containing a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the last filled row, or -1 for an empty shape
+     */
+    public int maxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * Gets the leftmost shape column containing a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the first filled column
+     */
+    public int minCol(int rotation) {
+        return minCol[rotation];
+    }
+
+    /**
+     * Gets the rightmost shape column containing a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the last filled column, or -1 for an empty shape
+     */
+    public int maxCol(int rotation) {
+        return maxCol[rotation];
+    }
+
+    /**
+     * Gets the lowest filled shape row in a column.
+     *
+     * @param rotation the rotation index
+     * @param col the shape column
+     * @return the lowest filled row in that column, or -1 if the column is empty
+     */
+    public int bottom(int rotation, int col) {
+        int[] profile = bottomProfile[rotation];
+        return col < profile.length ? profile[col] : -1;
+    }
+}
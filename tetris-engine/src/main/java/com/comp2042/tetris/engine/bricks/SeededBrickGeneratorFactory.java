@@ -0,0 +1,86 @@
+package com.comp2042.tetris.engine.bricks;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.util.SplitMixRandom;
+
+/**
+ * Factory for generators that replay the same piece sequence for the same seed.
+ * <p>
+ * Each {@link #create()} hands the new generator its own stream split from
+ * a {@link SplitMixRandom} rooted at the seed, so the n-th generator
+ * created from a given seed always deals the same pieces. The streams'
+ * state can be saved and restored with the generator. Parallel workers
+ * should each take a {@link #split()} of a shared factory: the split
+ * streams are independent of each other and still determined by the seed
+ * and the order of the splits.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SeededBrickGeneratorFactory implements BrickGeneratorFactory {
+
+    /**
+     * How the next piece type is chosen.
+     */
+    public enum Randomizer {
+        /** Every type is equally likely on every draw. */
+        UNIFORM,
+        /** Every type appears once per shuffled bag. */
+        BAG
+    }
+
+    private final SplitMixRandom root;
+    private final Randomizer randomizer;
+
+    /**
+     * Creates a 7-bag factory.
+     *
+     * @param seed the seed determining every sequence this factory deals
+     */
+    public SeededBrickGeneratorFactory(long seed) {
+        this(seed, Randomizer.BAG);
+    }
+
+    /**
+     * Creates a factory.
+     *
+     * @param seed the seed determining every sequence this factory deals
+     * @param randomizer how piece types are picked
+     */
+    public SeededBrickGeneratorFactory(long seed, Randomizer randomizer) {
+        this(new SplitMixRandom(seed), randomizer);
+    }
+
+    private SeededBrickGeneratorFactory(SplitMixRandom root, Randomizer randomizer) {
+        this.root = root;
+        this.randomizer = Objects.requireNonNull(randomizer, "randomizer must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned generator owns a stream split from this factory's root.
+     * </p>
+     */
+    @Override
+    public synchronized BrickGenerator create() {
+        SplitMixRandom stream = root.split();
+        return randomizer == Randomizer.UNIFORM
+            ? new RandomBrickGenerator(stream)
+            : new BagBrickGenerator(stream);
+    }
+
+    /**
+     * Derives an independent factory, e.g. for one parallel worker.
+     *
+     * @return a factory with the same randomizer and its own reproducible stream
+     */
+    public synchronized SeededBrickGeneratorFactory split() {
+        return new SeededBrickGeneratorFactory(root.split(), randomizer);
+    }
+
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+}
@@ -3,7 +3,7 @@ package com.comp2042.tetris.engine.movement;
 import com.comp2042.tetris.engine.board.BoardRead;
 import com.comp2042.tetris.engine.spawn.SpawnManager;
 
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import com.comp2042.tetris.domain.model.RowClearResult;
 import com.comp2042.tetris.domain.model.ShowResult;
 import com.comp2042.tetris.domain.scoring.ScoreManager;
@@ -47,7 +47,7 @@ public final class BrickDrop {
                     scoreService.add(scoreBonus);
                 }
                 
-                result = new RowClearResult(result.getLinesRemoved(), result.getNewMatrix(), scoreBonus, result.getClearedRows());
+                result = result.withScoreBonus(scoreBonus);
             }
 
             
@@ -0,0 +1,31 @@
+package com.comp2042.tetris.engine.movement;
+
+import com.comp2042.tetris.domain.model.RowClearResult;
+
+/**
+ * Interface for brick drop operations and row clearing.
+ * Handles downward movement, merging to background, and line clears.
+ */
+public interface BrickDropActions {
+    boolean moveBrickDown();
+    void mergeBrickToBackground();
+    RowClearResult clearRows();
+
+    /**
+     * Drops the active brick as far as it will go without merging it.
+     * <p>
+     * The default steps down with {@link #moveBrickDown()}; boards that
+     * track their stack surface resolve the landing row directly.
+     * </p>
+     *
+     * @return the number of rows the brick fell
+     */
+    default int hardDrop() {
+        int distance = 0;
+        while (moveBrickDown()) {
+            distance++;
+        }
+        return distance;
+    }
+}
+
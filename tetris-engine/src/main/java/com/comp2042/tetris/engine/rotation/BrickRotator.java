@@ -0,0 +1,67 @@
+package com.comp2042.tetris.engine.rotation;
+
+import com.comp2042.tetris.domain.model.RotationInfo;
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickRegistry;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
+/**
+ * Manages brick rotation by cycling through rotation matrices.
+ * Each brick type has multiple rotation states; this class tracks
+ * the current rotation index and provides the next rotation shape.
+ * <p>
+ * Shapes are read from the brick's precompiled {@link RotationTable},
+ * so the matrices returned here are shared and must not be modified.
+ * </p>
+ *
+ */
+public class BrickRotator {
+    private RotationTable rotationTable;
+    private int currentShape = 0;
+
+
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
+
+    public RotationInfo getNextShape() {
+        int nextShape = getNextShapeIndex();
+        return new RotationInfo(rotationTable.shape(nextShape), nextShape);
+    }
+
+    /**
+     * Gets the rotation index that a rotation would move to, without allocating.
+     *
+     * @return the next rotation index
+     */
+    public int getNextShapeIndex() {
+        return rotationTable.next(currentShape);
+    }
+
+    public int[][] getCurrentShape() {
+        return rotationTable.shape(currentShape);
+    }
+
+    /**
+     * Gets the precompiled rotation table of the current brick.
+     *
+     * @return the rotation table
+     */
+    public RotationTable getRotationTable() {
+        return rotationTable;
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(Brick brick) {
+        RotationTable table = brick == null ? null : BrickRegistry.rotationTable(brick);
+        if (table == null || table.rotationCount() == 0) {
+            throw new IllegalArgumentException("Brick must have at least one rotation matrix");
+        }
+        this.rotationTable = table;
+        currentShape = 0;
+    }
+}
@@ -0,0 +1,210 @@
+package com.comp2042.tetris.engine.session;
+
+import java.util.Objects;
+
+import com.comp2042.tetris.domain.model.EventSource;
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.domain.model.ShowResult;
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoreManager;
+import com.comp2042.tetris.domain.scoring.ScoringPolicy;
+import com.comp2042.tetris.engine.board.BoardFactory;
+import com.comp2042.tetris.engine.board.BoardLifecycle;
+import com.comp2042.tetris.engine.board.BoardPorts;
+import com.comp2042.tetris.engine.board.BoardRead;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.engine.movement.BrickDrop;
+import com.comp2042.tetris.engine.movement.BrickDropActions;
+import com.comp2042.tetris.engine.movement.BrickMovement;
+import com.comp2042.tetris.engine.spawn.SpawnManager;
+
+/**
+ * Game session that runs without a view, audio or the JavaFX toolkit.
+ * <p>
+ * Wires a board, spawn manager and scoring policy the same way the UI
+ * controllers do, and scores soft drops, hard drops and line clears the
+ * same way. Time only advances when {@link #tick()} is called, which makes
+ * the session suitable for simulations, bots and grading workers.
+ * </p>
+ * <p>
+ * Score changes can be observed through {@link ScoreManager#addScoreListener}.
+ * A session is not thread-safe; drive each one from a single thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class HeadlessGameSession {
+
+    /** Board height used by the game's standard modes. */
+    public static final int DEFAULT_ROWS = 22;
+    /** Board width used by the game's standard modes. */
+    public static final int DEFAULT_COLS = 10;
+
+    private final BrickMovement movement;
+    private final BrickDropActions dropActions;
+    private final BoardRead reader;
+    private final BoardLifecycle lifecycle;
+    private final SpawnManager spawnManager;
+    private final ScoreManager scoreManager;
+    private final ScoringPolicy scoringPolicy;
+    private final BrickDrop dropHandler;
+
+    private boolean gameOver;
+    private int linesCleared;
+    private int piecesPlaced;
+
+    /**
+     * Creates a standard 22x10 session with classic scoring.
+     */
+    public HeadlessGameSession() {
+        this(new SimpleBoardFactory(), DEFAULT_ROWS, DEFAULT_COLS, new ClassicScoringPolicy());
+    }
+
+    /**
+     * Creates a session on a new board.
+     *
+     * @param boardFactory creates the board
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param policy the scoring policy
+     */
+    public HeadlessGameSession(BoardFactory boardFactory, int rows, int cols, ScoringPolicy policy) {
+        this(Objects.requireNonNull(boardFactory, "boardFactory must not be null").create(rows, cols),
+            policy, new ScoreManager());
+    }
+
+    /**
+     * Creates a session on an existing board and spawns the first brick.
+     *
+     * @param boardPorts the board to play on
+     * @param policy the scoring policy
+     * @param scoreManager the score to add points to
+     */
+    public HeadlessGameSession(BoardPorts boardPorts, ScoringPolicy policy, ScoreManager scoreManager) {
+        BoardPorts ports = Objects.requireNonNull(boardPorts, "boardPorts must not be null");
+        this.movement = ports.movement();
+        this.dropActions = ports.dropActions();
+        this.reader = ports.reader();
+        this.lifecycle = ports.lifecycle();
+        this.scoringPolicy = Objects.requireNonNull(policy, "policy must not be null");
+        this.scoreManager = Objects.requireNonNull(scoreManager, "scoreManager must not be null");
+        this.spawnManager = new SpawnManager(ports.spawner());
+        this.dropHandler = new BrickDrop(dropActions, reader, scoreManager, spawnManager, scoringPolicy);
+
+        spawnManager.addGameOverObserver(this::markGameOver);
+        spawnManager.spawn();
+    }
+
+    public boolean moveLeft() {
+        return !gameOver && movement.moveBrickLeft();
+    }
+
+    public boolean moveRight() {
+        return !gameOver && movement.moveBrickRight();
+    }
+
+    public boolean rotate() {
+        return !gameOver && movement.rotateLeftBrick();
+    }
+
+    /**
+     * Advances gravity by one row, locking the brick if it cannot fall.
+     *
+     * @return the drop result; its clear result is non-null when the brick locked
+     */
+    public ShowResult tick() {
+        return drop(EventSource.THREAD);
+    }
+
+    /**
+     * Moves the brick down one row on behalf of the player.
+     *
+     * @return the drop result; its clear result is non-null when the brick locked
+     */
+    public ShowResult softDrop() {
+        return drop(EventSource.USER);
+    }
+
+    /**
+     * Drops the brick to the floor, locks it and spawns the next one.
+     *
+     * @return the lock result, or a result without a clear if the game is over
+     */
+    public ShowResult hardDrop() {
+        if (gameOver) {
+            return new ShowResult(null, reader.getViewData());
+        }
+        int distance = dropActions.hardDrop();
+        int softScore = scoringPolicy.scoreForDrop(EventSource.USER, true);
+        if (distance > 0 && softScore > 0) {
+            scoreManager.add(softScore * distance);
+        }
+        dropActions.mergeBrickToBackground();
+        RowClearResult clear = dropActions.clearRows();
+        if (clear.getLinesRemoved() > 0) {
+            int bonus = scoringPolicy.scoreForLineClear(clear.getLinesRemoved());
+            if (bonus > 0) {
+                scoreManager.add(bonus);
+            }
+            clear = clear.withScoreBonus(bonus);
+        }
+        recordLock(clear);
+        spawnManager.spawn();
+        return new ShowResult(clear, reader.getViewData());
+    }
+
+    /**
+     * Clears the board and score and starts over.
+     */
+    public void newGame() {
+        gameOver = false;
+        linesCleared = 0;
+        piecesPlaced = 0;
+        lifecycle.newGame();
+        scoreManager.reset();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getScore() {
+        return scoreManager.getValue();
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public BoardRead reader() {
+        return reader;
+    }
+
+    public ScoreManager scoreManager() {
+        return scoreManager;
+    }
+
+    private ShowResult drop(EventSource source) {
+        if (gameOver) {
+            return new ShowResult(null, reader.getViewData());
+        }
+        ShowResult result = dropHandler.handleDrop(source, this::markGameOver);
+        if (result.getClearRow() != null) {
+            recordLock(result.getClearRow());
+        }
+        return result;
+    }
+
+    private void recordLock(RowClearResult clear) {
+        piecesPlaced++;
+        linesCleared += clear.getLinesRemoved();
+    }
+
+    private void markGameOver() {
+        gameOver = true;
+    }
+}
@@ -0,0 +1,156 @@
+package com.comp2042.tetris.engine.simulation;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free accumulator for the distribution of one per-game metric.
+ * <p>
+ * Worker threads record values concurrently without locking: the count,
+ * sum and histogram buckets are {@link LongAdder}s and the extremes are
+ * {@link LongAccumulator}s, so contended updates are spread over cells
+ * instead of retried on one word. Values are bucketed into fixed-width
+ * bins; anything past the last bin is counted in it.
+ * </p>
+ * <p>
+ * Reads are only exact once recording has stopped.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Distribution {
+
+    private final String name;
+    private final long bucketWidth;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Creates an empty distribution.
+     *
+     * @param name the metric's name, used by {@link #toString()}
+     * @param bucketWidth the width of each histogram bin
+     * @param bucketCount the number of histogram bins
+     * @throws IllegalArgumentException if the width or count is not positive
+     */
+    public Distribution(String name, long bucketWidth, int bucketCount) {
+        if (bucketWidth <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket width and count must be positive, got "
+                    + bucketWidth + " x " + bucketCount);
+        }
+        this.name = name;
+        this.bucketWidth = bucketWidth;
+        this.buckets = new LongAdder[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one non-negative value.
+     *
+     * @param value the value
+     */
+    public void record(long value) {
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+        buckets[(int) Math.min(Math.max(value, 0L) / bucketWidth, buckets.length - 1)].increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return the minimum, or 0 if nothing was recorded
+     */
+    public long min() {
+        return count() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    public long max() {
+        return count() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Gets the arithmetic mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0.0 : (double) sum() / n;
+    }
+
+    public long bucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Copies the histogram.
+     *
+     * @return the number of values per bin; bin {@code i} starts at {@code i * bucketWidth()}
+     */
+    public long[] histogram() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Estimates a percentile from the histogram.
+     *
+     * @param fraction the percentile as a fraction in {@code [0, 1]}
+     * @return the lower bound of the bin containing the percentile, or 0 if empty
+     */
+    public long percentile(double fraction) {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("fraction must be in [0, 1], got " + fraction);
+        }
+        long[] counts = histogram();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i * bucketWidth;
+            }
+        }
+        return (counts.length - 1) * bucketWidth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d mean=%.2f min=%d p50~%d p99~%d max=%d",
+                name, count(), mean(), min(), percentile(0.5), percentile(0.99), max());
+    }
+}
@@ -0,0 +1,177 @@
+package com.comp2042.tetris.engine.simulation;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.domain.scoring.ScoringPolicy;
+import com.comp2042.tetris.engine.board.DefaultBoardComponentsFactory;
+import com.comp2042.tetris.engine.board.SimpleBoardFactory;
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+
+/**
+ * Plays many complete games in parallel and aggregates their outcomes.
+ * <p>
+ * Each game runs in its own {@link HeadlessGameSession} on a
+ * {@link com.comp2042.tetris.engine.board.SimpleBoard}, with pieces,
+ * garbage and policy randomness all derived from the simulation seed and
+ * the game's index. Game {@code i} of a seed therefore plays the same way
+ * whichever worker runs it, and a whole run is reproducible. Games are
+ * split recursively across a {@link ForkJoinPool}; results go straight
+ * into lock-free {@link Distribution}s, so workers never wait on each other.
+ * </p>
+ * <p>
+ * Games end on a top-out or after {@code maxPieces} locked bricks, which
+ * keeps strong policies from running forever.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class MonteCarloSimulator {
+
+    /** Games a fork/join task plays itself instead of splitting further. */
+    private static final int GAMES_PER_TASK = 16;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int rows;
+    private final int cols;
+    private final ScoringPolicy scoringPolicy;
+    private final MovePolicy movePolicy;
+    private final int maxPieces;
+
+    /**
+     * Creates a simulator for standard boards with classic scoring and random moves.
+     */
+    public MonteCarloSimulator() {
+        this(HeadlessGameSession.DEFAULT_ROWS, HeadlessGameSession.DEFAULT_COLS,
+                new ClassicScoringPolicy(), new RandomMovePolicy(), 10_000);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param rows the number of board rows
+     * @param cols the number of board columns
+     * @param scoringPolicy the scoring rules; shared by all workers, so it must be thread-safe
+     * @param movePolicy places each brick; shared by all workers
+     * @param maxPieces the number of bricks after which a game is stopped
+     * @throws IllegalArgumentException if a dimension or {@code maxPieces} is not positive
+     */
+    public MonteCarloSimulator(int rows, int cols, ScoringPolicy scoringPolicy, MovePolicy movePolicy, int maxPieces) {
+        if (rows <= 0 || cols <= 0 || maxPieces <= 0) {
+            throw new IllegalArgumentException("Board dimensions and maxPieces must be positive, got "
+                    + rows + "x" + cols + ", " + maxPieces);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.scoringPolicy = Objects.requireNonNull(scoringPolicy, "scoringPolicy must not be null");
+        this.movePolicy = Objects.requireNonNull(movePolicy, "movePolicy must not be null");
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays games on the common fork/join pool.
+     *
+     * @param games the number of games
+     * @param seed the seed every game is derived from
+     * @return the aggregated outcome
+     */
+    public SimulationReport run(int games, long seed) {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays games on the given pool.
+     *
+     * @param games the number of games
+     * @param seed the seed every game is derived from
+     * @param pool the pool to run on, e.g. one sized to leave cores free
+     * @return the aggregated outcome
+     * @throws IllegalArgumentException if {@code games} is negative
+     */
+    public SimulationReport run(int games, long seed, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative, got " + games);
+        }
+        Objects.requireNonNull(pool, "pool must not be null");
+        Distribution score = new Distribution("score", 100, 1_000);
+        Distribution lines = new Distribution("lines", 1, 2_000);
+        Distribution pieces = new Distribution("pieces", 1, maxPieces + 1);
+
+        long start = System.nanoTime();
+        pool.invoke(new GameRange(seed, 0, games, score, lines, pieces));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationReport(games, elapsed, score, lines, pieces);
+    }
+
+    /**
+     * Plays one game.
+     *
+     * @param seed the simulation seed
+     * @param index the game's index within the run
+     * @return the finished session
+     */
+    HeadlessGameSession playGame(long seed, int index) {
+        long gameSeed = mix64(seed + (index + 1) * GOLDEN_GAMMA);
+        SplittableRandom random = new SplittableRandom(gameSeed);
+        HeadlessGameSession session = new HeadlessGameSession(
+                new SimpleBoardFactory(DefaultBoardComponentsFactory.seeded(random.nextLong())),
+                rows, cols, scoringPolicy);
+        while (!session.isGameOver() && session.getPiecesPlaced() < maxPieces) {
+            int placed = session.getPiecesPlaced();
+            movePolicy.place(session, random);
+            if (!session.isGameOver() && session.getPiecesPlaced() == placed) {
+                session.hardDrop();
+            }
+        }
+        return session;
+    }
+
+    /** Stafford variant 13 of the MurmurHash3 finaliser, as used by SplittableRandom. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays games {@code [from, to)}, splitting the range in half until it is small.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private final class GameRange extends RecursiveAction {
+
+        private final long seed;
+        private final int from;
+        private final int to;
+        private final Distribution score;
+        private final Distribution lines;
+        private final Distribution pieces;
+
+        GameRange(long seed, int from, int to, Distribution score, Distribution lines, Distribution pieces) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.score = score;
+            this.lines = lines;
+            this.pieces = pieces;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    HeadlessGameSession session = playGame(seed, i);
+                    score.record(session.getScore());
+                    lines.record(session.getLinesCleared());
+                    pieces.record(session.getPiecesPlaced());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRange(seed, from, mid, score, lines, pieces),
+                    new GameRange(seed, mid, to, score, lines, pieces));
+        }
+    }
+}
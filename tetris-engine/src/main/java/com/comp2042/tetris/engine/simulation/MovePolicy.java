@@ -0,0 +1,32 @@
+package com.comp2042.tetris.engine.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+
+/**
+ * Decides how the falling brick is placed during a simulated game.
+ * <p>
+ * The policy moves and rotates the current brick of the session. It may
+ * also let gravity act through {@link HeadlessGameSession#tick()} or lock
+ * the brick itself; if the brick is still falling when the policy returns,
+ * the simulator hard-drops it.
+ * </p>
+ * <p>
+ * One policy instance is shared by every worker thread, so implementations
+ * must keep per-game state in locals or derive it from the session.
+ * </p>
+ *
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Positions the session's current brick.
+     *
+     * @param session the game being played
+     * @param random the game's own random source, seeded from the simulation seed
+     */
+    void place(HeadlessGameSession session, RandomGenerator random);
+}
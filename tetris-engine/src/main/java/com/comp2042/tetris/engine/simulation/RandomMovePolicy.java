@@ -0,0 +1,34 @@
+package com.comp2042.tetris.engine.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+
+/**
+ * Baseline policy that rotates and shifts each brick by a random amount.
+ * <p>
+ * Useful as a lower bound when comparing scoring rules or smarter policies.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class RandomMovePolicy implements MovePolicy {
+
+    private static final int ROTATIONS = 4;
+
+    @Override
+    public void place(HeadlessGameSession session, RandomGenerator random) {
+        int rotations = random.nextInt(ROTATIONS);
+        for (int i = 0; i < rotations; i++) {
+            session.rotate();
+        }
+        int cols = session.reader().getBoardMatrix()[0].length;
+        int shift = random.nextInt(cols) - cols / 2;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            boolean moved = shift < 0 ? session.moveLeft() : session.moveRight();
+            if (!moved) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.tetris.engine.simulation;
+
+/**
+ * Aggregated outcome of a {@link MonteCarloSimulator} run.
+ *
+ * @version 1.0
+ */
+public final class SimulationReport {
+
+    private final int games;
+    private final long elapsedNanos;
+    private final Distribution score;
+    private final Distribution lines;
+    private final Distribution pieces;
+
+    SimulationReport(int games, long elapsedNanos, Distribution score, Distribution lines, Distribution pieces) {
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of the run.
+     *
+     * @return games finished per wall-clock second
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Gets the final score of each game.
+     *
+     * @return the score distribution
+     */
+    public Distribution score() {
+        return score;
+    }
+
+    /**
+     * Gets the number of lines each game cleared.
+     *
+     * @return the lines distribution
+     */
+    public Distribution lines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of bricks each game locked.
+     *
+     * @return the pieces-placed distribution
+     */
+    public Distribution pieces() {
+        return pieces;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games in %.1f ms (%.0f games/s)%n  %s%n  %s%n  %s",
+                games, elapsedNanos / 1_000_000.0, gamesPerSecond(), score, lines, pieces);
+    }
+}
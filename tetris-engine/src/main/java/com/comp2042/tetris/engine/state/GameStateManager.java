@@ -1,19 +1,33 @@
 package com.comp2042.tetris.engine.state;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.ReadOnlyObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages the game state transitions using the State pattern.
  * Controls transitions between MENU, PLAYING, PAUSED, and GAME_OVER states.
- * Provides observable state property for UI binding and state-specific behavior.
+ * Notifies registered observers of every transition and provides state-specific behavior.
  *
  */
 public final class GameStateManager {
     
-    private final ObjectProperty<GameState> currentState = 
-        new SimpleObjectProperty<>(GameState.MENU);
+    private volatile GameState currentState = GameState.MENU;
+
+    /**
+     * Callback interface for state transitions.
+     */
+    @FunctionalInterface
+    public interface StateObserver {
+        /**
+         * Called after the state has changed.
+         *
+         * @param oldState the state that was left
+         * @param newState the state that was entered
+         */
+        void onStateChanged(GameState oldState, GameState newState);
+    }
+
+    private final List<StateObserver> observers = new ArrayList<>();
 
     
     
@@ -84,65 +98,76 @@ public final class GameStateManager {
     
     
     public GameState getCurrentState() {
-        return currentState.get();
+        return currentState;
     }
 
     
     
-    public ReadOnlyObjectProperty<GameState> stateProperty() {
-        return currentState;
+    public void addStateObserver(StateObserver observer) {
+        if (observer != null && !observers.contains(observer)) {
+            observers.add(observer);
+        }
+    }
+
+    
+    public void removeStateObserver(StateObserver observer) {
+        observers.remove(observer);
     }
 
     
     public void startGame() {
-        transitionTo(currentState.get().startGame(this));
+        transitionTo(currentState.startGame(this));
     }
 
     
     public void pauseGame() {
-        transitionTo(currentState.get().pauseGame(this));
+        transitionTo(currentState.pauseGame(this));
     }
 
     
     public void resumeGame() {
-        transitionTo(currentState.get().resumeGame(this));
+        transitionTo(currentState.resumeGame(this));
     }
 
     
     
     
     public void gameOver() {
-        transitionTo(currentState.get().gameOver(this));
+        transitionTo(currentState.gameOver(this));
     }
 
     private void transitionTo(GameState nextState) {
-        if (nextState != null && nextState != currentState.get()) {
-            currentState.set(nextState);
+        if (nextState != null && nextState != currentState) {
+            GameState previous = currentState;
+            currentState = nextState;
+            for (int i = 0; i < observers.size(); i++) {
+                observers.get(i).onStateChanged(previous, nextState);
+            }
         }
     }
 
     
     
     public boolean canAcceptInput() {
-        return currentState.get().canAcceptInput();
+        return currentState.canAcceptInput();
     }
 
     
     
     public boolean canUpdateGame() {
-        return currentState.get().canUpdateGame();
+        return currentState.canUpdateGame();
     }
 
     
     
     public boolean isGameOver() {
-        return currentState.get() == GameState.GAME_OVER;
+        return currentState == GameState.GAME_OVER;
     }
 
 
     
     public boolean isPaused() {
-        return currentState.get() == GameState.PAUSED;
+        return currentState == GameState.PAUSED;
     }
 }
 
@@ -1,5 +1,7 @@
 package com.comp2042.tetris.util;
 
+import com.comp2042.tetris.engine.bricks.RotationTable;
+
 /**
  * Utility class for detecting collisions between bricks and the game board.
  * <p>
@@ -25,6 +27,10 @@ public final class CollisionDetector {
      *   <li>Falls outside the board boundaries</li>
      *   <li>Overlaps with an existing non-zero cell on the board</li>
      * </ul>
+     * <p>
+     * The board matrix is only read, so callers may pass the live board
+     * without taking a defensive copy first.
+     * </p>
      *
      * @param matrix the game board matrix
      * @param brick the brick shape matrix to check
@@ -47,6 +53,32 @@ public final class CollisionDetector {
         return false;
     }
 
+    /**
+     * Checks a precompiled rotation for collision at the specified position.
+     * <p>
+     * Same rules as {@link #isCollision(int[][], int[][], int, int)}, but only
+     * the filled cells listed in the table are visited, so empty shape
+     * padding costs nothing.
+     * </p>
+     *
+     * @param matrix the game board matrix
+     * @param table the brick's rotation table
+     * @param rotation the rotation index to test
+     * @param x the x-coordinate (column) of the brick position
+     * @param y the y-coordinate (row) of the brick position
+     * @return {@code true} if a collision is detected, {@code false} otherwise
+     */
+    public static boolean isCollision(final int[][] matrix, final RotationTable table, int rotation, int x, int y) {
+        for (int i = 0, n = table.cellCount(rotation); i < n; i++) {
+            int targetX = x + table.cellCol(rotation, i);
+            int targetY = y + table.cellRow(rotation, i);
+            if (outOfBounds(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean outOfBounds(int[][] matrix, int targetX, int targetY) {
         if (targetY < 0 || targetY >= matrix.length) {
             return true;
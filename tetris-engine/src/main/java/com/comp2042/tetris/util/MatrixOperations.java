@@ -3,6 +3,7 @@ package com.comp2042.tetris.util;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -69,6 +70,34 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a brick shape directly into the board matrix.
+     * <p>
+     * Same placement rules as {@link #merge(int[][], int[][], int, int)},
+     * but writes into {@code filledFields} instead of a copy.
+     * </p>
+     *
+     * @param filledFields the board matrix, modified in place
+     * @param brick the brick shape matrix to merge
+     * @param x the x-coordinate (column) for placement
+     * @param y the y-coordinate (row) for placement
+     */
+    public static void mergeInPlace(int[][] filledFields, int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            int targetY = y + i;
+            if (targetY < 0 || targetY >= filledFields.length) {
+                continue;
+            }
+            int[] row = filledFields[targetY];
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + j;
+                if (brick[i][j] != 0 && targetX >= 0 && targetX < row.length) {
+                    row[targetX] = brick[i][j];
+                }
+            }
+        }
+    }
+
     /**
      * Clears all completed rows from the matrix and shifts remaining rows down.
      * <p>
@@ -85,18 +114,10 @@ public class MatrixOperations {
         List<Integer> clearedRows = new ArrayList<>();
 
         for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
+            if (isFullRow(matrix[i])) {
                 clearedRows.add(i);
             } else {
-                newRows.add(tmpRow);
+                newRows.add(matrix[i].clone());
             }
         }
         for (int i = matrix.length - 1; i >= 0; i--) {
@@ -111,6 +132,67 @@ public class MatrixOperations {
         return new RowClearResult(clearedRows.size(), tmp, 0, clearedRows);
     }
 
+    /**
+     * Clears completed rows by compacting the matrix's own rows in place.
+     * <p>
+     * Surviving rows keep their order and slide down; the row arrays of the
+     * cleared rows are zeroed and reused at the top, so nothing is
+     * allocated. When no row is full the matrix is left untouched and the
+     * method returns after a single scan.
+     * </p>
+     * <p>
+     * Indices of the cleared rows, as they were before compaction and in
+     * ascending order, are written to the start of {@code clearedRows},
+     * which must hold at least {@code matrix.length} entries.
+     * </p>
+     *
+     * @param matrix the board matrix to clear, modified in place
+     * @param clearedRows caller-owned buffer receiving the cleared row indices
+     * @return the number of rows cleared
+     */
+    public static int clearRowsInPlace(final int[][] matrix, final int[] clearedRows) {
+        int cleared = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            if (isFullRow(matrix[i])) {
+                clearedRows[cleared++] = i;
+            }
+        }
+        if (cleared == 0) {
+            return 0;
+        }
+
+        int write = matrix.length - 1;
+        int nextCleared = cleared - 1;
+        for (int read = matrix.length - 1; read >= 0; read--) {
+            if (nextCleared >= 0 && clearedRows[nextCleared] == read) {
+                nextCleared--;
+                continue;
+            }
+            if (write != read) {
+                int[] row = matrix[write];
+                matrix[write] = matrix[read];
+                matrix[read] = row;
+            }
+            write--;
+        }
+        for (int i = 0; i <= write; i++) {
+            Arrays.fill(matrix[i], 0);
+        }
+        return cleared;
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * Wide rows may be scanned with SIMD instructions, see {@link RowScan}.
+     *
+     * @param row the row to check
+     * @return {@code true} if the row contains no empty cell
+     */
+    public static boolean isFullRow(int[] row) {
+        return RowScan.isFull(row);
+    }
+
     /**
      * Creates a deep copy of a list of 2D integer arrays.
      *
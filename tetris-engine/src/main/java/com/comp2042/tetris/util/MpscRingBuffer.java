@@ -0,0 +1,134 @@
+package com.comp2042.tetris.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producer threads and one consumer thread.
+ * <p>
+ * Each slot carries a sequence number that says whose turn it is: a
+ * producer claims the next position with a single CAS on the tail and then
+ * publishes its element by advancing the slot's sequence, and the consumer
+ * takes an element once the sequence shows it was published. Producers
+ * never wait for each other beyond that CAS, and the consumer never blocks
+ * them. The queue allocates nothing after construction.
+ * </p>
+ * <p>
+ * {@link #offer} may be called from any thread; {@link #poll},
+ * {@link #drain} and {@link #isEmpty} only from the single consumer.
+ * </p>
+ *
+ * @param <E> the element type
+ * @version 1.0
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    private long head;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param capacity the maximum number of queued elements; must be a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if there is room; safe to call from any thread.
+     *
+     * @param element the element to add
+     * @return {@code false} if the queue is full
+     */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "element must not be null");
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.getAcquire(index(position));
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+        int index = index(position);
+        elements.setPlain(index, element);
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element; consumer thread only.
+     *
+     * @return the element, or {@code null} if none has been published yet
+     */
+    public E poll() {
+        int index = index(head);
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+        E element = elements.getPlain(index);
+        elements.setPlain(index, null);
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Removes up to {@code limit} elements in order and hands them to an action; consumer thread only.
+     *
+     * @param action receives each element
+     * @param limit the most elements to take
+     * @return the number of elements taken
+     */
+    public int drain(Consumer<? super E> action, int limit) {
+        int taken = 0;
+        E element;
+        while (taken < limit && (element = poll()) != null) {
+            taken++;
+            action.accept(element);
+        }
+        return taken;
+    }
+
+    /**
+     * Tells whether no published element is waiting; consumer thread only.
+     *
+     * @return {@code true} if {@link #poll} would return {@code null}
+     */
+    public boolean isEmpty() {
+        return sequences.getAcquire(index(head)) != head + 1;
+    }
+
+    /**
+     * Gets the maximum number of queued elements.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
@@ -0,0 +1,141 @@
+package com.comp2042.tetris.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size ring of the most recent duration samples, in nanoseconds.
+ * <p>
+ * Made for timing hot paths: {@link #record} is two ordered stores and
+ * never allocates or locks, and once the ring is full each new sample
+ * overwrites the oldest. Statistics are computed by the reader on demand,
+ * from a copy of the ring taken with {@link #snapshot}, so the cost of
+ * sorting for percentiles falls on whoever displays them rather than on
+ * the code being measured.
+ * </p>
+ * <p>
+ * {@link #record} must only be called from one thread at a time; the
+ * other methods may be called from any thread. A snapshot taken while the
+ * writer is busy can mix a few samples from either side of the overwrite
+ * point, which is harmless for the rolling figures the ring is meant for.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class NanoSampleRing {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong written = new AtomicLong();
+    private final int mask;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity the number of samples kept; must be a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public NanoSampleRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.samples = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a sample, replacing the oldest one when the ring is full.
+     *
+     * @param nanos the measured duration
+     */
+    public void record(long nanos) {
+        long n = written.get();
+        samples.lazySet((int) (n & mask), nanos);
+        written.lazySet(n + 1);
+    }
+
+    /**
+     * Gets the number of samples currently held.
+     *
+     * @return at most {@link #capacity()}
+     */
+    public int size() {
+        return (int) Math.min(written.get(), samples.length());
+    }
+
+    public int capacity() {
+        return samples.length();
+    }
+
+    /**
+     * Gets the number of samples recorded since the ring was created.
+     *
+     * @return the total sample count, including overwritten ones
+     */
+    public long total() {
+        return written.get();
+    }
+
+    /**
+     * Gets the newest sample.
+     *
+     * @return the last recorded duration, or 0 if the ring is empty
+     */
+    public long latest() {
+        long n = written.get();
+        return n == 0 ? 0 : samples.get((int) ((n - 1) & mask));
+    }
+
+    /**
+     * Copies the held samples into an array and sorts them ascending.
+     *
+     * @param target receives the samples; at least {@link #capacity()} long
+     * @return the number of samples copied
+     * @throws IllegalArgumentException if the target is too short
+     */
+    public int snapshot(long[] target) {
+        if (target.length < samples.length()) {
+            throw new IllegalArgumentException("Target holds " + target.length + " samples, need " + samples.length());
+        }
+        int count = size();
+        for (int i = 0; i < count; i++) {
+            target[i] = samples.get(i);
+        }
+        Arrays.sort(target, 0, count);
+        return count;
+    }
+
+    /**
+     * Reads a percentile from sorted samples, by the nearest-rank method.
+     *
+     * @param sorted samples sorted ascending, as left by {@link #snapshot}
+     * @param count how many leading entries of {@code sorted} are samples
+     * @param percentile the percentile, from 0 to 100
+     * @return the sample at that rank, or 0 if there are none
+     */
+    public static long percentile(long[] sorted, int count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.min(Math.max(rank, 1), count) - 1];
+    }
+
+    /**
+     * Averages sorted or unsorted samples.
+     *
+     * @param values the samples
+     * @param count how many leading entries of {@code values} are samples
+     * @return the mean, or 0 if there are none
+     */
+    public static double mean(long[] values, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum / count;
+    }
+}
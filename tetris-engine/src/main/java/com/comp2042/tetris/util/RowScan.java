@@ -0,0 +1,79 @@
+package com.comp2042.tetris.util;
+
+/**
+ * Full-row checks with an optional SIMD path for wide boards.
+ * <p>
+ * When the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * rows at least {@link #VECTOR_MIN_WIDTH} cells wide are scanned with the
+ * Vector API, comparing a whole vector of cells per step. Narrower rows,
+ * and every row when the module is absent, use a plain loop; on a standard
+ * 10-column board the loop is faster. Setting the system property
+ * {@code tetris.simd=false} forces the scalar path.
+ * </p>
+ * <p>
+ * The crossover width was measured with {@code RowScanBenchmark} in the
+ * test sources.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class RowScan {
+
+    /** System property that disables the vector path when set to {@code false}. */
+    public static final String SIMD_PROPERTY = "tetris.simd";
+
+    /** Narrowest row, in cells, that is handed to the vector scanner. */
+    public static final int VECTOR_MIN_WIDTH = 32;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SCANNER = "com.comp2042.tetris.util.VectorRowScanner";
+
+    private static final RowScanner SCALAR = ScalarRowScanner.INSTANCE;
+    private static final RowScanner WIDE = loadVectorScanner();
+
+    private RowScan() {
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row the row to check
+     * @return {@code true} if the row contains no empty cell
+     */
+    public static boolean isFull(int[] row) {
+        return (row.length >= VECTOR_MIN_WIDTH ? WIDE : SCALAR).isFull(row);
+    }
+
+    /**
+     * Checks whether every cell in {@code cells[from, to)} is filled.
+     *
+     * @param cells flat cell storage
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return {@code true} if the range contains no empty cell
+     */
+    public static boolean isFull(byte[] cells, int from, int to) {
+        return (to - from >= VECTOR_MIN_WIDTH ? WIDE : SCALAR).isFull(cells, from, to);
+    }
+
+    /**
+     * Tells whether wide rows are scanned with the Vector API.
+     *
+     * @return {@code true} if the vector scanner was loaded
+     */
+    public static boolean isVectorized() {
+        return WIDE != SCALAR;
+    }
+
+    private static RowScanner loadVectorScanner() {
+        if ("false".equalsIgnoreCase(System.getProperty(SIMD_PROPERTY))
+                || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (RowScanner) Class.forName(VECTOR_SCANNER).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.comp2042.tetris.util;
+
+/**
+ * Strategy for scanning board rows for empty cells.
+ *
+ * @version 1.0
+ */
+interface RowScanner {
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row the row to check
+     * @return {@code true} if the row contains no zero
+     */
+    boolean isFull(int[] row);
+
+    /**
+     * Checks whether every cell in {@code cells[from, to)} is filled.
+     *
+     * @param cells the cells to check
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return {@code true} if the range contains no zero
+     */
+    boolean isFull(byte[] cells, int from, int to);
+}
@@ -0,0 +1,34 @@
+package com.comp2042.tetris.util;
+
+/**
+ * Plain loop implementation of {@link RowScanner}; always available.
+ *
+ * @version 1.0
+ */
+final class ScalarRowScanner implements RowScanner {
+
+    static final ScalarRowScanner INSTANCE = new ScalarRowScanner();
+
+    private ScalarRowScanner() {
+    }
+
+    @Override
+    public boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isFull(byte[] cells, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (cells[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
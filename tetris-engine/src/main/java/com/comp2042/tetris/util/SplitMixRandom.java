@@ -0,0 +1,147 @@
+package com.comp2042.tetris.util;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 generator whose state can be saved and restored.
+ * <p>
+ * Produces exactly the same values and splits as {@link java.util.SplittableRandom}
+ * built from the same seed, but exposes its two state words, so a game
+ * that is suspended mid-sequence deals the same pieces and garbage after
+ * it is resumed. Like {@code SplittableRandom} it is not thread-safe.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SplitMixRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final byte NO_STATE = 0;
+    private static final byte HAS_STATE = 1;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Creates a generator with the same sequence as {@code new SplittableRandom(seed)}.
+     *
+     * @param seed the initial seed
+     */
+    public SplitMixRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMixRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    @Override
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Derives an independent generator, the same way {@code SplittableRandom.split()} does.
+     *
+     * @return a new generator; this one advances by two steps
+     */
+    public SplitMixRandom split() {
+        return new SplitMixRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Writes the state of a generator, if it is a {@code SplitMixRandom}.
+     * <p>
+     * Other generators cannot be captured; a marker is written instead and
+     * {@link #readState} leaves the target generator as it is.
+     * </p>
+     *
+     * @param random the generator to save
+     * @param out receives one byte, plus 16 bytes of state when available
+     */
+    public static void writeState(RandomGenerator random, ByteBuffer out) {
+        if (random instanceof SplitMixRandom splitMix) {
+            out.put(HAS_STATE);
+            out.putLong(splitMix.seed);
+            out.putLong(splitMix.gamma);
+        } else {
+            out.put(NO_STATE);
+        }
+    }
+
+    /**
+     * Restores state written by {@link #writeState} into a generator.
+     *
+     * @param random the generator to restore; only a {@code SplitMixRandom} is changed
+     * @param in the buffer positioned at the saved state
+     * @throws IllegalArgumentException if the saved state is malformed
+     */
+    public static void readState(RandomGenerator random, ByteBuffer in) {
+        prepareState(random, in).run();
+    }
+
+    /**
+     * Reads and checks state written by {@link #writeState} without applying it.
+     * <p>
+     * The generator is left untouched until the returned action runs, so
+     * a caller restoring several parts can check them all first.
+     * </p>
+     *
+     * @param random the generator the state is meant for
+     * @param in the buffer positioned at the saved state
+     * @return applies the state; does nothing unless the generator is a {@code SplitMixRandom}
+     * @throws IllegalArgumentException if the saved state is malformed
+     */
+    public static Runnable prepareState(RandomGenerator random, ByteBuffer in) {
+        byte marker = in.get();
+        if (marker == NO_STATE) {
+            return () -> { };
+        }
+        if (marker != HAS_STATE) {
+            throw new IllegalArgumentException("Unknown random state marker " + marker);
+        }
+        long savedSeed = in.getLong();
+        long savedGamma = in.getLong();
+        if ((savedGamma & 1L) == 0L) {
+            throw new IllegalArgumentException("Random gamma must be odd");
+        }
+        if (!(random instanceof SplitMixRandom splitMix)) {
+            return () -> { };
+        }
+        return () -> {
+            splitMix.seed = savedSeed;
+            splitMix.gamma = savedGamma;
+        };
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
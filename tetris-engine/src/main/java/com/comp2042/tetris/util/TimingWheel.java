@@ -0,0 +1,251 @@
+package com.comp2042.tetris.util;
+
+import java.util.Objects;
+
+/**
+ * Hashed timing wheel for timers measured in game milliseconds.
+ * <p>
+ * Time is cut into ticks of {@code tickMillis}; each tick hashes to one of
+ * a power-of-two number of slots, and every slot keeps an intrusive
+ * doubly-linked list of the timers due in the ticks that map to it.
+ * Scheduling and cancelling are O(1). {@link #advanceTo} visits only the
+ * slots of the ticks it passes, firing timers in deadline order at tick
+ * resolution, and a timer whose deadline lies further ahead than one turn
+ * of the wheel simply stays in its slot until its turn comes round.
+ * </p>
+ * <p>
+ * The wheel has no clock of its own: time moves only when the owner calls
+ * {@link #advanceTo}, so whoever drives it decides what "now" means, and
+ * pausing is just not advancing. Instances are not thread-safe.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class TimingWheel {
+
+    private final long tickMillis;
+    private final Timeout[] slots;
+    private final int mask;
+    private long now;
+    private long processedTick;
+    private int pending;
+
+    /**
+     * Creates a wheel at time zero.
+     *
+     * @param tickMillis the length of one tick, which is also the firing resolution
+     * @param slotCount the number of slots; must be a power of two
+     * @throws IllegalArgumentException if either argument is out of range
+     */
+    public TimingWheel(long tickMillis, int slotCount) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("Slot count must be a positive power of two: " + slotCount);
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Timeout[slotCount];
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Runs a task once after a delay.
+     *
+     * @param delayMillis the delay from now; zero or less fires on the next advance
+     * @param task the task to run
+     * @return a handle to cancel the timer or query it
+     */
+    public Timeout schedule(long delayMillis, Runnable task) {
+        return insert(new Timeout(this, now + Math.max(0, delayMillis), 0, task));
+    }
+
+    /**
+     * Runs a task repeatedly, first after one period.
+     * <p>
+     * Each run is due one period after the previous run was due, not after
+     * it actually ran, so a repeating timer does not drift. Periods shorter
+     * than a tick are rounded up to one tick.
+     * </p>
+     *
+     * @param periodMillis the time between runs
+     * @param task the task to run
+     * @return a handle to cancel the timer or query it
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    public Timeout scheduleRepeating(long periodMillis, Runnable task) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + periodMillis);
+        }
+        long period = Math.max(periodMillis, tickMillis);
+        return insert(new Timeout(this, now + period, period, task));
+    }
+
+    /**
+     * Moves time forward, running every timer that has come due.
+     * <p>
+     * While a timer runs, {@link #now()} reports its deadline, so timers it
+     * schedules are measured from when it was due.
+     * </p>
+     *
+     * @param time the new current time; earlier times are ignored
+     */
+    public void advanceTo(long time) {
+        if (time < now) {
+            return;
+        }
+        long targetTick = time / tickMillis;
+        for (long tick = processedTick; tick <= targetTick && pending > 0; tick++) {
+            fireSlot(tick, time);
+        }
+        processedTick = targetTick;
+        now = time;
+    }
+
+    /**
+     * Cancels every timer.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            Timeout timeout = slots[i];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.detach();
+                timeout = next;
+            }
+            slots[i] = null;
+        }
+        pending = 0;
+    }
+
+    /**
+     * Gets the current time.
+     *
+     * @return the time last passed to {@link #advanceTo}, or the deadline of the timer running now
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Gets the number of scheduled timers.
+     *
+     * @return the number of timers that have not fired or been cancelled
+     */
+    public int size() {
+        return pending;
+    }
+
+    /**
+     * Fires the timers of one tick, rescanning the slot while tasks add or cancel timers in it.
+     */
+    private void fireSlot(long tick, long time) {
+        int index = (int) tick & mask;
+        boolean fired;
+        do {
+            fired = false;
+            Timeout timeout = slots[index];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadline <= time && timeout.deadline / tickMillis <= tick) {
+                    unlink(timeout);
+                    now = timeout.deadline;
+                    if (timeout.period > 0) {
+                        timeout.deadline += timeout.period;
+                        insert(timeout);
+                    } else {
+                        timeout.detach();
+                    }
+                    timeout.task.run();
+                    fired = true;
+                    if (next != null && next.wheel == null) {
+                        break;
+                    }
+                }
+                timeout = next;
+            }
+        } while (fired);
+    }
+
+    private Timeout insert(Timeout timeout) {
+        int index = (int) (timeout.deadline / tickMillis) & mask;
+        Timeout head = slots[index];
+        timeout.slot = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[index] = timeout;
+        pending++;
+        return timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        pending--;
+    }
+
+    /**
+     * A scheduled timer.
+     */
+    public static final class Timeout {
+        private TimingWheel wheel;
+        private final long period;
+        private final Runnable task;
+        private long deadline;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, long deadline, long period, Runnable task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.period = period;
+            this.task = Objects.requireNonNull(task, "task must not be null");
+        }
+
+        /**
+         * Stops the timer from firing again; does nothing if it already has or was cancelled.
+         */
+        public void cancel() {
+            if (wheel != null) {
+                wheel.unlink(this);
+                detach();
+            }
+        }
+
+        /**
+         * Tells whether the timer will still fire.
+         *
+         * @return {@code false} once a one-shot timer has fired or any timer was cancelled
+         */
+        public boolean isActive() {
+            return wheel != null;
+        }
+
+        /**
+         * Gets the time left until the timer next fires.
+         *
+         * @return the remaining milliseconds, or {@code 0} if it is no longer active
+         */
+        public long remainingMillis() {
+            return wheel == null ? 0 : Math.max(0, deadline - wheel.now);
+        }
+
+        private void detach() {
+            wheel = null;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.tetris.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RowScanner} comparing a whole vector of cells against zero per step.
+ * <p>
+ * Uses the incubating {@code jdk.incubator.vector} module. Only
+ * {@link RowScan} creates it, and only after checking that the module is
+ * present, so the rest of the game never links against the module.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class VectorRowScanner implements RowScanner {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isFull(int[] row) {
+        int i = 0;
+        for (int bound = INTS.loopBound(row.length); i < bound; i += INTS.length()) {
+            if (IntVector.fromArray(INTS, row, i).compare(VectorOperators.EQ, 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < row.length; i++) {
+            if (row[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isFull(byte[] cells, int from, int to) {
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            if (ByteVector.fromArray(BYTES, cells, i).compare(VectorOperators.EQ, (byte) 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            if (cells[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
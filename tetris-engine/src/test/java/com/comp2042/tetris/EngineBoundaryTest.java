@@ -0,0 +1,52 @@
+package com.comp2042.tetris;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Keeps the engine, domain and util packages free of JavaFX and of the
+ * application, UI and service layers, so they can run headless.
+ */
+class EngineBoundaryTest {
+
+    private static final Path SOURCES = Paths.get("src", "main", "java", "com", "comp2042", "tetris");
+    private static final String[] HEADLESS_PACKAGES = {"engine", "domain", "util"};
+    private static final String[] FORBIDDEN = {
+        "javafx.",
+        "com.comp2042.tetris.ui.",
+        "com.comp2042.tetris.application.",
+        "com.comp2042.tetris.services."
+    };
+
+    @Test
+    void headlessPackagesDoNotReferenceJavaFxOrUpperLayers() throws IOException {
+        List<String> violations = new ArrayList<>();
+        for (String pkg : HEADLESS_PACKAGES) {
+            Path root = SOURCES.resolve(pkg);
+            assertTrue(Files.isDirectory(root), "Missing source directory " + root.toAbsolutePath());
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".java"))::iterator) {
+                    List<String> lines = Files.readAllLines(file);
+                    for (int i = 0; i < lines.size(); i++) {
+                        for (String forbidden : FORBIDDEN) {
+                            if (lines.get(i).contains(forbidden)) {
+                                violations.add(file + ":" + (i + 1) + " uses " + forbidden);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(List.of(), violations);
+    }
+}
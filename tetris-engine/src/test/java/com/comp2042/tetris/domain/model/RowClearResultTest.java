@@ -184,4 +184,28 @@ class RowClearResultTest {
         assertEquals(Integer.MAX_VALUE, result.getLinesRemoved());
         assertEquals(999999, result.getScoreBonus());
     }
+
+    @Test
+    void ofCopiesOnlyTheReportedIndices() {
+        int[] buffer = {3, 7, 9};
+
+        RowClearResult result = RowClearResult.of(2, new int[][]{{0}}, 0, buffer);
+        buffer[0] = 42;
+
+        assertEquals(2, result.getClearedRowCount());
+        assertEquals(3, result.getClearedRow(0));
+        assertEquals(List.of(3, 7), result.getClearedRows());
+    }
+
+    @Test
+    void withScoreBonusKeepsLinesAndRows() {
+        RowClearResult result = RowClearResult.of(1, new int[][]{{0, 0}}, 0, new int[]{5});
+
+        RowClearResult scored = result.withScoreBonus(100);
+
+        assertEquals(100, scored.getScoreBonus());
+        assertEquals(1, scored.getLinesRemoved());
+        assertEquals(List.of(5), scored.getClearedRows());
+        assertArrayEquals(result.getNewMatrix(), scored.getNewMatrix());
+    }
 }
@@ -1,10 +1,15 @@
 package com.comp2042.tetris.domain.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import com.comp2042.tetris.domain.scoring.ScoreListener;
+
 class ScoreTest {
 
     @Test
@@ -13,7 +18,6 @@ class ScoreTest {
 
         
         assertEquals(0, score.getValue());
-        assertEquals(0, score.scoreProperty().get());
     }
 
     @Test
@@ -44,7 +48,32 @@ class ScoreTest {
 
         
         assertEquals(0, score.getValue());
-        assertEquals(0, score.scoreProperty().get());
+    }
+
+    @Test
+    void listenersSeeEveryChange() {
+        Score score = new Score();
+        List<String> changes = new ArrayList<>();
+        score.addScoreListener((oldScore, newScore) -> changes.add(oldScore + "->" + newScore));
+
+        score.add(4);
+        score.add(0);
+        score.reset();
+
+        assertEquals(List.of("0->4", "4->0"), changes);
+    }
+
+    @Test
+    void removedListenerIsNotNotified() {
+        Score score = new Score();
+        List<Integer> seen = new ArrayList<>();
+        ScoreListener listener = (oldScore, newScore) -> seen.add(newScore);
+        score.addScoreListener(listener);
+
+        score.removeScoreListener(listener);
+        score.add(3);
+
+        assertEquals(List.of(), seen);
     }
 }
 
@@ -2,7 +2,7 @@ package com.comp2042.tetris.domain.scoring;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import com.comp2042.tetris.ui.input.EventSource;
+import com.comp2042.tetris.domain.model.EventSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
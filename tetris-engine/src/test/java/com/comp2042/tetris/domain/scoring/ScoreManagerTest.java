@@ -0,0 +1,50 @@
+package com.comp2042.tetris.domain.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ScoreManagerTest {
+
+    @Test
+    void scoreListenerReflectsAdds() {
+        ScoreManager manager = new ScoreManager();
+        int[] observed = new int[1];
+        manager.addScoreListener((oldScore, newScore) -> observed[0] = newScore);
+
+        manager.add(7);
+        manager.add(3);
+
+        
+        assertEquals(10, observed[0]);
+        assertEquals(10, manager.getValue());
+    }
+
+    @Test
+    void resetClearsValueAndNotifiesListener() {
+        ScoreManager manager = new ScoreManager();
+        manager.add(12);
+        int[] observed = {-1};
+        manager.addScoreListener((oldScore, newScore) -> observed[0] = newScore);
+
+        manager.reset();
+
+        
+        assertEquals(0, manager.getValue());
+        assertEquals(0, observed[0]);
+    }
+
+    @Test
+    void listenerRegisteredTwiceIsNotifiedOnce() {
+        ScoreManager manager = new ScoreManager();
+        int[] calls = new int[1];
+        ScoreListener listener = (oldScore, newScore) -> calls[0]++;
+
+        manager.addScoreListener(listener);
+        manager.addScoreListener(listener);
+        manager.add(1);
+
+        
+        assertEquals(1, calls[0]);
+    }
+}
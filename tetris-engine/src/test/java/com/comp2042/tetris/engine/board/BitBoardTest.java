@@ -0,0 +1,249 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.domain.model.ViewData;
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.util.MatrixOperations;
+
+class BitBoardTest {
+
+    private static final int[][] BLOCK_SHAPE = {
+        {0, 0, 0, 0},
+        {0, 3, 3, 0},
+        {0, 3, 3, 0},
+        {0, 0, 0, 0}
+    };
+
+    private static final int[][] LINE_SHAPE = {
+        {0, 0, 0, 0},
+        {0, 0, 0, 0},
+        {6, 6, 6, 6},
+        {0, 0, 0, 0}
+    };
+
+    private BrickPositionManager positionManager;
+    private BitBoard board;
+
+    @BeforeEach
+    void setUp() {
+        positionManager = new BrickPositionManager(0, 0);
+        board = new BitBoard(20, 8, new TestBoardComponentsFactory(
+            new StubBrickGenerator(new FixedBrick(List.of(BLOCK_SHAPE, LINE_SHAPE))),
+            new BrickRotator(),
+            positionManager));
+    }
+
+    @Test
+    void constructor_rejectsBoardsWiderThanARowWord() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(20, BitBoard.MAX_COLS + 1));
+    }
+
+    @Test
+    void moveBrickLeft_stopsAtBoardEdge() {
+        board.spawnBrick();
+        positionManager.reset(-1, 1);
+
+        assertFalse(board.moveBrickLeft());
+        assertEquals(-1, positionManager.getX());
+    }
+
+    @Test
+    void moveBrickDown_stopsOnMergedCells() {
+        board.spawnBrick();
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+
+        positionManager.reset(0, 14);
+
+        assertFalse(board.moveBrickDown());
+        assertEquals(14, positionManager.getY());
+    }
+
+    @Test
+    void mergeBrickToBackground_keepsColourIds() {
+        board.spawnBrick();
+        positionManager.reset(2, 5);
+
+        board.mergeBrickToBackground();
+        int[][] matrix = board.getBoardMatrix();
+
+        assertEquals(3, matrix[6][3]);
+        assertEquals(3, matrix[7][4]);
+        assertEquals(0, matrix[5][3]);
+    }
+
+    @Test
+    void clearRows_compactsRowsAboveClearedLine() {
+        board.spawnBrick();
+        board.rotateLeftBrick();
+        positionManager.reset(0, 17);
+        board.mergeBrickToBackground();
+        positionManager.reset(4, 17);
+        board.mergeBrickToBackground();
+        positionManager.reset(0, 0);
+        board.rotateLeftBrick();
+        positionManager.reset(0, 15);
+        board.mergeBrickToBackground();
+
+        RowClearResult result = board.clearRows();
+
+        assertEquals(1, result.getLinesRemoved());
+        assertEquals(List.of(19), result.getClearedRows());
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[] {0, 3, 3, 0, 0, 0, 0, 0}, matrix[17]);
+        assertArrayEquals(new int[] {0, 3, 3, 0, 0, 0, 0, 0}, matrix[18]);
+        assertArrayEquals(new int[8], matrix[19]);
+        assertArrayEquals(matrix, result.getNewMatrix());
+    }
+
+    @Test
+    void clearRows_reportsNothingWhenNoRowIsFull() {
+        board.spawnBrick();
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+
+        RowClearResult result = board.clearRows();
+
+        assertEquals(0, result.getLinesRemoved());
+        assertTrue(result.getClearedRows().isEmpty());
+    }
+
+    @Test
+    void getViewData_placesGhostOnTopOfStack() {
+        board.spawnBrick();
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+        positionManager.reset(1, 0);
+
+        ViewData viewData = board.getViewData();
+
+        assertEquals(14, viewData.getGhostY());
+    }
+
+    @Test
+    void newGame_clearsAllCells() {
+        board.spawnBrick();
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+
+        board.newGame();
+
+        for (int[] row : board.getBoardMatrix()) {
+            assertArrayEquals(new int[8], row);
+        }
+    }
+
+    @Test
+    void addGarbageLine_shiftsRowsUpAndLeavesAHole() {
+        board.spawnBrick();
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+
+        board.addGarbageLine();
+        int[][] matrix = board.getBoardMatrix();
+
+        assertEquals(3, matrix[16][1]);
+        int filled = 0;
+        for (int cell : matrix[19]) {
+            if (cell != 0) {
+                filled++;
+            }
+        }
+        assertTrue(filled > 0 && filled < 8);
+    }
+
+    @Test
+    void hardDrop_landsOnGarbageInsteadOfFallingThroughIt() {
+        board.addGarbageLine();
+        int[] garbage = board.getBoardMatrix()[19];
+        for (int col = 0; col < garbage.length; col++) {
+            assertEquals(garbage[col] != 0 ? 1 : 0, board.getColumnHeight(col), "column " + col);
+        }
+        board.spawnBrick();
+        positionManager.reset(0, 0);
+
+        int expected = garbage[1] != 0 || garbage[2] != 0 ? 16 : 17;
+        assertEquals(expected, board.getViewData().getGhostY());
+        assertEquals(expected, board.hardDrop());
+    }
+
+    private static final class FixedBrick implements Brick {
+        private final List<int[][]> rotations;
+
+        FixedBrick(List<int[][]> rotations) {
+            this.rotations = rotations;
+        }
+
+        @Override
+        public List<int[][]> getRotationMatrix() {
+            return MatrixOperations.deepCopyList(rotations);
+        }
+    }
+
+    private static final class StubBrickGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        StubBrickGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick peekNextBrick() {
+            return brick;
+        }
+
+        @Override
+        public java.util.List<Brick> peekNextBricks(int count) {
+            if (count <= 0) {
+                return Collections.emptyList();
+            }
+            return Collections.nCopies(count, brick);
+        }
+    }
+
+    private static final class TestBoardComponentsFactory implements BoardComponentsFactory {
+        private final BrickGenerator generator;
+        private final BrickRotator rotator;
+        private final BrickPositionManager positionManager;
+
+        TestBoardComponentsFactory(BrickGenerator generator, BrickRotator rotator, BrickPositionManager positionManager) {
+            this.generator = generator;
+            this.rotator = rotator;
+            this.positionManager = positionManager;
+        }
+
+        @Override
+        public BrickGenerator createGenerator() {
+            return generator;
+        }
+
+        @Override
+        public BrickRotator createRotator() {
+            return rotator;
+        }
+
+        @Override
+        public BrickPositionManager createPositionManager() {
+            return positionManager;
+        }
+    }
+}
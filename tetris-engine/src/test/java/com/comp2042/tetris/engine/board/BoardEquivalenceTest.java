@@ -0,0 +1,102 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.domain.model.ViewData;
+
+class BoardEquivalenceTest {
+
+    private static final int ROWS = 14;
+    private static final int COLS = 6;
+    private static final long SEED = 2042L;
+    private static final int MOVES = 4000;
+
+    @Test
+    void allBoardsPlayTheSameSeededScriptIdentically() {
+        List<AbstractBoard> boards = List.of(
+            new SimpleBoard(ROWS, COLS, DefaultBoardComponentsFactory.seeded(SEED)),
+            new BitBoard(ROWS, COLS, DefaultBoardComponentsFactory.seeded(SEED)),
+            new ByteBoard(ROWS, COLS, DefaultBoardComponentsFactory.seeded(SEED)));
+        boards.forEach(AbstractBoard::newGame);
+        SplittableRandom script = new SplittableRandom(SEED);
+        int linesCleared = 0;
+
+        for (int move = 0; move < MOVES; move++) {
+            int action = script.nextInt(12);
+            RowClearResult[] clears = new RowClearResult[boards.size()];
+            for (int i = 0; i < boards.size(); i++) {
+                clears[i] = play(boards.get(i), action);
+            }
+            assertSameState(boards, clears, move);
+            if (clears[0] != null) {
+                linesCleared += clears[0].getLinesRemoved();
+            }
+        }
+
+        assertTrue(linesCleared > 0, "The script should clear some rows");
+    }
+
+    /**
+     * Applies one scripted action; returns the row clear when a brick locked.
+     */
+    private static RowClearResult play(AbstractBoard board, int action) {
+        switch (action) {
+            case 0, 1, 2 -> board.moveBrickLeft();
+            case 3, 4, 5 -> board.moveBrickRight();
+            case 6, 7 -> board.rotateLeftBrick();
+            case 8, 9 -> {
+                if (!board.moveBrickDown()) {
+                    return lock(board);
+                }
+            }
+            case 10 -> {
+                board.hardDrop();
+                return lock(board);
+            }
+            default -> board.addGarbageLine();
+        }
+        return null;
+    }
+
+    private static RowClearResult lock(AbstractBoard board) {
+        board.mergeBrickToBackground();
+        RowClearResult result = board.clearRows().detached();
+        if (board.spawnBrick().isGameOver()) {
+            board.newGame();
+        }
+        return result;
+    }
+
+    private static void assertSameState(List<AbstractBoard> boards, RowClearResult[] clears, int move) {
+        AbstractBoard reference = boards.get(0);
+        ViewData expectedView = reference.getViewData();
+        for (int i = 1; i < boards.size(); i++) {
+            AbstractBoard board = boards.get(i);
+            String where = board.getClass().getSimpleName() + " after move " + move;
+            assertArrayEquals(reference.getBoardMatrix(), board.getBoardMatrix(), where);
+            ViewData view = board.getViewData();
+            assertEquals(expectedView.getxPosition(), view.getxPosition(), where);
+            assertEquals(expectedView.getyPosition(), view.getyPosition(), where);
+            assertEquals(expectedView.getGhostY(), view.getGhostY(), where);
+            assertArrayEquals(expectedView.getBrickData(), view.getBrickData(), where);
+            if (clears[0] == null) {
+                assertNull(clears[i], where);
+            } else {
+                assertEquals(clears[0].getLinesRemoved(), clears[i].getLinesRemoved(), where);
+                assertEquals(clears[0].getClearedRows(), clears[i].getClearedRows(), where);
+                assertArrayEquals(clears[0].getNewMatrix(), clears[i].getNewMatrix(), where);
+            }
+            for (int col = 0; col < COLS; col++) {
+                assertEquals(reference.getColumnHeight(col), board.getColumnHeight(col), where);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.tetris.engine.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BoardJournalTest {
+
+    @Test
+    void mergesEntriesAndForgetsVersionsOlderThanItsCapacity() {
+        BoardJournal journal = new BoardJournal(4, 3, 2);
+        BoardDelta delta = new BoardDelta();
+        journal.begin(1);
+        journal.cell(0, 0);
+        journal.begin(2);
+        journal.cell(0, 0);
+        journal.cell(3, 2);
+        journal.cell(9, 9);
+
+        assertTrue(journal.collect(0, 2, delta));
+        assertEquals(2, delta.size(), "duplicates and off-board cells are dropped");
+        assertEquals(0, delta.index(0));
+        assertEquals(11, delta.index(1));
+
+        journal.begin(3);
+        journal.rows(1, 2);
+        assertFalse(journal.collect(0, 3, delta), "version 1 has been overwritten");
+        assertTrue(journal.collect(1, 3, delta));
+        assertEquals(2 + 6, delta.size());
+    }
+
+    @Test
+    void detachedCellsKeepTheirVersionAndChanges() {
+        int[][] matrix = new int[2][2];
+        BoardJournal journal = new BoardJournal(2, 2, BoardJournal.DEFAULT_CAPACITY);
+        matrix[1][0] = 5;
+        journal.begin(1);
+        journal.cell(1, 0);
+        BoardCells detached = journal.detach(BoardCells.of(matrix, () -> 1L));
+
+        matrix[1][0] = 0;
+        journal.begin(2);
+        journal.all();
+
+        BoardDelta delta = new BoardDelta();
+        assertEquals(5, detached.getCell(1, 0));
+        assertEquals(1, detached.getVersion());
+        assertTrue(detached.changesSince(0, delta));
+        assertEquals(1, delta.size());
+        assertEquals(2, delta.index(0));
+    }
+
+    @Test
+    void rejectsEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardJournal(4, 4, 0));
+    }
+}
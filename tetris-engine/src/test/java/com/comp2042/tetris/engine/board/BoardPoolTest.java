@@ -0,0 +1,196 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.util.MatrixOperations;
+
+class BoardPoolTest {
+
+    private static final int[][] BLOCK_SHAPE = {
+        {0, 0, 0, 0},
+        {0, 3, 3, 0},
+        {0, 3, 3, 0},
+        {0, 0, 0, 0}
+    };
+
+    private BoardPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new BoardPool(2, 20, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void acquire_handsOutEmptySlotsUntilFull() {
+        int first = pool.acquire(new FreshComponentsFactory());
+        int second = pool.acquire(new FreshComponentsFactory());
+
+        assertNotEquals(first, second);
+        assertEquals(2, pool.size());
+        assertThrows(IllegalStateException.class, () -> pool.acquire(new FreshComponentsFactory()));
+
+        pool.release(first);
+        assertEquals(first, pool.acquire(new FreshComponentsFactory()));
+        assertArrayEquals(new int[8], pool.board(first).getBoardMatrix()[19]);
+    }
+
+    @Test
+    void board_rejectsReleasedSlot() {
+        int slot = pool.acquire(new FreshComponentsFactory());
+        pool.release(slot);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.board(slot));
+        assertThrows(IllegalArgumentException.class, () -> pool.board(5));
+    }
+
+    @Test
+    void slotsDoNotShareCells() {
+        ByteBoard a = pool.board(pool.acquire(new FreshComponentsFactory()));
+        ByteBoard b = pool.board(pool.acquire(new FreshComponentsFactory()));
+
+        a.spawnBrick();
+        a.hardDrop();
+        a.mergeBrickToBackground();
+
+        assertEquals(2, a.getColumnHeight(3));
+        assertEquals(0, b.getColumnHeight(3));
+        assertEquals(0, b.getCell(19, 3));
+    }
+
+    @Test
+    void snapshotAndRestore_roundTripCellsAndHeights() {
+        int slot = pool.acquire(new FreshComponentsFactory());
+        ByteBoard board = pool.board(slot);
+        board.spawnBrick();
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        byte[] saved = new byte[pool.slotSize()];
+        pool.snapshot(slot, saved);
+        board.newGame();
+        long version = board.getVersion();
+        pool.restore(slot, saved);
+
+        assertEquals(3, board.getCell(19, 3));
+        assertEquals(2, board.getColumnHeight(3));
+        assertNotEquals(version, board.getVersion());
+    }
+
+    @Test
+    void copy_duplicatesCellsIntoAnotherSlot() {
+        int from = pool.acquire(new FreshComponentsFactory());
+        int to = pool.acquire(new FreshComponentsFactory());
+        ByteBoard source = pool.board(from);
+        source.spawnBrick();
+        source.hardDrop();
+        source.mergeBrickToBackground();
+
+        pool.copy(from, to);
+
+        assertArrayEquals(source.toMatrix()[18], pool.board(to).toMatrix()[18]);
+        assertEquals(2, pool.board(to).getColumnHeight(4));
+    }
+
+    @Test
+    void journalIsKeptOnlyWhenAskedFor() {
+        ByteBoard simulated = pool.board(pool.acquire(new FreshComponentsFactory()));
+        ByteBoard rendered = pool.board(pool.acquire(new FreshComponentsFactory(), BoardJournal.DEFAULT_CAPACITY));
+        BoardDelta delta = new BoardDelta();
+        for (ByteBoard board : List.of(simulated, rendered)) {
+            board.spawnBrick();
+            board.hardDrop();
+            board.mergeBrickToBackground();
+        }
+
+        assertFalse(simulated.changesSince(0, delta));
+        assertTrue(simulated.changesSince(simulated.getVersion(), delta));
+        assertTrue(rendered.changesSince(0, delta));
+        assertEquals(4, delta.size());
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(new FreshComponentsFactory(), -1));
+    }
+
+    @Test
+    void restore_rejectsShortBuffer() {
+        int slot = pool.acquire(new FreshComponentsFactory());
+
+        assertThrows(IllegalArgumentException.class, () -> pool.restore(slot, new byte[3]));
+    }
+
+    private static final class FixedBrick implements Brick {
+        private final List<int[][]> rotations;
+
+        FixedBrick(List<int[][]> rotations) {
+            this.rotations = rotations;
+        }
+
+        @Override
+        public List<int[][]> getRotationMatrix() {
+            return MatrixOperations.deepCopyList(rotations);
+        }
+    }
+
+    private static final class StubBrickGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        StubBrickGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick peekNextBrick() {
+            return brick;
+        }
+
+        @Override
+        public java.util.List<Brick> peekNextBricks(int count) {
+            if (count <= 0) {
+                return Collections.emptyList();
+            }
+            return Collections.nCopies(count, brick);
+        }
+    }
+
+    private static final class FreshComponentsFactory implements BoardComponentsFactory {
+        private final BrickGenerator generator = new StubBrickGenerator(new FixedBrick(List.<int[][]>of(BLOCK_SHAPE)));
+
+        @Override
+        public BrickGenerator createGenerator() {
+            return generator;
+        }
+
+        @Override
+        public BrickRotator createRotator() {
+            return new BrickRotator();
+        }
+
+        @Override
+        public BrickPositionManager createPositionManager() {
+            return new BrickPositionManager(0, 0);
+        }
+    }
+}
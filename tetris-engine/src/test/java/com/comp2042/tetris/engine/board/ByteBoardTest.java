@@ -0,0 +1,174 @@
+package com.comp2042.tetris.engine.board;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.RowClearResult;
+import com.comp2042.tetris.engine.bricks.Brick;
+import com.comp2042.tetris.engine.bricks.BrickGenerator;
+import com.comp2042.tetris.engine.movement.BrickPositionManager;
+import com.comp2042.tetris.engine.rotation.BrickRotator;
+import com.comp2042.tetris.util.MatrixOperations;
+
+class ByteBoardTest {
+
+    private static final int[][] BLOCK_SHAPE = {
+        {0, 0, 0, 0},
+        {0, 3, 3, 0},
+        {0, 3, 3, 0},
+        {0, 0, 0, 0}
+    };
+
+    private static final int[][] LINE_SHAPE = {
+        {0, 0, 0, 0},
+        {0, 0, 0, 0},
+        {6, 6, 6, 6},
+        {0, 0, 0, 0}
+    };
+
+    private BrickPositionManager positionManager;
+    private ByteBoard board;
+
+    @BeforeEach
+    void setUp() {
+        positionManager = new BrickPositionManager(0, 0);
+        board = new ByteBoard(20, 8, new TestBoardComponentsFactory(
+            new StubBrickGenerator(new FixedBrick(List.of(BLOCK_SHAPE, LINE_SHAPE))),
+            new BrickRotator(),
+            positionManager));
+    }
+
+    @Test
+    void cells_readsBoardWithoutCopying() {
+        board.spawnBrick();
+        positionManager.reset(2, 5);
+        board.mergeBrickToBackground();
+
+        BoardCells cells = board.cells();
+
+        assertSame(board, cells);
+        assertEquals(3, cells.getCell(6, 3));
+        assertEquals(0, cells.getCell(5, 3));
+        assertEquals(20, cells.getRows());
+        assertEquals(8, cells.getCols());
+    }
+
+    @Test
+    void version_changesOnlyWhenCellsChange() {
+        board.spawnBrick();
+        long initial = board.getVersion();
+
+        board.moveBrickDown();
+        board.rotateLeftBrick();
+        assertEquals(initial, board.getVersion());
+
+        board.mergeBrickToBackground();
+        assertNotEquals(initial, board.getVersion());
+    }
+
+    @Test
+    void getBoardMatrix_isReusedUntilBoardChanges() {
+        board.spawnBrick();
+        int[][] first = board.getBoardMatrix();
+
+        positionManager.reset(0, 16);
+        board.mergeBrickToBackground();
+        int[][] second = board.getBoardMatrix();
+
+        assertSame(first, second);
+        assertEquals(3, second[17][1]);
+    }
+
+    @Test
+    void clearRows_compactsRowsAboveClearedLine() {
+        board.spawnBrick();
+        board.rotateLeftBrick();
+        positionManager.reset(0, 17);
+        board.mergeBrickToBackground();
+        positionManager.reset(4, 17);
+        board.mergeBrickToBackground();
+        positionManager.reset(0, 0);
+        board.rotateLeftBrick();
+        positionManager.reset(0, 15);
+        board.mergeBrickToBackground();
+
+        RowClearResult result = board.clearRows();
+
+        assertEquals(List.of(19), result.getClearedRows());
+        assertArrayEquals(new int[] {0, 3, 3, 0, 0, 0, 0, 0}, board.getBoardMatrix()[18]);
+        assertArrayEquals(new int[8], board.getBoardMatrix()[19]);
+    }
+
+    private static final class FixedBrick implements Brick {
+        private final List<int[][]> rotations;
+
+        FixedBrick(List<int[][]> rotations) {
+            this.rotations = rotations;
+        }
+
+        @Override
+        public List<int[][]> getRotationMatrix() {
+            return MatrixOperations.deepCopyList(rotations);
+        }
+    }
+
+    private static final class StubBrickGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        StubBrickGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick peekNextBrick() {
+            return brick;
+        }
+
+        @Override
+        public java.util.List<Brick> peekNextBricks(int count) {
+            if (count <= 0) {
+                return Collections.emptyList();
+            }
+            return Collections.nCopies(count, brick);
+        }
+    }
+
+    private static final class TestBoardComponentsFactory implements BoardComponentsFactory {
+        private final BrickGenerator generator;
+        private final BrickRotator rotator;
+        private final BrickPositionManager positionManager;
+
+        TestBoardComponentsFactory(BrickGenerator generator, BrickRotator rotator, BrickPositionManager positionManager) {
+            this.generator = generator;
+            this.rotator = rotator;
+            this.positionManager = positionManager;
+        }
+
+        @Override
+        public BrickGenerator createGenerator() {
+            return generator;
+        }
+
+        @Override
+        public BrickRotator createRotator() {
+            return rotator;
+        }
+
+        @Override
+        public BrickPositionManager createPositionManager() {
+            return positionManager;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.tetris.engine.board;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RowRingBufferTest {
+
+    private RowRingBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RowRingBuffer(5, 2);
+        for (int r = 0; r < 5; r++) {
+            buffer.row(r)[0] = r + 1;
+        }
+    }
+
+    @Test
+    void removeRowNearBottomKeepsOrder() {
+        buffer.removeRow(3);
+
+        assertColumn(0, 1, 2, 3, 5);
+    }
+
+    @Test
+    void removeRowNearTopKeepsOrder() {
+        buffer.removeRow(1);
+
+        assertColumn(0, 1, 3, 4, 5);
+    }
+
+    @Test
+    void pushBottomDropsTopRowAndRecyclesIt() {
+        int[] top = buffer.row(0);
+
+        int[] bottom = buffer.pushBottom();
+        bottom[0] = 9;
+
+        assertSame(top, bottom);
+        assertColumn(2, 3, 4, 5, 9);
+    }
+
+    @Test
+    void viewKeepsIdentityAcrossRotations() {
+        int[][] view = buffer.view();
+
+        buffer.pushBottom();
+        buffer.removeRow(4);
+        buffer.removeRow(1);
+
+        assertSame(view, buffer.view());
+        assertColumn(0, 0, 3, 4, 5);
+    }
+
+    @Test
+    void writesThroughViewReachTheBuffer() {
+        buffer.pushBottom();
+
+        buffer.view()[4][1] = 7;
+
+        assertArrayEquals(new int[] {0, 7}, buffer.row(4));
+    }
+
+    private void assertColumn(int... expected) {
+        int[][] view = buffer.view();
+        int[] actual = new int[view.length];
+        for (int r = 0; r < view.length; r++) {
+            actual[r] = view[r][0];
+        }
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -236,6 +237,122 @@ class SimpleBoardTest {
         assertNotEquals(first[0][0], second[0][0]);
     }
 
+    @Test
+    void snapshot_isIsolatedFromLaterBoardChanges() {
+        board.spawnBrick();
+        positionManager.reset(1, 1);
+
+        BoardSnapshot snapshot = board.snapshot();
+        board.mergeBrickToBackground();
+
+        assertEquals(0, snapshot.getCell(2, 2));
+        assertFalse(snapshot.matches(board.getBoardMatrix()));
+        assertTrue(BoardSnapshot.of(board.getBoardMatrix()).matches(board.getBoardMatrix()));
+    }
+
+    @Test
+    void changesSince_listsMergedCellsThenClearedRows() {
+        board.spawnBrick();
+        positionManager.reset(1, 1);
+        BoardCells cells = board.cells();
+        long start = cells.getVersion();
+        BoardDelta delta = new BoardDelta();
+
+        board.mergeBrickToBackground();
+
+        assertTrue(cells.changesSince(start, delta));
+        assertEquals(4, delta.size());
+        for (int n = 0; n < delta.size(); n++) {
+            assertEquals(1, cells.getCell(delta.index(n) / 10, delta.index(n) % 10));
+        }
+
+        long merged = cells.getVersion();
+        int[] row = board.getBoardMatrix()[5];
+        Arrays.fill(row, 2);
+        board.clearRows();
+
+        assertTrue(cells.changesSince(merged, delta));
+        assertEquals(6 * 10, delta.size(), "rows above the cleared one shift down");
+        assertTrue(cells.changesSince(cells.getVersion(), delta));
+        assertEquals(0, delta.size());
+        assertFalse(cells.changesSince(BoardCells.UNVERSIONED, delta));
+    }
+
+    @Test
+    void moveBrickLeft_checksAgainstLiveMatrix() {
+        board.spawnBrick();
+        positionManager.reset(1, 1);
+        int[][] matrix = board.getBoardMatrix();
+
+        assertTrue(board.moveBrickLeft());
+        matrix[2][1] = 3;
+        positionManager.reset(1, 1);
+
+        assertFalse(board.moveBrickLeft());
+        assertSame(matrix, board.getBoardMatrix(), "Moves must not replace the board matrix");
+    }
+
+    @Test
+    void addGarbageLine_shiftsStackUpInTheSameMatrix() {
+        int[][] matrix = board.getBoardMatrix();
+        int lastRow = matrix.length - 1;
+        matrix[lastRow][0] = 4;
+
+        board.addGarbageLine();
+
+        assertSame(matrix, board.getBoardMatrix());
+        assertEquals(4, matrix[lastRow - 1][0]);
+        assertEquals(2, board.getColumnHeight(0));
+        int filled = 0;
+        for (int cell : matrix[lastRow]) {
+            if (cell != 0) {
+                filled++;
+            }
+        }
+        assertTrue(filled > 0 && filled < matrix[lastRow].length);
+    }
+
+    @Test
+    void hardDrop_landsOnTrackedStackSurface() {
+        board.spawnBrick();
+        positionManager.reset(0, 0);
+
+        assertEquals(17, board.hardDrop());
+        board.mergeBrickToBackground();
+        assertEquals(2, board.getColumnHeight(1));
+        assertEquals(0, board.getColumnHeight(3));
+
+        positionManager.reset(0, 0);
+        assertEquals(15, board.hardDrop());
+        assertEquals(15, positionManager.getY());
+    }
+
+    @Test
+    void hardDrop_landsOnGarbageInsteadOfFallingThroughIt() {
+        board.addGarbageLine();
+        int[] garbage = board.getBoardMatrix()[19];
+        for (int col = 0; col < garbage.length; col++) {
+            assertEquals(garbage[col] != 0 ? 1 : 0, board.getColumnHeight(col), "column " + col);
+        }
+        board.spawnBrick();
+        positionManager.reset(0, 0);
+
+        int expected = garbage[1] != 0 || garbage[2] != 0 ? 16 : 17;
+        assertEquals(expected, board.getViewData().getGhostY());
+        assertEquals(expected, board.hardDrop());
+    }
+
+    @Test
+    void getViewData_findsGhostBelowAnOverhang() {
+        board.spawnBrick();
+        positionManager.reset(0, 10);
+        board.mergeBrickToBackground();
+        positionManager.reset(1, 13);
+
+        assertEquals(17, board.getViewData().getGhostY());
+        assertEquals(4, board.hardDrop());
+    }
+
     private static int countFilledCells(int[][] matrix) {
         int count = 0;
         for (int[] row : matrix) {
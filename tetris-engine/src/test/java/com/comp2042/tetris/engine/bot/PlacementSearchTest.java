@@ -0,0 +1,90 @@
+package com.comp2042.tetris.engine.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+import com.comp2042.tetris.engine.bricks.BrickRegistry;
+import com.comp2042.tetris.engine.bricks.RotationTable;
+import com.comp2042.tetris.engine.session.HeadlessGameSession;
+import com.comp2042.tetris.engine.simulation.MonteCarloSimulator;
+import com.comp2042.tetris.engine.simulation.SimulationReport;
+
+class PlacementSearchTest {
+
+    private static final int[][] I_FLAT = {
+            {0, 0, 0, 0},
+            {1, 1, 1, 1},
+            {0, 0, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    @Test
+    void standsIBrickUpInWellToClearFourLines() {
+        int[][] board = new int[22][10];
+        for (int r = 18; r < 22; r++) {
+            for (int c = 0; c < 9; c++) {
+                board[r][c] = 1;
+            }
+        }
+
+        Placement placement = PlacementSearch.sequential(PlacementHeuristic.DEFAULT).search(board, I_FLAT, 3, 0);
+
+        assertNotNull(placement);
+        assertEquals(1, placement.getRotations());
+        assertEquals(8, placement.getX());
+        assertEquals(4, placement.getLinesCleared());
+    }
+
+    @Test
+    void parallelAndSequentialSearchesAgree() {
+        PlacementSearch parallel = new PlacementSearch(PlacementHeuristic.DEFAULT);
+        PlacementSearch sequential = PlacementSearch.sequential(PlacementHeuristic.DEFAULT);
+        BrickRegistry registry = BrickRegistry.getInstance();
+        SplittableRandom random = new SplittableRandom(11L);
+
+        for (int trial = 0; trial < 200; trial++) {
+            int[][] board = new int[22][10];
+            for (int r = 12; r < 22; r++) {
+                for (int c = 0; c < 10; c++) {
+                    board[r][c] = random.nextInt(3) == 0 ? 0 : 1;
+                }
+            }
+            RotationTable table = BrickRegistry.rotationTable(registry.flyweight(random.nextInt(7)));
+            int[][] shape = table.shape(0);
+
+            Placement a = parallel.search(board, shape, 3, 0);
+            Placement b = sequential.search(board, shape, 3, 0);
+
+            assertEquals(String.valueOf(b), String.valueOf(a), "trial " + trial);
+        }
+    }
+
+    @Test
+    void botKeepsHeadlessGameAlive() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator(HeadlessGameSession.DEFAULT_ROWS,
+                HeadlessGameSession.DEFAULT_COLS, new ClassicScoringPolicy(), new PlacementBot(), 300);
+
+        SimulationReport report = simulator.run(8, 2024L);
+
+        assertEquals(300, report.pieces().min());
+        assertTrue(report.lines().min() > 50, report.toString());
+    }
+
+    @Test
+    void returnsNullWhenBrickCannotMove() {
+        int[][] board = new int[4][4];
+        board[1][0] = 1;
+        board[1][1] = 1;
+        board[1][2] = 1;
+        board[1][3] = 1;
+
+        assertNull(PlacementSearch.sequential(PlacementHeuristic.DEFAULT).search(board, I_FLAT, 0, 0));
+    }
+}
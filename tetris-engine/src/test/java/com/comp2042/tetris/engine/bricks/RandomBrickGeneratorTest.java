@@ -1,11 +1,15 @@
 package com.comp2042.tetris.engine.bricks;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -186,5 +190,47 @@ class RandomBrickGeneratorTest {
         assertTrue(!brick1.getRotationMatrix().isEmpty());
         assertTrue(!brick2.getRotationMatrix().isEmpty());
     }
-}
 
+    @Test
+    void peekIntoBufferMatchesUpcomingBricks() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Brick[] buffer = new Brick[3];
+
+        int count = generator.peekNextBricks(buffer);
+        List<Brick> listed = generator.peekNextBricks(3);
+
+        assertEquals(3, count);
+        for (int i = 0; i < 3; i++) {
+            assertSame(listed.get(i), buffer[i]);
+        }
+        assertSame(buffer[0], generator.getBrick());
+        assertSame(buffer[1], generator.getBrick());
+    }
+
+    @Test
+    void peekIntoBufferLongerThanQueueExtendsIt() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Brick[] buffer = new Brick[12];
+
+        generator.peekNextBricks(buffer);
+
+        for (Brick expected : buffer) {
+            assertNotNull(expected);
+            assertSame(expected, generator.getBrick());
+        }
+    }
+
+    @Test
+    void generatorHandsOutRegistryFlyweights() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        BrickRegistry registry = BrickRegistry.getInstance();
+        Set<Brick> flyweights = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id = 0; id < registry.typeCount(); id++) {
+            flyweights.add(registry.flyweight(id));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(flyweights.contains(generator.getBrick()));
+        }
+    }
+}
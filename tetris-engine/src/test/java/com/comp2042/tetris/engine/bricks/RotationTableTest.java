@@ -0,0 +1,64 @@
+package com.comp2042.tetris.engine.bricks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RotationTableTest {
+
+    private static final int[][] L_SHAPE = {
+        {0, 0, 0},
+        {0, 2, 0},
+        {0, 2, 2}
+    };
+
+    @Test
+    void compilesRowMasksBoundsAndBottomProfile() {
+        RotationTable table = RotationTable.of(List.<int[][]>of(L_SHAPE));
+
+        assertEquals(0b000L, table.rowMask(0, 0));
+        assertEquals(0b010L, table.rowMask(0, 1));
+        assertEquals(0b110L, table.rowMask(0, 2));
+        assertEquals(1, table.minRow(0));
+        assertEquals(2, table.maxRow(0));
+        assertEquals(1, table.minCol(0));
+        assertEquals(2, table.maxCol(0));
+        assertEquals(-1, table.bottom(0, 0));
+        assertEquals(2, table.bottom(0, 1));
+        assertEquals(2, table.bottom(0, 2));
+        assertEquals(3, table.cellCount(0));
+    }
+
+    @Test
+    void copiesInputShapes() {
+        List<int[][]> rotations = new ArrayList<>();
+        rotations.add(new int[][]{{1, 1}});
+        RotationTable table = RotationTable.of(rotations);
+
+        rotations.get(0)[0][0] = 0;
+
+        assertArrayEquals(new int[]{1, 1}, table.shape(0)[0]);
+    }
+
+    @Test
+    void nextWrapsAroundRotationCount() {
+        RotationTable table = RotationTable.of(List.of(L_SHAPE, L_SHAPE));
+
+        assertEquals(1, table.next(0));
+        assertEquals(0, table.next(1));
+    }
+
+    @Test
+    void registryReturnsSharedTableForStandardBricks() {
+        RotationTable first = BrickRegistry.rotationTable(new TBrick());
+        RotationTable second = BrickRegistry.rotationTable(new TBrick());
+
+        assertSame(first, second);
+        assertArrayEquals(new TBrick().getRotationMatrix().get(0), first.shape(0));
+    }
+}
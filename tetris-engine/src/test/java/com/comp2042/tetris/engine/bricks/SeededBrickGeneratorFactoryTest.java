@@ -0,0 +1,85 @@
+package com.comp2042.tetris.engine.bricks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.engine.board.DefaultBoardComponentsFactory;
+import com.comp2042.tetris.engine.board.SimpleBoard;
+
+class SeededBrickGeneratorFactoryTest {
+
+    private static List<Brick> deal(BrickGenerator generator, int count) {
+        List<Brick> bricks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bricks.add(generator.getBrick());
+        }
+        return bricks;
+    }
+
+    @Test
+    void sameSeedDealsSameSequence() {
+        for (SeededBrickGeneratorFactory.Randomizer randomizer : SeededBrickGeneratorFactory.Randomizer.values()) {
+            List<Brick> first = deal(new SeededBrickGeneratorFactory(42L, randomizer).create(), 100);
+            List<Brick> second = deal(new SeededBrickGeneratorFactory(42L, randomizer).create(), 100);
+
+            assertEquals(first, second, randomizer.name());
+        }
+    }
+
+    @Test
+    void everyBagHoldsEachTypeOnce() {
+        BrickRegistry registry = BrickRegistry.getInstance();
+        int types = registry.typeCount();
+        BrickGenerator generator = new SeededBrickGeneratorFactory(7L).create();
+
+        for (int bag = 0; bag < 20; bag++) {
+            Set<Brick> seen = new HashSet<>(deal(generator, types));
+            assertEquals(types, seen.size(), "bag " + bag);
+        }
+    }
+
+    @Test
+    void splitFactoriesAreReproducibleAndIndependent() {
+        SeededBrickGeneratorFactory a = new SeededBrickGeneratorFactory(99L);
+        SeededBrickGeneratorFactory b = new SeededBrickGeneratorFactory(99L);
+
+        List<Brick> firstWorker = deal(a.split().create(), 70);
+        List<Brick> secondWorker = deal(a.split().create(), 70);
+
+        assertEquals(firstWorker, deal(b.split().create(), 70));
+        assertEquals(secondWorker, deal(b.split().create(), 70));
+        assertNotEquals(firstWorker, secondWorker);
+    }
+
+    @Test
+    void seededComponentsReproduceGarbage() {
+        SimpleBoard first = new SimpleBoard(22, 10, DefaultBoardComponentsFactory.seeded(5L));
+        SimpleBoard second = new SimpleBoard(22, 10, DefaultBoardComponentsFactory.seeded(5L));
+
+        for (int i = 0; i < 8; i++) {
+            first.addGarbageLine();
+            second.addGarbageLine();
+        }
+
+        int[][] expected = first.getBoardMatrix();
+        int[][] actual = second.getBoardMatrix();
+        boolean anyBlock = false;
+        for (int r = 0; r < expected.length; r++) {
+            assertArrayEquals(expected[r], actual[r], "row " + r);
+            for (int cell : expected[r]) {
+                anyBlock |= cell != 0;
+            }
+        }
+        assertTrue(anyBlock);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.comp2042.tetris.engine.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.model.ShowResult;
+
+class HeadlessGameSessionTest {
+
+    @Test
+    void tickMovesBrickDownWithoutLocking() {
+        HeadlessGameSession session = new HeadlessGameSession();
+        int startY = session.reader().getViewData().getyPosition();
+
+        ShowResult result = session.tick();
+
+        assertNull(result.getClearRow());
+        assertEquals(startY + 1, result.getViewData().getyPosition());
+        assertEquals(0, session.getPiecesPlaced());
+    }
+
+    @Test
+    void hardDropLocksBrickAndScoresDistance() {
+        HeadlessGameSession session = new HeadlessGameSession();
+        int[] lastScore = new int[1];
+        session.scoreManager().addScoreListener((oldScore, newScore) -> lastScore[0] = newScore);
+
+        ShowResult result = session.hardDrop();
+
+        assertNotNull(result.getClearRow());
+        assertEquals(1, session.getPiecesPlaced());
+        assertTrue(session.getScore() > 0);
+        assertEquals(session.getScore(), lastScore[0]);
+    }
+
+    @Test
+    void stackingWithoutClearingEndsTheGame() {
+        HeadlessGameSession session = new HeadlessGameSession();
+
+        for (int i = 0; i < 500 && !session.isGameOver(); i++) {
+            session.hardDrop();
+        }
+
+        assertTrue(session.isGameOver());
+        assertFalse(session.moveLeft());
+        assertNull(session.hardDrop().getClearRow());
+    }
+
+    @Test
+    void newGameResetsBoardScoreAndCounters() {
+        HeadlessGameSession session = new HeadlessGameSession();
+        for (int i = 0; i < 500 && !session.isGameOver(); i++) {
+            session.hardDrop();
+        }
+
+        session.newGame();
+
+        assertFalse(session.isGameOver());
+        assertEquals(0, session.getScore());
+        assertEquals(0, session.getPiecesPlaced());
+        for (int col = 0; col < HeadlessGameSession.DEFAULT_COLS; col++) {
+            assertEquals(0, session.reader().getColumnHeight(col));
+        }
+    }
+}
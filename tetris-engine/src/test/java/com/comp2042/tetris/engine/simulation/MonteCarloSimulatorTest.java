@@ -0,0 +1,65 @@
+package com.comp2042.tetris.engine.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.tetris.domain.scoring.ClassicScoringPolicy;
+
+class MonteCarloSimulatorTest {
+
+    @Test
+    void everyGameIsRecorded() {
+        SimulationReport report = new MonteCarloSimulator().run(100, 1L);
+
+        assertEquals(100, report.getGames());
+        assertEquals(100, report.score().count());
+        assertEquals(100, report.lines().count());
+        assertEquals(100, report.pieces().count());
+        assertTrue(report.pieces().min() > 0);
+    }
+
+    @Test
+    void sameSeedGivesSameDistributionsRegardlessOfParallelism() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator();
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            SimulationReport parallel = simulator.run(200, 42L);
+            SimulationReport sequential = simulator.run(200, 42L, single);
+
+            assertEquals(sequential.score().sum(), parallel.score().sum());
+            assertEquals(sequential.lines().sum(), parallel.lines().sum());
+            assertArrayEquals(sequential.pieces().histogram(), parallel.pieces().histogram());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void gamesStopAtPieceLimit() {
+        MovePolicy stayPut = (session, random) -> { };
+        MonteCarloSimulator simulator = new MonteCarloSimulator(40, 10, new ClassicScoringPolicy(), stayPut, 3);
+
+        SimulationReport report = simulator.run(20, 3L);
+
+        assertEquals(3, report.pieces().max());
+    }
+
+    @Test
+    void distributionTracksExtremesAndPercentiles() {
+        Distribution distribution = new Distribution("test", 10, 5);
+        for (int value = 0; value < 100; value++) {
+            distribution.record(value);
+        }
+
+        assertEquals(0, distribution.min());
+        assertEquals(99, distribution.max());
+        assertEquals(49.5, distribution.mean(), 1e-9);
+        assertEquals(20, distribution.percentile(0.25));
+        assertEquals(60, distribution.histogram()[4]);
+    }
+}
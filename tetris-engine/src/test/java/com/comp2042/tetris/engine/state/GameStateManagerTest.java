@@ -21,7 +21,6 @@ class GameStateManagerTest {
     void startsInMenuState() {
         
         assertEquals(GameStateManager.GameState.MENU, manager.getCurrentState());
-        assertSame(manager.getCurrentState(), manager.stateProperty().get());
         assertFalse(manager.canAcceptInput());
         assertFalse(manager.canUpdateGame());
     }
@@ -93,5 +92,22 @@ class GameStateManagerTest {
 
         assertEquals(GameStateManager.GameState.GAME_OVER, manager.getCurrentState());
     }
-}
 
+    @Test
+    void observersSeeEachTransitionOnce() {
+        GameStateManager.GameState[] seen = new GameStateManager.GameState[2];
+        int[] calls = new int[1];
+        manager.addStateObserver((oldState, newState) -> {
+            seen[0] = oldState;
+            seen[1] = newState;
+            calls[0]++;
+        });
+
+        manager.startGame();
+        manager.startGame();
+
+        assertSame(GameStateManager.GameState.MENU, seen[0]);
+        assertSame(GameStateManager.GameState.PLAYING, seen[1]);
+        assertEquals(1, calls[0]);
+    }
+}
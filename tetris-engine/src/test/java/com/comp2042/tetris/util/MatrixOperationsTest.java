@@ -5,6 +5,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -200,6 +201,58 @@ class MatrixOperationsTest {
         assertEquals(1, matrix[1][1]);
     }
 
+    @Test
+    void testClearRowsInPlace_compactsRowsAndReportsIndices() {
+        int[] top = {0, 3, 0};
+        int[][] matrix = {
+            top,
+            {1, 1, 1},
+            {0, 2, 2},
+            {4, 4, 4}
+        };
+        int[] cleared = new int[matrix.length];
+
+        int removed = MatrixOperations.clearRowsInPlace(matrix, cleared);
+
+        assertEquals(2, removed);
+        assertEquals(1, cleared[0]);
+        assertEquals(3, cleared[1]);
+        assertArrayEquals(new int[] {0, 0, 0}, matrix[0]);
+        assertArrayEquals(new int[] {0, 0, 0}, matrix[1]);
+        assertArrayEquals(new int[] {0, 3, 0}, matrix[2]);
+        assertArrayEquals(new int[] {0, 2, 2}, matrix[3]);
+        assertSame(top, matrix[2]);
+    }
+
+    @Test
+    void testClearRowsInPlace_leavesMatrixUntouchedWhenNoRowIsFull() {
+        int[] first = {1, 0};
+        int[] second = {0, 1};
+        int[][] matrix = {first, second};
+
+        int removed = MatrixOperations.clearRowsInPlace(matrix, new int[2]);
+
+        assertEquals(0, removed);
+        assertSame(first, matrix[0]);
+        assertSame(second, matrix[1]);
+        assertArrayEquals(new int[] {1, 0}, matrix[0]);
+    }
+
+    @Test
+    void testClearRowsInPlace_matchesCopyingClear() {
+        int[][] matrix = {
+            {0, 0, 5},
+            {6, 6, 6},
+            {1, 0, 1},
+            {7, 7, 7}
+        };
+        RowClearResult expected = MatrixOperations.clearRows(matrix);
+
+        MatrixOperations.clearRowsInPlace(matrix, new int[matrix.length]);
+
+        assertArrayEquals(expected.getNewMatrix(), matrix);
+    }
+
     @Test
     void testDeepCopyList_copiesAllMatrices() {
         
@@ -0,0 +1,48 @@
+package com.comp2042.tetris.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class NanoSampleRingTest {
+
+    @Test
+    void keepsOnlyTheNewestSamplesOnceFull() {
+        NanoSampleRing ring = new NanoSampleRing(4);
+        for (long nanos = 1; nanos <= 6; nanos++) {
+            ring.record(nanos * 10);
+        }
+
+        long[] sorted = new long[4];
+        assertEquals(4, ring.snapshot(sorted));
+        assertEquals(6, ring.total());
+        assertEquals(60, ring.latest());
+        assertEquals(30, sorted[0]);
+        assertEquals(60, sorted[3]);
+    }
+
+    @Test
+    void readsNearestRankPercentilesAndMean() {
+        NanoSampleRing ring = new NanoSampleRing(128);
+        for (long nanos = 100; nanos >= 1; nanos--) {
+            ring.record(nanos);
+        }
+        long[] sorted = new long[128];
+        int count = ring.snapshot(sorted);
+
+        assertEquals(100, count);
+        assertEquals(50, NanoSampleRing.percentile(sorted, count, 50));
+        assertEquals(95, NanoSampleRing.percentile(sorted, count, 95));
+        assertEquals(1, NanoSampleRing.percentile(sorted, count, 0));
+        assertEquals(100, NanoSampleRing.percentile(sorted, count, 100));
+        assertEquals(50.5, NanoSampleRing.mean(sorted, count), 1e-9);
+        assertEquals(0, NanoSampleRing.percentile(sorted, 0, 50));
+    }
+
+    @Test
+    void rejectsBadCapacitiesAndShortTargets() {
+        assertThrows(IllegalArgumentException.class, () -> new NanoSampleRing(3));
+        assertThrows(IllegalArgumentException.class, () -> new NanoSampleRing(8).snapshot(new long[4]));
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.tetris.util;
+
+import java.util.Arrays;
+
+/**
+ * Micro-benchmark comparing the scalar and vector row scanners across board widths.
+ * <p>
+ * Not a unit test; run it by hand to re-check {@link RowScan#VECTOR_MIN_WIDTH}
+ * on new hardware:
+ * </p>
+ * <pre>
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *     com.comp2042.tetris.util.RowScanBenchmark
+ * </pre>
+ * <p>
+ * Each board is completely full, which is the worst case: every scanner has
+ * to look at every cell. The report lists nanoseconds per board scan and the
+ * speed-up of the vector path.
+ * </p>
+ */
+public final class RowScanBenchmark {
+
+    private static final int[] WIDTHS = {10, 16, 24, 32, 48, 64, 96, 128, 256, 512};
+    private static final int ROWS = 22;
+    private static final long TARGET_NANOS = 200_000_000L;
+
+    private RowScanBenchmark() {
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        RowScanner scalar = ScalarRowScanner.INSTANCE;
+        RowScanner vector = (RowScanner) Class.forName("com.comp2042.tetris.util.VectorRowScanner")
+                .getDeclaredConstructor().newInstance();
+
+        System.out.printf("%6s %12s %12s %8s%n", "width", "scalar ns", "vector ns", "speedup");
+        for (int width : WIDTHS) {
+            int[][] board = new int[ROWS][width];
+            for (int[] row : board) {
+                Arrays.fill(row, 1);
+            }
+            measure(scalar, board);
+            measure(vector, board);
+            double scalarNanos = measure(scalar, board);
+            double vectorNanos = measure(vector, board);
+            System.out.printf("%6d %12.1f %12.1f %7.2fx%n", width, scalarNanos, vectorNanos, scalarNanos / vectorNanos);
+        }
+    }
+
+    private static double measure(RowScanner scanner, int[][] board) {
+        long iterations = 0;
+        int sink = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 1_000; i++) {
+                for (int[] row : board) {
+                    if (scanner.isFull(row)) {
+                        sink++;
+                    }
+                }
+            }
+            iterations += 1_000;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < TARGET_NANOS);
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return (double) elapsed / iterations;
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.tetris.util;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class RowScanTest {
+
+    private static final int[] WIDTHS = {1, 10, RowScan.VECTOR_MIN_WIDTH - 1, RowScan.VECTOR_MIN_WIDTH, 100, 257};
+
+    @Test
+    void isFull_findsHoleAtEveryPositionOfIntRow() {
+        for (int width : WIDTHS) {
+            int[] row = new int[width];
+            Arrays.fill(row, 5);
+            assertTrue(RowScan.isFull(row), "full row of width " + width);
+
+            for (int hole = 0; hole < width; hole++) {
+                row[hole] = 0;
+                assertFalse(RowScan.isFull(row), "hole at " + hole + " of width " + width);
+                row[hole] = 5;
+            }
+        }
+    }
+
+    @Test
+    void isFull_onlyLooksInsideByteRange() {
+        for (int width : WIDTHS) {
+            byte[] cells = new byte[width + 6];
+            Arrays.fill(cells, 3, 3 + width, (byte) 2);
+            assertTrue(RowScan.isFull(cells, 3, 3 + width), "full range of width " + width);
+
+            for (int hole = 3; hole < 3 + width; hole++) {
+                cells[hole] = 0;
+                assertFalse(RowScan.isFull(cells, 3, 3 + width), "hole at " + hole + " of width " + width);
+                cells[hole] = 2;
+            }
+        }
+    }
+
+    @Test
+    void isFullRow_agreesWithRowScanOnWideBoards() {
+        int[][] matrix = new int[4][200];
+        for (int[] row : matrix) {
+            Arrays.fill(row, 1);
+        }
+        matrix[2][199] = 0;
+
+        int[] cleared = new int[4];
+        int count = MatrixOperations.clearRowsInPlace(matrix, cleared);
+
+        assertTrue(count == 3 && cleared[0] == 0 && cleared[1] == 1 && cleared[2] == 3);
+        assertFalse(MatrixOperations.isFullRow(matrix[3]));
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.tetris.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class SplitMixRandomTest {
+
+    @Test
+    void matchesSplittableRandomIncludingSplits() {
+        SplittableRandom expected = new SplittableRandom(42L);
+        SplitMixRandom actual = new SplitMixRandom(42L);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(expected.nextLong(), actual.nextLong());
+            assertEquals(expected.nextInt(7), actual.nextInt(7));
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+        }
+        SplittableRandom expectedChild = expected.split();
+        SplitMixRandom actualChild = actual.split();
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(expectedChild.nextInt(), actualChild.nextInt());
+            assertEquals(expected.nextInt(10), actual.nextInt(10));
+        }
+    }
+
+    @Test
+    void restoredStateContinuesTheSequence() {
+        SplitMixRandom original = new SplitMixRandom(7L).split();
+        for (int i = 0; i < 17; i++) {
+            original.nextInt();
+        }
+        ByteBuffer state = ByteBuffer.allocate(32);
+        SplitMixRandom.writeState(original, state);
+        SplitMixRandom restored = new SplitMixRandom(0L);
+        SplitMixRandom.readState(restored, state.flip());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(original.nextLong(), restored.nextLong());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.tetris.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    void firesTimersInDeadlineOrderAcrossTurnsOfTheWheel() {
+        TimingWheel wheel = new TimingWheel(10, 8);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(250, () -> fired.add("c"));
+        wheel.schedule(30, () -> fired.add("a"));
+        wheel.schedule(110, () -> fired.add("b"));
+
+        wheel.advanceTo(29);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(1_000);
+
+        assertEquals(List.of("a", "b", "c"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void repeatingTimersKeepTheirPhaseAndStopWhenCancelled() {
+        TimingWheel wheel = new TimingWheel(10, 16);
+        List<Long> runs = new ArrayList<>();
+        TimingWheel.Timeout[] timer = new TimingWheel.Timeout[1];
+        timer[0] = wheel.scheduleRepeating(100, () -> {
+            runs.add(wheel.now());
+            if (runs.size() == 3) {
+                timer[0].cancel();
+            }
+        });
+
+        for (long t = 7; t <= 1_000; t += 7) {
+            wheel.advanceTo(t);
+        }
+
+        assertEquals(List.of(100L, 200L, 300L), runs);
+        assertFalse(timer[0].isActive());
+    }
+
+    @Test
+    void cancelledTimersNeverFireAndReportNoTimeLeft() {
+        TimingWheel wheel = new TimingWheel(10, 8);
+        int[] count = {0};
+        TimingWheel.Timeout timeout = wheel.schedule(50, () -> count[0]++);
+        wheel.advanceTo(20);
+        assertEquals(30, timeout.remainingMillis());
+
+        timeout.cancel();
+        wheel.advanceTo(100);
+
+        assertEquals(0, count[0]);
+        assertEquals(0, timeout.remainingMillis());
+    }
+
+    @Test
+    void timersScheduledWhileFiringAreMeasuredFromTheirParentsDeadline() {
+        TimingWheel wheel = new TimingWheel(10, 8);
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule(40, () -> wheel.schedule(0, () -> fired.add(wheel.now())));
+
+        wheel.advanceTo(95);
+
+        assertEquals(List.of(40L), fired);
+    }
+
+    @Test
+    void clearCancelsEverything() {
+        TimingWheel wheel = new TimingWheel(10, 8);
+        int[] count = {0};
+        TimingWheel.Timeout first = wheel.schedule(10, () -> count[0]++);
+        wheel.scheduleRepeating(20, () -> count[0]++);
+
+        wheel.clear();
+        wheel.advanceTo(500);
+
+        assertEquals(0, count[0]);
+        assertFalse(first.isActive());
+    }
+}